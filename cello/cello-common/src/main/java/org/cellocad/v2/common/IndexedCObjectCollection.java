@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * A {@link CObjectCollection} that keeps an index of its elements by name, so that {@link
+ * #findCObjectByName(String)} runs in constant time. The index is updated when elements are
+ * appended, and rebuilt on the next lookup after any other modification. The list semantics and
+ * ordering are those of {@link CObjectCollection}. An element that is renamed while it is in the
+ * collection may not be found under its new name until the collection is next modified.
+ *
+ * @param <T> the type of elements in this collection.
+ * @author agent
+ * @date 2026-10-17
+ */
+public class IndexedCObjectCollection<T extends CObject> extends CObjectCollection<T> {
+
+  /** Constructs an empty list. */
+  public IndexedCObjectCollection() {
+    super();
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified collection, in the order they are
+   * returned by the collection's iterator.
+   *
+   * @param c the collection whose elements are to be placed into this list.
+   */
+  public IndexedCObjectCollection(final Collection<? extends T> c) {
+    super();
+    addAll(c);
+  }
+
+  private Map<String, T> buildIndex() {
+    final Map<String, T> rtn = new HashMap<>();
+    for (int i = 0; i < collection.size(); i++) {
+      final T cobj = collection.get(i);
+      if (!rtn.containsKey(cobj.getName())) {
+        rtn.put(cobj.getName(), cobj);
+      }
+    }
+    index = rtn;
+    return rtn;
+  }
+
+  private void invalidate() {
+    index = null;
+  }
+
+  /**
+   * Returns the first occurrence of the element with its name equivalent to parameter {@code name}.
+   *
+   * @param name name of the element to return.
+   * @return The first occurrence of the element with its name equivalent to parameter {@code name}.
+   */
+  @Override
+  public T findCObjectByName(final String name) {
+    Map<String, T> map = index;
+    if (map == null) {
+      map = buildIndex();
+    }
+    T rtn = map.get(name);
+    if (rtn != null && !rtn.getName().equals(name)) {
+      // renamed since the index was built
+      rtn = buildIndex().get(name);
+    }
+    return rtn;
+  }
+
+  @Override
+  public boolean add(final T e) {
+    final boolean rtn = super.add(e);
+    final Map<String, T> map = index;
+    if (map != null && !map.containsKey(e.getName())) {
+      map.put(e.getName(), e);
+    }
+    return rtn;
+  }
+
+  @Override
+  public void add(final int index, final T element) {
+    invalidate();
+    super.add(index, element);
+  }
+
+  @Override
+  public boolean addAll(final Collection<? extends T> c) {
+    invalidate();
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean addAll(final int index, final Collection<? extends T> c) {
+    invalidate();
+    return super.addAll(index, c);
+  }
+
+  @Override
+  public void clear() {
+    invalidate();
+    super.clear();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new IndexedIterator(super.listIterator());
+  }
+
+  @Override
+  public ListIterator<T> listIterator() {
+    return new IndexedIterator(super.listIterator());
+  }
+
+  @Override
+  public ListIterator<T> listIterator(final int index) {
+    return new IndexedIterator(super.listIterator(index));
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    invalidate();
+    return super.remove(o);
+  }
+
+  @Override
+  public T remove(final int index) {
+    invalidate();
+    return super.remove(index);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<?> c) {
+    invalidate();
+    return super.removeAll(c);
+  }
+
+  @Override
+  public boolean retainAll(final Collection<?> c) {
+    invalidate();
+    return super.retainAll(c);
+  }
+
+  @Override
+  public T set(final int index, final T element) {
+    invalidate();
+    return super.set(index, element);
+  }
+
+  /**
+   * Returns a view of the portion of this list between the specified {@code fromIndex}, inclusive,
+   * and {@code toIndex}, exclusive. The view may be used to modify this list, so the index is
+   * rebuilt on the next lookup.
+   *
+   * @param fromIndex low endpoint (inclusive) of the subList.
+   * @param toIndex high endpoint (exclusive) of the subList.
+   * @return a view of the specified range within this list.
+   */
+  @Override
+  public List<T> subList(final int fromIndex, final int toIndex) {
+    invalidate();
+    return super.subList(fromIndex, toIndex);
+  }
+
+  /** A list iterator that invalidates the index when it modifies the list. */
+  private class IndexedIterator implements ListIterator<T> {
+
+    IndexedIterator(final ListIterator<T> it) {
+      this.it = it;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return it.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return it.next();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return it.hasPrevious();
+    }
+
+    @Override
+    public T previous() {
+      return it.previous();
+    }
+
+    @Override
+    public int nextIndex() {
+      return it.nextIndex();
+    }
+
+    @Override
+    public int previousIndex() {
+      return it.previousIndex();
+    }
+
+    @Override
+    public void remove() {
+      invalidate();
+      it.remove();
+    }
+
+    @Override
+    public void set(final T e) {
+      invalidate();
+      it.set(e);
+    }
+
+    @Override
+    public void add(final T e) {
+      invalidate();
+      it.add(e);
+    }
+
+    private final ListIterator<T> it;
+  }
+
+  private static final long serialVersionUID = 1L;
+  private transient volatile Map<String, T> index;
+}
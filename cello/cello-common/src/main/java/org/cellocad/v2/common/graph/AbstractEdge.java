@@ -77,6 +77,7 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
    */
   public void setSrc(final T src) {
     this.src = src;
+    modified();
   }
 
   /**
@@ -96,6 +97,7 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
   public void addDst(final T dst) {
     if (dst != null) {
       this.getMyDst().add(dst);
+      modified();
     }
   }
 
@@ -331,6 +333,14 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
   /*
    * dst
    */
+  /**
+   * Records a structural modification of this instance, e.g. a change to its destination node
+   * list made through {@link #getMyDst()}.
+   */
+  protected void modified() {
+    getGraphOwners().modified();
+  }
+
   /**
    * Getter for the instance's destination node list.
    *
@@ -340,9 +350,19 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
     return this.dst;
   }
 
+  /**
+   * Getter for the graphs that contain this instance.
+   *
+   * @return The graphs that contain this instance.
+   */
+  GraphOwners getGraphOwners() {
+    return graphOwners;
+  }
+
   /*
    * Members of class
    */
   private T src;
   private CObjectCollection<T> dst;
+  private final GraphOwners graphOwners = new GraphOwners();
 }
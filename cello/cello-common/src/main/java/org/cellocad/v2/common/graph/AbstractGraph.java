@@ -21,10 +21,14 @@ package org.cellocad.v2.common.graph;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.cellocad.v2.common.Utils;
 
 /**
@@ -40,14 +44,21 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
     extends CObject {
 
   private void init() {
-    this.vertices = new CObjectCollection<>();
-    this.edges = new CObjectCollection<>();
+    this.vertices = new IndexedCObjectCollection<>();
+    this.edges = new IndexedCObjectCollection<>();
   }
 
   /** Clear the contents of the {@link AbstractGraph}. */
   public void clear() {
+    for (int i = 0; i < vertices.size(); i++) {
+      vertices.get(i).getGraphOwners().remove(this);
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      edges.get(i).getGraphOwners().remove(this);
+    }
     this.vertices.clear();
     this.edges.clear();
+    modified();
   }
 
   /** Initializes a newly created {@link AbstractGraph}. */
@@ -223,6 +234,8 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
   public void addVertex(final V vertex) {
     if (vertex != null) {
       vertices.add(vertex);
+      vertex.getGraphOwners().add(this);
+      modified();
     }
   }
 
@@ -234,6 +247,8 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
   public void removeVertex(final V vertex) {
     if (vertex != null) {
       vertices.remove(vertex);
+      vertex.getGraphOwners().remove(this);
+      modified();
     }
   }
 
@@ -287,6 +302,8 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
   public void addEdge(final E edge) {
     if (edge != null) {
       edges.add(edge);
+      edge.getGraphOwners().add(this);
+      modified();
     }
   }
 
@@ -298,6 +315,8 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
   public void removeEdge(final E edge) {
     if (edge != null) {
       edges.remove(edge);
+      edge.getGraphOwners().remove(this);
+      modified();
     }
   }
 
@@ -344,17 +363,55 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
    * is valid?
    */
   /**
-   * Returns a boolean flag signifying the validity of this instance.
+   * Records a structural modification of this instance, i.e. a change to its vertices or edges, to
+   * the edges or type of one of its vertices, or to the source or destinations of one of its edges.
+   */
+  void modified() {
+    modCount++;
+  }
+
+  /**
+   * Returns the structural modification count of this instance. A value derived from the structure
+   * of this instance is current as long as the count is unchanged.
+   *
+   * @return The structural modification count.
+   */
+  public long getModificationCount() {
+    return modCount;
+  }
+
+  /**
+   * Returns a boolean flag signifying the validity of this instance. The validity is computed once
+   * per structural modification, so that changes to the attributes of the vertices and edges,
+   * e.g. a device assignment, do not require it to be computed again.
    *
    * @return True if the instance is valid; false otherwise.
    */
   @Override
   public boolean isValid() {
+    final long count = modCount;
+    if (validCount != count) {
+      valid = computeValid();
+      validCount = count;
+    }
+    return valid;
+  }
+
+  private static <T extends CObject> boolean contains(
+      final Set<T> set, final CObjectCollection<T> collection, final T t) {
+    return set.contains(t) || collection.contains(t);
+  }
+
+  private boolean computeValid() {
     boolean rtn = true;
     V v = null;
     E e = null;
     // parent is valid
     rtn = rtn && super.isValid();
+    final Set<V> vertexSet = Collections.newSetFromMap(new IdentityHashMap<V, Boolean>());
+    vertexSet.addAll(vertices);
+    final Set<E> edgeSet = Collections.newSetFromMap(new IdentityHashMap<E, Boolean>());
+    edgeSet.addAll(edges);
     /*
      * for each vertex, ensure that: 1) vertex is valid 2) the in/out edges are in graph
      */
@@ -363,13 +420,13 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
       // 1) vertex is valid
       rtn = rtn && v.isValid();
       // 2) the in/out edges are in graph
-      for (int j = 0; j < v.getNumOutEdge(); j++) {
+      for (int j = 0; rtn && j < v.getNumOutEdge(); j++) {
         e = v.getOutEdgeAtIdx(j);
-        rtn = rtn && edges.contains(e);
+        rtn = rtn && AbstractGraph.contains(edgeSet, edges, e);
       }
-      for (int j = 0; j < v.getNumInEdge(); j++) {
+      for (int j = 0; rtn && j < v.getNumInEdge(); j++) {
         e = v.getInEdgeAtIdx(j);
-        rtn = rtn && edges.contains(e);
+        rtn = rtn && AbstractGraph.contains(edgeSet, edges, e);
       }
     }
     /*
@@ -381,15 +438,62 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
       rtn = rtn && e.isValid();
       // 2) the src/dst vertices are in graph
       v = e.getSrc();
-      rtn = rtn && vertices.contains(v);
-      for (int j = 0; j < e.getNumDst(); j++) {
+      rtn = rtn && AbstractGraph.contains(vertexSet, vertices, v);
+      for (int j = 0; rtn && j < e.getNumDst(); j++) {
         v = e.getDstAtIdx(j);
-        rtn = rtn && vertices.contains(v);
+        rtn = rtn && AbstractGraph.contains(vertexSet, vertices, v);
       }
     }
     return rtn;
   }
 
+  /*
+   * traversal orders
+   */
+  private GraphOrders<V, E> getGraphOrders() {
+    final long count = modCount;
+    GraphOrders<V, E> rtn = orders;
+    if (rtn == null || rtn.getCount() != count) {
+      rtn = new GraphOrders<>(this, count);
+      orders = rtn;
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the indices of the vertices of this instance in breadth-first order from the sink
+   * vertices, reversed so that the source vertices come first. This is the order of {@link
+   * org.cellocad.v2.common.graph.algorithm.MyBFS}. The order is computed once per structural
+   * modification, and the returned array must not be modified.
+   *
+   * @return The indices of the vertices, see {@link #getVertexAtIdx(int)}.
+   */
+  public int[] getSinkBfsOrder() {
+    return getGraphOrders().getSinkBfsOrder();
+  }
+
+  /**
+   * Returns the indices of the vertices of this instance in depth-first order from the sink
+   * vertices, reversed so that the source vertices come first. This is the order of {@link
+   * org.cellocad.v2.common.graph.algorithm.SinkDFS}. The order is computed once per structural
+   * modification, and the returned array must not be modified.
+   *
+   * @return The indices of the vertices, see {@link #getVertexAtIdx(int)}.
+   */
+  public int[] getSinkDfsOrder() {
+    return getGraphOrders().getSinkDfsOrder();
+  }
+
+  /**
+   * Returns the indices of the vertices of this instance in topological order. The order is
+   * computed once per structural modification, and the returned array must not be modified.
+   *
+   * @return The indices of the vertices, see {@link #getVertexAtIdx(int)}.
+   */
+  public int[] getTopologicalOrder() {
+    return getGraphOrders().getTopologicalOrder();
+  }
+
   /*
    * dot file
    */
@@ -635,4 +739,9 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 
   private CObjectCollection<V> vertices;
   private CObjectCollection<E> edges;
+  private volatile boolean valid;
+  private volatile long validCount = -1;
+  private volatile GraphOrders<V, E> orders;
+
+  private volatile long modCount;
 }
@@ -131,7 +131,10 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
    * @param vertexType The value to set {@code vertexType}.
    */
   public void setVertexType(final VertexType vertexType) {
-    this.vertexType = vertexType;
+    if (this.vertexType != vertexType) {
+      this.vertexType = vertexType;
+      getGraphOwners().modified();
+    }
   }
 
   /**
@@ -217,6 +220,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void addInEdge(final T edge) {
     if (edge != null) {
       inEdges.add(edge);
+      getGraphOwners().modified();
     }
   }
 
@@ -229,6 +233,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void removeInEdge(final T edge) {
     if (edge != null) {
       inEdges.remove(edge);
+      getGraphOwners().modified();
     }
   }
 
@@ -285,6 +290,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   /** Removes all of the {@link AbstractEdge} from the InEdge(s) of this instance. */
   public void clearInEdge() {
     inEdges.clear();
+    getGraphOwners().modified();
   }
 
   /*
@@ -299,6 +305,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void addOutEdge(final T edge) {
     if (edge != null) {
       outEdges.add(edge);
+      getGraphOwners().modified();
     }
   }
 
@@ -311,6 +318,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void removeOutEdge(final T edge) {
     if (edge != null) {
       outEdges.remove(edge);
+      getGraphOwners().modified();
     }
   }
 
@@ -367,6 +375,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   /** Removes all of the {@link AbstractEdge} from the OutEdge(s) of this instance. */
   public void clearOutEdge() {
     outEdges.clear();
+    getGraphOwners().modified();
   }
 
   /*
@@ -602,9 +611,19 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
     return rtn;
   }
 
+  /**
+   * Getter for the graphs that contain this instance.
+   *
+   * @return The graphs that contain this instance.
+   */
+  GraphOwners getGraphOwners() {
+    return graphOwners;
+  }
+
   private VertexType vertexType;
   private VertexColor vertexColor;
   private VertexDiscovery vertexDiscovery;
   private CObjectCollection<T> inEdges;
   private CObjectCollection<T> outEdges;
+  private final GraphOwners graphOwners = new GraphOwners();
 }
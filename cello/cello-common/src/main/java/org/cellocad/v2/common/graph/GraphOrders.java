@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+
+/**
+ * The traversal orders of an {@link AbstractGraph} at one structural modification count. Each
+ * order is an array of vertex indices, i.e. positions in the vertex list of the graph, computed in
+ * linear time the first time it is requested. The traversal state is held in arrays owned by this
+ * instance rather than on the vertices, so that several threads may traverse the same graph.
+ *
+ * @param <V> the type of the {@link AbstractVertex}.
+ * @param <E> the type of the {@link AbstractEdge}.
+ * @author agent
+ * @date 2026-10-17
+ */
+final class GraphOrders<V extends AbstractVertex<E>, E extends AbstractEdge<V>> {
+
+  /**
+   * Initializes a newly created {@link GraphOrders}.
+   *
+   * @param graph The graph.
+   * @param count The structural modification count at which the orders are computed.
+   */
+  GraphOrders(final AbstractGraph<V, E> graph, final long count) {
+    this.graph = graph;
+    this.count = count;
+    final int n = graph.getNumVertex();
+    index = new IdentityHashMap<>(n);
+    for (int i = 0; i < n; i++) {
+      index.put(graph.getVertexAtIdx(i), i);
+    }
+  }
+
+  /** A growable array of vertex indices. */
+  private static final class IntList {
+
+    void add(final int value) {
+      if (size == data.length) {
+        data = Arrays.copyOf(data, Math.max(2 * data.length, 16));
+      }
+      data[size++] = value;
+    }
+
+    int[] data = new int[16];
+    int size;
+  }
+
+  private int getIndex(final V vertex) {
+    final Integer rtn = index.get(vertex);
+    return rtn == null ? -1 : rtn;
+  }
+
+  private boolean isType(final int v, final VertexType type) {
+    return graph.getVertexAtIdx(v).getVertexType() == type;
+  }
+
+  /**
+   * Returns the vertices in the order of {@link
+   * org.cellocad.v2.common.graph.algorithm.MyBFS}: a breadth-first search over the in edges from
+   * the sink vertices, in which a vertex that is reached again is moved behind all vertices reached
+   * before it, reversed so that the sources come first.
+   *
+   * @return The vertex indices.
+   */
+  synchronized int[] getSinkBfsOrder() {
+    if (sinkBfs == null) {
+      final int n = graph.getNumVertex();
+      final boolean[] visited = new boolean[n];
+      // the time at which each vertex was last reached, and the vertex reached at each time
+      final int[] last = new int[n];
+      final IntList reached = new IntList();
+      final IntList queue = new IntList();
+      for (int i = 0; i < n; i++) {
+        if (isType(i, VertexType.SINK)) {
+          last[i] = reached.size;
+          reached.add(i);
+          queue.add(i);
+        }
+      }
+      for (int head = 0; head < queue.size; head++) {
+        final int v = queue.data[head];
+        if (isType(v, VertexType.SOURCE)) {
+          visited[v] = true;
+        }
+        if (visited[v]) {
+          continue;
+        }
+        visited[v] = true;
+        final V vertex = graph.getVertexAtIdx(v);
+        for (int i = 0; i < vertex.getNumInEdge(); i++) {
+          final int src = getIndex(vertex.getInEdgeAtIdx(i).getSrc());
+          if (src < 0) {
+            continue;
+          }
+          last[src] = reached.size;
+          reached.add(src);
+          queue.add(src);
+        }
+      }
+      final IntList rtn = new IntList();
+      for (int t = reached.size - 1; t >= 0; t--) {
+        final int v = reached.data[t];
+        if (last[v] == t) {
+          rtn.add(v);
+        }
+      }
+      sinkBfs = Arrays.copyOf(rtn.data, rtn.size);
+    }
+    return sinkBfs;
+  }
+
+  /**
+   * Returns the vertices in the order of {@link
+   * org.cellocad.v2.common.graph.algorithm.SinkDFS}: a depth-first search over the in edges from the
+   * sink vertices, reversed so that the sources come first. A vertex that is pushed more than once
+   * before it is visited appears more than once.
+   *
+   * @return The vertex indices.
+   */
+  synchronized int[] getSinkDfsOrder() {
+    if (sinkDfs == null) {
+      final int n = graph.getNumVertex();
+      final boolean[] visited = new boolean[n];
+      final IntList pushed = new IntList();
+      final IntList stack = new IntList();
+      for (int i = 0; i < n; i++) {
+        if (isType(i, VertexType.SINK)) {
+          pushed.add(i);
+          stack.add(i);
+        }
+      }
+      while (stack.size > 0) {
+        final int v = stack.data[--stack.size];
+        if (isType(v, VertexType.SOURCE)) {
+          visited[v] = true;
+        }
+        if (visited[v]) {
+          continue;
+        }
+        visited[v] = true;
+        final V vertex = graph.getVertexAtIdx(v);
+        for (int i = 0; i < vertex.getNumInEdge(); i++) {
+          final int src = getIndex(vertex.getInEdgeAtIdx(i).getSrc());
+          if (src >= 0 && !visited[src]) {
+            pushed.add(src);
+            stack.add(src);
+          }
+        }
+      }
+      final int[] rtn = new int[pushed.size];
+      for (int i = 0; i < pushed.size; i++) {
+        rtn[i] = pushed.data[pushed.size - 1 - i];
+      }
+      sinkDfs = rtn;
+    }
+    return sinkDfs;
+  }
+
+  /**
+   * Returns the vertices in a topological order, i.e. every vertex after all of its predecessors.
+   * Vertices without predecessors are taken in the order of the vertex list. Vertices on a cycle,
+   * and their successors, are omitted.
+   *
+   * @return The vertex indices.
+   */
+  synchronized int[] getTopologicalOrder() {
+    if (topological == null) {
+      final int n = graph.getNumVertex();
+      final int[] degree = new int[n];
+      for (int v = 0; v < n; v++) {
+        final V vertex = graph.getVertexAtIdx(v);
+        for (int i = 0; i < vertex.getNumOutEdge(); i++) {
+          final E e = vertex.getOutEdgeAtIdx(i);
+          for (int j = 0; j < e.getNumDst(); j++) {
+            final int dst = getIndex(e.getDstAtIdx(j));
+            if (dst >= 0) {
+              degree[dst]++;
+            }
+          }
+        }
+      }
+      final IntList queue = new IntList();
+      for (int v = 0; v < n; v++) {
+        if (degree[v] == 0) {
+          queue.add(v);
+        }
+      }
+      for (int head = 0; head < queue.size; head++) {
+        final V vertex = graph.getVertexAtIdx(queue.data[head]);
+        for (int i = 0; i < vertex.getNumOutEdge(); i++) {
+          final E e = vertex.getOutEdgeAtIdx(i);
+          for (int j = 0; j < e.getNumDst(); j++) {
+            final int dst = getIndex(e.getDstAtIdx(j));
+            if (dst >= 0 && --degree[dst] == 0) {
+              queue.add(dst);
+            }
+          }
+        }
+      }
+      topological = Arrays.copyOf(queue.data, queue.size);
+    }
+    return topological;
+  }
+
+  /**
+   * Getter for {@code count}.
+   *
+   * @return The value of {@code count}.
+   */
+  long getCount() {
+    return count;
+  }
+
+  private final AbstractGraph<V, E> graph;
+  private final long count;
+  private final Map<V, Integer> index;
+  private int[] sinkBfs;
+  private int[] sinkDfs;
+  private int[] topological;
+}
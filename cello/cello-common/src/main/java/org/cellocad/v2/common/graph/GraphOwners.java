@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph;
+
+import java.util.Arrays;
+
+/**
+ * The graphs that contain a vertex or an edge. A vertex or edge reports a change to its structure,
+ * e.g. a change to its in/out edges, to the graphs that contain it, so that each graph counts only
+ * its own structural modifications.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+final class GraphOwners {
+
+  /** Initializes a newly created {@link GraphOwners} with no graphs. */
+  GraphOwners() {
+    graphs = GraphOwners.EMPTY;
+    size = 0;
+  }
+
+  /**
+   * Adds the graph defined by parameter {@code graph}, unless it is already present.
+   *
+   * @param graph The graph.
+   */
+  void add(final AbstractGraph<?, ?> graph) {
+    for (int i = 0; i < size; i++) {
+      if (graphs[i] == graph) {
+        return;
+      }
+    }
+    if (size == graphs.length) {
+      graphs = Arrays.copyOf(graphs, Math.max(1, size * 2));
+    }
+    graphs[size++] = graph;
+  }
+
+  /**
+   * Removes the graph defined by parameter {@code graph}, if present.
+   *
+   * @param graph The graph.
+   */
+  void remove(final AbstractGraph<?, ?> graph) {
+    for (int i = 0; i < size; i++) {
+      if (graphs[i] == graph) {
+        graphs[i] = graphs[--size];
+        graphs[size] = null;
+        return;
+      }
+    }
+  }
+
+  /** Records a structural modification in every graph of this instance. */
+  void modified() {
+    for (int i = 0; i < size; i++) {
+      graphs[i].modified();
+    }
+  }
+
+  private static final AbstractGraph<?, ?>[] EMPTY = new AbstractGraph<?, ?>[0];
+
+  private AbstractGraph<?, ?>[] graphs;
+  private int size;
+}
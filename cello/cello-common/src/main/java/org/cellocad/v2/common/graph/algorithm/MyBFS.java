@@ -19,15 +19,11 @@
 
 package org.cellocad.v2.common.graph.algorithm;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Stack;
+import java.util.Arrays;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The BFS class is class performing breadth-first search (BFS) on an <i>AbstractGraph</i>.
@@ -45,62 +41,16 @@ public class MyBFS<
     extends CObject {
 
   private void init() {
-    bfs = new LinkedList<>();
+    bfs = new int[0];
+    next = 0;
   }
 
   private void reset() {
-    this.getBFS().clear();
+    init();
   }
 
   private void doBFS() {
-    final G g = this.getGraph();
-    final Queue<V> q = new LinkedList<>();
-    // initialize VertexDiscovery
-    // get Sink Vertex
-    for (int i = 0; i < g.getNumVertex(); i++) {
-      final V v = g.getVertexAtIdx(i);
-      if (v.getVertexType() == VertexType.SINK) {
-        this.getBFS().add(v);
-        q.add(v);
-      }
-      v.setVertexDiscovery(VertexDiscovery.UNVISITED);
-    }
-    // doBFS
-    while (!q.isEmpty()) {
-      final V v = q.remove();
-      // skip if SOURCE
-      if (v.getVertexType() == VertexType.SOURCE) {
-        v.setVertexDiscovery(VertexDiscovery.VISITED);
-      }
-      // skip if VISITED
-      if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
-        continue;
-      }
-      v.setVertexDiscovery(VertexDiscovery.VISITED);
-      for (int i = 0; i < v.getNumInEdge(); i++) {
-        final E e = v.getInEdgeAtIdx(i);
-        final V src = e.getSrc();
-        if (this.getBFS().contains(src)) {
-          this.getBFS().remove(src);
-        }
-        this.getBFS().add(src);
-        q.add(src);
-      }
-    }
-    // reverse
-    Stack<V> stack = new Stack<>();
-    while (!this.getBFS().isEmpty()) {
-      V v = this.getBFS().remove();
-      stack.push(v);
-    }
-    while (!stack.isEmpty()) {
-      V v = stack.pop();
-      this.getBFS().add(v);
-    }
-  }
-
-  private Queue<V> getBFS() {
-    return this.bfs;
+    bfs = this.getGraph().getSinkBfsOrder();
   }
 
   /** Initializes a newly created {@link BFS}. */
@@ -145,8 +95,8 @@ public class MyBFS<
    */
   public V getNextVertex() {
     V rtn = null;
-    if (!this.getBFS().isEmpty()) {
-      rtn = this.getBFS().remove();
+    if (next < bfs.length) {
+      rtn = this.getGraph().getVertexAtIdx(bfs[next++]);
     }
     return rtn;
   }
@@ -163,7 +113,8 @@ public class MyBFS<
   public int hashCode() {
     final int prime = 31;
     int result = super.hashCode();
-    result = prime * result + (bfs == null ? 0 : bfs.hashCode());
+    result = prime * result + Arrays.hashCode(bfs);
+    result = prime * result + next;
     result = prime * result + (graph == null ? 0 : graph.hashCode());
     return result;
   }
@@ -192,11 +143,7 @@ public class MyBFS<
       return false;
     }
     final MyBFS<?, ?, ?> other = (MyBFS<?, ?, ?>) obj;
-    if (bfs == null) {
-      if (other.bfs != null) {
-        return false;
-      }
-    } else if (!bfs.equals(other.bfs)) {
+    if (!Arrays.equals(bfs, other.bfs) || next != other.next) {
       return false;
     }
     if (graph == null) {
@@ -210,5 +157,6 @@ public class MyBFS<
   }
 
   private G graph;
-  private Queue<V> bfs;
+  private int[] bfs;
+  private int next;
 }
@@ -19,13 +19,11 @@
 
 package org.cellocad.v2.common.graph.algorithm;
 
-import java.util.Stack;
+import java.util.Arrays;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The DFS class is class performing depth-first search (DFS) on an <i>AbstractGraph</i>.
@@ -41,51 +39,16 @@ public class SinkDFS<
     extends CObject {
 
   private void init() {
-    dfs = new Stack<>();
+    dfs = new int[0];
+    next = 0;
   }
 
   private void reset() {
-    this.getDFS().clear();
+    init();
   }
 
   private void doDFS() {
-    final G g = this.getGraph();
-    final Stack<V> stack = new Stack<>();
-    // initialize VertexDiscovery
-    // get Sink Vertex
-    for (int i = 0; i < g.getNumVertex(); i++) {
-      final V v = g.getVertexAtIdx(i);
-      if (v.getVertexType() == VertexType.SINK) {
-        this.getDFS().push(v);
-        stack.push(v);
-      }
-      v.setVertexDiscovery(VertexDiscovery.UNVISITED);
-    }
-    // doDFS
-    while (!stack.isEmpty()) {
-      final V v = stack.pop();
-      // skip if SOURCE
-      if (v.getVertexType() == VertexType.SOURCE) {
-        v.setVertexDiscovery(VertexDiscovery.VISITED);
-      }
-      // skip if VISITED
-      if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
-        continue;
-      }
-      v.setVertexDiscovery(VertexDiscovery.VISITED);
-      for (int i = 0; i < v.getNumInEdge(); i++) {
-        final E e = v.getInEdgeAtIdx(i);
-        final V src = e.getSrc();
-        if (src.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
-          this.getDFS().push(src);
-          stack.push(src);
-        }
-      }
-    }
-  }
-
-  private Stack<V> getDFS() {
-    return this.dfs;
+    dfs = this.getGraph().getSinkDfsOrder();
   }
 
   /** Initializes a newly created {@link DFS}. */
@@ -130,8 +93,8 @@ public class SinkDFS<
    */
   public V getNextVertex() {
     V rtn = null;
-    if (!this.getDFS().isEmpty()) {
-      rtn = this.getDFS().pop();
+    if (next < dfs.length) {
+      rtn = this.getGraph().getVertexAtIdx(dfs[next++]);
     }
     return rtn;
   }
@@ -148,7 +111,8 @@ public class SinkDFS<
   public int hashCode() {
     final int prime = 31;
     int result = super.hashCode();
-    result = prime * result + (dfs == null ? 0 : dfs.hashCode());
+    result = prime * result + Arrays.hashCode(dfs);
+    result = prime * result + next;
     result = prime * result + (graph == null ? 0 : graph.hashCode());
     return result;
   }
@@ -177,11 +141,7 @@ public class SinkDFS<
       return false;
     }
     final SinkDFS<?, ?, ?> other = (SinkDFS<?, ?, ?>) obj;
-    if (dfs == null) {
-      if (other.dfs != null) {
-        return false;
-      }
-    } else if (!dfs.equals(other.dfs)) {
+    if (!Arrays.equals(dfs, other.dfs) || next != other.next) {
       return false;
     }
     if (graph == null) {
@@ -195,5 +155,6 @@ public class SinkDFS<
   }
 
   private G graph;
-  private Stack<V> dfs;
+  private int[] dfs;
+  private int next;
 }
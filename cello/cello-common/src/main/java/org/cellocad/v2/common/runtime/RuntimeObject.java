@@ -19,6 +19,8 @@
 
 package org.cellocad.v2.common.runtime;
 
+import java.io.IOException;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObject;
@@ -162,6 +164,31 @@ public abstract class RuntimeObject extends CObject {
     getLogger().trace(str);
   }
 
+  /**
+   * Log the message formatted from parameters {@code format} and {@code args} at the Trace level.
+   * The message is only formatted if the Trace level is enabled.
+   *
+   * @param format A format string, as in {@link String#format(String, Object...)}.
+   * @param args The arguments of the format string.
+   */
+  protected void logTrace(final String format, final Object... args) {
+    if (getLogger().isTraceEnabled()) {
+      getLogger().trace(String.format(format, args));
+    }
+  }
+
+  /**
+   * Log the message supplied by parameter {@code supplier} at the Trace level. The supplier is
+   * only called if the Trace level is enabled.
+   *
+   * @param supplier The supplier of the message.
+   */
+  protected void logTrace(final Supplier<String> supplier) {
+    if (getLogger().isTraceEnabled()) {
+      getLogger().trace(supplier.get());
+    }
+  }
+
   /**
    * Log parameter {@code str} at the Debug level.
    *
@@ -171,6 +198,31 @@ public abstract class RuntimeObject extends CObject {
     getLogger().debug(str);
   }
 
+  /**
+   * Log the message formatted from parameters {@code format} and {@code args} at the Debug level.
+   * The message is only formatted if the Debug level is enabled.
+   *
+   * @param format A format string, as in {@link String#format(String, Object...)}.
+   * @param args The arguments of the format string.
+   */
+  protected void logDebug(final String format, final Object... args) {
+    if (getLogger().isDebugEnabled()) {
+      getLogger().debug(String.format(format, args));
+    }
+  }
+
+  /**
+   * Log the message supplied by parameter {@code supplier} at the Debug level. The supplier is
+   * only called if the Debug level is enabled.
+   *
+   * @param supplier The supplier of the message.
+   */
+  protected void logDebug(final Supplier<String> supplier) {
+    if (getLogger().isDebugEnabled()) {
+      getLogger().debug(supplier.get());
+    }
+  }
+
   /**
    * Log parameter {@code str} at the Info level.
    *
@@ -180,6 +232,31 @@ public abstract class RuntimeObject extends CObject {
     getLogger().info(str);
   }
 
+  /**
+   * Log the message formatted from parameters {@code format} and {@code args} at the Info level.
+   * The message is only formatted if the Info level is enabled.
+   *
+   * @param format A format string, as in {@link String#format(String, Object...)}.
+   * @param args The arguments of the format string.
+   */
+  protected void logInfo(final String format, final Object... args) {
+    if (getLogger().isInfoEnabled()) {
+      getLogger().info(String.format(format, args));
+    }
+  }
+
+  /**
+   * Log the message supplied by parameter {@code supplier} at the Info level. The supplier is
+   * only called if the Info level is enabled.
+   *
+   * @param supplier The supplier of the message.
+   */
+  protected void logInfo(final Supplier<String> supplier) {
+    if (getLogger().isInfoEnabled()) {
+      getLogger().info(supplier.get());
+    }
+  }
+
   /**
    * Log parameter {@code str} at the Warn level.
    *
@@ -392,7 +469,7 @@ public abstract class RuntimeObject extends CObject {
    * {@link #preprocessing()}<br>
    * {@link #runAlgo()}<br>
    * {@link #postprocessing()}<br>
-   * .
+   * , then flushes the results.
    *
    * @throws CelloException Unable to execute the runtime object.
    */
@@ -402,6 +479,11 @@ public abstract class RuntimeObject extends CObject {
       preprocessing();
       runAlgo();
       postprocessing();
+      try {
+        getResults().flush();
+      } catch (final IOException e) {
+        throw new CelloException("Unable to write results.", e);
+      }
     }
   }
 
@@ -64,4 +64,11 @@ public class ArgDescription {
 
   /** String representing the LOGFILENAME command line argument. */
   public static final String LOGFILENAME_DESCRIPTION = "log filename";
+
+  /** String representing the TARGETDATACACHE command line argument description. */
+  public static final String TARGETDATACACHE_DESCRIPTION =
+      "path to directory of compiled target data snapshots";
+
+  /** String representing the SEED command line argument description. */
+  public static final String SEED_DESCRIPTION = "seed of the random number generators";
 }
@@ -64,4 +64,10 @@ public class ArgString {
 
   /** String referencing the LOGFILENAME command line argument. */
   public static final String LOGFILENAME = "logFilename";
+
+  /** String referencing the TARGETDATACACHE command line argument. */
+  public static final String TARGETDATACACHE = "targetDataCache";
+
+  /** String referencing the SEED command line argument. */
+  public static final String SEED = "seed";
 }
@@ -100,6 +100,8 @@ public class RuntimeEnv extends CObject {
     options.addOption(getOutputNetlistOption());
     options.addOption(getNetlistConstraintFileOption());
     options.addOption(getLogFilenameFileOption());
+    options.addOption(getTargetDataCacheOption());
+    options.addOption(getSeedOption());
   }
 
   /*
@@ -225,6 +227,27 @@ public class RuntimeEnv extends CObject {
     return rtn;
   }
 
+  /**
+   * Getter for the TARGETDATACACHE Option.
+   *
+   * @return The TARGETDATACACHE Option for this instance.
+   */
+  protected Option getTargetDataCacheOption() {
+    final Option rtn =
+        new Option(ArgString.TARGETDATACACHE, true, ArgDescription.TARGETDATACACHE_DESCRIPTION);
+    return rtn;
+  }
+
+  /**
+   * Getter for the SEED Option.
+   *
+   * @return The SEED Option for this instance.
+   */
+  protected Option getSeedOption() {
+    final Option rtn = new Option(ArgString.SEED, true, ArgDescription.SEED_DESCRIPTION);
+    return rtn;
+  }
+
   /**
    * Returns the default value for string <i>str</i> that references a command line argument.
    *
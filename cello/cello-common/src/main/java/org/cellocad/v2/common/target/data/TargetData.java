@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
+import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -54,6 +55,18 @@ public final class TargetData extends CObject {
     parse(jsonArr);
   }
 
+  /**
+   * Initializes a newly created {@link TargetData} backed by a compiled snapshot. Each collection
+   * is decoded from the snapshot the first time one of its objects is requested.
+   *
+   * @param snapshot The compiled snapshot.
+   */
+  TargetData(final TargetDataSnapshot snapshot) {
+    super();
+    init();
+    this.snapshot = snapshot;
+  }
+
   private void parse(final JSONArray jsonArr) {
     for (int i = 0; i < jsonArr.size(); i++) {
       final JSONObject JObj = (JSONObject) jsonArr.get(i);
@@ -76,7 +89,7 @@ public final class TargetData extends CObject {
    */
   public JSONObject getJsonObjectAtIdx(final String type, final int index) {
     JSONObject rtn = null;
-    final List<JSONObject> temp = getCollectionTypeData().get(type);
+    final List<JSONObject> temp = getCollection(type);
     if (temp != null && index >= 0 && index < getNumJsonObject(type)) {
       rtn = temp.get(index);
     }
@@ -91,6 +104,9 @@ public final class TargetData extends CObject {
    */
   public int getNumJsonObject(final String type) {
     int rtn = 0;
+    if (snapshot != null) {
+      return snapshot.getNumJsonObject(type);
+    }
     final List<JSONObject> temp = getCollectionTypeData().get(type);
     if (temp != null) {
       rtn = temp.size();
@@ -98,9 +114,35 @@ public final class TargetData extends CObject {
     return rtn;
   }
 
+  private synchronized List<JSONObject> getCollection(final String type) {
+    List<JSONObject> rtn = getCollectionTypeData().get(type);
+    if (rtn == null && snapshot != null && snapshot.getNumJsonObject(type) > 0) {
+      rtn = snapshot.getJsonObjects(type);
+      getCollectionTypeData().put(type, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the shared {@link TargetDataInstance} of this target data, instantiating it on the
+   * first call. Every stage that instantiates a {@link TargetDataInstance} from this target data
+   * is a view of the same shared objects.
+   *
+   * @return The shared {@link TargetDataInstance} of this target data.
+   * @throws CelloException Unable to instantiate target data instance.
+   */
+  synchronized TargetDataInstance getSharedInstance() throws CelloException {
+    if (sharedInstance == null) {
+      sharedInstance = TargetDataInstance.newSharedInstance(this);
+    }
+    return sharedInstance;
+  }
+
   private Map<String, List<JSONObject>> getCollectionTypeData() {
     return collectionTypeData;
   }
 
   Map<String, List<JSONObject>> collectionTypeData;
+  private TargetDataSnapshot snapshot;
+  private TargetDataInstance sharedInstance;
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * A process-wide registry of target data. Target data is registered under the content hash of
+ * its source files, so that every design compiled in the same process against the same files
+ * shares one {@link TargetData} object and, through it, one set of instantiated objects in
+ * {@link TargetDataInstance}. The registry is safe for use by multiple threads.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class TargetDataInstanceRegistry {
+
+  private TargetDataInstanceRegistry() {}
+
+  /**
+   * Returns the target data registered under the content hash, {@code hash}.
+   *
+   * @param hash The content hash of the target data files.
+   * @return The registered target data, or null if none is registered under {@code hash}.
+   */
+  public static TargetData getTargetData(final String hash) {
+    TargetData rtn = null;
+    if (hash != null) {
+      rtn = TargetDataInstanceRegistry.targetData.get(hash);
+    }
+    return rtn;
+  }
+
+  /**
+   * Registers the target data, {@code td}, under the content hash, {@code hash}, unless target
+   * data is already registered under the same hash.
+   *
+   * @param hash The content hash of the target data files.
+   * @param td The target data.
+   * @return The target data registered under {@code hash} after the call.
+   */
+  public static TargetData register(final String hash, final TargetData td) {
+    TargetData rtn = td;
+    if (hash != null) {
+      final TargetData other = TargetDataInstanceRegistry.targetData.putIfAbsent(hash, td);
+      if (other != null) {
+        rtn = other;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the shared {@link TargetDataInstance} of the target data, {@code td}, instantiating it
+   * on the first call.
+   *
+   * @param td The target data.
+   * @return The shared {@link TargetDataInstance}.
+   * @throws CelloException Unable to instantiate target data instance.
+   */
+  public static TargetDataInstance getTargetDataInstance(final TargetData td)
+      throws CelloException {
+    return td.getSharedInstance();
+  }
+
+  /** Removes all registered target data. */
+  public static void clear() {
+    TargetDataInstanceRegistry.targetData.clear();
+  }
+
+  private static final Map<String, TargetData> targetData = new ConcurrentHashMap<>();
+}
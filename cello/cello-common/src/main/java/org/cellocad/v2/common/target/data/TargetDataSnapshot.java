@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.common.profile.ProfileUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * A compiled, binary snapshot of the target data. The snapshot starts with a header holding the
+ * content hash of the source files, followed by a directory of collections, followed by the
+ * encoded objects of each collection. Arrays of numbers, e.g. lookup tables and cytometry data,
+ * are stored as packed columns. A snapshot is memory-mapped when loaded, and each collection is
+ * only decoded when it is first requested.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class TargetDataSnapshot {
+
+  private TargetDataSnapshot(final ByteBuffer buffer, final Map<String, int[]> directory) {
+    this.buffer = buffer;
+    this.directory = directory;
+  }
+
+  /*
+   * Hash
+   */
+  /**
+   * Returns the hexadecimal SHA-256 hash of the contents of the given files.
+   *
+   * @param files The files.
+   * @return The hexadecimal SHA-256 hash of the contents of the given files.
+   * @throws IOException Unable to read a file.
+   */
+  public static String getHash(final File... files) throws IOException {
+    MessageDigest md = null;
+    try {
+      md = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    final byte[] buf = new byte[TargetDataSnapshot.I_BUFFER_SIZE];
+    for (final File file : files) {
+      md.update(file.getName().getBytes(StandardCharsets.UTF_8));
+      md.update(ByteBuffer.allocate(Long.BYTES).putLong(file.length()).array());
+      try (InputStream is = new FileInputStream(file)) {
+        int n = is.read(buf);
+        while (n > 0) {
+          md.update(buf, 0, n);
+          n = is.read(buf);
+        }
+      }
+    }
+    final StringBuilder rtn = new StringBuilder();
+    for (final byte b : md.digest()) {
+      rtn.append(String.format("%02x", b));
+    }
+    return rtn.toString();
+  }
+
+  /*
+   * Write
+   */
+  private static void writeString(final DataOutputStream os, final String str)
+      throws IOException {
+    final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+    os.writeInt(bytes.length);
+    os.write(bytes);
+  }
+
+  private static boolean isAll(final JSONArray arr, final Class<?> c) {
+    boolean rtn = !arr.isEmpty();
+    for (final Object o : arr) {
+      if (o == null || o.getClass() != c) {
+        rtn = false;
+        break;
+      }
+    }
+    return rtn;
+  }
+
+  private static void writeValue(final DataOutputStream os, final Object value)
+      throws IOException {
+    if (value == null) {
+      os.writeByte(TargetDataSnapshot.T_NULL);
+    } else if (value instanceof Boolean) {
+      os.writeByte((Boolean) value ? TargetDataSnapshot.T_TRUE : TargetDataSnapshot.T_FALSE);
+    } else if (value instanceof Long) {
+      os.writeByte(TargetDataSnapshot.T_LONG);
+      os.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      os.writeByte(TargetDataSnapshot.T_DOUBLE);
+      os.writeDouble((Double) value);
+    } else if (value instanceof String) {
+      os.writeByte(TargetDataSnapshot.T_STRING);
+      writeString(os, (String) value);
+    } else if (value instanceof JSONArray) {
+      final JSONArray arr = (JSONArray) value;
+      if (isAll(arr, Double.class)) {
+        os.writeByte(TargetDataSnapshot.T_DOUBLES);
+        os.writeInt(arr.size());
+        for (final Object o : arr) {
+          os.writeDouble((Double) o);
+        }
+      } else if (isAll(arr, Long.class)) {
+        os.writeByte(TargetDataSnapshot.T_LONGS);
+        os.writeInt(arr.size());
+        for (final Object o : arr) {
+          os.writeLong((Long) o);
+        }
+      } else {
+        os.writeByte(TargetDataSnapshot.T_ARRAY);
+        os.writeInt(arr.size());
+        for (final Object o : arr) {
+          writeValue(os, o);
+        }
+      }
+    } else if (value instanceof JSONObject) {
+      final JSONObject obj = (JSONObject) value;
+      os.writeByte(TargetDataSnapshot.T_OBJECT);
+      os.writeInt(obj.size());
+      for (final Object key : obj.keySet()) {
+        writeString(os, (String) key);
+        writeValue(os, obj.get(key));
+      }
+    } else {
+      throw new IOException("Unsupported JSON value: " + value.getClass().getName());
+    }
+  }
+
+  /**
+   * Writes a snapshot of the given target data to the given file. The snapshot is written to a
+   * temporary file first and then moved into place, so that concurrent readers never see a partial
+   * snapshot.
+   *
+   * @param jsonArr The JSON representation of the target data.
+   * @param hash The content hash of the source files.
+   * @param file The snapshot file.
+   * @throws IOException Unable to write the snapshot.
+   */
+  @SuppressWarnings("unchecked")
+  public static void write(final JSONArray jsonArr, final String hash, final File file)
+      throws IOException {
+    // group by collection, preserving order
+    final Map<String, List<JSONObject>> collections = new LinkedHashMap<>();
+    for (final Object o : jsonArr) {
+      final JSONObject jObj = (JSONObject) o;
+      final String collection = ProfileUtils.getString(jObj, "collection");
+      List<JSONObject> temp = collections.get(collection);
+      if (temp == null) {
+        temp = new ArrayList<>();
+        collections.put(collection, temp);
+      }
+      temp.add(jObj);
+    }
+    // encode each collection
+    final Map<String, byte[]> blocks = new LinkedHashMap<>();
+    for (final Map.Entry<String, List<JSONObject>> e : collections.entrySet()) {
+      final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      final DataOutputStream os = new DataOutputStream(bos);
+      for (final JSONObject jObj : e.getValue()) {
+        writeValue(os, jObj);
+      }
+      os.flush();
+      blocks.put(e.getKey(), bos.toByteArray());
+    }
+    // header, directory, blocks
+    final File dir = file.getAbsoluteFile().getParentFile();
+    dir.mkdirs();
+    final File temp = File.createTempFile(file.getName(), ".tmp", dir);
+    try (DataOutputStream os =
+        new DataOutputStream(
+            Files.newOutputStream(temp.toPath(), StandardOpenOption.TRUNCATE_EXISTING))) {
+      os.writeInt(TargetDataSnapshot.I_MAGIC);
+      os.writeInt(TargetDataSnapshot.I_VERSION);
+      writeString(os, hash);
+      os.writeInt(blocks.size());
+      for (final Map.Entry<String, byte[]> e : blocks.entrySet()) {
+        writeString(os, e.getKey());
+        os.writeInt(collections.get(e.getKey()).size());
+        os.writeInt(e.getValue().length);
+      }
+      for (final byte[] block : blocks.values()) {
+        os.write(block);
+      }
+    }
+    Files.move(
+        temp.toPath(),
+        file.toPath(),
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /*
+   * Read
+   */
+  private static String readString(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object readValue(final ByteBuffer buffer) throws IOException {
+    Object rtn = null;
+    final byte tag = buffer.get();
+    int n = 0;
+    switch (tag) {
+      case T_NULL:
+        break;
+      case T_TRUE:
+        rtn = Boolean.TRUE;
+        break;
+      case T_FALSE:
+        rtn = Boolean.FALSE;
+        break;
+      case T_LONG:
+        rtn = buffer.getLong();
+        break;
+      case T_DOUBLE:
+        rtn = buffer.getDouble();
+        break;
+      case T_STRING:
+        rtn = readString(buffer);
+        break;
+      case T_DOUBLES:
+        n = buffer.getInt();
+        final JSONArray doubles = new JSONArray();
+        for (int i = 0; i < n; i++) {
+          doubles.add(buffer.getDouble());
+        }
+        rtn = doubles;
+        break;
+      case T_LONGS:
+        n = buffer.getInt();
+        final JSONArray longs = new JSONArray();
+        for (int i = 0; i < n; i++) {
+          longs.add(buffer.getLong());
+        }
+        rtn = longs;
+        break;
+      case T_ARRAY:
+        n = buffer.getInt();
+        final JSONArray arr = new JSONArray();
+        for (int i = 0; i < n; i++) {
+          arr.add(readValue(buffer));
+        }
+        rtn = arr;
+        break;
+      case T_OBJECT:
+        n = buffer.getInt();
+        final JSONObject obj = new JSONObject();
+        for (int i = 0; i < n; i++) {
+          final String key = readString(buffer);
+          obj.put(key, readValue(buffer));
+        }
+        rtn = obj;
+        break;
+      default:
+        throw new IOException("Invalid target data snapshot tag: " + tag);
+    }
+    return rtn;
+  }
+
+  /**
+   * Loads the target data from a snapshot file. The file is memory-mapped, and collections are
+   * decoded lazily.
+   *
+   * @param file The snapshot file.
+   * @param hash The expected content hash of the source files.
+   * @return The target data, or null if the file does not exist, is not a snapshot of the current
+   *     version, or does not match the given hash.
+   * @throws IOException Unable to read the snapshot.
+   */
+  public static TargetData read(final File file, final String hash) throws IOException {
+    TargetData rtn = null;
+    if (!file.isFile()) {
+      return rtn;
+    }
+    ByteBuffer buffer = null;
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    final List<String> names = new ArrayList<>();
+    final Map<String, int[]> directory = new HashMap<>();
+    try {
+      if (buffer.getInt() != TargetDataSnapshot.I_MAGIC
+          || buffer.getInt() != TargetDataSnapshot.I_VERSION
+          || !readString(buffer).equals(hash)) {
+        return rtn;
+      }
+      final int numCollections = buffer.getInt();
+      for (int i = 0; i < numCollections; i++) {
+        final String name = readString(buffer);
+        final int[] entry = new int[3];
+        entry[0] = buffer.getInt();
+        entry[2] = buffer.getInt();
+        names.add(name);
+        directory.put(name, entry);
+      }
+    } catch (final BufferUnderflowException | NegativeArraySizeException e) {
+      throw new IOException("Invalid target data snapshot: " + file.getPath(), e);
+    }
+    int offset = buffer.position();
+    for (final String name : names) {
+      final int[] entry = directory.get(name);
+      entry[1] = offset;
+      offset += entry[2];
+    }
+    if (offset != buffer.limit()) {
+      throw new IOException("Truncated target data snapshot: " + file.getPath());
+    }
+    rtn = new TargetData(new TargetDataSnapshot(buffer, directory));
+    return rtn;
+  }
+
+  /**
+   * Returns the number of objects in the given collection.
+   *
+   * @param type The collection.
+   * @return The number of objects in the given collection.
+   */
+  int getNumJsonObject(final String type) {
+    int rtn = 0;
+    final int[] entry = directory.get(type);
+    if (entry != null) {
+      rtn = entry[0];
+    }
+    return rtn;
+  }
+
+  /**
+   * Decodes the objects of the given collection.
+   *
+   * @param type The collection.
+   * @return The objects of the given collection.
+   */
+  List<JSONObject> getJsonObjects(final String type) {
+    final List<JSONObject> rtn = new ArrayList<>();
+    final int[] entry = directory.get(type);
+    if (entry == null) {
+      return rtn;
+    }
+    final ByteBuffer b = buffer.duplicate();
+    b.position(entry[1]);
+    try {
+      for (int i = 0; i < entry[0]; i++) {
+        rtn.add((JSONObject) readValue(b));
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return rtn;
+  }
+
+  private final ByteBuffer buffer;
+  // collection -> {number of objects, offset, length}
+  private final Map<String, int[]> directory;
+
+  private static final int I_MAGIC = 0x43454c4c;
+  private static final int I_VERSION = 1;
+  private static final int I_BUFFER_SIZE = 1 << 16;
+
+  private static final byte T_NULL = 0;
+  private static final byte T_TRUE = 1;
+  private static final byte T_FALSE = 2;
+  private static final byte T_LONG = 3;
+  private static final byte T_DOUBLE = 4;
+  private static final byte T_STRING = 5;
+  private static final byte T_ARRAY = 6;
+  private static final byte T_OBJECT = 7;
+  private static final byte T_DOUBLES = 8;
+  private static final byte T_LONGS = 9;
+}
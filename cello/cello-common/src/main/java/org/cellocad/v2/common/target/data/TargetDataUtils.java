@@ -26,9 +26,11 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Iterator;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.common.runtime.environment.ArgString;
 import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
 import org.cellocad.v2.common.target.data.data.AnalyticFunction;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
@@ -67,6 +69,7 @@ public class TargetDataUtils {
   private static final String S_OUTPUTDEVICES = "output_devices";
   private static final String S_LOGIC_CONSTRAINTS = "logic_constraints";
   private static final String S_GENETICLOCATIONS = "genetic_locations";
+  private static final String S_SNAPSHOT_EXTENSION = ".td";
 
   /**
    * Get all the parts from the target data.
@@ -75,7 +78,7 @@ public class TargetDataUtils {
    * @return The parts.
    */
   public static final CObjectCollection<Part> getParts(final TargetData td) {
-    final CObjectCollection<Part> rtn = new CObjectCollection<>();
+    final CObjectCollection<Part> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_PARTS); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_PARTS, i);
       final Part part = new Part(jObj);
@@ -93,7 +96,7 @@ public class TargetDataUtils {
    */
   public static final CObjectCollection<Function> getFunctions(final TargetData td)
       throws CelloException {
-    final CObjectCollection<Function> rtn = new CObjectCollection<>();
+    final CObjectCollection<Function> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_FUNCTIONS); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_FUNCTIONS, i);
       Function function;
@@ -139,7 +142,7 @@ public class TargetDataUtils {
    */
   public static final CObjectCollection<Model> getModels(
       final TargetData td, final CObjectCollection<Function> functions) {
-    final CObjectCollection<Model> rtn = new CObjectCollection<>();
+    final CObjectCollection<Model> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_MODELS); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_MODELS, i);
       final Model model = new Model(jObj);
@@ -158,7 +161,7 @@ public class TargetDataUtils {
    */
   public static final CObjectCollection<Structure> getStructures(final TargetData td)
       throws CelloException {
-    final CObjectCollection<Structure> rtn = new CObjectCollection<>();
+    final CObjectCollection<Structure> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_STRUCTURES); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_STRUCTURES, i);
       final Structure structure = new Structure(jObj);
@@ -195,7 +198,7 @@ public class TargetDataUtils {
       final TargetData td,
       final CObjectCollection<Model> models,
       final CObjectCollection<Structure> structures) {
-    final CObjectCollection<Gate> rtn = new CObjectCollection<>();
+    final CObjectCollection<Gate> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_GATES); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_GATES, i);
       final Gate gate = new Gate(jObj);
@@ -220,7 +223,7 @@ public class TargetDataUtils {
       final TargetData td,
       final CObjectCollection<Model> models,
       final CObjectCollection<Structure> structures) {
-    final CObjectCollection<InputSensor> rtn = new CObjectCollection<>();
+    final CObjectCollection<InputSensor> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_INPUTSENSORS); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_INPUTSENSORS, i);
       final InputSensor sensor = new InputSensor(jObj);
@@ -245,7 +248,7 @@ public class TargetDataUtils {
       final TargetData td,
       final CObjectCollection<Model> models,
       final CObjectCollection<Structure> structures) {
-    final CObjectCollection<OutputDevice> rtn = new CObjectCollection<>();
+    final CObjectCollection<OutputDevice> rtn = new IndexedCObjectCollection<>();
     for (int i = 0; i < td.getNumJsonObject(TargetDataUtils.S_OUTPUTDEVICES); i++) {
       final JSONObject jObj = td.getJsonObjectAtIdx(TargetDataUtils.S_OUTPUTDEVICES, i);
       final OutputDevice device = new OutputDevice(jObj);
@@ -278,7 +281,7 @@ public class TargetDataUtils {
    * @return The genetic locations objects in the target data.
    */
   public static CObjectCollection<GeneticLocation> getGeneticLocations(final TargetData td) {
-    final CObjectCollection<GeneticLocation> rtn = new CObjectCollection<>();
+    final CObjectCollection<GeneticLocation> rtn = new IndexedCObjectCollection<>();
     final JSONObject obj = td.getJsonObjectAtIdx(TargetDataUtils.S_GENETICLOCATIONS, 0);
     final JSONArray locations = (JSONArray) obj.get("locations");
     for (int i = 0; i < locations.size(); i++) {
@@ -319,7 +322,11 @@ public class TargetDataUtils {
 
   /**
    * Initializes a newly created {@link TargetData} using the RuntimeEnv, <i>runEnv</i>, and strings
-   * referencing command line arguments.
+   * referencing command line arguments. If the {@code targetDataCache} option names a directory,
+   * a compiled {@link TargetDataSnapshot} keyed by the content hash of the three files is loaded
+   * from it when present, and written to it otherwise. Target data is registered in the {@link
+   * TargetDataInstanceRegistry}, so files that were already loaded in this process are not read
+   * again.
    *
    * @param runEnv The RuntimeEnv.
    * @param userConstraintsFileOption The string referencing command line argument for the User
@@ -340,15 +347,50 @@ public class TargetDataUtils {
     Utils.isNullRuntimeException(userConstraintsFileOption, "userConstraintsFileOption");
     TargetData rtn = null;
     JSONArray jsonTop = null;
-    // get User Constraints File
     final String userConstraintsFileName = runEnv.getOptionValue(userConstraintsFileOption);
+    final String inputSensorFileName = runEnv.getOptionValue(inputSensorFileOption);
+    final String outputDeviceFileName = runEnv.getOptionValue(outputDeviceFileOption);
+    // content hash
+    String hash = null;
+    if (userConstraintsFileName != null
+        && inputSensorFileName != null
+        && outputDeviceFileName != null) {
+      try {
+        hash =
+            TargetDataSnapshot.getHash(
+                new File(userConstraintsFileName),
+                new File(inputSensorFileName),
+                new File(outputDeviceFileName));
+      } catch (final IOException e) {
+        // the files are reported when parsed below
+      }
+    }
+    // registered target data
+    rtn = TargetDataInstanceRegistry.getTargetData(hash);
+    if (rtn != null) {
+      return rtn;
+    }
+    // compiled snapshot
+    final String cacheDir = runEnv.getOptionValue(ArgString.TARGETDATACACHE);
+    File snapshot = null;
+    if (cacheDir != null && hash != null) {
+      snapshot = new File(cacheDir, hash + TargetDataUtils.S_SNAPSHOT_EXTENSION);
+      try {
+        rtn = TargetDataSnapshot.read(snapshot, hash);
+      } catch (final IOException e) {
+        // fall back to parsing the JSON
+        snapshot = null;
+      }
+      if (rtn != null) {
+        return TargetDataInstanceRegistry.register(hash, rtn);
+      }
+    }
+    // get User Constraints File
     final JSONArray userConstraintsJson =
         TargetDataUtils.getJsonArrayFromFile(userConstraintsFileName);
     // get Input Sensor File
-    final String inputSensorFileName = runEnv.getOptionValue(inputSensorFileOption);
     final JSONArray inputSensorJson = TargetDataUtils.getJsonArrayFromFile(inputSensorFileName);
     // get Output Device File
-    final String outputDeviceFileName = runEnv.getOptionValue(outputDeviceFileOption);
     final JSONArray outputDeviceJson = TargetDataUtils.getJsonArrayFromFile(outputDeviceFileName);
     // combine Json
     jsonTop = new JSONArray();
@@ -357,6 +399,14 @@ public class TargetDataUtils {
     jsonTop.addAll(outputDeviceJson);
     // Create TargetData object
     rtn = new TargetData(jsonTop);
-    return rtn;
+    // compile snapshot for the next run
+    if (snapshot != null) {
+      try {
+        TargetDataSnapshot.write(jsonTop, hash, snapshot);
+      } catch (final IOException e) {
+        // the snapshot is only an optimization
+      }
+    }
+    return TargetDataInstanceRegistry.register(hash, rtn);
   }
 }
@@ -19,14 +19,18 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.HashMap;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.mariuszgromada.math.mxparser.Argument;
 import org.mariuszgromada.math.mxparser.Expression;
 
 /**
@@ -38,7 +42,8 @@ import org.mariuszgromada.math.mxparser.Expression;
 public final class AnalyticFunction extends Function {
 
   private void init() {
-    parameters = new CObjectCollection<>();
+    parameters = new IndexedCObjectCollection<>();
+    compiled = ThreadLocal.withInitial(() -> new CompiledEquation());
   }
 
   private void parseEquation(final JSONObject jsonObj) {
@@ -89,30 +94,182 @@ public final class AnalyticFunction extends Function {
     return rtn;
   }
 
-  @Override
-  public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Double rtn = null;
-    final Expression expr = new Expression(getEquation().replace("$", "_"));
-    for (final Parameter p : getParameters()) {
-      expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+  /**
+   * The equation of an {@link AnalyticFunction} parsed once, with one argument slot per parameter
+   * and per variable, bound by index. Instances are confined to a single thread.
+   */
+  private final class CompiledEquation {
+
+    private CompiledEquation() {
+      final int numParameters = getParameters().size();
+      final int numVariables = getVariables().size();
+      parameterArgs = new Argument[numParameters];
+      variableArgs = new Argument[numVariables];
+      argsByName = new HashMap<>();
+      expression = new Expression(getEquation().replace("$", "_"));
+      for (int i = 0; i < numParameters; i++) {
+        parameterArgs[i] = newArgument(getParameters().get(i).getName());
+      }
+      for (int i = 0; i < numVariables; i++) {
+        variableArgs[i] = newArgument(getVariables().get(i).getName());
+      }
+      if (expression.getExpressionString().contains(AnalyticFunction.S_STATE)) {
+        stateArg = newArgument(AnalyticFunction.S_STATE);
+      }
+      values = new double[numParameters + numVariables][0];
     }
-    for (final Variable v : getVariables()) {
-      expr.defineArgument(v.getName(), v.evaluate(ec).doubleValue());
+
+    /**
+     * Returns the buffer of a batch evaluation over {@code numStates} states, with one row per
+     * parameter followed by one row per variable. The buffer grows only when the number of states
+     * does. A nested evaluation, e.g. of a variable that refers back to this function, receives a
+     * fresh buffer.
+     *
+     * @param numStates The number of states.
+     * @return The buffer, to be passed to {@link #release(double[][])}.
+     */
+    private double[][] acquire(final int numStates) {
+      double[][] rtn = null;
+      if (valuesInUse) {
+        rtn = new double[values.length][numStates];
+      } else {
+        if (numStates > valuesCapacity) {
+          values = new double[values.length][numStates];
+          valuesCapacity = numStates;
+        }
+        valuesInUse = true;
+        rtn = values;
+      }
+      return rtn;
     }
-    final NetlistNode node = ec.getNode();
-    if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
+
+    private void release(final double[][] buffer) {
+      if (buffer == values) {
+        valuesInUse = false;
+      }
+    }
+
+    private Argument newArgument(final String name) {
+      Argument rtn = argsByName.get(name);
+      if (rtn == null) {
+        rtn = new Argument(name, Double.NaN);
+        argsByName.put(name, rtn);
+        expression.addArguments(rtn);
+      }
+      return rtn;
+    }
+
+    private final Expression expression;
+    private final Argument[] parameterArgs;
+    private final Argument[] variableArgs;
+    private final Map<String, Argument> argsByName;
+    private Argument stateArg;
+    private double[][] values;
+    private int valuesCapacity;
+    private boolean valuesInUse;
+  }
+
+  private double[] evaluateParameters(final EvaluationContext ec) throws CelloException {
+    final CObjectCollection<Parameter> parameters = getParameters();
+    final double[] rtn = new double[parameters.size()];
+    for (int i = 0; i < rtn.length; i++) {
+      rtn[i] = parameters.get(i).evaluate(ec).doubleValue();
+    }
+    return rtn;
+  }
+
+  private Double evaluateState(final EvaluationContext ec, final CompiledEquation ce)
+      throws CelloException {
+    Double rtn = null;
+    if (ce.stateArg != null) {
+      final NetlistNode node = ec.getNode();
       final State<NetlistNode> state = ec.getState();
       final Boolean nodeState = state.getState(node);
       if (nodeState == null) {
         throw new CelloException("Node state undefined.");
       }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
+      rtn = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
+    }
+    return rtn;
+  }
+
+  private Double calculate(
+      final CompiledEquation ce, final double[] params, final double[] vars, final Double q) {
+    for (int i = 0; i < params.length; i++) {
+      ce.parameterArgs[i].setArgumentValue(params[i]);
+    }
+    for (int i = 0; i < vars.length; i++) {
+      ce.variableArgs[i].setArgumentValue(vars[i]);
     }
-    rtn = expr.calculate();
+    if (q != null) {
+      ce.stateArg.setArgumentValue(q);
+    }
+    return ce.expression.calculate();
+  }
+
+  @Override
+  public Number evaluate(final EvaluationContext ec) throws CelloException {
+    Double rtn = null;
+    final CompiledEquation ce = compiled.get();
+    // evaluate every argument before binding, evaluation may re-enter this function
+    final double[] params = evaluateParameters(ec);
+    final CObjectCollection<Variable> variables = getVariables();
+    final double[] vars = new double[variables.size()];
+    for (int i = 0; i < vars.length; i++) {
+      vars[i] = variables.get(i).evaluate(ec).doubleValue();
+    }
+    final Double q = evaluateState(ec, ce);
+    rtn = calculate(ce, params, vars, q);
     return rtn;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Every parameter and variable is evaluated for all states at once, into a buffer kept with
+   * the compiled equation of the current thread, then the equation is calculated in one loop over
+   * the states.
+   */
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn)
+      throws CelloException {
+    final CompiledEquation ce = compiled.get();
+    final NetlistNode node = ec.getNode();
+    final int numStates = states.getNumStates();
+    final CObjectCollection<Parameter> parameters = getParameters();
+    final CObjectCollection<Variable> variables = getVariables();
+    final int numParameters = parameters.size();
+    final double[][] values = ce.acquire(numStates);
+    try {
+      for (int i = 0; i < numParameters; i++) {
+        parameters.get(i).evaluate(ec, states, values[i]);
+        ec.setNode(node);
+      }
+      for (int i = 0; i < variables.size(); i++) {
+        variables.get(i).evaluate(ec, states, values[numParameters + i]);
+        ec.setNode(node);
+      }
+      for (int j = 0; j < numStates; j++) {
+        final State<NetlistNode> state = states.getStateAtIdx(j);
+        ec.setState(state);
+        final Double q = evaluateState(ec, ce);
+        for (int i = 0; i < numParameters; i++) {
+          ce.parameterArgs[i].setArgumentValue(values[i][j]);
+        }
+        for (int i = 0; i < ce.variableArgs.length; i++) {
+          ce.variableArgs[i].setArgumentValue(values[numParameters + i][j]);
+        }
+        if (q != null) {
+          ce.stateArg.setArgumentValue(q);
+        }
+        rtn[j] = ce.expression.calculate();
+      }
+    } finally {
+      ce.release(values);
+    }
+  }
+
   /**
    * Evaluate the function within the given context, and with the given variable map.
    *
@@ -124,24 +281,23 @@ public final class AnalyticFunction extends Function {
   public Number evaluate(final EvaluationContext ec, final Map<Variable, Double> value)
       throws CelloException {
     Double rtn = null;
-    final Expression expr = new Expression(getEquation().replace("$", "_"));
-    for (final Parameter p : getParameters()) {
-      expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+    final CompiledEquation ce = compiled.get();
+    final double[] params = evaluateParameters(ec);
+    final CObjectCollection<Variable> variables = getVariables();
+    final double[] vars = new double[variables.size()];
+    for (int i = 0; i < vars.length; i++) {
+      vars[i] = Double.NaN;
     }
     for (final Variable v : value.keySet()) {
-      expr.defineArgument(v.getName(), value.get(v));
-    }
-    final NetlistNode node = ec.getNode();
-    if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
-      final State<NetlistNode> state = ec.getState();
-      final Boolean nodeState = state.getState(node);
-      if (nodeState == null) {
-        throw new CelloException("Node state undefined.");
+      final int idx = variables.indexOf(v);
+      if (idx < 0) {
+        throw new CelloException(
+            String.format("Variable '%s' is not a variable of this function.", v.getName()));
       }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
+      vars[idx] = value.get(v);
     }
-    rtn = expr.calculate();
+    final Double q = evaluateState(ec, ce);
+    rtn = calculate(ce, params, vars, q);
     return rtn;
   }
 
@@ -155,6 +311,7 @@ public final class AnalyticFunction extends Function {
 
   private String equation;
   private CObjectCollection<Parameter> parameters;
+  private ThreadLocal<CompiledEquation> compiled;
 
   public static final String S_EQUATION = "equation";
   public static final String S_PARAMETERS = "parameters";
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
@@ -80,6 +79,21 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
       ydata[i] = (Double[]) y.toArray(ydata[i]);
       zdata[i] = (Double[]) z.toArray(zdata[i]);
     }
+    x = BivariateLookupTableFunction.toPrimitive(xdata);
+    y = new double[xdata.length][];
+    z = new double[xdata.length][];
+    for (int i = 0; i < xdata.length; i++) {
+      y[i] = BivariateLookupTableFunction.toPrimitive(ydata[i]);
+      z[i] = BivariateLookupTableFunction.toPrimitive(zdata[i]);
+    }
+  }
+
+  private static double[] toPrimitive(final Double[] values) {
+    final double[] rtn = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      rtn[i] = values[i];
+    }
+    return rtn;
   }
 
   private void parseLookupTableFunction(final JSONObject jsonObj) throws CelloException {
@@ -107,30 +121,6 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
     return rtn;
   }
 
-  private static Pair<Integer, Integer> argNearestPair(final Double[] p, final Double x) {
-    Pair<Integer, Integer> rtn = null;
-    if (p == null || p.length == 0) {
-      throw new RuntimeException("Input array is null.");
-    }
-    if (p.length == 1) {
-      rtn = new Pair<>(0, 0);
-    } else {
-      final int w = p.length / 2;
-      if (x > p[w - 1]) {
-        if (x < p[w]) {
-          rtn = new Pair<>(w - 1, w);
-        } else {
-          rtn = BivariateLookupTableFunction.argNearestPair(Arrays.copyOfRange(p, w, p.length), x);
-          rtn.setFirst(rtn.getFirst() + w);
-          rtn.setSecond(rtn.getSecond() + w);
-        }
-      } else {
-        rtn = BivariateLookupTableFunction.argNearestPair(Arrays.copyOfRange(p, 0, w), x);
-      }
-    }
-    return rtn;
-  }
-
   @Override
   public Number evaluate(final EvaluationContext ec) throws CelloException {
     final String fmt = "Cannot evaluate %s in scalar context.";
@@ -138,6 +128,31 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
         String.format(fmt, BivariateLookupTableFunction.class.getSimpleName()));
   }
 
+  /**
+   * Evaluates this instance at the value defined by parameter {@code x} of the first variable, i.e.
+   * interpolates every output over the second variable at once.
+   *
+   * @param x The value of the first variable.
+   * @param rtn The array that receives the output at each value of the second variable of the
+   *     nearest row.
+   */
+  public void evaluate(final double x, final double[] rtn) {
+    final int xbar = LookupTableInterpolator.argNearestPair(this.x, x);
+    final int a = LookupTableInterpolator.getFirst(xbar);
+    final int b = LookupTableInterpolator.getSecond(xbar);
+    final double w1 = Math.abs(this.x[a] - x);
+    final double w2 = Math.abs(this.x[b] - x);
+    if (w1 < 1e-8) {
+      System.arraycopy(z[a], 0, rtn, 0, z[a].length);
+    } else if (w2 < 1e-8) {
+      System.arraycopy(z[b], 0, rtn, 0, z[b].length);
+    } else {
+      for (int i = 0; i < y[a].length; i++) {
+        rtn[i] = (z[a][i] / w1 + z[b][i] / w2) / (1.0 / w1 + 1.0 / w2);
+      }
+    }
+  }
+
   /**
    * Evaluates this instance with the given variable mapping.
    *
@@ -148,20 +163,20 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
     List<Double> rtn = null;
     final Variable var = value.getFirst();
     if (var == vars[0]) {
-      final Double x = value.getSecond();
-      final Pair<Integer, Integer> xbar = BivariateLookupTableFunction.argNearestPair(xdata, x);
-      final Double w1 = Math.abs(xdata[xbar.getFirst()] - x);
-      final Double w2 = Math.abs(xdata[xbar.getSecond()] - x);
-      if (w1 < 1e-8) {
-        rtn = Arrays.asList(zdata[xbar.getFirst()]);
-      } else if (w2 < 1e-8) {
-        rtn = Arrays.asList(zdata[xbar.getSecond()]);
+      final double x = value.getSecond();
+      final int xbar = LookupTableInterpolator.argNearestPair(this.x, x);
+      final int a = LookupTableInterpolator.getFirst(xbar);
+      final int b = LookupTableInterpolator.getSecond(xbar);
+      if (Math.abs(this.x[a] - x) < 1e-8) {
+        rtn = Arrays.asList(zdata[a]);
+      } else if (Math.abs(this.x[b] - x) < 1e-8) {
+        rtn = Arrays.asList(zdata[b]);
       } else {
-        rtn = new ArrayList<>();
-        for (int i = 0; i < ydata[xbar.getFirst()].length; i++) {
-          rtn.add(
-              (zdata[xbar.getFirst()][i] / w1 + zdata[xbar.getSecond()][i] / w2)
-                  / (1.0 / w1 + 1.0 / w2));
+        final double[] values = new double[y[a].length];
+        evaluate(x, values);
+        rtn = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+          rtn.add(values[i]);
         }
       }
     } else {
@@ -177,51 +192,41 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
    * @return The result.
    */
   public Double evaluate(final Map<Variable, Double> value) {
-    Double rtn = null;
-    final Variable vi = vars[0];
-    final Double x = value.get(vi);
-    final Variable vj = vars[1];
-    final Double y = value.get(vj);
-    final Pair<Integer, Integer> xbar = BivariateLookupTableFunction.argNearestPair(xdata, x);
-    final Pair<Integer, Integer> ybar =
-        BivariateLookupTableFunction.argNearestPair(ydata[xbar.getFirst()], y);
-    final List<Double> px = new ArrayList<>();
-    final List<Double> py = new ArrayList<>();
-    final List<Double> pz = new ArrayList<>();
-    px.add(xdata[xbar.getFirst()]);
-    px.add(xdata[xbar.getFirst()]);
-    py.add(ydata[xbar.getFirst()][ybar.getFirst()]);
-    py.add(ydata[xbar.getFirst()][ybar.getSecond()]);
-    pz.add(zdata[xbar.getFirst()][ybar.getFirst()]);
-    pz.add(zdata[xbar.getFirst()][ybar.getSecond()]);
-    if (xbar.getFirst() != xbar.getSecond()) {
-      final Pair<Integer, Integer> ybar2 =
-          BivariateLookupTableFunction.argNearestPair(ydata[xbar.getSecond()], y);
-      px.add(xdata[xbar.getSecond()]);
-      px.add(xdata[xbar.getSecond()]);
-      py.add(ydata[xbar.getSecond()][ybar2.getFirst()]);
-      py.add(ydata[xbar.getSecond()][ybar2.getSecond()]);
-      pz.add(zdata[xbar.getSecond()][ybar2.getFirst()]);
-      pz.add(zdata[xbar.getSecond()][ybar2.getSecond()]);
+    final double x = value.get(vars[0]);
+    final double y = value.get(vars[1]);
+    final int xbar = LookupTableInterpolator.argNearestPair(this.x, x);
+    final int a = LookupTableInterpolator.getFirst(xbar);
+    final int b = LookupTableInterpolator.getSecond(xbar);
+    final int ybar = LookupTableInterpolator.argNearestPair(this.y[a], y);
+    // the two nearest points in the nearest row, then in the second nearest row if distinct
+    int num = 2;
+    int ybar2 = ybar;
+    if (a != b) {
+      num = 4;
+      ybar2 = LookupTableInterpolator.argNearestPair(this.y[b], y);
     }
-    final EuclideanDistance eu = new EuclideanDistance();
-    Double top = 0.0;
-    Double bot = 0.0;
-    for (int i = 0; i < px.size(); i++) {
-      final double[] a = new double[] {px.get(i), py.get(i)};
-      final double[] b = new double[] {x, y};
-      final Double d = eu.compute(a, b);
+    double top = 0.0;
+    double bot = 0.0;
+    for (int i = 0; i < num; i++) {
+      final int row = i < 2 ? a : b;
+      final int pair = i < 2 ? ybar : ybar2;
+      final int col =
+          i % 2 == 0
+              ? LookupTableInterpolator.getFirst(pair)
+              : LookupTableInterpolator.getSecond(pair);
+      final double dx = this.x[row] - x;
+      final double dy = this.y[row][col] - y;
+      final double d = Math.sqrt(dx * dx + dy * dy);
       if (d < 1e-12) {
-        top = pz.get(i);
+        top = z[row][col];
         bot = 1.0;
         break;
       }
-      final Double w = 1.0 / d;
-      top += pz.get(i) * w;
+      final double w = 1.0 / d;
+      top += z[row][col] * w;
       bot += w;
     }
-    rtn = top / bot;
-    return rtn;
+    return top / bot;
   }
 
   /**
@@ -240,4 +245,7 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
   private Double[] xdata;
   private Double[][] ydata;
   private Double[][] zdata;
+  private double[] x;
+  private double[][] y;
+  private double[][] z;
 }
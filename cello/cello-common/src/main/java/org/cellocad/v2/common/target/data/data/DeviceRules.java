@@ -163,7 +163,8 @@ public class DeviceRules extends AbstractRules {
     json = jObj;
   }
 
-  public String filter(final StructureDevice device, final CObjectCollection<Part> inputs) {
+  public synchronized String filter(
+      final StructureDevice device, final CObjectCollection<Part> inputs) {
     final Collection<String> rules = parseDeviceRules(getJson(), device, inputs);
     return String.join(Utils.getNewLine(), rules);
   }
@@ -22,6 +22,8 @@ package org.cellocad.v2.common.target.data.data;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -52,5 +54,27 @@ public abstract class Evaluatable extends CObject {
 
   public abstract Number evaluate(EvaluationContext ec) throws CelloException;
 
+  /**
+   * Evaluates this instance on the current node of the given context in every state defined by
+   * parameter {@code states}. The result in the state at index {@code i} is written to {@code
+   * rtn[i]}. Subclasses resolve their references once for all states where they can; this
+   * implementation evaluates each state in turn.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param states The states.
+   * @param rtn The array that receives the result of each state.
+   * @throws CelloException Unable to evaluate this instance.
+   */
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn)
+      throws CelloException {
+    final NetlistNode node = ec.getNode();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      ec.setNode(node);
+      ec.setState(states.getStateAtIdx(i));
+      rtn[i] = evaluate(ec).doubleValue();
+    }
+  }
+
   protected static final String S_NAME = "name";
 }
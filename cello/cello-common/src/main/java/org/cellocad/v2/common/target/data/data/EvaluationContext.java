@@ -19,210 +19,132 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.StringTokenizer;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.CompressedNetlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
-import org.cellocad.v2.results.netlist.data.ResultNetlistEdgeData;
 
 /**
  * A context in which a pointer is evaluated or dereferenced.
  *
+ * <p>The context also holds a memo of evaluated values, keyed by node, state index, and the slot
+ * of the path evaluated on that node (see {@link #getSlot(String)}). The state index is the index
+ * of the state within its {@code States}. If the context is initialized with a {@link
+ * CompressedNetlist}, node indices and input hops are taken from that view.
+ *
  * @author Timothy Jones
  * @date 2020-02-12
  */
 public class EvaluationContext {
 
   private void init() {
-    memo = new HashMap<>();
+    nodeIndex = new IdentityHashMap<>();
+    memo = new double[0][][];
   }
 
   public EvaluationContext() {
     init();
   }
 
-  private static void isTooShortException(final StringTokenizer st, final String map)
-      throws CelloException {
-    if (!st.hasMoreTokens()) {
-      final String fmt = "%s: '%s' is missing elements.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_INVALID, map));
+  /**
+   * Initializes a newly created {@link EvaluationContext} over the view of a netlist defined by
+   * parameter {@code compressedNetlist}. Its {@link CompressedNetlist#refresh()} methods must be
+   * called when the device or input assignment changes.
+   *
+   * @param compressedNetlist The view of the netlist.
+   */
+  public EvaluationContext(final CompressedNetlist compressedNetlist) {
+    init();
+    this.compressedNetlist = compressedNetlist;
+    for (int i = 0; i < compressedNetlist.getNumNodes(); i++) {
+      nodeIndex.put(compressedNetlist.getNode(i), i);
     }
   }
 
-  private static void isInvalidTokenException(final String map, final String token)
-      throws CelloException {
-    final String fmt = "%s: '%s', error with '%s'.";
-    throw new CelloException(String.format(fmt, EvaluationContext.S_INVALID, map, token));
-  }
-
-  private static void isUnsupportedTokenException(final String map, final String token)
-      throws CelloException {
-    final String fmt = "%s: '%s', error with '%s'.";
-    throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, map, token));
-  }
-
-  private Evaluatable dereferenceInput(
-      final StringTokenizer st, final String map, final NetlistNode node, final Input input)
-      throws CelloException {
-    Evaluatable rtn = null;
-    NetlistNode src = null;
+  /**
+   * Returns the node connected to the input named by parameter {@code path} of the structure of
+   * the node defined by parameter {@code node}.
+   *
+   * @param path A path of type {@link ReferencePath.PathType#STRUCTURE_INPUT}.
+   * @param node The node on which the path is evaluated.
+   * @return The node connected to the input, or null if the input is not connected.
+   */
+  public static NetlistNode getInputSource(final ReferencePath path, final NetlistNode node) {
+    NetlistNode rtn = null;
+    final Structure structure = node.getResultNetlistNodeData().getDevice().getStructure();
+    final Input input = structure.getInputs().findCObjectByName(path.getName());
     for (int i = 0; i < node.getNumInEdge(); i++) {
       final NetlistEdge edge = node.getInEdgeAtIdx(i);
-      final ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
-      final Input in = data.getInput();
+      final Input in = edge.getResultNetlistEdgeData().getInput();
       if (in.equals(input)) {
-        src = edge.getSrc();
-        setNode(src);
+        rtn = edge.getSrc();
         break;
       }
     }
-    if (src == null) {
-      rtn = new NullEvaluatable();
-    } else {
-      rtn = dereferenceRoot(st, map, src);
-    }
     return rtn;
   }
 
-  private String reduceInput(
-      final StringTokenizer st, final String map, final NetlistNode node, final Input input)
-      throws CelloException {
-    String rtn = null;
-    NetlistNode src = null;
-    for (int i = 0; i < node.getNumInEdge(); i++) {
-      final NetlistEdge edge = node.getInEdgeAtIdx(i);
-      final ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
-      final Input in = data.getInput();
-      if (in.equals(input)) {
-        src = edge.getSrc();
-        List<String> tokens = new ArrayList<>();
-        tokens.add(src.getName());
-        while (st.hasMoreTokens()) {
-          tokens.add(st.nextToken());
-        }
-        rtn = String.join(Reference.S_DELIM, tokens);
+  /**
+   * Returns the node connected to the input named by parameter {@code path} of the structure of
+   * the node defined by parameter {@code node}. The input is found by its slot in the view of the
+   * netlist; a node outside the view falls back to {@link #getInputSource(ReferencePath,
+   * NetlistNode)}.
+   *
+   * @param path A path of type {@link ReferencePath.PathType#STRUCTURE_INPUT}.
+   * @param node The node on which the path is evaluated.
+   * @return The node connected to the input, or null if the input is not connected.
+   */
+  NetlistNode getSource(final ReferencePath path, final NetlistNode node) {
+    NetlistNode rtn = null;
+    final CompressedNetlist cn = getCompressedNetlist();
+    final int id = cn == null ? -1 : cn.getId(node);
+    if (id < 0) {
+      rtn = EvaluationContext.getInputSource(path, node);
+    } else {
+      final int src = cn.getInputSource(id, path.getInputSlot());
+      if (src >= 0) {
+        rtn = cn.getNode(src);
       }
     }
     return rtn;
   }
 
-  private Evaluatable dereferenceStructure(
-      final StringTokenizer st, final String map, final NetlistNode node, final Structure structure)
-      throws CelloException {
-    Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
-    switch (token) {
-      case Structure.S_INPUTS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        final Input input = structure.getInputs().findCObjectByName(name);
-        rtn = dereferenceInput(st, map, node, input);
-        break;
-      case Structure.S_OUTPUTS:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      case Structure.S_DEVICES:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
-    }
-    return rtn;
-  }
-
-  private String reduceStructure(
-      final StringTokenizer st, final String map, final NetlistNode node, final Structure structure)
-      throws CelloException {
-    String rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
-    switch (token) {
-      case Structure.S_INPUTS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        final Input input = structure.getInputs().findCObjectByName(name);
-        rtn = reduceInput(st, map, node, input);
-        break;
-      case Structure.S_OUTPUTS:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      case Structure.S_DEVICES:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
-    }
-    return rtn;
-  }
-
-  private Evaluatable dereferenceModel(
-      final StringTokenizer st, final String map, final NetlistNode node, final Model model)
-      throws CelloException {
-    Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
-    switch (token) {
-      case Model.S_PARAMETERS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getParameterByName(name);
-        break;
-      case Model.S_FUNCTIONS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getFunctionByName(name);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
-    }
-    return rtn;
-  }
-
-  private Evaluatable dereferenceRoot(
-      final StringTokenizer st, final String map, final NetlistNode node) throws CelloException {
+  /**
+   * Dereference the given path, starting at the current node. Each input hop sets the current
+   * node to the node connected to that input.
+   *
+   * @param path A parsed pointer.
+   * @return The dereferenced {@link Evaluatable} object.
+   * @throws CelloException Unable to dereference the given path.
+   */
+  public Evaluatable dereference(final ReferencePath path) throws CelloException {
     Evaluatable rtn = null;
-    // TODO check cache or originate entry
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    final AssignableDevice d = node.getResultNetlistNodeData().getDevice();
-    switch (token) {
-      case AssignableDevice.S_MODEL:
-        final Model m = d.getModel();
-        rtn = dereferenceModel(st, map, node, m);
+    final NetlistNode node = getNode();
+    final Model model = node.getResultNetlistNodeData().getDevice().getModel();
+    switch (path.getType()) {
+      case MODEL_PARAMETER:
+        rtn = model.getParameterByName(path.getName());
         break;
-      case AssignableDevice.S_STRUCTURE:
-        final Structure s = d.getStructure();
-        rtn = dereferenceStructure(st, map, node, s);
+      case MODEL_FUNCTION:
+        rtn = model.getFunctionByName(path.getName());
         break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
-    }
-    return rtn;
-  }
-
-  private String reduceRoot(final StringTokenizer st, final String map, final NetlistNode node)
-      throws CelloException {
-    String rtn = null;
-    // TODO check cache or originate entry
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    final AssignableDevice d = node.getResultNetlistNodeData().getDevice();
-    switch (token) {
-      case AssignableDevice.S_STRUCTURE:
-        final Structure s = d.getStructure();
-        rtn = reduceStructure(st, map, node, s);
+      case STRUCTURE_INPUT:
+        final NetlistNode src = getSource(path, node);
+        if (src == null) {
+          rtn = new NullEvaluatable();
+        } else {
+          setNode(src);
+          rtn = dereference(path.getNext());
+        }
         break;
       default:
-        EvaluationContext.isInvalidTokenException(map, token);
+        throw new CelloException(
+            String.format("%s: '%s'.", EvaluationContext.S_UNSUPPORTED, path.getMap()));
     }
     return rtn;
   }
@@ -235,32 +157,14 @@ public class EvaluationContext {
    * @throws CelloException Unable to dereference the given pointer string.
    */
   public Evaluatable dereference(final String map) throws CelloException {
-    Evaluatable rtn = null;
-    String str = map;
-    if (!str.startsWith(Reference.S_REFCHAR)) {
-      final String fmt = "%s: '%s' must begin with '%s'.";
-      throw new CelloException(
-          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
-    }
-    str = str.substring(Reference.S_REFCHAR.length());
-    Boolean root = false;
-    if (str.startsWith(Reference.S_DELIM)) {
-      root = true;
-    }
-    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-    if (root) {
-      rtn = dereferenceRoot(st, map, getNode());
-    } else {
-      final String fmt = "%s: '%s'.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
-    }
-    return rtn;
+    return dereference(ReferencePath.parse(map));
   }
-  
+
   /**
    * Partial dereference. Return a new pointer to an object without any "node hops."
-   * 
-   * <p>For example, {@code #//structure/inputs/in1/model/functions/my_func} would become {@code some_node/model/functions/my_func}.
+   *
+   * <p>For example, {@code #//structure/inputs/in1/model/functions/my_func} would become {@code
+   * some_node/model/functions/my_func}.
    *
    * @param map A pointer string.
    * @return The new pointer with no hops.
@@ -268,23 +172,15 @@ public class EvaluationContext {
    */
   public String reduce(final String map) throws CelloException {
     String rtn = null;
-    String str = map;
-    if (!str.startsWith(Reference.S_REFCHAR)) {
-      final String fmt = "%s: '%s' must begin with '%s'.";
+    final ReferencePath path = ReferencePath.parse(map);
+    if (!path.getType().equals(ReferencePath.PathType.STRUCTURE_INPUT)) {
+      final String fmt = "%s: '%s', error with '%s'.";
       throw new CelloException(
-          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
+          String.format(fmt, EvaluationContext.S_INVALID, map, AssignableDevice.S_MODEL));
     }
-    str = str.substring(Reference.S_REFCHAR.length());
-    Boolean root = false;
-    if (str.startsWith(Reference.S_DELIM)) {
-      root = true;
-    }
-    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-    if (root) {
-      rtn = reduceRoot(st, map, getNode());
-    } else {
-      final String fmt = "%s: '%s'.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
+    final NetlistNode src = getSource(path, getNode());
+    if (src != null) {
+      rtn = src.getName() + Reference.S_DELIM + path.getNext().getTail();
     }
     return rtn;
   }
@@ -342,16 +238,144 @@ public class EvaluationContext {
    */
 
   /**
-   * Getter for {@code memo}.
+   * Returns the memo slot of a path relative to a node, e.g. {@code model/functions/my_func}. Slots
+   * are shared by every context, so a slot can be resolved once when a pointer is parsed.
+   *
+   * @param path A path relative to a node.
+   * @return The memo slot of the path.
+   */
+  public static int getSlot(final String path) {
+    synchronized (EvaluationContext.slots) {
+      Integer rtn = EvaluationContext.slots.get(path);
+      if (rtn == null) {
+        rtn = EvaluationContext.slots.size();
+        EvaluationContext.slots.put(path, rtn);
+      }
+      return rtn;
+    }
+  }
+
+  /**
+   * Returns the input slot of an input of a structure, e.g. {@code in1}. Slots are shared by every
+   * context and every structure, so a slot can be resolved once when a pointer or a structure is
+   * parsed, and compared to the slot of an edge without looking the input up by name.
+   *
+   * @param name The name of the input.
+   * @return The input slot of the name.
+   */
+  public static int getInputSlot(final String name) {
+    synchronized (EvaluationContext.inputSlots) {
+      Integer rtn = EvaluationContext.inputSlots.get(name);
+      if (rtn == null) {
+        rtn = EvaluationContext.inputSlots.size();
+        EvaluationContext.inputSlots.put(name, rtn);
+      }
+      return rtn;
+    }
+  }
+
+  private int getNodeIndex(final NetlistNode node) {
+    Integer rtn = nodeIndex.get(node);
+    if (rtn == null) {
+      rtn = nodeIndex.size();
+      nodeIndex.put(node, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the memoized value of the slot defined by parameter {@code slot} for the node and state
+   * defined by parameters {@code node} and {@code state}.
+   *
+   * @param node A node.
+   * @param state A state.
+   * @param slot A memo slot.
+   * @return The memoized value, or {@link Double#NaN} if no value is memoized.
+   */
+  public double getMemo(final NetlistNode node, final State<NetlistNode> state, final int slot) {
+    double rtn = Double.NaN;
+    final Integer n = nodeIndex.get(node);
+    final int s = state.getIdx();
+    if (n != null && slot < memo.length && memo[slot] != null && n < memo[slot].length) {
+      final double[] values = memo[slot][n];
+      if (values != null && 0 <= s && s < values.length) {
+        rtn = values[s];
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the memoized values of the slot defined by parameter {@code slot} for the node defined
+   * by parameter {@code node}, indexed by state index. The array is owned by this context and must
+   * not be modified; a state without a memoized value holds {@link Double#NaN} or is beyond its
+   * length.
+   *
+   * @param node A node.
+   * @param slot A memo slot.
+   * @return The memoized values, or null if no value is memoized.
+   */
+  public double[] getMemo(final NetlistNode node, final int slot) {
+    double[] rtn = null;
+    final Integer n = nodeIndex.get(node);
+    if (n != null && slot < memo.length && memo[slot] != null && n < memo[slot].length) {
+      rtn = memo[slot][n];
+    }
+    return rtn;
+  }
+
+  /**
+   * Memoizes the value of the slot defined by parameter {@code slot} for the node and state defined
+   * by parameters {@code node} and {@code state}.
+   *
+   * @param node A node.
+   * @param state A state.
+   * @param slot A memo slot.
+   * @param value The value.
+   * @throws RuntimeException The state is not indexed.
+   */
+  public void setMemo(
+      final NetlistNode node, final State<NetlistNode> state, final int slot, final double value) {
+    final int n = getNodeIndex(node);
+    final int s = state.getIdx();
+    if (s < 0) {
+      throw new RuntimeException("State is not indexed.");
+    }
+    if (slot >= memo.length) {
+      memo = Arrays.copyOf(memo, slot + 1);
+    }
+    if (memo[slot] == null) {
+      memo[slot] = new double[0][];
+    }
+    if (n >= memo[slot].length) {
+      memo[slot] = Arrays.copyOf(memo[slot], Math.max(n + 1, memo[slot].length * 2));
+    }
+    double[] values = memo[slot][n];
+    if (values == null || s >= values.length) {
+      final int length = values == null ? 0 : values.length;
+      values = values == null ? new double[0] : values;
+      values = Arrays.copyOf(values, Math.max(s + 1, length * 2));
+      Arrays.fill(values, length, values.length, Double.NaN);
+      memo[slot][n] = values;
+    }
+    values[s] = value;
+  }
+
+  /**
+   * Getter for {@code compressedNetlist}.
    *
-   * @return The value of {@code memo}.
+   * @return The view of the netlist of this context, or null if the context has none.
    */
-  public Map<State<NetlistNode>, Map<String, Number>> getMemo() {
-    return memo;
+  public CompressedNetlist getCompressedNetlist() {
+    return compressedNetlist;
   }
 
-  private Map<State<NetlistNode>, Map<String, Number>> memo;
+  private Map<NetlistNode, Integer> nodeIndex;
+  private double[][][] memo;
+  private CompressedNetlist compressedNetlist;
 
+  private static final Map<String, Integer> slots = new HashMap<>();
+  private static final Map<String, Integer> inputSlots = new HashMap<>();
   private static final String S_INVALID = "Invalid reference string";
   private static final String S_UNSUPPORTED = "Unsupported reference string";
 }
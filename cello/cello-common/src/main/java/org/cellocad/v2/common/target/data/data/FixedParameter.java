@@ -19,7 +19,10 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.Arrays;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -58,6 +61,12 @@ public class FixedParameter extends Parameter {
     return getValue();
   }
 
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn) {
+    Arrays.fill(rtn, 0, states.getNumStates(), getValue());
+  }
+
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
@@ -20,6 +20,7 @@
 package org.cellocad.v2.common.target.data.data;
 
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
@@ -32,7 +33,7 @@ import org.json.simple.JSONObject;
 public abstract class Function extends Evaluatable {
 
   private void init() {
-    variables = new CObjectCollection<>();
+    variables = new IndexedCObjectCollection<>();
   }
 
   private void parseVariables(final JSONObject jsonObj) {
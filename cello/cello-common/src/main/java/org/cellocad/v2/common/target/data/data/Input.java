@@ -51,6 +51,7 @@ public class Input extends CObject {
   public Input(final JSONObject jsonObj) {
     init();
     parseInput(jsonObj);
+    slot = getName() == null ? -1 : EvaluationContext.getInputSlot(getName());
   }
 
   @Override
@@ -71,6 +72,18 @@ public class Input extends CObject {
 
   private String partType;
 
+  /**
+   * Getter for {@code slot}.
+   *
+   * @return The input slot of the name of this instance, see {@link
+   *     EvaluationContext#getInputSlot(String)}.
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  private final int slot;
+
   /**
    * Getter for {@code device}.
    *
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+/**
+ * A lookup table over one axis with primitive arrays and no allocation per evaluation.
+ *
+ * <p>The rows are sorted by their axis value once, and an evaluation finds the two nearest rows by
+ * binary search followed by a walk outwards from the insertion point. Rows at an equal distance are
+ * ordered by their original position, so the result is identical to a linear scan that keeps the
+ * first and second nearest rows.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class LookupTableInterpolator {
+
+  /**
+   * Initializes a newly created {@link LookupTableInterpolator}.
+   *
+   * @param axis The axis value of each row.
+   * @param output The output value of each row.
+   */
+  public LookupTableInterpolator(final double[] axis, final double[] output) {
+    if (axis.length != output.length) {
+      throw new IllegalArgumentException("Axis and output have different lengths.");
+    }
+    // a row without an axis value is never the nearest
+    int n = 0;
+    for (int i = 0; i < axis.length; i++) {
+      if (!Double.isNaN(axis[i])) {
+        n++;
+      }
+    }
+    rows = new int[n];
+    n = 0;
+    for (int i = 0; i < axis.length; i++) {
+      if (!Double.isNaN(axis[i])) {
+        rows[n++] = i;
+      }
+    }
+    // insertion sort is stable and tables are short
+    for (int i = 1; i < n; i++) {
+      final int row = rows[i];
+      int j = i - 1;
+      while (j >= 0 && Double.compare(axis[rows[j]], axis[row]) > 0) {
+        rows[j + 1] = rows[j];
+        j--;
+      }
+      rows[j + 1] = row;
+    }
+    this.axis = new double[n];
+    this.output = new double[n];
+    for (int i = 0; i < n; i++) {
+      this.axis[i] = axis[rows[i]];
+      this.output[i] = output[rows[i]];
+    }
+  }
+
+  private static double distance(final double x, final double a) {
+    final double d = x - a;
+    return Math.sqrt(d * d);
+  }
+
+  private int lowerBound(final double x) {
+    int lo = 0;
+    int hi = axis.length;
+    while (lo < hi) {
+      final int mid = (lo + hi) >>> 1;
+      if (axis[mid] < x) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * Evaluates the table at the value defined by parameter {@code x}. The output of the nearest and
+   * second nearest rows are averaged, each weighted by its own distance to {@code x}.
+   *
+   * @param x The value.
+   * @return The interpolated output.
+   */
+  public double evaluate(final double x) {
+    int l = lowerBound(x) - 1;
+    int r = l + 1;
+    int posA = -1;
+    int posB = -1;
+    double minA = Double.MAX_VALUE;
+    double minB = Double.MAX_VALUE;
+    while (l >= 0 || r < axis.length) {
+      final double dl = l >= 0 ? distance(x, axis[l]) : Double.POSITIVE_INFINITY;
+      final double dr = r < axis.length ? distance(x, axis[r]) : Double.POSITIVE_INFINITY;
+      int pos = 0;
+      double d = 0.0;
+      if (dl <= dr) {
+        pos = l--;
+        d = dl;
+      } else {
+        pos = r++;
+        d = dr;
+      }
+      // every remaining row is at least as far as this one
+      if (d > minB || !(d < Double.MAX_VALUE)) {
+        break;
+      }
+      if (d < minA || d == minA && rows[pos] < rows[posA]) {
+        posB = posA;
+        minB = minA;
+        posA = pos;
+        minA = d;
+      } else if (d < minB || d == minB && rows[pos] < rows[posB]) {
+        posB = pos;
+        minB = d;
+      }
+    }
+    if (posB < 0) {
+      throw new RuntimeException("Unable to find the two nearest rows of the lookup table.");
+    }
+    return (output[posA] * minA + output[posB] * minB) / (minA + minB);
+  }
+
+  /**
+   * Evaluates the table at every value of parameter {@code x}, e.g. the input of a node in every
+   * state, see {@link #evaluate(double)}.
+   *
+   * @param x The values.
+   * @param rtn The array that receives the interpolated output of each value.
+   */
+  public void evaluate(final double[] x, final double[] rtn) {
+    for (int i = 0; i < x.length; i++) {
+      rtn[i] = evaluate(x[i]);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  public int getNumRows() {
+    return axis.length;
+  }
+
+  /**
+   * Finds the pair of adjacent positions of the ascending array defined by parameter {@code p}
+   * whose values strictly enclose the value defined by parameter {@code x} by binary search. If no
+   * such pair is found, a single position is found instead: the first position if {@code x} is
+   * below the range, the last position if it is above the range, or the position of a value equal
+   * to {@code x}.
+   *
+   * @param p The ascending array.
+   * @param x The value.
+   * @return The first position of the pair if a pair is found, otherwise {@code -(position + 1)}.
+   *     See {@link #getFirst(int)} and {@link #getSecond(int)}.
+   */
+  public static int argNearestPair(final double[] p, final double x) {
+    if (p == null || p.length == 0) {
+      throw new RuntimeException("Input array is null.");
+    }
+    int rtn = 0;
+    int lo = 0;
+    int len = p.length;
+    boolean found = false;
+    while (!found && len > 1) {
+      final int w = len / 2;
+      if (x > p[lo + w - 1]) {
+        if (x < p[lo + w]) {
+          rtn = lo + w - 1;
+          found = true;
+        } else {
+          lo += w;
+          len -= w;
+        }
+      } else {
+        len = w;
+      }
+    }
+    if (!found) {
+      rtn = -(lo + 1);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the first position of a result of {@link #argNearestPair(double[], double)}.
+   *
+   * @param pair The result.
+   * @return The first position.
+   */
+  public static int getFirst(final int pair) {
+    return pair >= 0 ? pair : -(pair + 1);
+  }
+
+  /**
+   * Returns the second position of a result of {@link #argNearestPair(double[], double)}.
+   *
+   * @param pair The result.
+   * @return The second position.
+   */
+  public static int getSecond(final int pair) {
+    return pair >= 0 ? pair + 1 : -(pair + 1);
+  }
+
+  private final int[] rows;
+  private final double[] axis;
+  private final double[] output;
+}
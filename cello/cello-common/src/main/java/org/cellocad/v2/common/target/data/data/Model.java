@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -37,7 +38,7 @@ public class Model extends CObject {
 
   private void init() {
     functions = new HashMap<>();
-    parameters = new CObjectCollection<>();
+    parameters = new IndexedCObjectCollection<>();
   }
 
   private void parseName(final JSONObject jsonObj) {
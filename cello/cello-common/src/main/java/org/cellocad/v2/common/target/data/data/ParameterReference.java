@@ -21,6 +21,8 @@ package org.cellocad.v2.common.target.data.data;
 
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -57,11 +59,19 @@ public class ParameterReference extends Parameter {
   @Override
   public Number evaluate(final EvaluationContext ec) throws CelloException {
     Number rtn = null;
-    final Evaluatable e = ec.dereference(getMap());
+    final Evaluatable e = ec.dereference(getPath());
     rtn = e.evaluate(ec);
     return rtn;
   }
 
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn)
+      throws CelloException {
+    final Evaluatable e = ec.dereference(getPath());
+    e.evaluate(ec, states, rtn);
+  }
+
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
@@ -74,5 +84,13 @@ public class ParameterReference extends Parameter {
     return map;
   }
 
+  private ReferencePath getPath() throws CelloException {
+    if (path == null) {
+      path = ReferencePath.parse(getMap());
+    }
+    return path;
+  }
+
   private String map;
+  private volatile ReferencePath path;
 }
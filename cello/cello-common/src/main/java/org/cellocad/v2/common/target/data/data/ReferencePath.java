@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * A pointer string parsed once into a typed path. A path either names a parameter or a function
+ * of the model of the current node, or hops through an input of the structure of the current node
+ * to the node connected to that input, followed by the rest of the path.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class ReferencePath {
+
+  /** The kind of object a {@link ReferencePath} points to. */
+  public enum PathType {
+    MODEL_PARAMETER,
+    MODEL_FUNCTION,
+    STRUCTURE_INPUT
+  }
+
+  private ReferencePath(
+      final String map, final PathType type, final String name, final ReferencePath next) {
+    this.map = map;
+    this.type = type;
+    this.name = name;
+    this.next = next;
+    if (next != null) {
+      slot = EvaluationContext.getSlot(next.getTail());
+    } else {
+      slot = -1;
+    }
+    if (type == PathType.STRUCTURE_INPUT) {
+      inputSlot = EvaluationContext.getInputSlot(name);
+    } else {
+      inputSlot = -1;
+    }
+  }
+
+  private static void isTooShortException(final StringTokenizer st, final String map)
+      throws CelloException {
+    if (!st.hasMoreTokens()) {
+      final String fmt = "%s: '%s' is missing elements.";
+      throw new CelloException(String.format(fmt, ReferencePath.S_INVALID, map));
+    }
+  }
+
+  private static CelloException invalidTokenException(final String map, final String token) {
+    final String fmt = "%s: '%s', error with '%s'.";
+    return new CelloException(String.format(fmt, ReferencePath.S_INVALID, map, token));
+  }
+
+  private static CelloException unsupportedTokenException(final String map, final String token) {
+    final String fmt = "%s: '%s', error with '%s'.";
+    return new CelloException(String.format(fmt, ReferencePath.S_UNSUPPORTED, map, token));
+  }
+
+  private static ReferencePath parseModel(final StringTokenizer st, final String map)
+      throws CelloException {
+    ReferencePath rtn = null;
+    ReferencePath.isTooShortException(st, map);
+    final String token = st.nextToken();
+    switch (token) {
+      case Model.S_PARAMETERS:
+        ReferencePath.isTooShortException(st, map);
+        rtn = new ReferencePath(map, PathType.MODEL_PARAMETER, st.nextToken(), null);
+        break;
+      case Model.S_FUNCTIONS:
+        ReferencePath.isTooShortException(st, map);
+        rtn = new ReferencePath(map, PathType.MODEL_FUNCTION, st.nextToken(), null);
+        break;
+      default:
+        throw ReferencePath.invalidTokenException(map, token);
+    }
+    return rtn;
+  }
+
+  private static ReferencePath parseStructure(final StringTokenizer st, final String map)
+      throws CelloException {
+    ReferencePath rtn = null;
+    ReferencePath.isTooShortException(st, map);
+    final String token = st.nextToken();
+    switch (token) {
+      case Structure.S_INPUTS:
+        ReferencePath.isTooShortException(st, map);
+        final String name = st.nextToken();
+        final List<String> tokens = new ArrayList<>();
+        while (st.hasMoreTokens()) {
+          tokens.add(st.nextToken());
+        }
+        final String rest = String.join(Reference.S_DELIM, tokens);
+        final ReferencePath next =
+            ReferencePath.parseRoot(new StringTokenizer(rest, Reference.S_DELIM), map);
+        next.tail = rest;
+        rtn = new ReferencePath(map, PathType.STRUCTURE_INPUT, name, next);
+        break;
+      case Structure.S_OUTPUTS:
+      case Structure.S_DEVICES:
+        throw ReferencePath.unsupportedTokenException(map, token);
+      default:
+        throw ReferencePath.invalidTokenException(map, token);
+    }
+    return rtn;
+  }
+
+  private static ReferencePath parseRoot(final StringTokenizer st, final String map)
+      throws CelloException {
+    ReferencePath rtn = null;
+    ReferencePath.isTooShortException(st, map);
+    final String token = st.nextToken();
+    switch (token) {
+      case AssignableDevice.S_MODEL:
+        rtn = ReferencePath.parseModel(st, map);
+        break;
+      case AssignableDevice.S_STRUCTURE:
+        rtn = ReferencePath.parseStructure(st, map);
+        break;
+      default:
+        throw ReferencePath.invalidTokenException(map, token);
+    }
+    return rtn;
+  }
+
+  /**
+   * Parse the given pointer string.
+   *
+   * @param map A pointer string, e.g. {@code #//structure/inputs/in1/model/functions/my_func}.
+   * @return The parsed path.
+   * @throws CelloException Unable to parse the given pointer string.
+   */
+  public static ReferencePath parse(final String map) throws CelloException {
+    ReferencePath rtn = null;
+    String str = map;
+    if (!str.startsWith(Reference.S_REFCHAR)) {
+      final String fmt = "%s: '%s' must begin with '%s'.";
+      throw new CelloException(
+          String.format(fmt, ReferencePath.S_INVALID, str, Reference.S_REFCHAR));
+    }
+    str = str.substring(Reference.S_REFCHAR.length());
+    if (!str.startsWith(Reference.S_DELIM)) {
+      final String fmt = "%s: '%s'.";
+      throw new CelloException(String.format(fmt, ReferencePath.S_UNSUPPORTED, str));
+    }
+    rtn = ReferencePath.parseRoot(new StringTokenizer(str, Reference.S_DELIM), map);
+    rtn.tail = str.substring(Reference.S_DELIM.length());
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code map}.
+   *
+   * @return The pointer string this path was parsed from.
+   */
+  public String getMap() {
+    return map;
+  }
+
+  /**
+   * Getter for {@code type}.
+   *
+   * @return The value of {@code type}.
+   */
+  public PathType getType() {
+    return type;
+  }
+
+  /**
+   * Getter for {@code name}.
+   *
+   * @return The name of the parameter, function, or input this path points to.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Getter for {@code next}.
+   *
+   * @return The rest of the path after an input hop, null otherwise.
+   */
+  public ReferencePath getNext() {
+    return next;
+  }
+
+  /**
+   * Getter for {@code slot}.
+   *
+   * @return The memo slot of the rest of the path after an input hop, -1 otherwise.
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * Getter for {@code inputSlot}.
+   *
+   * @return The input slot of the input of an input hop, see {@link
+   *     EvaluationContext#getInputSlot(String)}, -1 otherwise.
+   */
+  public int getInputSlot() {
+    return inputSlot;
+  }
+
+  /**
+   * Getter for {@code tail}.
+   *
+   * @return This path relative to the node it is evaluated on, without the reference prefix.
+   */
+  public String getTail() {
+    return tail;
+  }
+
+  private final String map;
+  private final PathType type;
+  private final String name;
+  private final ReferencePath next;
+  private final int slot;
+  private final int inputSlot;
+  private String tail;
+
+  private static final String S_INVALID = "Invalid reference string";
+  private static final String S_UNSUPPORTED = "Unsupported reference string";
+}
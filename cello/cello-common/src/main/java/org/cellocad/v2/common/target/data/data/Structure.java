@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.List;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.IndexedCObjectCollection;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONArray;
@@ -38,9 +39,9 @@ import org.json.simple.JSONObject;
 public class Structure extends CObject {
 
   private void init() {
-    inputs = new CObjectCollection<>();
+    inputs = new IndexedCObjectCollection<>();
     outputs = new ArrayList<>();
-    devices = new CObjectCollection<>();
+    devices = new IndexedCObjectCollection<>();
   }
 
   private void parseName(final JSONObject jObj) {
@@ -74,7 +75,7 @@ public class Structure extends CObject {
   // TODO not static
   private static CObjectCollection<StructureDevice> nestDevices(
       final CObjectCollection<StructureDevice> devices) {
-    final CObjectCollection<StructureDevice> rtn = new CObjectCollection<>();
+    final CObjectCollection<StructureDevice> rtn = new IndexedCObjectCollection<>();
     rtn.addAll(devices);
     final Iterator<StructureDevice> it = devices.iterator();
     while (it.hasNext()) {
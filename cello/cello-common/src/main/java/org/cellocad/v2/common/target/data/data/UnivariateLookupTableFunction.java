@@ -19,17 +19,18 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.ImmutableTable.Builder;
-import com.google.common.collect.Table;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import java.util.HashMap;
+import java.util.Map;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
 /**
- * A univariate lookup table function.
+ * A univariate lookup table function. The table is held in primitive arrays, and a table over a
+ * single variable is evaluated with a {@link LookupTableInterpolator}.
  *
  * @author Timothy Jones
  * @date 2020-02-21
@@ -39,7 +40,7 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
   private void init() {}
 
   private void parseTable(final JSONObject jsonObj) throws CelloException {
-    final Builder<Integer, String, Double> builder = ImmutableTable.builder();
+    final Map<String, double[]> columns = new HashMap<>();
     final JSONObject functionObj = (JSONObject) jsonObj.get(LookupTableFunction.S_TABLE);
     if (functionObj == null) {
       final String fmt = "Invalid %s specification: %s.";
@@ -54,12 +55,21 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
         throw new CelloException(String.format(fmt, name));
       }
       final JSONArray jArr = (JSONArray) functionObj.get(key);
+      final double[] column = new double[jArr.size()];
       for (int i = 0; i < jArr.size(); i++) {
         final Double value = (Double) jArr.get(i);
-        builder.put(i, name, value);
+        column[i] = value;
       }
+      columns.put(name, column);
+    }
+    output = columns.get(LookupTableFunction.S_OUTPUT);
+    table = new double[getVariables().size()][];
+    for (int i = 0; i < getVariables().size(); i++) {
+      table[i] = columns.get(getVariables().get(i).getName());
+    }
+    if (table.length == 1 && table[0] != null && output != null) {
+      interpolator = new LookupTableInterpolator(table[0], output);
     }
-    table = builder.build();
   }
 
   private void parseLookupTableFunction(final JSONObject jsonObj) throws CelloException {
@@ -81,7 +91,7 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
-    rtn = rtn && getTable() != null;
+    rtn = rtn && table != null;
     return rtn;
   }
 
@@ -91,27 +101,74 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
     final double[] input = new double[getVariables().size()];
     for (int i = 0; i < getVariables().size(); i++) {
       final Variable v = getVariables().get(i);
-      final String name = v.getName();
       final Double value = v.evaluate(ec).doubleValue();
-      if (!getTable().containsColumn(name)) {
-        throw new RuntimeException(String.format("Missing column %s.", name));
+      if (table[i] == null) {
+        throw new RuntimeException(String.format("Missing column %s.", v.getName()));
       }
       input[i] = value;
     }
-    // stupid two-point average interpolation
-    Integer argMinA = -1;
-    Double minA = Double.MAX_VALUE;
-    Integer argMinB = -1;
-    Double minB = Double.MAX_VALUE;
-    for (final Integer row : getTable().rowKeySet()) {
-      final double[] record = new double[getVariables().size()];
-      for (int i = 0; i < getVariables().size(); i++) {
-        final Variable v = getVariables().get(i);
-        final Double d = getTable().get(row, v.getName());
-        record[i] = d;
+    if (interpolator != null) {
+      rtn = interpolator.evaluate(input[0]);
+    } else {
+      rtn = evaluate(input);
+    }
+    return rtn;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Every variable is evaluated for all states at once, then the table is interpolated in one
+   * loop over the states.
+   */
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn)
+      throws CelloException {
+    final NetlistNode node = ec.getNode();
+    final int numStates = states.getNumStates();
+    final double[][] inputs = new double[getVariables().size()][numStates];
+    for (int i = 0; i < inputs.length; i++) {
+      final Variable v = getVariables().get(i);
+      v.evaluate(ec, states, inputs[i]);
+      ec.setNode(node);
+      if (table[i] == null) {
+        throw new RuntimeException(String.format("Missing column %s.", v.getName()));
+      }
+    }
+    if (interpolator != null) {
+      interpolator.evaluate(inputs[0], rtn);
+    } else {
+      final double[] input = new double[inputs.length];
+      for (int j = 0; j < numStates; j++) {
+        for (int i = 0; i < inputs.length; i++) {
+          input[i] = inputs[i][j];
+        }
+        rtn[j] = evaluate(input);
+      }
+    }
+  }
+
+  /**
+   * Evaluates this instance at the point defined by parameter {@code input}, one value per
+   * variable, by averaging the output of the nearest and second nearest rows (Euclidean distance),
+   * each weighted by its own distance.
+   *
+   * @param input The point.
+   * @return The interpolated output.
+   */
+  private double evaluate(final double[] input) {
+    int argMinA = -1;
+    double minA = Double.MAX_VALUE;
+    int argMinB = -1;
+    double minB = Double.MAX_VALUE;
+    for (int row = 0; row < output.length; row++) {
+      double sum = 0.0;
+      for (int i = 0; i < input.length; i++) {
+        final double d = input[i] - table[i][row];
+        sum += d * d;
       }
-      final EuclideanDistance eu = new EuclideanDistance();
-      final Double distance = eu.compute(input, record);
+      final double distance = Math.sqrt(sum);
       if (distance < minA) {
         argMinB = argMinA;
         minB = minA;
@@ -122,15 +179,47 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
         minB = distance;
       }
     }
-    final Double valueA = getTable().get(argMinA, LookupTableFunction.S_OUTPUT);
-    final Double valueB = getTable().get(argMinB, LookupTableFunction.S_OUTPUT);
-    rtn = (valueA * minA + valueB * minB) / (minA + minB);
-    return rtn;
+    if (argMinB < 0) {
+      throw new RuntimeException("Unable to find the two nearest rows of the lookup table.");
+    }
+    return (output[argMinA] * minA + output[argMinB] * minB) / (minA + minB);
   }
 
-  private Table<Integer, String, Double> getTable() {
-    return table;
+  /**
+   * Evaluates this instance at every point defined by parameter {@code input}, e.g. the input of a
+   * node in every state. The points are stored one after the other, each with one value per
+   * variable, so that a table over a single variable takes one value per point. A table over a
+   * single variable is interpolated with its {@link LookupTableInterpolator}; any other table is
+   * scanned once per point.
+   *
+   * @param input The values of the variables at each point.
+   * @param rtn The array that receives the output at each point.
+   */
+  public void evaluate(final double[] input, final double[] rtn) {
+    final int numVariables = table.length;
+    if (input.length != rtn.length * numVariables) {
+      final String fmt = "Expected %d values for %d points, got %d.";
+      throw new IllegalArgumentException(
+          String.format(fmt, rtn.length * numVariables, rtn.length, input.length));
+    }
+    if (interpolator != null) {
+      interpolator.evaluate(input, rtn);
+    } else {
+      for (int i = 0; i < numVariables; i++) {
+        if (table[i] == null) {
+          final String name = getVariables().get(i).getName();
+          throw new RuntimeException(String.format("Missing column %s.", name));
+        }
+      }
+      final double[] point = new double[numVariables];
+      for (int j = 0; j < rtn.length; j++) {
+        System.arraycopy(input, j * numVariables, point, 0, numVariables);
+        rtn[j] = evaluate(point);
+      }
+    }
   }
 
-  private Table<Integer, String, Double> table;
+  private double[][] table;
+  private double[] output;
+  private LookupTableInterpolator interpolator;
 }
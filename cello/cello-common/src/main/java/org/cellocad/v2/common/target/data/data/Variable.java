@@ -19,9 +19,10 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import java.util.HashMap;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
@@ -60,26 +61,82 @@ public class Variable extends Evaluatable {
   public Number evaluate(final EvaluationContext ec) throws CelloException {
     Number rtn = null;
     final NetlistNode node = ec.getNode();
-    String shMap = null;
-    // FIXME: HACK
-    if (getMap().contains(Structure.S_INPUTS)) {
-      shMap = ec.reduce(getMap());
+    final State<NetlistNode> state = ec.getState();
+    final ReferencePath path = getPath();
+    if (path.getType().equals(ReferencePath.PathType.STRUCTURE_INPUT) && state != null) {
+      final NetlistNode src = ec.getSource(path, node);
+      if (src != null) {
+        final double value = ec.getMemo(src, state, path.getSlot());
+        if (!Double.isNaN(value)) {
+          rtn = value;
+        }
+      }
     }
-    if (shMap != null && ec.getMemo().containsKey(ec.getState()) && ec.getMemo().get(ec.getState()).containsKey(shMap)) {
-      return ec.getMemo().get(ec.getState()).get(shMap);
+    if (rtn == null) {
+      final Evaluatable e = ec.dereference(path);
+      if (e == null) {
+        throw new RuntimeException("Dereference failed.");
+      }
+      rtn = e.evaluate(ec);
+      ec.setNode(node);
     }
-    // otherwise
-    final Evaluatable e = ec.dereference(getMap());
-    if (e == null) {
-      throw new RuntimeException("Dereference failed.");
+    return rtn;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>An input of the structure is resolved once, and the memoized values of the connected node
+   * are read for every state. Any other path is dereferenced once and evaluated in every state.
+   */
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final States<NetlistNode> states, final double[] rtn)
+      throws CelloException {
+    final NetlistNode node = ec.getNode();
+    final ReferencePath path = getPath();
+    double[] memo = null;
+    if (path.getType().equals(ReferencePath.PathType.STRUCTURE_INPUT)) {
+      final NetlistNode src = ec.getSource(path, node);
+      if (src != null) {
+        memo = ec.getMemo(src, path.getSlot());
+      }
     }
-    rtn = e.evaluate(ec);
-    ec.setNode(node);
-    if (!ec.getMemo().containsKey(ec.getState())) {
-      ec.getMemo().put(ec.getState(), new HashMap<>());
+    boolean memoized = memo != null;
+    for (int i = 0; memoized && i < states.getNumStates(); i++) {
+      memoized = Variable.isMemoized(memo, states.getStateAtIdx(i));
     }
-    ec.getMemo().get(ec.getState()).put(String.format("%s%s", node.getName(), getMap().substring(Reference.S_REFCHAR.length())), rtn);
-    return rtn;
+    if (memoized) {
+      for (int i = 0; i < states.getNumStates(); i++) {
+        rtn[i] = memo[states.getStateAtIdx(i).getIdx()];
+      }
+    } else {
+      final Evaluatable e = ec.dereference(path);
+      if (e == null) {
+        throw new RuntimeException("Dereference failed.");
+      }
+      if (memo == null) {
+        e.evaluate(ec, states, rtn);
+      } else {
+        final NetlistNode src = ec.getNode();
+        for (int i = 0; i < states.getNumStates(); i++) {
+          final State<NetlistNode> state = states.getStateAtIdx(i);
+          if (Variable.isMemoized(memo, state)) {
+            rtn[i] = memo[state.getIdx()];
+          } else {
+            ec.setNode(src);
+            ec.setState(state);
+            rtn[i] = e.evaluate(ec).doubleValue();
+          }
+        }
+      }
+      ec.setNode(node);
+    }
+  }
+
+  private static boolean isMemoized(final double[] memo, final State<NetlistNode> state) {
+    final int s = state.getIdx();
+    return 0 <= s && s < memo.length && !Double.isNaN(memo[s]);
   }
 
   @Override
@@ -93,5 +150,13 @@ public class Variable extends Evaluatable {
     return map;
   }
 
+  private ReferencePath getPath() throws CelloException {
+    if (path == null) {
+      path = ReferencePath.parse(getMap());
+    }
+    return path;
+  }
+
   private String map;
+  private volatile ReferencePath path;
 }
@@ -26,40 +26,81 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.exception.CelloException;
 
 /**
  * The results of an application. Writes a metadata file.
  *
+ * <p>Each result is appended as one line of JSON to a journal, {@code results.jsonl}, so adding a
+ * result costs one record rather than a rewrite of every result so far. When a result is added,
+ * the journal is flushed if {@link #I_FLUSH_RECORDS} records or {@link #I_FLUSH_BYTES} characters
+ * are buffered, or if {@link #L_FLUSH_MILLIS} have passed since the last flush. There is no timer,
+ * so results added before a long stage stay buffered until the next result is added or the stage
+ * ends.
+ *
+ * <p>{@code results.json}, the array of every result, is replaced only by {@link #flush()}, at the
+ * end of every stage, and by {@link #close()}. It is written to a temporary file and moved into
+ * place, so the array is never left half written. A process killed mid-run leaves at most one
+ * partial line at the end of the journal, which {@link #readJournal(File)} ignores.
+ *
  * @author Timothy Jones
  * @date 2020-03-30
  */
-public class Results extends CObject {
+public class Results extends CObject implements Closeable {
 
   private ObjectMapper mapper;
   private ArrayNode array;
   private ObjectWriter writer;
   private final File file;
+  private final File journal;
+  private Writer out;
+  private int numPending;
+  private int numPendingChars;
+  private long lastFlush;
 
   private void init() {
     mapper = new ObjectMapper();
     array = mapper.createArrayNode();
     writer = mapper.writer(new DefaultPrettyPrinter());
+    lastFlush = System.currentTimeMillis();
   }
 
   /**
    * Create a new results object.
    *
    * @param directory The directory of the results metadata file.
-   * @throws CelloException Unable to create new results object.
    */
   public Results(final File directory) {
     super();
     init();
-    file = new File(directory, "results.json");
+    file = new File(directory, Results.S_FILENAME);
+    journal = new File(directory, Results.S_JOURNAL);
+  }
+
+  private Writer getOut() throws IOException {
+    if (out == null) {
+      // a new results object starts a new manifest, as the array file is replaced on first flush
+      out =
+          new BufferedWriter(
+              new OutputStreamWriter(new FileOutputStream(journal), StandardCharsets.UTF_8));
+    }
+    return out;
   }
 
   /**
@@ -70,10 +111,104 @@ public class Results extends CObject {
    * @throws JsonMappingException Unable to map JSON.
    * @throws IOException Unable to write to results file.
    */
-  public void addResult(final Result result)
+  public synchronized void addResult(final Result result)
       throws JsonGenerationException, JsonMappingException, IOException {
     final JsonNode node = mapper.valueToTree(result);
     array.add(node);
-    writer.writeValue(file, array);
+    final String line = mapper.writeValueAsString(node) + "\n";
+    getOut().write(line);
+    numPending++;
+    numPendingChars += line.length();
+    if (numPending >= Results.I_FLUSH_RECORDS
+        || numPendingChars >= Results.I_FLUSH_BYTES
+        || System.currentTimeMillis() - lastFlush >= Results.L_FLUSH_MILLIS) {
+      flushJournal();
+    }
+  }
+
+  private void flushJournal() throws IOException {
+    if (out != null) {
+      out.flush();
+    }
+    numPending = 0;
+    numPendingChars = 0;
+    lastFlush = System.currentTimeMillis();
+  }
+
+  /**
+   * Flush buffered results to the journal and replace the results metadata file. Called at the end
+   * of every stage.
+   *
+   * @throws IOException Unable to write to results file.
+   */
+  public synchronized void flush() throws IOException {
+    flushJournal();
+    final File tmp = new File(file.getPath() + Results.S_TMP);
+    writer.writeValue(tmp, array);
+    try {
+      Files.move(
+          tmp.toPath(),
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
   }
+
+  /**
+   * Flush buffered results, replace the results metadata file, and close the journal. A result
+   * added afterwards starts a new journal. Called at the end of every application.
+   *
+   * @throws IOException Unable to write to results file.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+    }
+  }
+
+  /**
+   * Read the records of the journal defined by parameter {@code file}. A trailing line without a
+   * line terminator, left by a process killed mid-write, is ignored.
+   *
+   * @param file The journal, i.e. {@code results.jsonl}.
+   * @return The records of the journal.
+   * @throws IOException Unable to read the journal.
+   */
+  public static List<JsonNode> readJournal(final File file) throws IOException {
+    final List<JsonNode> rtn = new ArrayList<>();
+    final ObjectMapper mapper = new ObjectMapper();
+    final StringBuilder line = new StringBuilder();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+      int c = reader.read();
+      while (c >= 0) {
+        if (c == '\n') {
+          if (line.length() > 0) {
+            rtn.add(mapper.readTree(line.toString()));
+          }
+          line.setLength(0);
+        } else {
+          line.append((char) c);
+        }
+        c = reader.read();
+      }
+    }
+    return rtn;
+  }
+
+  private static final String S_FILENAME = "results.json";
+  private static final String S_JOURNAL = "results.jsonl";
+  private static final String S_TMP = ".tmp";
+  private static final int I_FLUSH_RECORDS = 64;
+  private static final int I_FLUSH_BYTES = 1 << 16;
+  private static final long L_FLUSH_MILLIS = 5000;
 }
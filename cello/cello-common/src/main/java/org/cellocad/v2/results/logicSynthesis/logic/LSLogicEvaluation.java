@@ -27,19 +27,22 @@ import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.PackedTruthTable;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistUtils;
 
 /**
  * A Boolean logic evaluation of a netlist in the <i>logicSynthesis</i> stage.
  *
+ * <p>The logic of each node is held as a {@link PackedTruthTable}. The {@link TruthTable} of a
+ * node is a view built from the packed table on first request.
+ *
  * @author Vincent Mirian
  * @date 2018-05-21
  */
@@ -48,6 +51,7 @@ public class LSLogicEvaluation {
   /** Initialize class members. */
   private void init() {
     truthtables = new HashMap<>();
+    packedtruthtables = new HashMap<>();
   }
 
   /**
@@ -66,39 +70,52 @@ public class LSLogicEvaluation {
     final Boolean Zero = new Boolean(false);
     final States<NetlistNode> states = new States<>(inputNodes, One, Zero);
     setStates(states);
-    final List<NetlistNode> outputNodes = new ArrayList<>();
-    for (int i = 0; i < netlist.getNumVertex(); i++) {
-      final NetlistNode node = netlist.getVertexAtIdx(i);
-      outputNodes.clear();
-      outputNodes.add(node);
-      final TruthTable<NetlistNode, NetlistNode> truthTable = new TruthTable<>(states, outputNodes);
-      getTruthTables().put(node, truthTable);
-    }
+    setPrimaryInputNodes(inputNodes);
     evaluate(netlist);
   }
 
   /**
-   * Returns a Boolean representation of the evaluation of the NodeType defined by <i>nodeType</i>
-   * with input defined by parameters <i>inputs</i>.
+   * Returns the packed truth tables of the inputs of the NetlistNode defined by parameter {@code
+   * node}.
+   *
+   * @param node The {@link NetlistNode}.
+   * @return The packed truth tables of the inputs of the NetlistNode defined by parameter {@code
+   *     node}.
+   */
+  private List<PackedTruthTable> getInputLogic(final NetlistNode node) {
+    final List<PackedTruthTable> rtn = new ArrayList<>();
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
+      rtn.add(getPackedTruthTables().get(inputNode));
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the packed evaluation of the NodeType defined by <i>nodeType</i> over the inputs
+   * defined by parameter <i>inputs</i>, or null if there are fewer than two inputs.
    *
    * @param inputs a List of inputs.
    * @param nodeType The NodeType.
-   * @return A Boolean representation of the evaluation of the NodeType defined by <i>nodeType</i>
-   *     with input defined by parameters <i>inputs</i>.
+   * @return The packed evaluation of the NodeType defined by <i>nodeType</i>.
    */
-  private Boolean computeLogic(final List<Boolean> inputs, final String nodeType) {
-    Boolean rtn = inputs.get(0);
+  private PackedTruthTable computeLogic(final List<PackedTruthTable> inputs, final String nodeType) {
+    PackedTruthTable rtn = null;
+    if (inputs.size() < 2) {
+      return rtn;
+    }
+    rtn = inputs.get(0);
     for (int i = 1; i < inputs.size(); i++) {
-      final Boolean value = inputs.get(i);
+      final PackedTruthTable value = inputs.get(i);
       switch (nodeType) {
         case LSResults.S_AND:
-          rtn = rtn && value;
+          rtn = rtn.and(value);
           break;
         case LSResults.S_OR:
-          rtn = rtn || value;
+          rtn = rtn.or(value);
           break;
         case LSResults.S_XOR:
-          rtn = rtn ^ value;
+          rtn = rtn.xor(value);
           break;
         default:
           throw new RuntimeException("Unknown nodeType");
@@ -107,273 +124,152 @@ public class LSLogicEvaluation {
     return rtn;
   }
 
-  /**
-   * Returns a List of Boolean representation of the input values for NetlistNode defined by
-   * parameter {@code node} at the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return A List of Boolean representation of the input values for NetlistNode defined by
-   *     parameter {@code node} at the state defined by parameter {@code state}.
-   */
-  private List<Boolean> getInputLogic(final NetlistNode node, final State<NetlistNode> state) {
-    final List<Boolean> rtn = new ArrayList<>();
-    for (int i = 0; i < node.getNumInEdge(); i++) {
-      final NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
-      final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(inputNode);
-      truthTable.getStateOutput(state);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(state);
-      if (outputState.getNumStatePosition() != 1) {
-        throw new RuntimeException("Invalid number of output(s)!");
-      }
-      rtn.add(outputState.getState(inputNode));
+  private static PackedTruthTable not(final PackedTruthTable value) {
+    PackedTruthTable rtn = null;
+    if (value != null) {
+      rtn = value.not();
     }
     return rtn;
   }
 
   /**
-   * Returns the evaluation for a Primary Input for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Evaluates the packed truth table for the NetlistNode defined by parameter {@code node}. All
+   * input combinations are evaluated at once.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a Primary Input for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
    */
-  private Boolean computePrimaryInput(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 0) {
-      rtn = state.getState(node);
-    }
-    return rtn;
-  }
-
-  /**
-   * Returns the evaluation for a Primary Output for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a Primary Output for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
-   */
-  private Boolean computePrimaryOutput(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 1) {
-      rtn = inputList.get(0);
-    }
-    if (inputList.size() > 1) {
-      rtn = computeOR(node, state);
+  private void evaluateTruthTable(final NetlistNode node) {
+    PackedTruthTable result = null;
+    final int numStates = getStates().getNumStates();
+    final String nodeType = node.getResultNetlistNodeData().getNodeType();
+    final List<PackedTruthTable> inputs = getInputLogic(node);
+    switch (nodeType) {
+      case LSResults.S_PRIMARYINPUT:
+        if (inputs.size() == 0) {
+          final int position = getPrimaryInputNodes().indexOf(node);
+          if (position >= 0) {
+            result = PackedTruthTable.input(numStates, position);
+          }
+        }
+        break;
+      case LSResults.S_PRIMARYOUTPUT:
+        if (inputs.size() == 1) {
+          result = inputs.get(0);
+        }
+        if (inputs.size() > 1) {
+          result = computeLogic(inputs, LSResults.S_OR);
+        }
+        break;
+      case LSResults.S_INPUT:
+      case LSResults.S_OUTPUT:
+        result = new PackedTruthTable(numStates);
+        break;
+      case LSResults.S_NOT:
+        if (inputs.size() == 1) {
+          result = inputs.get(0).not();
+        }
+        break;
+      case LSResults.S_AND:
+        result = computeLogic(inputs, LSResults.S_AND);
+        break;
+      case LSResults.S_NAND:
+        result = LSLogicEvaluation.not(computeLogic(inputs, LSResults.S_AND));
+        break;
+      case LSResults.S_OR:
+        result = computeLogic(inputs, LSResults.S_OR);
+        break;
+      case LSResults.S_NOR:
+        result = LSLogicEvaluation.not(computeLogic(inputs, LSResults.S_OR));
+        break;
+      case LSResults.S_XOR:
+        result = computeLogic(inputs, LSResults.S_XOR);
+        break;
+      case LSResults.S_XNOR:
+        result = LSLogicEvaluation.not(computeLogic(inputs, LSResults.S_XOR));
+        break;
+      default:
+        throw new RuntimeException("Unknown nodeType");
     }
-    return rtn;
-  }
-
-  /**
-   * Returns the evaluation for a NOT NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a NOT NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computeNOT(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 1) {
-      rtn = inputList.get(0);
-      rtn = !rtn;
+    if (numStates > 0) {
+      Utils.isNullRuntimeException(result, "result");
     }
-    return rtn;
-  }
-
-  /**
-   * Returns the evaluation for an AND NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an AND NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computeAND(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_AND);
+    if (result == null) {
+      result = new PackedTruthTable(numStates);
     }
-    return rtn;
+    getPackedTruthTables().put(node, result);
   }
 
   /**
-   * Returns the evaluation for an NAND NodeType for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
+   * Evaluates the Netlist defined by parameter {@code netlist}.
    *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an NAND NodeType for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
+   * @param netlist The {@link Netlist}.
    */
-  private Boolean computeNand(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_AND);
-      rtn = !rtn;
+  protected void evaluate(final Netlist netlist) {
+    final int[] order = NetlistUtils.getEvaluationOrder(netlist);
+    for (int i = 0; i < order.length; i++) {
+      evaluateTruthTable(netlist.getVertexAtIdx(order[i]));
     }
-    return rtn;
   }
 
   /**
-   * Returns the evaluation for an OR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Builds the {@link TruthTable} view of the packed truth table of the NetlistNode defined by
+   * parameter {@code node}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an OR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
+   * @return The {@link TruthTable} view.
    */
-  private Boolean computeOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_OR);
+  private TruthTable<NetlistNode, NetlistNode> buildTruthTable(final NetlistNode node) {
+    final States<NetlistNode> states = getStates();
+    final List<NetlistNode> outputNodes = new ArrayList<>();
+    outputNodes.add(node);
+    final TruthTable<NetlistNode, NetlistNode> rtn = new TruthTable<>(states, outputNodes);
+    final PackedTruthTable packed = getPackedTruthTable(node);
+    for (int i = 0; i < rtn.getNumStates(); i++) {
+      final State<NetlistNode> inputState = rtn.getStateAtIdx(i);
+      final State<NetlistNode> outputState = rtn.getStateOutput(inputState);
+      final Boolean value = packed.get(i) ? states.getOne() : states.getZero();
+      if (!outputState.setState(node, value)) {
+        throw new RuntimeException("Node does not exist");
+      }
     }
     return rtn;
   }
 
   /**
-   * Returns the evaluation for an NOR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Returns the {@link TruthTable} view of every node of the netlist.
    *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an NOR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
+   * @return The {@link TruthTable} view of every node of the netlist.
    */
-  private Boolean computeNOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_OR);
-      rtn = !rtn;
+  protected Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> getTruthTables() {
+    for (final NetlistNode node : getPackedTruthTables().keySet()) {
+      getTruthTable(node);
     }
-    return rtn;
+    return truthtables;
   }
 
-  /**
-   * Returns the evaluation for an XOR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an XOR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computeXOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_XOR);
-    }
-    return rtn;
+  protected Map<NetlistNode, PackedTruthTable> getPackedTruthTables() {
+    return packedtruthtables;
   }
 
   /**
-   * Returns the evaluation for an XNOR NodeType for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
+   * Returns the packed truth table of NetlistNode defined by parameter {@code node}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an XNOR NodeType for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
+   * @return The packed truth table of NetlistNode defined by parameter {@code node}, bit {@code i}
+   *     being the output at the state at index {@code i} of {@link #getStates()}.
    */
-  private Boolean computeXnor(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_XOR);
-      rtn = !rtn;
-    }
+  public PackedTruthTable getPackedTruthTable(final NetlistNode node) {
+    PackedTruthTable rtn = null;
+    rtn = getPackedTruthTables().get(node);
     return rtn;
   }
 
-  /**
-   * Evaluates the truth table for the NetlistNode defined by parameter {@code node}.
-   *
-   * @param node The {@link NetlistNode}.
-   */
-  private void evaluateTruthTable(final NetlistNode node) {
-    Boolean result = null;
-    final String nodeType = node.getResultNetlistNodeData().getNodeType();
-    final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(node);
-    for (int i = 0; i < truthTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
-      if (outputState.getNumStatePosition() != 1) {
-        throw new RuntimeException("Invalid number of output(s)!");
-      }
-      switch (nodeType) {
-        case LSResults.S_PRIMARYINPUT:
-          result = computePrimaryInput(node, inputState);
-          break;
-        case LSResults.S_PRIMARYOUTPUT:
-          result = computePrimaryOutput(node, inputState);
-          break;
-        case LSResults.S_INPUT:
-          continue;
-        case LSResults.S_OUTPUT:
-          continue;
-        case LSResults.S_NOT:
-          result = computeNOT(node, inputState);
-          break;
-        case LSResults.S_AND:
-          result = computeAND(node, inputState);
-          break;
-        case LSResults.S_NAND:
-          result = computeNand(node, inputState);
-          break;
-        case LSResults.S_OR:
-          result = computeOR(node, inputState);
-          break;
-        case LSResults.S_NOR:
-          result = computeNOR(node, inputState);
-          break;
-        case LSResults.S_XOR:
-          result = computeXOR(node, inputState);
-          break;
-        case LSResults.S_XNOR:
-          result = computeXnor(node, inputState);
-          break;
-        default:
-          throw new RuntimeException("Unknown nodeType");
-      }
-      Utils.isNullRuntimeException(result, "result");
-      if (!outputState.setState(node, result)) {
-        throw new RuntimeException("Node does not exist");
-      }
-    }
+  private CObjectCollection<NetlistNode> getPrimaryInputNodes() {
+    return primaryInputNodes;
   }
 
-  /**
-   * Evaluates the Netlist defined by parameter {@code netlist}.
-   *
-   * @param netlist The {@link Netlist}.
-   */
-  protected void evaluate(final Netlist netlist) {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
-    NetlistNode node = null;
-    node = BFS.getNextVertex();
-    while (node != null) {
-      evaluateTruthTable(node);
-      node = BFS.getNextVertex();
-    }
-  }
-
-  protected Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> getTruthTables() {
-    return truthtables;
+  private void setPrimaryInputNodes(final CObjectCollection<NetlistNode> primaryInputNodes) {
+    this.primaryInputNodes = primaryInputNodes;
   }
 
   protected void setStates(final States<NetlistNode> states) {
@@ -397,7 +293,11 @@ public class LSLogicEvaluation {
    */
   public TruthTable<NetlistNode, NetlistNode> getTruthTable(final NetlistNode node) {
     TruthTable<NetlistNode, NetlistNode> rtn = null;
-    rtn = getTruthTables().get(node);
+    rtn = truthtables.get(node);
+    if (rtn == null && getPackedTruthTables().containsKey(node)) {
+      rtn = buildTruthTable(node);
+      truthtables.put(node, rtn);
+    }
     return rtn;
   }
 
@@ -408,13 +308,11 @@ public class LSLogicEvaluation {
     rtn += LSLogicEvaluation.S_HEADER + Utils.getNewLine();
     rtn += "LSLogicEvaluation" + Utils.getNewLine();
     rtn += LSLogicEvaluation.S_HEADER + Utils.getNewLine();
-    for (final NetlistNode node : getTruthTables().keySet()) {
+    for (final NetlistNode node : getPackedTruthTables().keySet()) {
       rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
-      final TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTables().get(node);
+      final PackedTruthTable truthtable = getPackedTruthTable(node);
       for (int i = 0; i < truthtable.getNumStates(); i++) {
-        final State<NetlistNode> input = truthtable.getStateAtIdx(i);
-        final State<NetlistNode> output = truthtable.getStateOutput(input);
-        rtn += output.getState(node) + Utils.getTabCharacter();
+        rtn += truthtable.get(i) + Utils.getTabCharacter();
       }
       rtn += Utils.getNewLine();
     }
@@ -431,23 +329,23 @@ public class LSLogicEvaluation {
    * @throws IOException If an I/O error occurs.
    */
   public void writeCSV(final String delimiter, final Writer os) throws IOException {
-    String str = "";
-    for (final NetlistNode node : getTruthTables().keySet()) {
-      str += node.getName();
-      final TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTable(node);
+    final StringBuilder str = new StringBuilder();
+    for (final NetlistNode node : getPackedTruthTables().keySet()) {
+      str.append(node.getName());
+      final PackedTruthTable truthtable = getPackedTruthTable(node);
       for (int i = 0; i < truthtable.getNumStates(); i++) {
-        final State<NetlistNode> input = truthtable.getStateAtIdx(i);
-        final State<NetlistNode> output = truthtable.getStateOutput(input);
-        str += delimiter;
-        str += String.format("%s", output.getState(node));
+        str.append(delimiter);
+        str.append(truthtable.get(i));
       }
-      str += Utils.getNewLine();
+      str.append(Utils.getNewLine());
     }
-    os.write(str);
+    os.write(str.toString());
   }
 
   private static final String S_HEADER = "--------------------------------------------";
 
   private Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> truthtables;
+  private Map<NetlistNode, PackedTruthTable> packedtruthtables;
+  private CObjectCollection<NetlistNode> primaryInputNodes;
   private States<NetlistNode> states;
 }
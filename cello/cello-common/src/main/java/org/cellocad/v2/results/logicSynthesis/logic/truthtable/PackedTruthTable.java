@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import java.util.Arrays;
+
+/**
+ * A single-output truth table packed into bits. Bit {@code i} is the output under input
+ * combination {@code i}, i.e. under the {@link State} at index {@code i} of the corresponding
+ * {@link States}. Boolean operations combine 64 rows per word.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class PackedTruthTable {
+
+  /**
+   * Initializes a newly created {@link PackedTruthTable} with {@code numStates} rows, all false.
+   *
+   * @param numStates The number of rows.
+   */
+  public PackedTruthTable(final int numStates) {
+    this.numStates = numStates;
+    words = new long[(numStates + PackedTruthTable.I_WORD - 1) / PackedTruthTable.I_WORD];
+  }
+
+  private PackedTruthTable(final int numStates, final long[] words) {
+    this.numStates = numStates;
+    this.words = words;
+  }
+
+  /**
+   * Returns the truth table of the primary input at position {@code position} of the inputs of a
+   * {@link States} with {@code numStates} rows, i.e. bit {@code i} is bit {@code position} of
+   * {@code i}.
+   *
+   * @param numStates The number of rows.
+   * @param position The position of the input.
+   * @return The truth table of the input.
+   */
+  public static PackedTruthTable input(final int numStates, final int position) {
+    final PackedTruthTable rtn = new PackedTruthTable(numStates);
+    for (int w = 0; w < rtn.words.length; w++) {
+      if (position < PackedTruthTable.L_PATTERNS.length) {
+        rtn.words[w] = PackedTruthTable.L_PATTERNS[position];
+      } else if (((w >> (position - PackedTruthTable.L_PATTERNS.length)) & 1) != 0) {
+        rtn.words[w] = -1L;
+      }
+    }
+    rtn.mask();
+    return rtn;
+  }
+
+  private void mask() {
+    final int rem = numStates % PackedTruthTable.I_WORD;
+    if (rem != 0) {
+      words[words.length - 1] &= (1L << rem) - 1;
+    }
+  }
+
+  /**
+   * Returns the output at row {@code index}.
+   *
+   * @param index The row.
+   * @return The output at row {@code index}.
+   */
+  public boolean get(final int index) {
+    return (words[index / PackedTruthTable.I_WORD] & (1L << index)) != 0;
+  }
+
+  /**
+   * Sets the output at row {@code index}.
+   *
+   * @param index The row.
+   * @param value The output.
+   */
+  public void set(final int index, final boolean value) {
+    if (value) {
+      words[index / PackedTruthTable.I_WORD] |= 1L << index;
+    } else {
+      words[index / PackedTruthTable.I_WORD] &= ~(1L << index);
+    }
+  }
+
+  /**
+   * Getter for {@code numStates}.
+   *
+   * @return The number of rows.
+   */
+  public int getNumStates() {
+    return numStates;
+  }
+
+  /**
+   * Returns the conjunction of this instance and {@code other}.
+   *
+   * @param other A truth table with the same number of rows.
+   * @return The conjunction of this instance and {@code other}.
+   */
+  public PackedTruthTable and(final PackedTruthTable other) {
+    final long[] w = new long[words.length];
+    for (int i = 0; i < w.length; i++) {
+      w[i] = words[i] & other.words[i];
+    }
+    return new PackedTruthTable(numStates, w);
+  }
+
+  /**
+   * Returns the disjunction of this instance and {@code other}.
+   *
+   * @param other A truth table with the same number of rows.
+   * @return The disjunction of this instance and {@code other}.
+   */
+  public PackedTruthTable or(final PackedTruthTable other) {
+    final long[] w = new long[words.length];
+    for (int i = 0; i < w.length; i++) {
+      w[i] = words[i] | other.words[i];
+    }
+    return new PackedTruthTable(numStates, w);
+  }
+
+  /**
+   * Returns the exclusive disjunction of this instance and {@code other}.
+   *
+   * @param other A truth table with the same number of rows.
+   * @return The exclusive disjunction of this instance and {@code other}.
+   */
+  public PackedTruthTable xor(final PackedTruthTable other) {
+    final long[] w = new long[words.length];
+    for (int i = 0; i < w.length; i++) {
+      w[i] = words[i] ^ other.words[i];
+    }
+    return new PackedTruthTable(numStates, w);
+  }
+
+  /**
+   * Returns the negation of this instance.
+   *
+   * @return The negation of this instance.
+   */
+  public PackedTruthTable not() {
+    final long[] w = new long[words.length];
+    for (int i = 0; i < w.length; i++) {
+      w[i] = ~words[i];
+    }
+    final PackedTruthTable rtn = new PackedTruthTable(numStates, w);
+    rtn.mask();
+    return rtn;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * numStates + Arrays.hashCode(words);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof PackedTruthTable)) {
+      return false;
+    }
+    final PackedTruthTable other = (PackedTruthTable) obj;
+    return numStates == other.numStates && Arrays.equals(words, other.words);
+  }
+
+  private final int numStates;
+  private final long[] words;
+
+  private static final int I_WORD = Long.SIZE;
+  private static final long[] L_PATTERNS = {
+    0xAAAAAAAAAAAAAAAAL,
+    0xCCCCCCCCCCCCCCCCL,
+    0xF0F0F0F0F0F0F0F0L,
+    0xFF00FF00FF00FF00L,
+    0xFFFF0000FFFF0000L,
+    0xFFFFFFFF00000000L
+  };
+}
@@ -40,7 +40,7 @@ public class States<T> {
   /**
    * Initializes a newly created {@link States} with the list of inputs defined by parameter {@code
    * inputs} the True value defined by parameter {@code one}, the false value defined by parameter
-   * {@code zero}.
+   * {@code zero}. The index of each {@link State} is its position in this instance.
    *
    * @param inputs The List of inputs.
    * @param one The True value.
@@ -54,6 +54,7 @@ public class States<T> {
     final int size = result.intValue();
     for (int i = 0; i < size; i++) {
       final State<T> InputState = new State<>(inputs, one, zero, i);
+      InputState.setIdx(i);
       this.getStates().add(InputState);
     }
   }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+
+/**
+ * A read-only, array-backed view of the structure of a {@link Netlist} for evaluation kernels.
+ * Each node is identified by its index in the netlist. The in edges and out edges of the nodes
+ * are stored in compressed sparse row (CSR) form: the in edges of node {@code n} are at positions
+ * {@code getInOffsets()[n]} (inclusive) to {@code getInOffsets()[n + 1]} (exclusive) of {@link
+ * #getInSources()} and {@link #getInSlots()}, and likewise for the out edges. The input slot of an
+ * in edge is the slot of the input of the structure of the device assigned to the node to which the
+ * edge is assigned, see {@link Input#getSlot()}, so that a path through a structure input is
+ * resolved to its source by comparing slots.
+ *
+ * <p>The structure is frozen when the view is built, see {@link #isStale()}. The input slots
+ * depend on the device and input assignment, and are read again by {@link #refresh()} or {@link
+ * #refresh(Collection)}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class CompressedNetlist {
+
+  /**
+   * Initializes a newly created {@link CompressedNetlist} with the structure of the netlist defined
+   * by parameter {@code netlist}.
+   *
+   * @param netlist The netlist.
+   */
+  public CompressedNetlist(final Netlist netlist) {
+    this.netlist = netlist;
+    modificationCount = netlist.getModificationCount();
+    final int n = netlist.getNumVertex();
+    nodes = new NetlistNode[n];
+    ids = new IdentityHashMap<>(n);
+    nodeTypes = new byte[n];
+    inOffsets = new int[n + 1];
+    outOffsets = new int[n + 1];
+    for (int i = 0; i < n; i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      nodes[i] = node;
+      ids.put(node, i);
+      nodeTypes[i] = CompressedNetlist.getNodeType(node);
+      inOffsets[i + 1] = inOffsets[i] + node.getNumInEdge();
+      int numOut = 0;
+      for (int j = 0; j < node.getNumOutEdge(); j++) {
+        numOut += node.getOutEdgeAtIdx(j).getNumDst();
+      }
+      outOffsets[i + 1] = outOffsets[i] + numOut;
+    }
+    inEdges = new NetlistEdge[inOffsets[n]];
+    inSources = new int[inOffsets[n]];
+    inSlots = new int[inOffsets[n]];
+    outDestinations = new int[outOffsets[n]];
+    for (int i = 0; i < n; i++) {
+      final NetlistNode node = nodes[i];
+      int k = inOffsets[i];
+      for (int j = 0; j < node.getNumInEdge(); j++) {
+        final NetlistEdge edge = node.getInEdgeAtIdx(j);
+        inEdges[k] = edge;
+        inSources[k] = getId(edge.getSrc());
+        k++;
+      }
+      k = outOffsets[i];
+      for (int j = 0; j < node.getNumOutEdge(); j++) {
+        final NetlistEdge edge = node.getOutEdgeAtIdx(j);
+        for (int l = 0; l < edge.getNumDst(); l++) {
+          outDestinations[k++] = getId(edge.getDstAtIdx(l));
+        }
+      }
+    }
+    refresh();
+  }
+
+  private static byte getNodeType(final NetlistNode node) {
+    byte rtn = CompressedNetlist.B_GATE;
+    if (LSResultsUtils.isPrimaryInput(node)) {
+      rtn = CompressedNetlist.B_PRIMARY_INPUT;
+    } else if (LSResultsUtils.isPrimaryOutput(node)) {
+      rtn = CompressedNetlist.B_PRIMARY_OUTPUT;
+    }
+    return rtn;
+  }
+
+  private static int getSlot(final NetlistEdge edge, final NetlistNode dst) {
+    int rtn = -1;
+    final AssignableDevice device = dst.getResultNetlistNodeData().getDevice();
+    final Input input = edge.getResultNetlistEdgeData().getInput();
+    if (device != null && input != null && device.getStructure() != null) {
+      rtn = input.getSlot();
+    }
+    return rtn;
+  }
+
+  /**
+   * Reads the input slot of the in edges of the node defined by parameter {@code id} again.
+   *
+   * @param id The node.
+   */
+  public void refresh(final int id) {
+    for (int k = inOffsets[id]; k < inOffsets[id + 1]; k++) {
+      inSlots[k] = CompressedNetlist.getSlot(inEdges[k], nodes[id]);
+    }
+  }
+
+  /** Reads the input slot of every in edge again, e.g. after the devices have been assigned. */
+  public void refresh() {
+    for (int i = 0; i < nodes.length; i++) {
+      refresh(i);
+    }
+  }
+
+  /**
+   * Reads the input slot of the in edges of the nodes defined by parameter {@code nodes} again,
+   * e.g. after their devices have been swapped.
+   *
+   * @param nodes The nodes.
+   */
+  public void refresh(final Collection<NetlistNode> nodes) {
+    for (final NetlistNode node : nodes) {
+      final int id = getId(node);
+      if (id >= 0) {
+        refresh(id);
+      }
+    }
+  }
+
+  /**
+   * Returns true if the structure of the netlist may have changed since this instance was built.
+   *
+   * @return True if the structure of the netlist may have changed since this instance was built.
+   */
+  public boolean isStale() {
+    return netlist.getModificationCount() != modificationCount;
+  }
+
+  /**
+   * Returns the node connected to the input slot defined by parameter {@code slot} of the node
+   * defined by parameter {@code id}.
+   *
+   * @param id The node.
+   * @param slot The input slot, see {@link Input#getSlot()}.
+   * @return The node connected to the input slot, or -1 if the slot is not connected.
+   */
+  public int getInputSource(final int id, final int slot) {
+    int rtn = -1;
+    for (int k = inOffsets[id]; rtn < 0 && k < inOffsets[id + 1]; k++) {
+      if (inSlots[k] == slot) {
+        rtn = inSources[k];
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the identifier of the node defined by parameter {@code node}.
+   *
+   * @param node The node.
+   * @return The identifier of the node, or -1 if the node is not in this instance.
+   */
+  public int getId(final NetlistNode node) {
+    final Integer rtn = ids.get(node);
+    return rtn == null ? -1 : rtn;
+  }
+
+  /**
+   * Returns the node with the identifier defined by parameter {@code id}.
+   *
+   * @param id The identifier.
+   * @return The node.
+   */
+  public NetlistNode getNode(final int id) {
+    return nodes[id];
+  }
+
+  /**
+   * Returns the number of nodes.
+   *
+   * @return The number of nodes.
+   */
+  public int getNumNodes() {
+    return nodes.length;
+  }
+
+  /**
+   * Getter for {@code netlist}.
+   *
+   * @return The value of {@code netlist}.
+   */
+  public Netlist getNetlist() {
+    return netlist;
+  }
+
+  /**
+   * Returns the type of each node, one of {@link #B_GATE}, {@link #B_PRIMARY_INPUT}, or {@link
+   * #B_PRIMARY_OUTPUT}. The array must not be modified.
+   *
+   * @return The type of each node.
+   */
+  public byte[] getNodeTypes() {
+    return nodeTypes;
+  }
+
+  /**
+   * Returns the offsets of the in edges of each node, of length {@code getNumNodes() + 1}. The
+   * array must not be modified.
+   *
+   * @return The offsets of the in edges of each node.
+   */
+  public int[] getInOffsets() {
+    return inOffsets;
+  }
+
+  /**
+   * Returns the source node of each in edge. The array must not be modified.
+   *
+   * @return The source node of each in edge.
+   */
+  public int[] getInSources() {
+    return inSources;
+  }
+
+  /**
+   * Returns the input slot of each in edge, see {@link Input#getSlot()}, or -1 if the edge is not
+   * assigned to an input of the structure of the device of its destination. The array must not be
+   * modified.
+   *
+   * @return The input slot of each in edge.
+   */
+  public int[] getInSlots() {
+    return inSlots;
+  }
+
+  /**
+   * Returns the offsets of the out edges of each node, of length {@code getNumNodes() + 1}. The
+   * array must not be modified.
+   *
+   * @return The offsets of the out edges of each node.
+   */
+  public int[] getOutOffsets() {
+    return outOffsets;
+  }
+
+  /**
+   * Returns the destination node of each out edge. The array must not be modified.
+   *
+   * @return The destination node of each out edge.
+   */
+  public int[] getOutDestinations() {
+    return outDestinations;
+  }
+
+  private final Netlist netlist;
+  private final long modificationCount;
+  private final NetlistNode[] nodes;
+  private final Map<NetlistNode, Integer> ids;
+  private final byte[] nodeTypes;
+  private final int[] inOffsets;
+  private final NetlistEdge[] inEdges;
+  private final int[] inSources;
+  private final int[] inSlots;
+  private final int[] outOffsets;
+  private final int[] outDestinations;
+
+  public static final byte B_GATE = 0;
+  public static final byte B_PRIMARY_INPUT = 1;
+  public static final byte B_PRIMARY_OUTPUT = 2;
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
+import org.cellocad.v2.results.placing.placement.Component;
+import org.cellocad.v2.results.placing.placement.Placement;
+import org.cellocad.v2.results.placing.placement.PlacementGroup;
+import org.cellocad.v2.results.placing.placement.Placements;
+
+/**
+ * Reads and writes a {@link Netlist} as a stream, without an intermediate document.
+ *
+ * <p>The JSON format is the format of {@link Netlist#writeJson(int, Writer)} and {@link
+ * Netlist#Netlist(org.json.simple.JSONObject)}. Trailing commas, as written by {@link
+ * Netlist#writeJson(int, Writer)}, are accepted. The binary format is a compact format for
+ * intermediate checkpoints of a netlist between stages, in which an edge refers to its nodes by
+ * index. Neither format holds the device of a node or the input of an edge, only their names.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class NetlistCodec {
+
+  private NetlistCodec() {}
+
+  /*
+   * JSON
+   */
+
+  /**
+   * Reads a netlist in JSON format from the reader defined by parameter {@code reader}.
+   *
+   * @param reader The reader.
+   * @return The netlist.
+   * @throws IOException Unable to read or parse the netlist.
+   */
+  public static Netlist readJson(final Reader reader) throws IOException {
+    try (JsonParser parser = NetlistCodec.factory.createParser(reader)) {
+      return NetlistCodec.readJson(parser);
+    }
+  }
+
+  /**
+   * Reads a netlist in JSON format from the stream defined by parameter {@code in}.
+   *
+   * @param in The stream.
+   * @return The netlist.
+   * @throws IOException Unable to read or parse the netlist.
+   */
+  public static Netlist readJson(final InputStream in) throws IOException {
+    try (JsonParser parser = NetlistCodec.factory.createParser(in)) {
+      return NetlistCodec.readJson(parser);
+    }
+  }
+
+  private static void expect(final JsonParser parser, final JsonToken token) throws IOException {
+    if (parser.getCurrentToken() != token) {
+      throw new JsonParseException(
+          parser, String.format("Expected %s, found %s.", token, parser.getCurrentToken()));
+    }
+  }
+
+  private static String getString(final JsonParser parser) throws IOException {
+    String rtn = null;
+    if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+      rtn = parser.getValueAsString();
+    }
+    return rtn;
+  }
+
+  private static Netlist readJson(final JsonParser parser) throws IOException {
+    final Netlist rtn = new Netlist();
+    final Map<String, NetlistNode> nodes = new HashMap<>();
+    final List<String[]> ends = new ArrayList<>();
+    final List<NetlistEdge> edges = new ArrayList<>();
+    boolean hasNodes = false;
+    boolean hasEdges = false;
+    parser.nextToken();
+    NetlistCodec.expect(parser, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case NetlistCodec.S_NAME:
+          final String name = NetlistCodec.getString(parser);
+          if (name != null) {
+            rtn.setName(name);
+          }
+          break;
+        case NetlistCodec.S_INPUTFILENAME:
+          final String inputFilename = NetlistCodec.getString(parser);
+          if (inputFilename != null) {
+            rtn.setInputFilename(inputFilename);
+          }
+          break;
+        case NetlistCodec.S_PLACEMENTS:
+          NetlistCodec.readPlacements(parser, rtn.getResultNetlistData().getPlacements());
+          break;
+        case NetlistCodec.S_NODES:
+          hasNodes = true;
+          NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final NetlistNode node = NetlistCodec.readNode(parser);
+            nodes.put(node.getName(), node);
+            rtn.addVertex(node);
+          }
+          break;
+        case NetlistCodec.S_EDGES:
+          hasEdges = true;
+          NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final String[] end = new String[2];
+            edges.add(NetlistCodec.readEdge(parser, end));
+            ends.add(end);
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    if (!hasNodes) {
+      throw new RuntimeException("'nodes' missing in Netlist!");
+    }
+    if (!hasEdges) {
+      throw new RuntimeException("'edges' missing in Netlist!");
+    }
+    // edges are linked once every node is read, whatever the order of the fields
+    for (int i = 0; i < edges.size(); i++) {
+      final NetlistEdge edge = edges.get(i);
+      final NetlistNode src = NetlistCodec.getNode(nodes, ends.get(i)[0], NetlistCodec.S_SRC);
+      final NetlistNode dst = NetlistCodec.getNode(nodes, ends.get(i)[1], NetlistCodec.S_DST);
+      rtn.addEdge(edge);
+      src.addOutEdge(edge);
+      edge.setSrc(src);
+      dst.addInEdge(edge);
+      edge.setDst(dst);
+    }
+    return rtn;
+  }
+
+  private static NetlistNode getNode(
+      final Map<String, NetlistNode> nodes, final String name, final String str) {
+    if (name == null) {
+      throw new RuntimeException("No name for" + str + "edges in Netlist!");
+    }
+    final NetlistNode rtn = nodes.get(name);
+    if (rtn == null) {
+      throw new RuntimeException("Node missing in Netlist " + name + ".");
+    }
+    return rtn;
+  }
+
+  private static NetlistNode readNode(final JsonParser parser) throws IOException {
+    final NetlistNode rtn = new NetlistNode();
+    final ResultNetlistNodeData data = rtn.getResultNetlistNodeData();
+    NetlistCodec.expect(parser, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      final String value = NetlistCodec.getString(parser);
+      switch (field) {
+        case NetlistCodec.S_NAME:
+          if (value != null) {
+            rtn.setName(value);
+          }
+          break;
+        case NetlistCodec.S_NODETYPE:
+          if (value != null) {
+            data.setNodeType(value);
+          }
+          break;
+        case NetlistCodec.S_PARTITIONID:
+          data.setPartitionID(parser.getValueAsInt());
+          break;
+        case NetlistCodec.S_DEVICENAME:
+          if (value != null) {
+            data.setDeviceName(value);
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    NetlistCodec.expect(parser, JsonToken.END_OBJECT);
+    return rtn;
+  }
+
+  private static NetlistEdge readEdge(final JsonParser parser, final String[] ends)
+      throws IOException {
+    final NetlistEdge rtn = new NetlistEdge();
+    NetlistCodec.expect(parser, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case NetlistCodec.S_NAME:
+          final String name = NetlistCodec.getString(parser);
+          if (name != null) {
+            rtn.setName(name);
+          }
+          break;
+        case NetlistCodec.S_SRC:
+          ends[0] = NetlistCodec.getString(parser);
+          break;
+        case NetlistCodec.S_DST:
+          ends[1] = NetlistCodec.getString(parser);
+          break;
+        case NetlistCodec.S_IDX:
+          if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            rtn.setIdx(parser.getValueAsInt());
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    NetlistCodec.expect(parser, JsonToken.END_OBJECT);
+    return rtn;
+  }
+
+  private static void readPlacements(final JsonParser parser, final Placements placements)
+      throws IOException {
+    if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+      return;
+    }
+    NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      final Placement placement = new Placement(NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+      NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        placement.addPlacementGroup(NetlistCodec.readPlacementGroup(parser));
+      }
+      placements.addPlacement(placement);
+    }
+  }
+
+  private static PlacementGroup readPlacementGroup(final JsonParser parser) throws IOException {
+    final PlacementGroup rtn = new PlacementGroup(NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+    boolean hasComponents = false;
+    NetlistCodec.expect(parser, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case NetlistCodec.S_NAME:
+          rtn.setName(NetlistCodec.getString(parser));
+          break;
+        case NetlistCodec.S_COMPONENTS:
+          hasComponents = true;
+          NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            rtn.addComponent(NetlistCodec.readComponent(parser));
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    if (rtn.getName() == null) {
+      throw new RuntimeException("'name' missing in placement group!");
+    }
+    if (!hasComponents) {
+      throw new RuntimeException("'components' missing in placement group!");
+    }
+    return rtn;
+  }
+
+  private static Component readComponent(final JsonParser parser) throws IOException {
+    final List<String> parts = new ArrayList<>();
+    final Component rtn = new Component(parts, NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+    Integer direction = null;
+    boolean hasParts = false;
+    NetlistCodec.expect(parser, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case NetlistCodec.S_NAME:
+          rtn.setName(NetlistCodec.getString(parser));
+          break;
+        case NetlistCodec.S_NODE:
+          rtn.setNode(NetlistCodec.getString(parser));
+          break;
+        case NetlistCodec.S_DIRECTION:
+          if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            direction = parser.getValueAsInt();
+          }
+          break;
+        case NetlistCodec.S_PARTS:
+          hasParts = true;
+          NetlistCodec.expect(parser, JsonToken.START_ARRAY);
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parts.add(NetlistCodec.getString(parser));
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    if (rtn.getName() == null) {
+      throw new RuntimeException("'name' missing in Netlist!");
+    }
+    if (rtn.getNode() == null) {
+      throw new RuntimeException("'node' missing in Netlist!");
+    }
+    if (direction == null) {
+      throw new RuntimeException("'direction' missing in Placement!");
+    }
+    if (!hasParts) {
+      throw new RuntimeException("'parts' missing in Placement!");
+    }
+    rtn.setDirection(direction < 0 ? NetlistCodec.B_DOWN : NetlistCodec.B_UP);
+    return rtn;
+  }
+
+  /**
+   * Writes the netlist defined by parameter {@code netlist} in JSON format to the stream defined
+   * by parameter {@code out}. The stream is flushed but not closed.
+   *
+   * @param netlist The netlist.
+   * @param out The stream.
+   * @throws IOException Unable to write the netlist.
+   */
+  public static void writeJson(final Netlist netlist, final OutputStream out) throws IOException {
+    try (JsonGenerator generator = NetlistCodec.factory.createGenerator(out)) {
+      NetlistCodec.writeJson(netlist, generator);
+    }
+  }
+
+  /**
+   * Writes the netlist defined by parameter {@code netlist} in JSON format to the writer defined by
+   * parameter {@code writer}. The writer is flushed but not closed.
+   *
+   * @param netlist The netlist.
+   * @param writer The writer.
+   * @throws IOException Unable to write the netlist.
+   */
+  public static void writeJson(final Netlist netlist, final Writer writer) throws IOException {
+    try (JsonGenerator generator = NetlistCodec.factory.createGenerator(writer)) {
+      NetlistCodec.writeJson(netlist, generator);
+    }
+  }
+
+  private static void writeJson(final Netlist netlist, final JsonGenerator generator)
+      throws IOException {
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.useDefaultPrettyPrinter();
+    generator.writeStartObject();
+    generator.writeStringField(NetlistCodec.S_NAME, netlist.getName());
+    generator.writeStringField(NetlistCodec.S_INPUTFILENAME, netlist.getInputFilename());
+    final Placements placements = netlist.getResultNetlistData().getPlacements();
+    generator.writeArrayFieldStart(NetlistCodec.S_PLACEMENTS);
+    for (int i = 0; i < placements.getNumPlacement(); i++) {
+      NetlistCodec.writePlacement(placements.getPlacementAtIdx(i), generator);
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart(NetlistCodec.S_NODES);
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      final ResultNetlistNodeData data = node.getResultNetlistNodeData();
+      generator.writeStartObject();
+      generator.writeStringField(NetlistCodec.S_NAME, node.getName());
+      generator.writeStringField(NetlistCodec.S_NODETYPE, data.getNodeType());
+      generator.writeNumberField(NetlistCodec.S_PARTITIONID, data.getPartitionID());
+      generator.writeStringField(NetlistCodec.S_DEVICENAME, data.getDeviceName());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart(NetlistCodec.S_EDGES);
+    for (int i = 0; i < netlist.getNumEdge(); i++) {
+      final NetlistEdge edge = netlist.getEdgeAtIdx(i);
+      generator.writeStartObject();
+      generator.writeStringField(NetlistCodec.S_NAME, edge.getName());
+      generator.writeStringField(NetlistCodec.S_SRC, edge.getSrc().getName());
+      generator.writeStringField(NetlistCodec.S_DST, edge.getDst().getName());
+      generator.writeNumberField(NetlistCodec.S_IDX, edge.getIdx());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private static void writePlacement(final Placement placement, final JsonGenerator generator)
+      throws IOException {
+    generator.writeStartArray();
+    for (int i = 0; i < placement.getNumPlacementGroup(); i++) {
+      final PlacementGroup group = placement.getPlacementGroupAtIdx(i);
+      generator.writeStartObject();
+      generator.writeStringField(NetlistCodec.S_NAME, group.getName());
+      generator.writeArrayFieldStart(NetlistCodec.S_COMPONENTS);
+      for (int j = 0; j < group.getNumComponent(); j++) {
+        final Component component = group.getComponentAtIdx(j);
+        generator.writeStartObject();
+        generator.writeStringField(NetlistCodec.S_NAME, component.getName());
+        generator.writeStringField(NetlistCodec.S_NODE, component.getNode());
+        generator.writeNumberField(
+            NetlistCodec.S_DIRECTION,
+            component.getDirection().equals(NetlistCodec.B_UP) ? 1 : -1);
+        generator.writeArrayFieldStart(NetlistCodec.S_PARTS);
+        for (int k = 0; k < component.getNumPart(); k++) {
+          generator.writeString(component.getPartAtIdx(k));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  /*
+   * Binary
+   */
+
+  private static void writeString(final DataOutputStream out, final String str)
+      throws IOException {
+    out.writeBoolean(str != null);
+    if (str != null) {
+      out.writeUTF(str);
+    }
+  }
+
+  private static String readString(final DataInputStream in) throws IOException {
+    String rtn = null;
+    if (in.readBoolean()) {
+      rtn = in.readUTF();
+    }
+    return rtn;
+  }
+
+  /**
+   * Writes the netlist defined by parameter {@code netlist} in binary format to the stream defined
+   * by parameter {@code out}. The stream is flushed but not closed.
+   *
+   * @param netlist The netlist.
+   * @param out The stream.
+   * @throws IOException Unable to write the netlist.
+   */
+  public static void writeBinary(final Netlist netlist, final OutputStream out)
+      throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(NetlistCodec.I_MAGIC);
+    data.writeInt(NetlistCodec.I_VERSION);
+    NetlistCodec.writeString(data, netlist.getName());
+    NetlistCodec.writeString(data, netlist.getInputFilename());
+    final Placements placements = netlist.getResultNetlistData().getPlacements();
+    data.writeInt(placements.getNumPlacement());
+    for (int i = 0; i < placements.getNumPlacement(); i++) {
+      final Placement placement = placements.getPlacementAtIdx(i);
+      data.writeInt(placement.getNumPlacementGroup());
+      for (int j = 0; j < placement.getNumPlacementGroup(); j++) {
+        final PlacementGroup group = placement.getPlacementGroupAtIdx(j);
+        NetlistCodec.writeString(data, group.getName());
+        data.writeInt(group.getNumComponent());
+        for (int k = 0; k < group.getNumComponent(); k++) {
+          final Component component = group.getComponentAtIdx(k);
+          NetlistCodec.writeString(data, component.getName());
+          NetlistCodec.writeString(data, component.getNode());
+          data.writeBoolean(component.getDirection().equals(NetlistCodec.B_UP));
+          data.writeInt(component.getNumPart());
+          for (int l = 0; l < component.getNumPart(); l++) {
+            NetlistCodec.writeString(data, component.getPartAtIdx(l));
+          }
+        }
+      }
+    }
+    final Map<NetlistNode, Integer> index = new IdentityHashMap<>();
+    data.writeInt(netlist.getNumVertex());
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      final ResultNetlistNodeData nodeData = node.getResultNetlistNodeData();
+      index.put(node, i);
+      NetlistCodec.writeString(data, node.getName());
+      NetlistCodec.writeString(data, nodeData.getNodeType());
+      data.writeInt(nodeData.getPartitionID());
+      NetlistCodec.writeString(data, nodeData.getDeviceName());
+    }
+    data.writeInt(netlist.getNumEdge());
+    for (int i = 0; i < netlist.getNumEdge(); i++) {
+      final NetlistEdge edge = netlist.getEdgeAtIdx(i);
+      NetlistCodec.writeString(data, edge.getName());
+      data.writeInt(index.get(edge.getSrc()));
+      data.writeInt(index.get(edge.getDst()));
+      data.writeInt(edge.getIdx());
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads a netlist in binary format from the stream defined by parameter {@code in}.
+   *
+   * @param in The stream.
+   * @return The netlist.
+   * @throws IOException Unable to read the netlist, or the stream is not a netlist in binary
+   *     format.
+   */
+  public static Netlist readBinary(final InputStream in) throws IOException {
+    final Netlist rtn = new Netlist();
+    final DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != NetlistCodec.I_MAGIC) {
+      throw new IOException("Not a binary netlist.");
+    }
+    final int version = data.readInt();
+    if (version != NetlistCodec.I_VERSION) {
+      throw new IOException("Unsupported binary netlist version: " + version + ".");
+    }
+    rtn.setName(NetlistCodec.readString(data));
+    rtn.setInputFilename(NetlistCodec.readString(data));
+    final Placements placements = rtn.getResultNetlistData().getPlacements();
+    final int numPlacement = data.readInt();
+    for (int i = 0; i < numPlacement; i++) {
+      final Placement placement = new Placement(NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+      final int numGroup = data.readInt();
+      for (int j = 0; j < numGroup; j++) {
+        final PlacementGroup group = new PlacementGroup(NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+        group.setName(NetlistCodec.readString(data));
+        final int numComponent = data.readInt();
+        for (int k = 0; k < numComponent; k++) {
+          final String name = NetlistCodec.readString(data);
+          final String node = NetlistCodec.readString(data);
+          final boolean up = data.readBoolean();
+          final int numPart = data.readInt();
+          final List<String> parts = new ArrayList<>(numPart);
+          for (int l = 0; l < numPart; l++) {
+            parts.add(NetlistCodec.readString(data));
+          }
+          final Component component =
+              new Component(parts, NetlistCodec.B_UP, NetlistCodec.B_DOWN);
+          component.setName(name);
+          component.setNode(node);
+          component.setDirection(up ? NetlistCodec.B_UP : NetlistCodec.B_DOWN);
+          group.addComponent(component);
+        }
+        placement.addPlacementGroup(group);
+      }
+      placements.addPlacement(placement);
+    }
+    final int numVertex = data.readInt();
+    final NetlistNode[] nodes = new NetlistNode[numVertex];
+    for (int i = 0; i < numVertex; i++) {
+      final NetlistNode node = new NetlistNode();
+      final ResultNetlistNodeData nodeData = node.getResultNetlistNodeData();
+      node.setName(NetlistCodec.readString(data));
+      nodeData.setNodeType(NetlistCodec.readString(data));
+      nodeData.setPartitionID(data.readInt());
+      nodeData.setDeviceName(NetlistCodec.readString(data));
+      nodes[i] = node;
+      rtn.addVertex(node);
+    }
+    final int numEdge = data.readInt();
+    for (int i = 0; i < numEdge; i++) {
+      final NetlistEdge edge = new NetlistEdge();
+      edge.setName(NetlistCodec.readString(data));
+      final NetlistNode src = nodes[data.readInt()];
+      final NetlistNode dst = nodes[data.readInt()];
+      edge.setIdx(data.readInt());
+      rtn.addEdge(edge);
+      src.addOutEdge(edge);
+      edge.setSrc(src);
+      dst.addInEdge(edge);
+      edge.setDst(dst);
+    }
+    return rtn;
+  }
+
+  private static final JsonFactory factory =
+      JsonFactory.builder().enable(JsonReadFeature.ALLOW_TRAILING_COMMA).build();
+
+  private static final String S_NAME = "name";
+  private static final String S_INPUTFILENAME = "inputFilename";
+  private static final String S_PLACEMENTS = "placements";
+  private static final String S_NODES = "nodes";
+  private static final String S_EDGES = "edges";
+  private static final String S_NODETYPE = "nodeType";
+  private static final String S_PARTITIONID = "partitionID";
+  private static final String S_DEVICENAME = "deviceName";
+  private static final String S_SRC = "src";
+  private static final String S_DST = "dst";
+  private static final String S_IDX = "idx";
+  private static final String S_COMPONENTS = "components";
+  private static final String S_NODE = "node";
+  private static final String S_DIRECTION = "direction";
+  private static final String S_PARTS = "parts";
+  private static final Boolean B_UP = true;
+  private static final Boolean B_DOWN = false;
+  private static final int I_MAGIC = 0x43454c4e;
+  private static final int I_VERSION = 1;
+}
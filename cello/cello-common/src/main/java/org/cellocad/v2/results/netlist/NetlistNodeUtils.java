@@ -20,7 +20,12 @@
 package org.cellocad.v2.results.netlist;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import org.cellocad.v2.common.Utils;
 
 /**
@@ -72,4 +77,36 @@ public class NetlistNodeUtils {
     }
     return rtn;
   }
+
+  /**
+   * Returns the fan-out cone of the nodes defined by parameter {@code nodes}, i.e. the nodes
+   * themselves and every node reachable from them by following output edges. Each node appears
+   * once in the returned list.
+   *
+   * @param nodes The root nodes of the cone.
+   * @return The fan-out cone of the nodes defined by parameter {@code nodes}.
+   * @throws RuntimeException Parameter {@code nodes} is null.
+   */
+  public static List<NetlistNode> getFanOutCone(final Collection<NetlistNode> nodes) {
+    Utils.isNullRuntimeException(nodes, "nodes");
+    final List<NetlistNode> rtn = new ArrayList<>();
+    final Set<NetlistNode> discovered = new HashSet<>();
+    final Queue<NetlistNode> queue = new LinkedList<>();
+    for (final NetlistNode node : nodes) {
+      if (discovered.add(node)) {
+        queue.add(node);
+      }
+    }
+    while (!queue.isEmpty()) {
+      final NetlistNode node = queue.remove();
+      rtn.add(node);
+      for (int i = 0; i < node.getNumOutEdge(); i++) {
+        final NetlistNode dst = node.getOutEdgeAtIdx(i).getDst();
+        if (dst != null && discovered.add(dst)) {
+          queue.add(dst);
+        }
+      }
+    }
+    return rtn;
+  }
 }
@@ -19,20 +19,20 @@
 
 package org.cellocad.v2.results.netlist;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.json.JsonUtils;
 import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 
 /**
  * The NetlistUtils class is class with utility methods for <i>Netlist</i> instances.
@@ -60,27 +60,23 @@ public class NetlistUtils {
     Utils.isNullRuntimeException(inputNetlist, "inputNetlist");
     Netlist rtn = null;
     final String inputNetlistFilename = runEnv.getOptionValue(inputNetlist);
-    Reader inputNetlistReader = null;
-    JSONObject jsonTop = null;
+    InputStream inputNetlistStream = null;
     // Create File Reader
     try {
-      inputNetlistReader = new FileReader(inputNetlistFilename);
+      inputNetlistStream = new BufferedInputStream(new FileInputStream(inputNetlistFilename));
     } catch (final FileNotFoundException e) {
       throw new RuntimeException("Error with file: " + inputNetlistFilename);
     }
-    // Create JSON object from File Reader
-    final JSONParser parser = new JSONParser();
+    // Stream the netlist from the file
     try {
-      jsonTop = (JSONObject) parser.parse(inputNetlistReader);
+      rtn = NetlistCodec.readJson(inputNetlistStream);
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException("Parser Exception for: " + inputNetlistFilename + ".");
     } catch (final IOException e) {
       throw new RuntimeException("File IO Exception for: " + inputNetlistFilename + ".");
-    } catch (final ParseException e) {
-      throw new RuntimeException("Parser Exception for: " + inputNetlistFilename + ".");
     }
-    // Create TargetInfo object
-    rtn = new Netlist(jsonTop);
     try {
-      inputNetlistReader.close();
+      inputNetlistStream.close();
     } catch (final IOException e) {
       throw new RuntimeException("Error with file: " + inputNetlistFilename);
     }
@@ -100,18 +96,58 @@ public class NetlistUtils {
     Utils.isNullRuntimeException(netlist, "netlist");
     Utils.isNullRuntimeException(filename, "filename");
     try {
-      final OutputStream outputStream = new FileOutputStream(filename);
-      final Writer outputStreamWriter = new OutputStreamWriter(outputStream);
-      outputStreamWriter.write(JsonUtils.getStartEntryString());
-      netlist.writeJson(1, outputStreamWriter);
-      outputStreamWriter.write(JsonUtils.getEndEntryString());
-      outputStreamWriter.close();
+      final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(filename));
+      NetlistCodec.writeJson(netlist, outputStream);
+      outputStream.close();
+    } catch (final IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Writes the netlist defined by parameter {@code netlist} in the binary format of {@link
+   * NetlistCodec} to the file defined by {@code filename}, e.g. as a checkpoint between stages.
+   *
+   * @param netlist The netlist.
+   * @param filename The file to write the netlist.
+   * @throws RuntimeException if: <br>
+   *     Any of the parameters are null<br>
+   *     .
+   */
+  public static void writeBinaryForNetlist(final Netlist netlist, final String filename) {
+    Utils.isNullRuntimeException(netlist, "netlist");
+    Utils.isNullRuntimeException(filename, "filename");
+    try {
+      final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(filename));
+      NetlistCodec.writeBinary(netlist, outputStream);
       outputStream.close();
     } catch (final IOException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * Reads a netlist in the binary format of {@link NetlistCodec} from the file defined by {@code
+   * filename}.
+   *
+   * @param filename The file of the netlist.
+   * @return The netlist.
+   * @throws RuntimeException if: <br>
+   *     Any of the parameters are null<br>
+   *     Error accessing or reading <i>filename</i><br>
+   *     .
+   */
+  public static Netlist getNetlistFromBinary(final String filename) {
+    Utils.isNullRuntimeException(filename, "filename");
+    Netlist rtn = null;
+    try (InputStream inputStream = new BufferedInputStream(new FileInputStream(filename))) {
+      rtn = NetlistCodec.readBinary(inputStream);
+    } catch (final IOException e) {
+      throw new RuntimeException("Error with file: " + filename);
+    }
+    return rtn;
+  }
+
   /**
    * Writes the Netlist defined by parameter {@code netlist} in DOT (graph description language)
    * format to the file defined by {@code filename}.
@@ -130,4 +166,29 @@ public class NetlistUtils {
       e.printStackTrace();
     }
   }
+
+  /**
+   * Returns the nodes of the Netlist defined by parameter {@code netlist} that reach a sink, i.e.
+   * the nodes of {@link Netlist#getSinkBfsOrder()}, in topological order. Every node comes after
+   * all of its inputs, also where paths reconverge.
+   *
+   * @param netlist The {@link Netlist}.
+   * @return The indices of the nodes, see {@link Netlist#getVertexAtIdx(int)}.
+   */
+  public static int[] getEvaluationOrder(final Netlist netlist) {
+    final int[] reached = netlist.getSinkBfsOrder();
+    final int[] topological = netlist.getTopologicalOrder();
+    final boolean[] isReached = new boolean[netlist.getNumVertex()];
+    for (int i = 0; i < reached.length; i++) {
+      isReached[reached[i]] = true;
+    }
+    int num = 0;
+    final int[] rtn = new int[reached.length];
+    for (int i = 0; i < topological.length && num < rtn.length; i++) {
+      if (isReached[topological[i]]) {
+        rtn[num++] = topological[i];
+      }
+    }
+    return num == rtn.length ? rtn : Arrays.copyOf(rtn, num);
+  }
 }
@@ -50,6 +50,7 @@ public class ResultNetlistEdgeData extends ApplicationNetlistEdgeData {
   public ResultNetlistEdgeData(final ResultNetlistEdgeData other) {
     super();
     setDefault();
+    setInput(other.getInput());
   }
 
   /**
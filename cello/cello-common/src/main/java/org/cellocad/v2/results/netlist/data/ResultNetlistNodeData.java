@@ -66,7 +66,9 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     setDefault();
     setNodeType(other.getNodeType());
     setPartitionID(other.getPartitionID());
+    setClusterID(other.getClusterID());
     setDeviceName(other.getDeviceName());
+    setDevice(other.getDevice());
   }
 
   /**
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping;
+
+import java.util.Arrays;
+
+/**
+ * A dense table of values indexed by node and state, e.g. the activity of every node of a netlist
+ * in every state. The values are held in one flat array with the states of a node adjacent.
+ *
+ * <p>A second array of the same size holds the saved values of the rows modified since the last
+ * call to {@link #commit()} or {@link #revert()}, so that a rejected move can be undone without
+ * allocation.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class NodeStateValues {
+
+  /**
+   * Initializes a newly created {@link NodeStateValues} with every value equal to the value
+   * defined by parameter {@code value}.
+   *
+   * @param numRows The number of rows, i.e. nodes.
+   * @param numStates The number of states.
+   * @param value The initial value.
+   */
+  public NodeStateValues(final int numRows, final int numStates, final double value) {
+    this.numRows = numRows;
+    this.numStates = numStates;
+    values = new double[numRows * numStates];
+    saved = new double[numRows * numStates];
+    savedRows = new int[numRows];
+    mark = new boolean[numRows];
+    Arrays.fill(values, value);
+  }
+
+  /**
+   * Initializes a newly created {@link NodeStateValues} with every value equal to zero.
+   *
+   * @param numRows The number of rows, i.e. nodes.
+   * @param numStates The number of states.
+   */
+  public NodeStateValues(final int numRows, final int numStates) {
+    this(numRows, numStates, 0.0);
+  }
+
+  /**
+   * Returns the value at the row defined by parameter {@code row} and the state defined by
+   * parameter {@code state}.
+   *
+   * @param row The row.
+   * @param state The state index.
+   * @return The value.
+   */
+  public double get(final int row, final int state) {
+    return values[row * numStates + state];
+  }
+
+  /**
+   * Assigns the value defined by parameter {@code value} to the row defined by parameter {@code
+   * row} and the state defined by parameter {@code state}.
+   *
+   * @param row The row.
+   * @param state The state index.
+   * @param value The value.
+   */
+  public void set(final int row, final int state, final double value) {
+    values[row * numStates + state] = value;
+  }
+
+  /**
+   * Saves the values of the row defined by parameter {@code row}, unless they have already been
+   * saved since the last call to {@link #commit()} or {@link #revert()}.
+   *
+   * @param row The row.
+   * @return True if the values were saved by this call.
+   */
+  public boolean save(final int row) {
+    boolean rtn = false;
+    if (!mark[row]) {
+      mark[row] = true;
+      savedRows[numSaved++] = row;
+      System.arraycopy(values, row * numStates, saved, row * numStates, numStates);
+      rtn = true;
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the saved value at the row defined by parameter {@code row} and the state defined by
+   * parameter {@code state}. Only meaningful if the row has been saved, see {@link #save(int)}.
+   *
+   * @param row The row.
+   * @param state The state index.
+   * @return The saved value.
+   */
+  public double getSaved(final int row, final int state) {
+    return saved[row * numStates + state];
+  }
+
+  /**
+   * Returns the number of rows saved since the last call to {@link #commit()} or {@link
+   * #revert()}.
+   *
+   * @return The number of rows saved since the last call to {@link #commit()} or {@link
+   *     #revert()}.
+   */
+  public int getNumSaved() {
+    return numSaved;
+  }
+
+  /**
+   * Returns the saved row at the specified position.
+   *
+   * @param index The position, in the order in which the rows were saved.
+   * @return The saved row at the specified position.
+   */
+  public int getSavedAtIdx(final int index) {
+    return savedRows[index];
+  }
+
+  /** Discards the saved values, i.e. accepts the current values. */
+  public void commit() {
+    for (int i = 0; i < numSaved; i++) {
+      mark[savedRows[i]] = false;
+    }
+    numSaved = 0;
+  }
+
+  /** Restores the saved values of every saved row. */
+  public void revert() {
+    for (int i = 0; i < numSaved; i++) {
+      final int row = savedRows[i];
+      System.arraycopy(saved, row * numStates, values, row * numStates, numStates);
+      mark[row] = false;
+    }
+    numSaved = 0;
+  }
+
+  /**
+   * Getter for {@code numRows}.
+   *
+   * @return The number of rows of this instance.
+   */
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Getter for {@code numStates}.
+   *
+   * @return The number of states of this instance.
+   */
+  public int getNumStates() {
+    return numStates;
+  }
+
+  private final int numRows;
+  private final int numStates;
+  private final double[] values;
+  private final double[] saved;
+  private final int[] savedRows;
+  private final boolean[] mark;
+  private int numSaved;
+}
@@ -22,23 +22,27 @@ package org.cellocad.v2.results.technologyMapping.activity;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
 import org.cellocad.v2.common.target.data.data.FunctionType;
 import org.cellocad.v2.common.target.data.data.Model;
 import org.cellocad.v2.common.target.data.data.Reference;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.CompressedNetlist;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistUtils;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 
@@ -53,6 +57,8 @@ public class TMActivityEvaluation {
   /** Initialize class members. */
   private void init() {
     activitytables = new HashMap<>();
+    order = new int[0];
+    rank = new int[0];
   }
 
   /**
@@ -69,13 +75,12 @@ public class TMActivityEvaluation {
       throw new RuntimeException("netlist is not valid!");
     }
     setStates(lsle.getStates());
-    final List<NetlistNode> outputNodes = new ArrayList<>();
+    values = new NodeStateValues(netlist.getNumVertex(), states.getNumStates());
+    results = new double[states.getNumStates()];
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
-      outputNodes.clear();
-      outputNodes.add(node);
       final ActivityTable<NetlistNode, NetlistNode> activityTable =
-          new ActivityTable<>(states, outputNodes);
+          new ActivityTable<>(states, node, values, i);
       getActivityTables().put(node, activityTable);
     }
     evaluate(netlist);
@@ -106,32 +111,20 @@ public class TMActivityEvaluation {
     return rtn;
   }
 
-  private void evaluateActivityTable(final NetlistNode node, final EvaluationContext ec)
+  private void evaluateActivityTable(final int id, final EvaluationContext ec)
       throws CelloException {
+    final NetlistNode node = ec.getCompressedNetlist().getNode(id);
     ec.setNode(node);
-    final ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(node);
-    for (int i = 0; i < activityTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = activityTable.getStateAtIdx(i);
-      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-      ec.setState(inputState);
-      if (!ec.getMemo().containsKey(inputState)) {
-        ec.getMemo().put(inputState, new HashMap<>());
-      }
-      final Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName(FunctionType.S_RESPONSEFUNCTION)
-              .evaluate(ec)
-              .doubleValue();
-      ec.getMemo().get(inputState).put(String.format("%s%s%s%s%s%s%s", node.getName(), Reference.S_DELIM, AssignableDevice.S_MODEL, Reference.S_DELIM, Model.S_FUNCTIONS, Reference.S_DELIM, FunctionType.S_RESPONSEFUNCTION), result);
-      if (outputActivity.getNumActivityPosition() != 1) {
-        throw new RuntimeException("Invalid number of output(s)!");
-      }
-      Utils.isNullRuntimeException(result, "result");
-      if (!outputActivity.setActivity(node, result)) {
-        throw new RuntimeException("Node does not exist");
-      }
+    final Function function =
+        node.getResultNetlistNodeData()
+            .getDevice()
+            .getModel()
+            .getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+    function.evaluate(ec, getStates(), results);
+    for (int i = 0; i < getStates().getNumStates(); i++) {
+      final State<NetlistNode> inputState = getStates().getStateAtIdx(i);
+      ec.setMemo(node, inputState, TMActivityEvaluation.I_RESPONSE_SLOT, results[i]);
+      getValues().set(id, i, results[i]);
     }
   }
 
@@ -142,16 +135,154 @@ public class TMActivityEvaluation {
    * @throws CelloException Unable to evaluate activity.
    */
   protected void evaluate(final Netlist netlist) throws CelloException {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
-    NetlistNode node = null;
-    final EvaluationContext ec = new EvaluationContext();
-    node = BFS.getNextVertex();
-    while (node != null) {
-      evaluateActivityTable(node, ec);
-      node = BFS.getNextVertex();
+    final CompressedNetlist cn = new CompressedNetlist(netlist);
+    setEvaluationContext(new EvaluationContext(cn));
+    getValues().commit();
+    order = NetlistUtils.getEvaluationOrder(netlist);
+    rank = new int[cn.getNumNodes()];
+    Arrays.fill(rank, -1);
+    for (int i = 0; i < order.length; i++) {
+      rank[order[i]] = i;
+    }
+    queue = new int[cn.getNumNodes()];
+    mark = new int[cn.getNumNodes()];
+    for (int i = 0; i < order.length; i++) {
+      evaluateActivityTable(order[i], getEvaluationContext());
     }
   }
 
+  /**
+   * Re-evaluates the activity of the nodes defined by parameter {@code nodes} and of every node in
+   * their fan-out cone, in topological order. All other activity tables are left untouched. The
+   * previous activity of each re-evaluated node is retained until {@link #commit()} or {@link
+   * #revert()} is called.
+   *
+   * @param nodes The nodes whose device or input assignment has changed.
+   * @throws CelloException Unable to evaluate activity.
+   */
+  public void update(final Collection<NetlistNode> nodes) throws CelloException {
+    final CompressedNetlist cn = getEvaluationContext().getCompressedNetlist();
+    cn.refresh(nodes);
+    final int[] cone = getFanOutCone(nodes);
+    for (int i = 0; i < cone.length; i++) {
+      getValues().save(cone[i]);
+      evaluateActivityTable(cone[i], getEvaluationContext());
+    }
+  }
+
+  /**
+   * Restores the activity of every node re-evaluated by {@link #update(Collection)} since the last
+   * call to {@link #commit()} or {@link #revert()}.
+   */
+  public void revert() {
+    final CompressedNetlist cn = getEvaluationContext().getCompressedNetlist();
+    for (int i = 0; i < getValues().getNumSaved(); i++) {
+      final int id = getValues().getSavedAtIdx(i);
+      final NetlistNode node = cn.getNode(id);
+      cn.refresh(id);
+      for (int j = 0; j < getStates().getNumStates(); j++) {
+        final State<NetlistNode> state = getStates().getStateAtIdx(j);
+        final double value = getValues().getSaved(id, j);
+        getEvaluationContext().setMemo(node, state, TMActivityEvaluation.I_RESPONSE_SLOT, value);
+      }
+    }
+    getValues().revert();
+  }
+
+  /**
+   * Accepts the activity computed by {@link #update(Collection)} since the last call to {@link
+   * #commit()} or {@link #revert()}.
+   */
+  public void commit() {
+    getValues().commit();
+  }
+
+  /**
+   * Returns the activity of the node defined by parameter {@code node} at the state with the index
+   * defined by parameter {@code state} in {@link #getStates()}.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param state The state index.
+   * @return The activity of the node at the state.
+   */
+  public double getActivity(final NetlistNode node, final int state) {
+    return getValues().get(getEvaluationContext().getCompressedNetlist().getId(node), state);
+  }
+
+  /**
+   * Getter for {@code values}.
+   *
+   * @return The activity of every node of this instance, with one row per node, see {@link
+   *     CompressedNetlist#getId(NetlistNode)}.
+   */
+  public NodeStateValues getValues() {
+    return values;
+  }
+
+  /**
+   * Getter for {@code ec}.
+   *
+   * @return The evaluation context holding the response of every node of this instance.
+   */
+  public EvaluationContext getEvaluationContext() {
+    return ec;
+  }
+
+  /**
+   * Setter for {@code ec}.
+   *
+   * @param ec The evaluation context.
+   */
+  protected void setEvaluationContext(final EvaluationContext ec) {
+    this.ec = ec;
+  }
+
+  /**
+   * Returns the nodes defined by parameter {@code nodes} and every node in their fan-out cone, in
+   * topological order. Nodes that are not evaluated, i.e. that reach no sink, are left out.
+   *
+   * @param nodes The nodes.
+   * @return The identifiers of the nodes, see {@link CompressedNetlist#getId(NetlistNode)}.
+   */
+  public int[] getFanOutCone(final Collection<NetlistNode> nodes) {
+    final CompressedNetlist cn = getEvaluationContext().getCompressedNetlist();
+    final int[] outOffsets = cn.getOutOffsets();
+    final int[] outDestinations = cn.getOutDestinations();
+    stamp++;
+    int size = 0;
+    for (final NetlistNode node : nodes) {
+      final int id = cn.getId(node);
+      if (id >= 0 && mark[id] != stamp) {
+        mark[id] = stamp;
+        queue[size++] = id;
+      }
+    }
+    for (int head = 0; head < size; head++) {
+      final int id = queue[head];
+      for (int k = outOffsets[id]; k < outOffsets[id + 1]; k++) {
+        final int dst = outDestinations[k];
+        if (dst >= 0 && mark[dst] != stamp) {
+          mark[dst] = stamp;
+          queue[size++] = dst;
+        }
+      }
+    }
+    int num = 0;
+    final int[] ranks = new int[size];
+    for (int i = 0; i < size; i++) {
+      final int r = rank[queue[i]];
+      if (r >= 0) {
+        ranks[num++] = r;
+      }
+    }
+    Arrays.sort(ranks, 0, num);
+    final int[] rtn = new int[num];
+    for (int i = 0; i < num; i++) {
+      rtn[i] = order[ranks[i]];
+    }
+    return rtn;
+  }
+
   protected Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> getActivityTables() {
     return activitytables;
   }
@@ -232,7 +363,22 @@ public class TMActivityEvaluation {
   }
 
   private static final String S_HEADER = "--------------------------------------------";
+  private static final int I_RESPONSE_SLOT =
+      EvaluationContext.getSlot(
+          String.join(
+              Reference.S_DELIM,
+              AssignableDevice.S_MODEL,
+              Model.S_FUNCTIONS,
+              FunctionType.S_RESPONSEFUNCTION));
 
   private Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> activitytables;
   private States<NetlistNode> states;
+  private EvaluationContext ec;
+  private int[] order;
+  private int[] rank;
+  private int[] queue;
+  private int[] mark;
+  private int stamp;
+  private NodeStateValues values;
+  private double[] results;
 }
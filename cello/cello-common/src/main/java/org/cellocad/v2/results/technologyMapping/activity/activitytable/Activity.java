@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.Pair;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 
 /**
  * The activity of a netlist used within the <i>SimulatedAnnealing</i> algorithm of the
@@ -69,6 +70,24 @@ public class Activity<T> extends CObject {
     this(nodes, 0.0);
   }
 
+  /**
+   * Initializes a newly created {@link Activity} for the node defined by parameter {@code node}
+   * whose value is held at the row defined by parameter {@code row} and the state defined by
+   * parameter {@code state} of the table defined by parameter {@code values}.
+   *
+   * @param node The node.
+   * @param values The table of values.
+   * @param row The row of the node.
+   * @param state The state index.
+   */
+  public Activity(final T node, final NodeStateValues values, final int row, final int state) {
+    this.init();
+    this.node = node;
+    this.values = values;
+    this.row = row;
+    this.state = state;
+  }
+
   /*
    * Activity
    */
@@ -88,7 +107,13 @@ public class Activity<T> extends CObject {
    */
   public Double getActivity(final T node) {
     Double rtn = null;
-    rtn = this.getActivityMap().get(node);
+    if (values != null) {
+      if (this.node.equals(node)) {
+        rtn = values.get(row, state);
+      }
+    } else {
+      rtn = this.getActivityMap().get(node);
+    }
     return rtn;
   }
 
@@ -102,7 +127,9 @@ public class Activity<T> extends CObject {
    */
   protected Pair<T, Double> getActivityPositionAtIdx(final int index) {
     Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumActivityPosition()) {
+    if (values != null && index == 0) {
+      rtn = new Pair<>(node, values.get(row, state));
+    } else if (0 <= index && index < this.getNumActivityPosition()) {
       rtn = this.getActivity().get(index);
     }
     return rtn;
@@ -114,7 +141,11 @@ public class Activity<T> extends CObject {
    * @return The number of {@link Pair} objects in this instance.
    */
   public int getNumActivityPosition() {
-    return this.getActivity().size();
+    int rtn = this.getActivity().size();
+    if (values != null) {
+      rtn = 1;
+    }
+    return rtn;
   }
 
   /*
@@ -139,17 +170,28 @@ public class Activity<T> extends CObject {
    */
   public boolean setActivity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumActivityPosition(); i++) {
-      final Pair<T, Double> position = this.getActivityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getActivityMap().put(node, value);
+    if (values != null) {
+      if (this.node.equals(node)) {
+        values.set(row, state, value);
         rtn = true;
       }
+    } else {
+      for (int i = 0; i < this.getNumActivityPosition(); i++) {
+        final Pair<T, Double> position = this.getActivityPositionAtIdx(i);
+        if (position.getFirst().equals(node)) {
+          position.setSecond(value);
+          this.getActivityMap().put(node, value);
+          rtn = true;
+        }
+      }
     }
     return rtn;
   }
 
   private List<Pair<T, Double>> activityEntry;
   private Map<T, Double> activityEntryMap;
+  private T node;
+  private NodeStateValues values;
+  private int row;
+  private int state;
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 
 /**
  * The ActivityTable class represents a mapping between node state and node activity.
@@ -76,6 +77,31 @@ public class ActivityTable<InputT, OutputT> {
     }
   }
 
+  /**
+   * Initializes a newly created {@link ActivityTable} with the list of states defined by parameter
+   * {@code states} and the output defined by parameter {@code output} whose activity is held at
+   * the row defined by parameter {@code row} of the table defined by parameter {@code values}.
+   * The state at index {@code i} of {@code states} is held at state index {@code i} of the row.
+   *
+   * @param states The List of states.
+   * @param output The output.
+   * @param values The table of values.
+   * @param row The row of the output.
+   */
+  public ActivityTable(
+      final States<InputT> states,
+      final OutputT output,
+      final NodeStateValues values,
+      final int row) {
+    init();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<InputT> InputState = states.getStateAtIdx(i);
+      final Activity<OutputT> OutputActivity = new Activity<>(output, values, row, i);
+      this.getActivityTableMap().put(InputState, OutputActivity);
+      this.getStates().add(InputState);
+    }
+  }
+
   /*
    * ActivityMap
    */
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IndexedCObjectCollection}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class IndexedCObjectCollectionTest {
+
+  @Test
+  public void findCObjectByName_DuplicateName_ShouldReturnFirst() {
+    final IndexedCObjectCollection<CObject> c = new IndexedCObjectCollection<>();
+    c.add(new CObject("pTac", 0, 0));
+    c.add(new CObject("pBAD", 0, 1));
+    c.add(new CObject("pTac", 0, 2));
+    assertEquals(0, c.findCObjectByName("pTac").getIdx());
+    assertEquals(1, c.findCObjectByName("pBAD").getIdx());
+    assertNull(c.findCObjectByName("pTet"));
+  }
+
+  @Test
+  public void findCObjectByName_AfterModification_ShouldMatchList() {
+    final IndexedCObjectCollection<CObject> c = new IndexedCObjectCollection<>();
+    c.add(new CObject("a", 0, 0));
+    c.add(new CObject("b", 0, 1));
+    c.add(new CObject("a", 0, 2));
+    // build the index before every kind of modification
+    c.findCObjectByName("a");
+    final CObject d = new CObject("d", 0, 3);
+    c.add(d);
+    assertSame(d, c.findCObjectByName("d"));
+    c.remove(0);
+    assertEquals(2, c.findCObjectByName("a").getIdx());
+    c.set(0, new CObject("e", 0, 4));
+    assertNull(c.findCObjectByName("b"));
+    final Iterator<CObject> it = c.iterator();
+    it.next();
+    it.next();
+    it.remove();
+    assertNull(c.findCObjectByName("a"));
+    c.add(0, new CObject("a", 0, 5));
+    assertEquals(5, c.findCObjectByName("a").getIdx());
+    c.clear();
+    assertNull(c.findCObjectByName("a"));
+  }
+
+  @Test
+  public void findCObjectByName_RenamedElement_ShouldNotReturnOldName() {
+    final IndexedCObjectCollection<CObject> c = new IndexedCObjectCollection<>();
+    final CObject gate = new CObject("A1_AmtR", 0, 0);
+    c.add(gate);
+    c.findCObjectByName("A1_AmtR");
+    gate.setName("B1_BM3R1");
+    assertNull(c.findCObjectByName("A1_AmtR"));
+  }
+}
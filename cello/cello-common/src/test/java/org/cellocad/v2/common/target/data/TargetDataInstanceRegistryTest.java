@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TargetDataInstanceRegistry}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class TargetDataInstanceRegistryTest {
+
+  private static TargetData getTargetData() throws ParseException {
+    final String str =
+        "[{\"collection\":\"logic_constraints\",\"available_gates\":"
+            + "[{\"type\":\"NOR\",\"max_instances\":true}]},"
+            + "{\"collection\":\"genetic_locations\",\"locations\":[]},"
+            + "{\"collection\":\"parts\",\"name\":\"pTac\",\"type\":\"promoter\",\"dnasequence\":\"AA\"},"
+            + "{\"collection\":\"parts\",\"name\":\"YFP\",\"type\":\"cds\",\"dnasequence\":\"TT\"}]";
+    return new TargetData((JSONArray) new JSONParser().parse(str));
+  }
+
+  @After
+  public void clear() {
+    TargetDataInstanceRegistry.clear();
+  }
+
+  @Test
+  public void TargetDataInstance_SameTargetData_ShouldShareObjects()
+      throws ParseException, CelloException {
+    final TargetData td = getTargetData();
+    final TargetDataInstance a = new TargetDataInstance(td);
+    final TargetDataInstance b = new TargetDataInstance(td);
+    assertSame(a.getParts(), b.getParts());
+    assertSame(a.getGates(), b.getGates());
+    assertSame(a.getParts().findCObjectByName("pTac"), b.getParts().findCObjectByName("pTac"));
+  }
+
+  @Test
+  public void register_SameHash_ShouldReturnFirst() throws ParseException {
+    final TargetData first = getTargetData();
+    final TargetData second = getTargetData();
+    assertNull(TargetDataInstanceRegistry.getTargetData("abc"));
+    assertSame(first, TargetDataInstanceRegistry.register("abc", first));
+    assertSame(first, TargetDataInstanceRegistry.register("abc", second));
+    assertSame(first, TargetDataInstanceRegistry.getTargetData("abc"));
+    assertSame(second, TargetDataInstanceRegistry.register(null, second));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TargetDataSnapshot}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class TargetDataSnapshotTest {
+
+  /**
+   * Target data whose objects use every kind of JSON value: strings, null, numbers, booleans,
+   * nested objects and nested arrays.
+   */
+  private static JSONArray getMixedJson() throws ParseException {
+    final String str =
+        "[{\"collection\":\"parts\",\"name\":\"pTac\",\"type\":\"promoter\","
+            + "\"dnasequence\":\"AA\"},"
+            + "{\"collection\":\"parts\",\"name\":\"YFP\",\"type\":\"cds\",\"dnasequence\":null},"
+            + "{\"collection\":\"functions\",\"name\":\"tox\",\"table\":"
+            + "[{\"x\":0.5,\"growth\":[1.0,0.97]},{\"x\":[1,2,3],\"flag\":true}]}]";
+    return (JSONArray) new JSONParser().parse(str);
+  }
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void read_WrittenSnapshot_ShouldMatchJson() throws IOException, ParseException {
+    final JSONArray json = getMixedJson();
+    final File file = new File(folder.getRoot(), "ucf.td");
+    TargetDataSnapshot.write(json, "abc", file);
+    final TargetData td = TargetDataSnapshot.read(file, "abc");
+    assertNotNull(td);
+    final TargetData expected = new TargetData(json);
+    for (final String type : new String[] {"parts", "functions", "gates"}) {
+      assertEquals(expected.getNumJsonObject(type), td.getNumJsonObject(type));
+      for (int i = 0; i < expected.getNumJsonObject(type); i++) {
+        final JSONObject obj = td.getJsonObjectAtIdx(type, i);
+        assertEquals(expected.getJsonObjectAtIdx(type, i), obj);
+      }
+    }
+    assertNull(td.getJsonObjectAtIdx("gates", 0));
+  }
+
+  @Test
+  public void read_HashMismatch_ShouldReturnNull() throws IOException, ParseException {
+    final JSONArray json = new JSONArray();
+    final File file = new File(folder.getRoot(), "empty.td");
+    TargetDataSnapshot.write(json, "abc", file);
+    assertNotNull(TargetDataSnapshot.read(file, "abc"));
+    assertNull(TargetDataSnapshot.read(file, "def"));
+    assertNull(TargetDataSnapshot.read(new File(folder.getRoot(), "missing.td"), "abc"));
+  }
+
+  @Test
+  public void getHash_DifferentContents_ShouldDiffer() throws IOException {
+    final File a = folder.newFile("a.json");
+    final File b = folder.newFile("b.json");
+    Files.write(a.toPath(), "[1]".getBytes(StandardCharsets.UTF_8));
+    Files.write(b.toPath(), "[2]".getBytes(StandardCharsets.UTF_8));
+    assertEquals(TargetDataSnapshot.getHash(a), TargetDataSnapshot.getHash(a));
+    assertNotNull(TargetDataSnapshot.getHash(a, b));
+    assertFalse(TargetDataSnapshot.getHash(a).equals(TargetDataSnapshot.getHash(b)));
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+import org.mariuszgromada.math.mxparser.Expression;
+
+/**
+ * Tests for {@link AnalyticFunction}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class AnalyticFunctionTest {
+
+  private static AnalyticFunction hillResponse() throws ParseException {
+    final String str =
+        "{\n"
+            + "  \"name\": \"hill_response\",\n"
+            + "  \"equation\": \"ymin+(ymax-ymin)/(1.0+(x/K)^n)\",\n"
+            + "  \"variables\": [\n"
+            + "    {\"name\": \"x\", \"map\": \"#//structure/inputs/in1/model/functions/f\"}\n"
+            + "  ],\n"
+            + "  \"parameters\": [\n"
+            + "    {\"name\": \"ymax\", \"value\": 3.9},\n"
+            + "    {\"name\": \"ymin\", \"value\": 0.01},\n"
+            + "    {\"name\": \"K\", \"value\": 0.08},\n"
+            + "    {\"name\": \"n\", \"value\": 2.6}\n"
+            + "  ]\n"
+            + "}";
+    final JSONObject jObj = (JSONObject) new JSONParser().parse(str);
+    return new AnalyticFunction(jObj);
+  }
+
+  private static double reference(final double x) {
+    final Expression expr = new Expression("ymin+(ymax-ymin)/(1.0+(x/K)^n)");
+    expr.defineArgument("ymax", 3.9);
+    expr.defineArgument("ymin", 0.01);
+    expr.defineArgument("K", 0.08);
+    expr.defineArgument("n", 2.6);
+    expr.defineArgument("x", x);
+    return expr.calculate();
+  }
+
+  @Test
+  public void evaluate_RepeatedInputs_ShouldMatchFreshlyParsedExpression()
+      throws ParseException, CelloException {
+    final AnalyticFunction f = hillResponse();
+    final EvaluationContext ec = new EvaluationContext();
+    final Map<Variable, Double> value = new HashMap<>();
+    final double[] xs = {0.001, 0.08, 2.5, 0.001, 10.0};
+    for (final double x : xs) {
+      value.put(f.getVariables().get(0), x);
+      assertEquals(reference(x), f.evaluate(ec, value).doubleValue(), 0.0);
+    }
+  }
+
+  @Test
+  public void evaluate_AllStates_ShouldMatchScalarEvaluation()
+      throws ParseException, CelloException {
+    final String str =
+        "{\n"
+            + "  \"name\": \"state_response\",\n"
+            + "  \"equation\": \"ymin+(ymax-ymin)*$STATE\",\n"
+            + "  \"parameters\": [\n"
+            + "    {\"name\": \"ymax\", \"value\": 3.9},\n"
+            + "    {\"name\": \"ymin\", \"value\": 0.01}\n"
+            + "  ]\n"
+            + "}";
+    final AnalyticFunction f = new AnalyticFunction((JSONObject) new JSONParser().parse(str));
+    final NetlistNode a = new NetlistNode();
+    final NetlistNode b = new NetlistNode();
+    final States<NetlistNode> states = new States<>(Arrays.asList(a, b), true, false);
+    final EvaluationContext ec = new EvaluationContext();
+    ec.setNode(b);
+    final double[] batch = new double[states.getNumStates()];
+    f.evaluate(ec, states, batch);
+    for (int i = 0; i < states.getNumStates(); i++) {
+      ec.setNode(b);
+      ec.setState(states.getStateAtIdx(i));
+      assertEquals(f.evaluate(ec).doubleValue(), batch[i], 0.0);
+    }
+    assertEquals(0.01, batch[0], 0.0);
+    assertEquals(3.9, batch[3], 1e-12);
+  }
+
+  @Test
+  public void evaluate_ShrinkingAndGrowingStateCounts_ShouldMatchScalarEvaluation()
+      throws ParseException, CelloException {
+    final String str =
+        "{\n"
+            + "  \"name\": \"leaky_state\",\n"
+            + "  \"equation\": \"leak+gain*$STATE^2\",\n"
+            + "  \"parameters\": [\n"
+            + "    {\"name\": \"leak\", \"value\": 0.2},\n"
+            + "    {\"name\": \"gain\", \"value\": 1.7}\n"
+            + "  ]\n"
+            + "}";
+    final AnalyticFunction f = new AnalyticFunction((JSONObject) new JSONParser().parse(str));
+    final NetlistNode a = new NetlistNode();
+    final NetlistNode b = new NetlistNode();
+    final NetlistNode c = new NetlistNode();
+    // the buffer is sized for eight states first, then reused for two and four
+    final int[] numNodes = {3, 1, 2};
+    for (final int n : numNodes) {
+      final States<NetlistNode> states =
+          new States<>(Arrays.asList(a, b, c).subList(0, n), true, false);
+      final EvaluationContext ec = new EvaluationContext();
+      ec.setNode(a);
+      final double[] batch = new double[states.getNumStates()];
+      f.evaluate(ec, states, batch);
+      for (int i = 0; i < states.getNumStates(); i++) {
+        ec.setNode(a);
+        ec.setState(states.getStateAtIdx(i));
+        assertEquals(f.evaluate(ec).doubleValue(), batch[i], 0.0);
+      }
+    }
+  }
+}
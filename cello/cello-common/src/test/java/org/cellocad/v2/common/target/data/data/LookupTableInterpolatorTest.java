@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LookupTableInterpolator}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class LookupTableInterpolatorTest {
+
+  /** The linear scan previously used by {@link UnivariateLookupTableFunction}. */
+  private static double scan(final double[] axis, final double[] output, final double x) {
+    int argMinA = -1;
+    double minA = Double.MAX_VALUE;
+    int argMinB = -1;
+    double minB = Double.MAX_VALUE;
+    for (int row = 0; row < axis.length; row++) {
+      final double distance =
+          new EuclideanDistance().compute(new double[] {x}, new double[] {axis[row]});
+      if (distance < minA) {
+        argMinB = argMinA;
+        minB = minA;
+        argMinA = row;
+        minA = distance;
+      } else if (distance < minB) {
+        argMinB = row;
+        minB = distance;
+      }
+    }
+    return (output[argMinA] * minA + output[argMinB] * minB) / (minA + minB);
+  }
+
+  /** The recursion previously used by {@link BivariateLookupTableFunction}. */
+  private static int[] recurse(final double[] p, final double x) {
+    int[] rtn = null;
+    if (p.length == 1) {
+      rtn = new int[] {0, 0};
+    } else {
+      final int w = p.length / 2;
+      if (x > p[w - 1]) {
+        if (x < p[w]) {
+          rtn = new int[] {w - 1, w};
+        } else {
+          rtn = LookupTableInterpolatorTest.recurse(Arrays.copyOfRange(p, w, p.length), x);
+          rtn[0] += w;
+          rtn[1] += w;
+        }
+      } else {
+        rtn = LookupTableInterpolatorTest.recurse(Arrays.copyOfRange(p, 0, w), x);
+      }
+    }
+    return rtn;
+  }
+
+  @Test
+  public void evaluate_RandomTables_ShouldMatchLinearScan() {
+    final Random random = new Random(0);
+    for (int t = 0; t < 200; t++) {
+      final int n = 2 + random.nextInt(20);
+      final double[] axis = new double[n];
+      final double[] output = new double[n];
+      for (int i = 0; i < n; i++) {
+        // few distinct values so that duplicate rows and equal distances occur
+        axis[i] = random.nextInt(8) * 0.5;
+        output[i] = random.nextDouble();
+      }
+      final LookupTableInterpolator interpolator = new LookupTableInterpolator(axis, output);
+      final double[] xs = new double[50];
+      for (int i = 0; i < xs.length; i++) {
+        xs[i] = random.nextInt(20) * 0.25 - 0.5;
+      }
+      final double[] batch = new double[xs.length];
+      interpolator.evaluate(xs, batch);
+      for (int i = 0; i < xs.length; i++) {
+        final double expected = LookupTableInterpolatorTest.scan(axis, output, xs[i]);
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(batch[i]));
+      }
+    }
+  }
+
+  @Test
+  public void argNearestPair_RandomArrays_ShouldMatchRecursion() {
+    final Random random = new Random(1);
+    for (int t = 0; t < 200; t++) {
+      final double[] p = new double[1 + random.nextInt(20)];
+      for (int i = 0; i < p.length; i++) {
+        p[i] = random.nextInt(10);
+      }
+      Arrays.sort(p);
+      for (int i = 0; i < 20; i++) {
+        final double x = random.nextInt(24) * 0.5 - 1.0;
+        final int[] expected = LookupTableInterpolatorTest.recurse(p, x);
+        final int pair = LookupTableInterpolator.argNearestPair(p, x);
+        assertEquals(expected[0], LookupTableInterpolator.getFirst(pair));
+        assertEquals(expected[1], LookupTableInterpolator.getSecond(pair));
+      }
+    }
+  }
+}
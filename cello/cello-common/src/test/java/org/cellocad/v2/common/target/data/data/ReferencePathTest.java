@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ReferencePath}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class ReferencePathTest {
+
+  @Test
+  public void parse_ModelParameter_ShouldHaveNameAndNoHop() throws CelloException {
+    final ReferencePath path = ReferencePath.parse("#//model/parameters/ymax");
+    assertEquals(ReferencePath.PathType.MODEL_PARAMETER, path.getType());
+    assertEquals("ymax", path.getName());
+    assertNull(path.getNext());
+    assertEquals("model/parameters/ymax", path.getTail());
+  }
+
+  @Test
+  public void parse_InputHop_ShouldLinkRestOfPath() throws CelloException {
+    final ReferencePath path =
+        ReferencePath.parse("#//structure/inputs/in1/model/functions/response_function");
+    assertEquals(ReferencePath.PathType.STRUCTURE_INPUT, path.getType());
+    assertEquals("in1", path.getName());
+    assertEquals(ReferencePath.PathType.MODEL_FUNCTION, path.getNext().getType());
+    assertEquals("response_function", path.getNext().getName());
+    assertEquals(
+        EvaluationContext.getSlot("model/functions/response_function"), path.getSlot());
+  }
+
+  @Test
+  public void getInputSlot_InputHop_ShouldMatchSlotOfStructureInput()
+      throws CelloException, ParseException {
+    final ReferencePath in2 = ReferencePath.parse("#//structure/inputs/in2/model/functions/f");
+    final ReferencePath in1 = ReferencePath.parse("#//structure/inputs/in1/model/functions/f");
+    final JSONObject jObj = (JSONObject) new JSONParser().parse("{\"name\": \"in2\"}");
+    assertEquals(new Input(jObj).getSlot(), in2.getInputSlot());
+    assertTrue(in1.getInputSlot() != in2.getInputSlot());
+    assertEquals(-1, ReferencePath.parse("#//model/parameters/ymax").getInputSlot());
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_MissingPrefix_ShouldThrow() throws CelloException {
+    ReferencePath.parse("model/parameters/ymax");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_MissingName_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#//model/functions");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_Outputs_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#//structure/outputs/out1");
+  }
+}
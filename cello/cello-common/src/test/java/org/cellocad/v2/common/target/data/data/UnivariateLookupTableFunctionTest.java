@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link UnivariateLookupTableFunction}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class UnivariateLookupTableFunctionTest {
+
+  /** A table over the corners of the unit square, with output {@code x + 2y}. */
+  private static UnivariateLookupTableFunction corners() throws ParseException, CelloException {
+    final String str =
+        "{\n"
+            + "  \"name\": \"corners\",\n"
+            + "  \"variables\": [\n"
+            + "    {\"name\": \"x\", \"map\": \"#//structure/inputs/in1/model/functions/f\"},\n"
+            + "    {\"name\": \"y\", \"map\": \"#//structure/inputs/in2/model/functions/f\"}\n"
+            + "  ],\n"
+            + "  \"table\": {\n"
+            + "    \"x\": [0.0, 1.0, 0.0, 1.0],\n"
+            + "    \"y\": [0.0, 0.0, 1.0, 1.0],\n"
+            + "    \"output\": [0.0, 1.0, 2.0, 3.0]\n"
+            + "  }\n"
+            + "}";
+    final JSONObject jObj = (JSONObject) new JSONParser().parse(str);
+    return new UnivariateLookupTableFunction(jObj);
+  }
+
+  /** A table over one variable with unevenly spaced rows. */
+  private static UnivariateLookupTableFunction ramp() throws ParseException, CelloException {
+    final String str =
+        "{\n"
+            + "  \"name\": \"ramp\",\n"
+            + "  \"variables\": [\n"
+            + "    {\"name\": \"x\", \"map\": \"#//structure/inputs/in1/model/functions/f\"}\n"
+            + "  ],\n"
+            + "  \"table\": {\n"
+            + "    \"x\": [0.0, 0.5, 2.0, 4.0],\n"
+            + "    \"output\": [1.0, 3.0, 4.0, 8.0]\n"
+            + "  }\n"
+            + "}";
+    final JSONObject jObj = (JSONObject) new JSONParser().parse(str);
+    return new UnivariateLookupTableFunction(jObj);
+  }
+
+  @Test
+  public void evaluate_TwoVariables_ShouldScanEachPoint() throws ParseException, CelloException {
+    final UnivariateLookupTableFunction f = corners();
+    final double[] points = {0.0, 0.0, 1.0, 0.25, 0.5, 1.0};
+    final double[] rtn = new double[3];
+    f.evaluate(points, rtn);
+    // each output is the average of the two nearest rows, weighted by their own distance
+    assertArrayEquals(new double[] {1.0, 2.5, 2.5}, rtn, 1e-12);
+  }
+
+  @Test
+  public void evaluate_OneVariable_ShouldInterpolateEachValue()
+      throws ParseException, CelloException {
+    final UnivariateLookupTableFunction f = ramp();
+    final double[] xs = {0.5, 1.0, 3.0};
+    final double[] rtn = new double[xs.length];
+    f.evaluate(xs, rtn);
+    final double[] expected = new double[xs.length];
+    new LookupTableInterpolator(new double[] {0.0, 0.5, 2.0, 4.0}, new double[] {1, 3, 4, 8})
+        .evaluate(xs, expected);
+    assertArrayEquals(expected, rtn, 0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void evaluate_IncompletePoint_ShouldThrow() throws ParseException, CelloException {
+    final UnivariateLookupTableFunction f = corners();
+    f.evaluate(new double[] {0.0, 0.0, 1.0}, new double[2]);
+  }
+}
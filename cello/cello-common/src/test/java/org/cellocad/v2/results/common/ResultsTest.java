@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link Results}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class ResultsTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void flush_AddedResults_ShouldWriteJournalAndArray() throws IOException {
+    final File dir = folder.newFolder();
+    final Results results = new Results(dir);
+    results.addResult(new Result("a", "stage", "first", new File(dir, "a.txt")));
+    results.addResult(new Result("b", "stage", "second", new File(dir, "b.txt")));
+    results.flush();
+    final List<JsonNode> records = Results.readJournal(new File(dir, "results.jsonl"));
+    assertEquals(2, records.size());
+    assertEquals("b", records.get(1).get("name").asText());
+    final JsonNode array = new ObjectMapper().readTree(new File(dir, "results.json"));
+    assertEquals(2, array.size());
+    assertEquals(records.get(0), array.get(0));
+    results.close();
+  }
+
+  @Test
+  public void addResult_ManyResults_ShouldFlushJournalOnlyUntilClose() throws IOException {
+    final File dir = folder.newFolder();
+    final Results results = new Results(dir);
+    for (int i = 0; i < 70; i++) {
+      final String name = String.format("plot%03d", i);
+      results.addResult(new Result(name, "placing", "plot", new File(dir, name + ".png")));
+    }
+    assertEquals(64, Results.readJournal(new File(dir, "results.jsonl")).size());
+    assertFalse(new File(dir, "results.json").exists());
+    results.close();
+    assertEquals(70, Results.readJournal(new File(dir, "results.jsonl")).size());
+    assertEquals(70, new ObjectMapper().readTree(new File(dir, "results.json")).size());
+  }
+
+  @Test
+  public void readJournal_PartialLastLine_ShouldIgnoreLine() throws IOException {
+    final File file = folder.newFile();
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"na".getBytes(StandardCharsets.UTF_8));
+    }
+    final List<JsonNode> records = Results.readJournal(file);
+    assertEquals(2, records.size());
+    assertEquals("a", records.get(0).get("name").asText());
+  }
+}
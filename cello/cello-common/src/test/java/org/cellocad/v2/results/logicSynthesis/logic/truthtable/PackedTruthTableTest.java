@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PackedTruthTable}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class PackedTruthTableTest {
+
+  @Test
+  public void input_EightInputs_ShouldMatchStates() {
+    final List<String> inputs = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      inputs.add("in" + i);
+    }
+    final States<String> states = new States<>(inputs, true, false);
+    for (int k = 0; k < inputs.size(); k++) {
+      final PackedTruthTable tt = PackedTruthTable.input(states.getNumStates(), k);
+      for (int i = 0; i < states.getNumStates(); i++) {
+        assertEquals(states.getStateAtIdx(i).getState(inputs.get(k)), tt.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void not_ThreeStates_ShouldNotSetUnusedBits() {
+    final PackedTruthTable tt = new PackedTruthTable(3).not();
+    assertEquals(new PackedTruthTable(3).not().and(tt), tt);
+    assertFalse(tt.get(3));
+  }
+
+  @Test
+  public void operators_TwoInputs_ShouldMatchBooleanLogic() {
+    final PackedTruthTable a = PackedTruthTable.input(4, 0);
+    final PackedTruthTable b = PackedTruthTable.input(4, 1);
+    for (int i = 0; i < 4; i++) {
+      final boolean x = a.get(i);
+      final boolean y = b.get(i);
+      assertEquals(x && y, a.and(b).get(i));
+      assertEquals(x || y, a.or(b).get(i));
+      assertEquals(x ^ y, a.xor(b).get(i));
+      assertEquals(!(x || y), a.or(b).not().get(i));
+    }
+  }
+}
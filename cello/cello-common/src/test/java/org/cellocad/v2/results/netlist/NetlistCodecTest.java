@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.json.JsonUtils;
+import org.cellocad.v2.results.placing.placement.Component;
+import org.cellocad.v2.results.placing.placement.Placement;
+import org.cellocad.v2.results.placing.placement.PlacementGroup;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NetlistCodec}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class NetlistCodecTest {
+
+  private static Netlist getNetlist() throws IOException, ParseException {
+    final InputStream is = Utils.getResourceAsStream("and_GateAssignmentUsingBth1C1G1T1.json");
+    final JSONObject jsonObj = (JSONObject) new JSONParser().parse(new InputStreamReader(is));
+    final Netlist rtn = new Netlist(jsonObj);
+    final Placement placement = new Placement(true, false);
+    final PlacementGroup group = new PlacementGroup(true, false);
+    group.setName("group0");
+    final Component component =
+        new Component(new ArrayList<>(Arrays.asList("pTet", "A1_AmtR")), true, false);
+    component.setName("A1_AmtR");
+    component.setNode("$48");
+    component.setDirection(false);
+    group.addComponent(component);
+    placement.addPlacementGroup(group);
+    rtn.getResultNetlistData().getPlacements().addPlacement(placement);
+    return rtn;
+  }
+
+  private static String toLegacyJson(final Netlist netlist) throws IOException {
+    final StringWriter rtn = new StringWriter();
+    rtn.write(JsonUtils.getStartEntryString());
+    netlist.writeJson(1, rtn);
+    rtn.write(JsonUtils.getEndEntryString());
+    return rtn.toString();
+  }
+
+  @Test
+  public void readJson_LegacyOutput_ShouldMatchNetlist() throws IOException, ParseException {
+    final Netlist netlist = getNetlist();
+    final Netlist other = NetlistCodec.readJson(new StringReader(toLegacyJson(netlist)));
+    assertEquals(toLegacyJson(netlist), toLegacyJson(other));
+  }
+
+  @Test
+  public void writeJson_RoundTrip_ShouldMatchNetlist() throws IOException, ParseException {
+    final Netlist netlist = getNetlist();
+    final StringWriter writer = new StringWriter();
+    NetlistCodec.writeJson(netlist, writer);
+    final Netlist other = NetlistCodec.readJson(new StringReader(writer.toString()));
+    assertEquals(toLegacyJson(netlist), toLegacyJson(other));
+    final JSONObject jsonObj = (JSONObject) new JSONParser().parse(writer.toString());
+    assertEquals(toLegacyJson(netlist), toLegacyJson(new Netlist(jsonObj)));
+  }
+
+  @Test
+  public void writeBinary_RoundTrip_ShouldMatchNetlist() throws IOException, ParseException {
+    final Netlist netlist = getNetlist();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    NetlistCodec.writeBinary(netlist, out);
+    final Netlist other = NetlistCodec.readBinary(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(toLegacyJson(netlist), toLegacyJson(other));
+    assertEquals(netlist.getVertexAtIdx(0).getName(), other.getVertexAtIdx(0).getName());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NetlistNodeUtils}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class NetlistNodeUtilsTest {
+
+  private static NetlistNode node(final String name) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    return rtn;
+  }
+
+  private static void connect(final NetlistNode src, final NetlistNode dst) {
+    final NetlistEdge edge = new NetlistEdge(src, dst);
+    src.addOutEdge(edge);
+    dst.addInEdge(edge);
+  }
+
+  @Test
+  public void getFanOutCone_Diamond_ShouldContainDownstreamNodesOnce() {
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    final NetlistNode c = node("c");
+    final NetlistNode d = node("d");
+    final NetlistNode e = node("e");
+    connect(a, b);
+    connect(a, c);
+    connect(b, d);
+    connect(c, d);
+    connect(e, d);
+    final List<NetlistNode> cone = NetlistNodeUtils.getFanOutCone(Collections.singletonList(a));
+    assertEquals(4, cone.size());
+    assertEquals(a, cone.get(0));
+    assertTrue(cone.containsAll(Arrays.asList(a, b, c, d)));
+    assertFalse(cone.contains(e));
+  }
+
+  @Test
+  public void getFanOutCone_MultipleRoots_ShouldMergeCones() {
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    final NetlistNode c = node("c");
+    connect(a, c);
+    connect(b, c);
+    final List<NetlistNode> cone = NetlistNodeUtils.getFanOutCone(Arrays.asList(a, b, c));
+    assertEquals(3, cone.size());
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+import org.junit.Test;
+
+/**
+ * Tests for the validity and traversal orders of a {@link Netlist}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class NetlistTest {
+
+  private static NetlistNode node(final String name) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    return rtn;
+  }
+
+  private static NetlistEdge connect(final NetlistNode src, final NetlistNode dst) {
+    final NetlistEdge rtn = new NetlistEdge(src, dst);
+    rtn.setName(src.getName() + "." + dst.getName());
+    src.addOutEdge(rtn);
+    dst.addInEdge(rtn);
+    return rtn;
+  }
+
+  @Test
+  public void isValid_StructuralModification_ShouldBeComputedAgain() {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    netlist.addVertex(a);
+    netlist.addVertex(b);
+    netlist.addEdge(connect(a, b));
+    assertTrue(netlist.isValid());
+    final NetlistNode c = node("c");
+    connect(b, c);
+    assertFalse(netlist.isValid());
+    netlist.addVertex(c);
+    assertFalse(netlist.isValid());
+    netlist.addEdge(b.getOutEdgeAtIdx(0));
+    assertTrue(netlist.isValid());
+  }
+
+  @Test
+  public void isValid_AttributeModification_ShouldRemainValid() {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    netlist.addVertex(a);
+    netlist.addVertex(b);
+    netlist.addEdge(connect(a, b));
+    assertTrue(netlist.isValid());
+    a.getResultNetlistNodeData().setDeviceName("P1_PhlF");
+    b.setName("c");
+    assertTrue(netlist.isValid());
+  }
+
+  @Test
+  public void getModificationCount_OtherNetlistModified_ShouldBeUnchanged() {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    netlist.addVertex(a);
+    netlist.addVertex(b);
+    netlist.addEdge(connect(a, b));
+    final long count = netlist.getModificationCount();
+    final Netlist other = new Netlist();
+    final NetlistNode c = node("c");
+    other.addVertex(c);
+    other.removeVertex(c);
+    other.addVertex(c);
+    assertEquals(count, netlist.getModificationCount());
+    // an edge between the two netlists changes both
+    final long otherCount = other.getModificationCount();
+    connect(b, c);
+    assertTrue(netlist.getModificationCount() != count);
+    assertTrue(other.getModificationCount() != otherCount);
+  }
+
+  private static Netlist getDiamond() {
+    final Netlist rtn = new Netlist();
+    final NetlistNode a = node("a");
+    final NetlistNode b = node("b");
+    final NetlistNode c = node("c");
+    final NetlistNode d = node("d");
+    a.setVertexType(VertexType.SOURCE);
+    d.setVertexType(VertexType.SINK);
+    rtn.addVertex(a);
+    rtn.addVertex(b);
+    rtn.addVertex(c);
+    rtn.addVertex(d);
+    rtn.addEdge(connect(a, b));
+    rtn.addEdge(connect(a, c));
+    rtn.addEdge(connect(b, d));
+    rtn.addEdge(connect(c, d));
+    return rtn;
+  }
+
+  @Test
+  public void getOrder_Diamond_ShouldMatchTraversals() {
+    final Netlist netlist = getDiamond();
+    assertArrayEquals(new int[] {0, 2, 1, 3}, netlist.getSinkBfsOrder());
+    assertArrayEquals(new int[] {0, 2, 1, 3}, netlist.getSinkDfsOrder());
+    assertArrayEquals(new int[] {0, 1, 2, 3}, netlist.getTopologicalOrder());
+  }
+
+  @Test
+  public void getSinkBfsOrder_VertexTypeChange_ShouldBeComputedAgain() {
+    final Netlist netlist = getDiamond();
+    assertArrayEquals(new int[] {0, 2, 1, 3}, netlist.getSinkBfsOrder());
+    netlist.getVertexAtIdx(3).setVertexType(VertexType.NONE);
+    assertArrayEquals(new int[] {}, netlist.getSinkBfsOrder());
+  }
+
+  @Test
+  public void compressedNetlist_Diamond_ShouldMatchAdjacency() {
+    final Netlist netlist = getDiamond();
+    final CompressedNetlist cn = new CompressedNetlist(netlist);
+    assertArrayEquals(new int[] {0, 0, 1, 2, 4}, cn.getInOffsets());
+    assertArrayEquals(new int[] {0, 0, 1, 2}, cn.getInSources());
+    assertArrayEquals(new int[] {0, 2, 3, 4, 4}, cn.getOutOffsets());
+    assertArrayEquals(new int[] {1, 2, 3, 3}, cn.getOutDestinations());
+    assertEquals(-1, cn.getInputSource(3, 0));
+    assertFalse(cn.isStale());
+    netlist.addVertex(node("e"));
+    assertTrue(cn.isStale());
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link NodeStateValues}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class NodeStateValuesTest {
+
+  @Test
+  public void revert_SavedRows_ShouldRestoreValues() {
+    final NodeStateValues values = new NodeStateValues(3, 2, 1.0);
+    values.set(1, 0, 2.0);
+    values.commit();
+    values.save(1);
+    values.set(1, 0, 3.0);
+    values.set(1, 1, 4.0);
+    assertEquals(1, values.getNumSaved());
+    assertEquals(2.0, values.getSaved(1, 0), 0.0);
+    values.revert();
+    assertEquals(0, values.getNumSaved());
+    assertEquals(2.0, values.get(1, 0), 0.0);
+    assertEquals(1.0, values.get(1, 1), 0.0);
+  }
+
+  @Test
+  public void commit_SavedRows_ShouldKeepValues() {
+    final NodeStateValues values = new NodeStateValues(2, 2);
+    values.save(0);
+    values.set(0, 1, 5.0);
+    values.commit();
+    values.save(0);
+    values.revert();
+    assertEquals(5.0, values.get(0, 1), 0.0);
+  }
+}
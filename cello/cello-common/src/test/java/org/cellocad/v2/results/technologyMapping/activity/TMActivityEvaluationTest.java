@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the incremental update of a {@link TMActivityEvaluation}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class TMActivityEvaluationTest {
+
+  private NetlistNode node(final String name, final String nodeType, final String device) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    rtn.getResultNetlistNodeData().setNodeType(nodeType);
+    rtn.getResultNetlistNodeData().setDevice(tdi.getAssignableDeviceByName(device));
+    netlist.addVertex(rtn);
+    return rtn;
+  }
+
+  private void connect(final NetlistNode src, final NetlistNode dst) {
+    final NetlistEdge e = new NetlistEdge(src, dst);
+    e.setName(src.getName() + "." + dst.getName());
+    src.addOutEdge(e);
+    dst.addInEdge(e);
+    netlist.addEdge(e);
+  }
+
+  private static void assign(final NetlistNode node, final String device) {
+    final AssignableDevice d = tdi.getAssignableDeviceByName(device);
+    node.getResultNetlistNodeData().setDevice(d);
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge e = node.getInEdgeAtIdx(i);
+      e.getResultNetlistEdgeData().setInput(d.getStructure().getInputs().get(i));
+    }
+  }
+
+  /**
+   * Builds a netlist in which {@code w} reaches {@code p} both directly and through {@code x}:
+   * {@code s -> u -> w -> x -> p -> y} and {@code w -> p}. A breadth-first search from the sink
+   * reaches {@code w} again after its input {@code u}, so that order puts {@code w} before {@code
+   * u}.
+   *
+   * @throws IOException Unable to read the target data.
+   * @throws ParseException Unable to parse the target data.
+   * @throws CelloException Unable to instantiate the target data.
+   */
+  @Before
+  public void init() throws IOException, ParseException, CelloException {
+    final String str = Utils.getResourceAsString("reconvergent_Target.json");
+    tdi = new TargetDataInstance(new TargetData((JSONArray) new JSONParser().parse(str)));
+    netlist = new Netlist();
+    final NetlistNode s = node("s", LSResults.S_PRIMARYINPUT, "S");
+    u = node("u", LSResults.S_NOT, "A");
+    w = node("w", LSResults.S_NOT, "B");
+    final NetlistNode x = node("x", LSResults.S_NOT, "A");
+    final NetlistNode p = node("p", LSResults.S_NOR, "B");
+    final NetlistNode y = node("y", LSResults.S_PRIMARYOUTPUT, "Y");
+    connect(s, u);
+    connect(u, w);
+    connect(w, p);
+    connect(w, x);
+    connect(x, p);
+    connect(p, y);
+    for (final NetlistNode n : Arrays.asList(u, w, x, p, y)) {
+      assign(n, n.getResultNetlistNodeData().getDevice().getName());
+    }
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    lsle = new LSLogicEvaluation(netlist);
+  }
+
+  private void assertSameActivity(
+      final TMActivityEvaluation expected, final TMActivityEvaluation actual) {
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode n = netlist.getVertexAtIdx(i);
+      for (int j = 0; j < lsle.getStates().getNumStates(); j++) {
+        assertEquals(n.getName(), expected.getActivity(n, j), actual.getActivity(n, j), 1e-12);
+      }
+    }
+  }
+
+  private static int indexOf(final int[] order, final NetlistNode node, final Netlist netlist) {
+    for (int i = 0; i < order.length; i++) {
+      if (netlist.getVertexAtIdx(order[i]) == node) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void getSinkBfsOrder_ReconvergentNetlist_ShouldPutSuccessorFirst() {
+    final int[] order = netlist.getSinkBfsOrder();
+    assertTrue(indexOf(order, w, netlist) < indexOf(order, u, netlist));
+  }
+
+  @Test
+  public void update_SwapUpstreamOfReconvergence_ShouldMatchFreshEvaluation()
+      throws CelloException {
+    final TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+    assign(u, "C");
+    tmae.update(Collections.singletonList(u));
+    assertSameActivity(new TMActivityEvaluation(netlist, lsle), tmae);
+  }
+
+  @Test
+  public void revert_SwapUpstreamOfReconvergence_ShouldMatchFreshEvaluation()
+      throws CelloException {
+    final TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+    final TMActivityEvaluation before = new TMActivityEvaluation(netlist, lsle);
+    assign(u, "C");
+    tmae.update(Collections.singletonList(u));
+    assign(u, "A");
+    tmae.revert();
+    assertSameActivity(before, tmae);
+    assign(w, "C");
+    tmae.update(Collections.singletonList(w));
+    assertSameActivity(new TMActivityEvaluation(netlist, lsle), tmae);
+  }
+
+  private static TargetDataInstance tdi;
+  private Netlist netlist;
+  private LSLogicEvaluation lsle;
+  private NetlistNode u;
+  private NetlistNode w;
+}
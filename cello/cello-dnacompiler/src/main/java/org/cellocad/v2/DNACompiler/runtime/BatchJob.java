@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.common.CObject;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+
+/**
+ * A job of the <i>DNACompiler</i> application run by {@link BatchMain}. A job is a JSON object of
+ * command line arguments keyed by argument name, e.g. {@code {"id": "and", "inputNetlist":
+ * "and.v", "userConstraintsFile": "Eco1C1G1T1.UCF.json", ...}}, with an optional {@code id}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class BatchJob extends CObject {
+
+  /**
+   * Initializes a newly created {@link BatchJob}.
+   *
+   * @param name The name of the job.
+   * @param options The command line arguments of the job, keyed by argument name.
+   */
+  public BatchJob(final String name, final Map<String, String> options) {
+    super();
+    setName(name);
+    this.options = new LinkedHashMap<>(options);
+  }
+
+  /**
+   * Returns a newly created {@link BatchJob} from the JSON data defined by parameter {@code
+   * jsonNode}. An argument missing from the job is taken from parameter {@code defaults}. Without
+   * an output directory, the job writes to a directory named after the job in parameter {@code
+   * outputDir}.
+   *
+   * @param jsonNode The JSON data of the job.
+   * @param defaults The default arguments, or null.
+   * @param outputDir The directory in which jobs without an output directory write.
+   * @param idx The index of the job, used to name a job without an id.
+   * @return The job.
+   * @throws CelloException The JSON data is not a valid job.
+   */
+  public static BatchJob parse(
+      final JsonNode jsonNode, final JsonNode defaults, final File outputDir, final int idx)
+      throws CelloException {
+    if (jsonNode == null || !jsonNode.isObject()) {
+      throw new CelloException("A job must be a JSON object.");
+    }
+    final Map<String, String> options = new LinkedHashMap<>();
+    if (defaults != null) {
+      BatchJob.putOptions(defaults, options);
+    }
+    BatchJob.putOptions(jsonNode, options);
+    String name = options.remove(BatchJob.S_ID);
+    if (name == null) {
+      name = BatchJob.S_JOB + idx;
+    }
+    if (options.containsKey(ArgString.HELP)) {
+      throw new CelloException(
+          String.format("Job '%s': '%s' is not allowed.", name, ArgString.HELP));
+    }
+    if (!options.containsKey(ArgString.OUTPUTDIR)) {
+      options.put(ArgString.OUTPUTDIR, new File(outputDir, name).getPath());
+    }
+    return new BatchJob(name, options);
+  }
+
+  private static void putOptions(final JsonNode jsonNode, final Map<String, String> options)
+      throws CelloException {
+    final Iterator<Map.Entry<String, JsonNode>> it = jsonNode.fields();
+    while (it.hasNext()) {
+      final Map.Entry<String, JsonNode> e = it.next();
+      final JsonNode value = e.getValue();
+      if (!value.isValueNode() || value.isNull()) {
+        throw new CelloException(String.format("Invalid value of job argument '%s'.", e.getKey()));
+      }
+      options.put(e.getKey(), value.asText());
+    }
+  }
+
+  /**
+   * Returns the command line arguments of this job.
+   *
+   * @return The command line arguments of this job.
+   */
+  public String[] getArgs() {
+    final List<String> rtn = new ArrayList<>();
+    for (final Map.Entry<String, String> e : options.entrySet()) {
+      rtn.add("-" + e.getKey());
+      rtn.add(e.getValue());
+    }
+    return rtn.toArray(new String[rtn.size()]);
+  }
+
+  /**
+   * Returns the output directory of this job.
+   *
+   * @return The output directory of this job.
+   */
+  public File getOutputDir() {
+    return new File(options.get(ArgString.OUTPUTDIR));
+  }
+
+  private final Map<String, String> options;
+
+  private static final String S_ID = "id";
+  private static final String S_JOB = "job";
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerRuntimeEnv;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * The BatchMain class is the executable class for the batch and server modes of the
+ * <i>DNACompiler</i> application. Jobs run in one JVM on a bounded pool of workers, so target
+ * data parsed by one job is shared with every later job on the same target data files, and class
+ * loading and compilation are paid once.
+ *
+ * <p>Jobs are read from a manifest file, from standard input, or from connections to a local
+ * socket. A manifest is a JSON array of jobs, one job per line, or an object with a {@code jobs}
+ * array and the {@code defaults} of every job. On standard input and on a socket, every line is a
+ * job. A line of JSON is written for each finished job, with its {@code id}, {@code status},
+ * {@code elapsed} milliseconds and, on failure, {@code message}. See {@link BatchJob} for the
+ * format of a job. Every job writes its log to its own output directory.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class BatchMain {
+
+  /**
+   * Initializes a newly created {@link BatchMain} with the number of workers defined by parameter
+   * {@code numThreads}. At most {@link #I_QUEUE} jobs per worker wait to run; a caller submitting
+   * more runs the job itself.
+   *
+   * @param numThreads The number of workers.
+   * @param outputDir The directory in which jobs without an output directory write.
+   */
+  public BatchMain(final int numThreads, final File outputDir) {
+    this.outputDir = outputDir;
+    mapper = new ObjectMapper();
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory factory =
+        r -> {
+          final Thread rtn = new Thread(r, BatchMain.S_WORKER + count.incrementAndGet());
+          rtn.setDaemon(true);
+          return rtn;
+        };
+    executor =
+        new ThreadPoolExecutor(
+            numThreads,
+            numThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(numThreads * BatchMain.I_QUEUE),
+            factory,
+            new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Runs the job defined by parameter {@code job} in the current thread.
+   *
+   * @param job The job.
+   * @return The status of the job.
+   */
+  public ObjectNode run(final BatchJob job) {
+    final ObjectNode rtn = mapper.createObjectNode();
+    rtn.put(BatchMain.S_ID, job.getName());
+    final long start = System.currentTimeMillis();
+    try {
+      final File dir = job.getOutputDir();
+      if (!dir.isDirectory() && !dir.mkdirs()) {
+        throw new CelloException("Unable to create output directory: " + dir + ".");
+      }
+      final DNACompilerRuntimeEnv runEnv = new DNACompilerRuntimeEnv(job.getArgs());
+      runEnv.setName("DNACompiler");
+      if (!runEnv.isValid()) {
+        throw new CelloException("DNACompilerRuntimeEnv is invalid!");
+      }
+      Main.setupThreadLogger(runEnv);
+      Main.run(runEnv);
+      rtn.put(BatchMain.S_STATUS, BatchMain.S_OK);
+    } catch (CelloException | RuntimeException e) {
+      BatchMain.getLogger().error("Job '" + job.getName() + "' failed.", e);
+      rtn.put(BatchMain.S_STATUS, BatchMain.S_ERROR);
+      rtn.put(BatchMain.S_MESSAGE, String.valueOf(e.getMessage()));
+    } finally {
+      ThreadContext.remove(Main.S_LOGFILE);
+    }
+    rtn.put(BatchMain.S_ELAPSED, System.currentTimeMillis() - start);
+    return rtn;
+  }
+
+  private ObjectNode getError(final String id, final Exception e) {
+    final ObjectNode rtn = mapper.createObjectNode();
+    rtn.put(BatchMain.S_ID, id);
+    rtn.put(BatchMain.S_STATUS, BatchMain.S_ERROR);
+    rtn.put(BatchMain.S_MESSAGE, String.valueOf(e.getMessage()));
+    return rtn;
+  }
+
+  private CompletableFuture<ObjectNode> submit(
+      final JsonNode jsonNode, final JsonNode defaults, final int idx) {
+    CompletableFuture<ObjectNode> rtn = null;
+    try {
+      final BatchJob job = BatchJob.parse(jsonNode, defaults, outputDir, idx);
+      rtn = CompletableFuture.supplyAsync(() -> run(job), executor);
+    } catch (final CelloException e) {
+      final String id = jsonNode.path(BatchMain.S_ID).asText(null);
+      rtn = CompletableFuture.completedFuture(getError(id, e));
+    }
+    return rtn;
+  }
+
+  private static void write(final PrintWriter out, final ObjectNode status) {
+    if (status == null) {
+      return;
+    }
+    synchronized (out) {
+      out.println(status.toString());
+      out.flush();
+    }
+  }
+
+  /**
+   * Runs every job of the manifest defined by parameter {@code manifest}, and writes the status of
+   * each job to the stream defined by parameter {@code os} as it finishes.
+   *
+   * @param manifest The manifest.
+   * @param os The stream.
+   * @return The number of jobs that failed.
+   * @throws IOException Unable to read the manifest.
+   */
+  public int runManifest(final File manifest, final OutputStream os) throws IOException {
+    final PrintWriter out =
+        new PrintWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), false);
+    final List<JsonNode> values = new ArrayList<>();
+    final List<JsonNode> jobs = new ArrayList<>();
+    JsonNode defaults = null;
+    try (MappingIterator<JsonNode> it = mapper.readerFor(JsonNode.class).readValues(manifest)) {
+      while (it.hasNext()) {
+        values.add(it.next());
+      }
+    }
+    if (values.size() == 1 && values.get(0).isArray()) {
+      values.get(0).forEach(jobs::add);
+    } else if (values.size() == 1 && values.get(0).has(BatchMain.S_JOBS)) {
+      defaults = values.get(0).get(BatchMain.S_DEFAULTS);
+      values.get(0).get(BatchMain.S_JOBS).forEach(jobs::add);
+    } else {
+      jobs.addAll(values);
+    }
+    final List<CompletableFuture<ObjectNode>> futures = new ArrayList<>();
+    for (int i = 0; i < jobs.size(); i++) {
+      final CompletableFuture<ObjectNode> future = submit(jobs.get(i), defaults, i);
+      futures.add(future.whenComplete((status, e) -> BatchMain.write(out, status)));
+    }
+    int rtn = 0;
+    for (final CompletableFuture<ObjectNode> f : futures) {
+      if (!BatchMain.S_OK.equals(f.join().path(BatchMain.S_STATUS).asText())) {
+        rtn++;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Reads jobs, one per line, from the stream defined by parameter {@code is} until the end of the
+   * stream, and writes the status of each job to the stream defined by parameter {@code os} as it
+   * finishes. Returns once every job read has finished.
+   *
+   * @param is The stream of jobs.
+   * @param os The stream of statuses.
+   * @throws IOException Unable to read a job.
+   */
+  public void serve(final InputStream is, final OutputStream os) throws IOException {
+    final BufferedReader in =
+        new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    final PrintWriter out =
+        new PrintWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), false);
+    final List<CompletableFuture<ObjectNode>> futures = new ArrayList<>();
+    String line = in.readLine();
+    while (line != null) {
+      if (!line.trim().isEmpty()) {
+        CompletableFuture<ObjectNode> future = null;
+        try {
+          future = submit(mapper.readTree(line), null, jobIdx.getAndIncrement());
+        } catch (final IOException e) {
+          future = CompletableFuture.completedFuture(getError(null, e));
+        }
+        futures.add(future.whenComplete((status, e) -> BatchMain.write(out, status)));
+      }
+      line = in.readLine();
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+  }
+
+  /**
+   * Accepts connections on the local socket defined by parameter {@code port}, and serves each
+   * connection as by {@link #serve(InputStream, OutputStream)}. Does not return.
+   *
+   * @param port The port.
+   * @throws IOException Unable to listen on the port.
+   */
+  public void serve(final int port) throws IOException {
+    try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+      BatchMain.getLogger().info("Listening on " + server.getLocalSocketAddress() + ".");
+      while (true) {
+        final Socket socket = server.accept();
+        final Thread thread =
+            new Thread(
+                () -> {
+                  try (Socket s = socket) {
+                    serve(s.getInputStream(), s.getOutputStream());
+                  } catch (final IOException e) {
+                    BatchMain.getLogger().error("Connection failed.", e);
+                  }
+                },
+                BatchMain.S_CONNECTION + socket.getPort());
+        thread.setDaemon(true);
+        thread.start();
+      }
+    }
+  }
+
+  /** Stops accepting jobs and waits for every submitted job to finish. */
+  public void shutdown() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Options getOptions() {
+    final Options rtn = new Options();
+    rtn.addOption(new Option(BatchMain.S_HELP, false, "print this message"));
+    rtn.addOption(
+        new Option(BatchMain.S_MANIFEST, true, "run the jobs of the manifest file, then exit"));
+    rtn.addOption(new Option(BatchMain.S_PORT, true, "accept jobs on the local socket port"));
+    rtn.addOption(
+        new Option(BatchMain.S_THREADS, true, "number of jobs run at once (default: #cores)"));
+    rtn.addOption(
+        new Option(
+            BatchMain.S_OUTPUTDIR, true, "directory of jobs without an output directory"));
+    rtn.addOption(new Option(BatchMain.S_LOGFILENAME, true, "log file of the batch"));
+    return rtn;
+  }
+
+  /**
+   * The executable for the batch and server modes of the <i>DNACompiler</i> application. Without a
+   * manifest or a port, jobs are read from standard input.
+   *
+   * @param args Command line argument(s).
+   * @throws IOException Unable to read jobs.
+   */
+  public static void main(final String[] args) throws IOException {
+    // a job's log file is inherited by the threads the job starts
+    System.setProperty("log4j2.isThreadContextMapInheritable", "true");
+    // standard output carries the status of jobs
+    System.setProperty("console.target", "SYSTEM_ERR");
+    final Options options = BatchMain.getOptions();
+    CommandLine line = null;
+    try {
+      line = new DefaultParser().parse(options, args);
+    } catch (final ParseException e) {
+      System.err.println("Parsing failed.  Reason: " + e.getMessage());
+      Utils.exit(1);
+    }
+    if (line.hasOption(BatchMain.S_HELP)) {
+      new HelpFormatter().printHelp("DNACompilerBatch", options, true);
+      Utils.exit(0);
+    }
+    final File outputDir =
+        new File(line.getOptionValue(BatchMain.S_OUTPUTDIR, Utils.getWorkingDirectory()));
+    final String logfile = line.getOptionValue(BatchMain.S_LOGFILENAME, "batch.log");
+    System.setProperty(Main.S_LOGFILE, new File(outputDir, logfile).getPath());
+    final int numThreads =
+        Integer.parseInt(
+            line.getOptionValue(
+                BatchMain.S_THREADS,
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    final BatchMain batch = new BatchMain(Math.max(1, numThreads), outputDir);
+    int exit = 0;
+    if (line.hasOption(BatchMain.S_MANIFEST)) {
+      final File manifest = new File(line.getOptionValue(BatchMain.S_MANIFEST));
+      exit = batch.runManifest(manifest, System.out) > 0 ? 1 : 0;
+    } else if (line.hasOption(BatchMain.S_PORT)) {
+      batch.serve(Integer.parseInt(line.getOptionValue(BatchMain.S_PORT)));
+    } else {
+      batch.serve(System.in, System.out);
+    }
+    batch.shutdown();
+    Utils.exit(exit);
+  }
+
+  /**
+   * Returns the {@link Logger}.
+   *
+   * @return The {@link Logger}.
+   */
+  protected static Logger getLogger() {
+    return LogManager.getLogger(BatchMain.class);
+  }
+
+  private final ObjectMapper mapper;
+  private final ExecutorService executor;
+  private final File outputDir;
+  private final AtomicInteger jobIdx = new AtomicInteger();
+
+  private static final int I_QUEUE = 4;
+  private static final String S_WORKER = "batch-";
+  private static final String S_CONNECTION = "batch-connection-";
+  private static final String S_ID = "id";
+  private static final String S_STATUS = "status";
+  private static final String S_OK = "ok";
+  private static final String S_ERROR = "error";
+  private static final String S_MESSAGE = "message";
+  private static final String S_ELAPSED = "elapsed";
+  private static final String S_JOBS = "jobs";
+  private static final String S_DEFAULTS = "defaults";
+  private static final String S_HELP = "help";
+  private static final String S_MANIFEST = "manifest";
+  private static final String S_PORT = "port";
+  private static final String S_THREADS = "threads";
+  private static final String S_OUTPUTDIR = "outputDir";
+  private static final String S_LOGFILENAME = "logFilename";
+}
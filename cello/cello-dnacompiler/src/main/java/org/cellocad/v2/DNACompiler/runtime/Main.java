@@ -23,7 +23,9 @@ import java.io.File;
 import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import org.cellocad.v2.DNACompiler.common.DNACompilerUtils;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerArgString;
 import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerRuntimeEnv;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.application.ApplicationConfiguration;
@@ -43,6 +45,7 @@ import org.cellocad.v2.results.common.Results;
 import org.cellocad.v2.results.common.ResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.LSResultsStats;
 import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistCodec;
 import org.cellocad.v2.results.netlist.NetlistUtils;
 import org.cellocad.v2.results.partitioning.block.PTBlockNetlist;
 import org.cellocad.v2.technologyMapping.runtime.TMRuntimeObject;
@@ -109,6 +112,18 @@ public class Main {
      * Setup Logger
      */
     Main.setupLogger(runEnv);
+    Main.run(runEnv);
+  }
+
+  /**
+   * Runs the <i>DNACompiler</i> application with the DNACompilerRuntimeEnv defined by parameter
+   * {@code runEnv}. The logger must be set up before the call. Target data is shared with any
+   * other run, in this JVM, on the same target data files.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @throws CelloException Unable to run the application.
+   */
+  public static void run(final DNACompilerRuntimeEnv runEnv) throws CelloException {
     /*
      * Other
      */
@@ -142,123 +157,188 @@ public class Main {
     }
     // Results
     final File outputDir = new File(runEnv.getOptionValue(ArgString.OUTPUTDIR));
-    final Results results = new Results(outputDir);
-    /*
-     * Get InputFile from user
-     */
-    // InputFile
-    final String inputFilePath = runEnv.getOptionValue(ArgString.INPUTNETLIST);
-    final File inputFile = new File(inputFilePath);
-    if (!(inputFile.exists() && !inputFile.isDirectory())) {
-      throw new CelloException("Input file does not exist!");
+    try (Results results = new Results(outputDir)) {
+      /*
+       * Get InputFile from user
+       */
+      // InputFile
+      final String inputFilePath = runEnv.getOptionValue(ArgString.INPUTNETLIST);
+      final File inputFile = new File(inputFilePath);
+      if (!(inputFile.exists() && !inputFile.isDirectory())) {
+        throw new CelloException("Input file does not exist!");
+      }
+      // Netlist
+      Netlist netlist = new Netlist();
+      // Input from User
+      netlist.setInputFilename(inputFilePath);
+      /*
+       * Stages
+       */
+      Stage currentStage = null;
+      /*
+       * logicSynthesis
+       */
+      currentStage = appCfg.getStageByName("logicSynthesis");
+      final LSRuntimeObject LS =
+          new LSRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      LS.execute();
+      // Write netlist
+      Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      Main.writeCheckpointForNetlist(runEnv, netlist, inputFilePath);
+      ResultsUtils.writeNetlistResults(LS.getName(), outputDir, netlist, results);
+      Main.getLogger().info(LSResultsStats.getLogicSynthesisStats(netlist));
+      // logicOptimization
+      // currentStage = appCfg.getStageByName("logicOptimization");
+      // LORuntimeObject LO = new LORuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // LO.execute();
+      // File loDotFile = new File(outputDir, netlist.getName() +
+      // "_logicOptimization" + ".dot");
+      // NetlistUtils.writeDotFileForGraph(netlist, loDotFile.getAbsolutePath());
+      // Dot2Pdf.dot2pdf(loDotFile);
+      // Main.getLogger().info(LOResultsStats.getLogicOptimizationStats(netlist));
+      // clustering
+      // currentStage = appCfg.getStageByName("clustering");
+      // CLRuntimeObject CL = new CLRuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // CL.execute();
+      // partitioning
+      // currentStage = appCfg.getStageByName("partitioning");
+      // PTRuntimeObject PT = new PTRuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // PT.execute();
+      // Main.printPartitioningGraphs(runEnv, netlist);
+      // Main.getLogger().info(PTResultsStats.getPartitioningStats(netlist));
+      // netlist = new PTBlockNetlist(netlist).getVirtualLargeNetlistFO();
+      // Write netlist
+      // Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      /*
+       * technologyMapping
+       */
+      currentStage = appCfg.getStageByName("technologyMapping");
+      final TMRuntimeObject TM =
+          new TMRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      TM.execute();
+      // Write netlist
+      Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      Main.writeCheckpointForNetlist(runEnv, netlist, inputFilePath);
+      ResultsUtils.writeNetlistResults(TM.getName(), outputDir, netlist, results);
+      /*
+       * placing
+       */
+      currentStage = appCfg.getStageByName("placing");
+      final PLRuntimeObject PL =
+          new PLRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      PL.execute();
+      // Write netlist
+      Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      Main.writeCheckpointForNetlist(runEnv, netlist, inputFilePath);
+      ResultsUtils.writeNetlistResults(PL.getName(), outputDir, netlist, results);
+      /*
+       * export.
+       */
+      currentStage = appCfg.getStageByName("export");
+      final EXRuntimeObject EX =
+          new EXRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      EX.execute();
+      // Write netlist
+      Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      Main.writeCheckpointForNetlist(runEnv, netlist, inputFilePath);
+      ResultsUtils.writeNetlistResults(EX.getName(), outputDir, netlist, results);
+    } catch (final IOException e) {
+      throw new CelloException("Unable to write results.", e);
     }
-    // Netlist
-    Netlist netlist = new Netlist();
-    // Input from User
-    netlist.setInputFilename(inputFilePath);
-    /*
-     * Stages
-     */
-    Stage currentStage = null;
-    /*
-     * logicSynthesis
-     */
-    currentStage = appCfg.getStageByName("logicSynthesis");
-    final LSRuntimeObject LS =
-        new LSRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    LS.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(LS.getName(), outputDir, netlist, results);
-    Main.getLogger().info(LSResultsStats.getLogicSynthesisStats(netlist));
-    // logicOptimization
-    // currentStage = appCfg.getStageByName("logicOptimization");
-    // LORuntimeObject LO = new LORuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // LO.execute();
-    // File loDotFile = new File(outputDir, netlist.getName() +
-    // "_logicOptimization" + ".dot");
-    // NetlistUtils.writeDotFileForGraph(netlist, loDotFile.getAbsolutePath());
-    // Dot2Pdf.dot2pdf(loDotFile);
-    // Main.getLogger().info(LOResultsStats.getLogicOptimizationStats(netlist));
-    // clustering
-    // currentStage = appCfg.getStageByName("clustering");
-    // CLRuntimeObject CL = new CLRuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // CL.execute();
-    // partitioning
-    // currentStage = appCfg.getStageByName("partitioning");
-    // PTRuntimeObject PT = new PTRuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // PT.execute();
-    // Main.printPartitioningGraphs(runEnv, netlist);
-    // Main.getLogger().info(PTResultsStats.getPartitioningStats(netlist));
-    // netlist = new PTBlockNetlist(netlist).getVirtualLargeNetlistFO();
-    // Write netlist
-    // Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    /*
-     * technologyMapping
-     */
-    currentStage = appCfg.getStageByName("technologyMapping");
-    final TMRuntimeObject TM =
-        new TMRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    TM.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(TM.getName(), outputDir, netlist, results);
-    /*
-     * placing
-     */
-    currentStage = appCfg.getStageByName("placing");
-    final PLRuntimeObject PL =
-        new PLRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    PL.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(PL.getName(), outputDir, netlist, results);
-    /*
-     * export.
-     */
-    currentStage = appCfg.getStageByName("export");
-    final EXRuntimeObject EX =
-        new EXRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    EX.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(EX.getName(), outputDir, netlist, results);
+  }
+
+  /**
+   * Returns the path of the JSON netlist: the value of the OUTPUTNETLIST argument if present,
+   * otherwise the input filename suffixed with "_outputNetlist.json" in the OUTPUTDIR directory.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @param inputFilePath The path of the input file.
+   * @return The path of the JSON netlist.
+   */
+  protected static String getOutputNetlistFilePath(
+      final DNACompilerRuntimeEnv runEnv, final String inputFilePath) {
+    String rtn = null;
+    rtn = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
+    if (rtn == null) {
+      rtn = "";
+      rtn += runEnv.getOptionValue(ArgString.OUTPUTDIR);
+      rtn += Utils.getFileSeparator();
+      rtn += Utils.getFilename(inputFilePath);
+      rtn += "_outputNetlist";
+      rtn += ".json";
+    }
+    return rtn;
   }
 
   protected static void writeJsonForNetlist(
       final DNACompilerRuntimeEnv runEnv, final Netlist netlist, final String inputFilePath) {
-    String outputNetlistFilePath = null;
-    outputNetlistFilePath = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
-    if (outputNetlistFilePath == null) {
-      outputNetlistFilePath = "";
-      outputNetlistFilePath += runEnv.getOptionValue(ArgString.OUTPUTDIR);
-      outputNetlistFilePath += Utils.getFileSeparator();
-      outputNetlistFilePath += Utils.getFilename(inputFilePath);
-      outputNetlistFilePath += "_outputNetlist";
-      outputNetlistFilePath += ".json";
-    }
+    final String outputNetlistFilePath = Main.getOutputNetlistFilePath(runEnv, inputFilePath);
     NetlistUtils.writeJsonForNetlist(netlist, outputNetlistFilePath);
   }
 
+  /**
+   * Writes the netlist in the compact binary format of {@link NetlistCodec} next to the JSON
+   * netlist, if the CHECKPOINTNETLIST argument is present. The path follows the same rules as the
+   * JSON netlist, with its ".json" extension, if any, replaced by ".bin".
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @param netlist The netlist.
+   * @param inputFilePath The path of the input file.
+   */
+  protected static void writeCheckpointForNetlist(
+      final DNACompilerRuntimeEnv runEnv, final Netlist netlist, final String inputFilePath) {
+    if (runEnv.hasOption(DNACompilerArgString.CHECKPOINTNETLIST)) {
+      String checkpointFilePath = Main.getOutputNetlistFilePath(runEnv, inputFilePath);
+      if (checkpointFilePath.endsWith(".json")) {
+        checkpointFilePath = checkpointFilePath.substring(0, checkpointFilePath.length() - 5);
+      }
+      checkpointFilePath += ".bin";
+      NetlistUtils.writeBinaryForNetlist(netlist, checkpointFilePath);
+    }
+  }
+
   /**
    * Setup the logger using the DNACompilerRuntimeEnv defined by parameter {@code runEnv}.
    *
    * @param runEnv The DNACompilerRuntimeEnv.
    */
   protected static void setupLogger(final DNACompilerRuntimeEnv runEnv) {
-    String logfile = runEnv.getOptionValue(ArgString.LOGFILENAME);
-    if (logfile == null) {
-      logfile = "log.log";
-    }
-    logfile = runEnv.getOptionValue(ArgString.OUTPUTDIR) + Utils.getFileSeparator() + logfile;
     // the logger will write to the specified file
-    System.setProperty("logfile.name", logfile);
+    System.setProperty(Main.S_LOGFILE, Main.getLogFilename(runEnv));
+    Main.logger = LogManager.getLogger(Main.class);
+  }
+
+  /**
+   * Setup the logger of the current thread using the DNACompilerRuntimeEnv defined by parameter
+   * {@code runEnv}. The path of the log file is held in the thread context rather than a system
+   * property, so that concurrent runs in one JVM each write their own log file.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   */
+  protected static void setupThreadLogger(final DNACompilerRuntimeEnv runEnv) {
+    ThreadContext.put(Main.S_LOGFILE, Main.getLogFilename(runEnv));
     Main.logger = LogManager.getLogger(Main.class);
   }
 
+  /**
+   * Returns the path of the log file of the DNACompilerRuntimeEnv defined by parameter {@code
+   * runEnv}.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @return The path of the log file.
+   */
+  protected static String getLogFilename(final DNACompilerRuntimeEnv runEnv) {
+    String rtn = runEnv.getOptionValue(ArgString.LOGFILENAME);
+    if (rtn == null) {
+      rtn = "log.log";
+    }
+    rtn = runEnv.getOptionValue(ArgString.OUTPUTDIR) + Utils.getFileSeparator() + rtn;
+    return rtn;
+  }
+
   /**
    * Returns the {@link Logger}.
    *
@@ -269,4 +349,7 @@ public class Main {
   }
 
   private static Logger logger;
+
+  /** The system property, or thread context key, of the path of the log file. */
+  public static final String S_LOGFILE = "logfile.name";
 }
@@ -27,4 +27,9 @@ import org.cellocad.v2.common.application.runtime.environment.ApplicationArgDesc
  * @author Vincent Mirian
  * @date 2018-05-21
  */
-public class DNACompilerArgDescription extends ApplicationArgDescription {}
+public class DNACompilerArgDescription extends ApplicationArgDescription {
+
+  /** String representing the CHECKPOINTNETLIST command line argument description. */
+  public static final String CHECKPOINTNETLIST_DESCRIPTION =
+      "also write the netlist of each stage in binary format";
+}
@@ -28,4 +28,8 @@ import org.cellocad.v2.common.application.runtime.environment.ApplicationArgStri
  * @author Vincent Mirian
  * @date 2018-05-21
  */
-public class DNACompilerArgString extends ApplicationArgString {}
+public class DNACompilerArgString extends ApplicationArgString {
+
+  /** String referencing the CHECKPOINTNETLIST command line argument. */
+  public static final String CHECKPOINTNETLIST = "checkpointNetlist";
+}
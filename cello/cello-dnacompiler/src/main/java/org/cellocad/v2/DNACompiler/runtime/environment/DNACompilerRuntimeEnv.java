@@ -19,6 +19,8 @@
 
 package org.cellocad.v2.DNACompiler.runtime.environment;
 
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
 import org.cellocad.v2.common.application.runtime.environment.ApplicationRuntimeEnv;
 
 /**
@@ -43,7 +45,21 @@ public class DNACompilerRuntimeEnv extends ApplicationRuntimeEnv {
   @Override
   protected void setOptions() {
     super.setOptions();
-    // uncomment the line below to add options
-    // Options options = this.getOptions();
+    final Options options = getOptions();
+    options.addOption(getCheckpointNetlistOption());
+  }
+
+  /**
+   * Getter for the CHECKPOINTNETLIST Option.
+   *
+   * @return The CHECKPOINTNETLIST Option for this instance.
+   */
+  protected Option getCheckpointNetlistOption() {
+    final Option rtn =
+        new Option(
+            DNACompilerArgString.CHECKPOINTNETLIST,
+            false,
+            DNACompilerArgDescription.CHECKPOINTNETLIST_DESCRIPTION);
+    return rtn;
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchMain}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class BatchMainTest {
+
+  private ObjectNode getDefaults(final String prefix, final String library) throws IOException {
+    final ObjectNode rtn = mapper.createObjectNode();
+    rtn.put(
+        StageArgString.USERCONSTRAINTSFILE,
+        Utils.getResource("lib/ucf/" + prefix + "/" + library + ".UCF.json").getFile());
+    rtn.put(
+        StageArgString.INPUTSENSORFILE,
+        Utils.getResource("lib/input/" + prefix + "/" + library + ".input.json").getFile());
+    rtn.put(
+        StageArgString.OUTPUTDEVICEFILE,
+        Utils.getResource("lib/output/" + prefix + "/" + library + ".output.json").getFile());
+    rtn.put(ArgString.PYTHONENV, "python");
+    return rtn;
+  }
+
+  private ObjectNode getJob(final String id, final String netlist) {
+    final ObjectNode rtn = mapper.createObjectNode();
+    rtn.put("id", id);
+    rtn.put(StageArgString.INPUTNETLIST, netlist);
+    return rtn;
+  }
+
+  /**
+   * Writes a manifest of jobs on the same target data, runs it on two workers, and returns the
+   * status line of each job by id.
+   */
+  private Map<String, JsonNode> runManifest(final int numFailures, final ObjectNode... jobs)
+      throws IOException {
+    final ObjectNode manifest = mapper.createObjectNode();
+    manifest.set("defaults", getDefaults("Eco", "Eco1C1G1T1"));
+    manifest.putArray("jobs").addAll(Arrays.asList(jobs));
+    final File file = new File(outputDir, "manifest.json");
+    mapper.writeValue(file, manifest);
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    assertEquals(numFailures, batch.runManifest(file, os));
+    final Map<String, JsonNode> rtn = new HashMap<>();
+    for (final String line : os.toString(StandardCharsets.UTF_8.name()).split("\n")) {
+      final JsonNode status = mapper.readTree(line);
+      rtn.put(status.get("id").asText(), status);
+    }
+    assertEquals(jobs.length, rtn.size());
+    return rtn;
+  }
+
+  private void assertJobSucceeded(final Map<String, JsonNode> statuses, final String id) {
+    final JsonNode status = statuses.get(id);
+    assertEquals("ok", status.get("status").asText());
+    assertTrue(status.get("elapsed").asLong() >= 0);
+    final File dir = new File(outputDir, id);
+    assertTrue(new File(dir, id + "_outputNetlist.json").isFile());
+    assertTrue(new File(dir, "log.log").isFile());
+  }
+
+  /**
+   * Creates the output directory of the batch and a batch of two workers.
+   *
+   * @throws IOException Unable to create the output directory.
+   */
+  @Before
+  public void init() throws IOException {
+    outputDir = Files.createTempDirectory("cello_").toFile();
+    batch = new BatchMain(2, outputDir);
+  }
+
+  @After
+  public void shutdown() {
+    batch.shutdown();
+  }
+
+  @Test
+  public void runManifest_TwoJobsOnSameTargetData_ShouldSucceedInOwnOutputDirs()
+      throws IOException {
+    final Map<String, JsonNode> statuses =
+        runManifest(
+            0,
+            getJob("and", Utils.getResource("and.v").getFile()),
+            getJob("xor", Utils.getResource("xor.v").getFile()));
+    assertJobSucceeded(statuses, "and");
+    assertJobSucceeded(statuses, "xor");
+  }
+
+  @Test
+  public void runManifest_FailingJobNextToValidJob_ShouldOnlyFailThatJob() throws IOException {
+    final Map<String, JsonNode> statuses =
+        runManifest(
+            1,
+            getJob("and", Utils.getResource("and.v").getFile()),
+            getJob("missing", new File(outputDir, "missing.v").getPath()));
+    assertJobSucceeded(statuses, "and");
+    final JsonNode status = statuses.get("missing");
+    assertEquals("error", status.get("status").asText());
+    assertTrue(status.has("message"));
+  }
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private File outputDir;
+  private BatchMain batch;
+}
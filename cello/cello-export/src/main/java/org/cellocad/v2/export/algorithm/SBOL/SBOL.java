@@ -27,7 +27,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -217,11 +219,11 @@ public class SBOL extends EXAlgorithm {
             final Part part = getTargetDataInstance().getParts().findCObjectByName(str);
             AssignableDevice ad = getTargetDataInstance().getAssignableDeviceByName(str);
             if (part != null) {
-              SBOLUtils.addPartDefinition(part, document, getSbhFrontend());
+              SBOLUtils.addPartDefinition(part, document, getSbhFrontend(), componentUris);
               continue;
             }
             if (ad != null) {
-              SBOLUtils.addDeviceDefinition(ad, document, getSbhFrontend());
+              SBOLUtils.addDeviceDefinition(ad, document, getSbhFrontend(), componentUris);
               continue;
             }
             final String nodeName = component.getNode();
@@ -233,7 +235,7 @@ public class SBOL extends EXAlgorithm {
             final Collection<String> parts = SBOL.getFlattenedPartList(sd);
             for (final String partName : parts) {
               final Part c = (Part) getDnaComponentByName(partName);
-              SBOLUtils.addPartDefinition(c, document, getSbhFrontend());
+              SBOLUtils.addPartDefinition(c, document, getSbhFrontend(), componentUris);
             }
           }
         }
@@ -317,7 +319,7 @@ public class SBOL extends EXAlgorithm {
               // Component
               final String cDisplayId = co.getName() + "_Component";
               final AccessType cAccess = AccessType.PUBLIC;
-              final URI cDefinitionURI = co.getUri();
+              final URI cDefinitionURI = SBOLUtils.getUri(co, componentUris);
               final org.sbolstandard.core2.Component c =
                   cd.createComponent(cDisplayId, cAccess, cDefinitionURI);
 
@@ -366,6 +368,7 @@ public class SBOL extends EXAlgorithm {
       throws SynBioHubException, SBOLValidationException, CelloException {
     final SBOLDocument document = new SBOLDocument();
     document.setDefaultURIprefix("http://cellocad.org/v2");
+    componentUris.clear();
 
     addComponentDefinitions(document);
     addTranscriptionalUnitDefinitions(document);
@@ -474,7 +477,7 @@ public class SBOL extends EXAlgorithm {
               final DnaComponent dnaComponent = getDnaComponentByName(name);
               seq += SBOLDataUtils.getDnaSequence(dnaComponent);
               componentDisplayId = dnaComponent.getName() + "_Component";
-              componentDefinitionId = dnaComponent.getUri();
+              componentDefinitionId = SBOLUtils.getUri(dnaComponent, componentUris);
               final AccessType componentAccess = AccessType.PUBLIC;
               final org.sbolstandard.core2.Component c =
                   cd.createComponent(componentDisplayId, componentAccess, componentDefinitionId);
@@ -513,7 +516,7 @@ public class SBOL extends EXAlgorithm {
             final String name = component.getPartAtIdx(0);
             final DnaComponent dnaComponent = getDnaComponentByName(name);
             componentDisplayId = dnaComponent.getName() + "_Component";
-            componentDefinitionId = dnaComponent.getUri();
+            componentDefinitionId = SBOLUtils.getUri(dnaComponent, componentUris);
             final AccessType componentAccess = AccessType.PUBLIC;
             final org.sbolstandard.core2.Component c =
                 cd.createComponent(componentDisplayId, componentAccess, componentDefinitionId);
@@ -851,6 +854,12 @@ public class SBOL extends EXAlgorithm {
 
   private EXTargetDataInstance targetDataInstance;
 
+  /*
+   * The target data may be shared with other designs compiled in this process, so the URIs of the
+   * component definitions of this document are recorded here rather than on its parts.
+   */
+  private final Map<String, URI> componentUris = new HashMap<>();
+
   /**
    * Returns the {@link Logger} for the <i>SBOL</i> algorithm.
    *
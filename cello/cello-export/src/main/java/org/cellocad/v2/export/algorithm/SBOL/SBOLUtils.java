@@ -20,8 +20,10 @@
 package org.cellocad.v2.export.algorithm.SBOL;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Set;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.DnaComponent;
 import org.cellocad.v2.common.target.data.data.Part;
 import org.cellocad.v2.export.algorithm.SBOL.data.SBOLDataUtils;
 import org.sbolstandard.core2.ComponentDefinition;
@@ -40,20 +42,41 @@ import org.synbiohub.frontend.SynBioHubFrontend;
  */
 public class SBOLUtils {
 
+  /**
+   * Returns the URI of the component definition of {@code component} recorded in {@code uris}, or
+   * the URI of {@code component} in the target data if none was recorded.
+   *
+   * @param component The component.
+   * @param uris The URIs recorded by the current export, by component name.
+   * @return The URI of the component definition of {@code component}.
+   */
+  public static URI getUri(final DnaComponent component, final Map<String, URI> uris) {
+    URI rtn = uris.get(component.getName());
+    if (rtn == null) {
+      rtn = component.getUri();
+    }
+    return rtn;
+  }
+
   /**
    * Add a component definition of {@code part} to {@code document}. Use SynBioHub definition if
    * available, add sequences if found.
    *
    * @param part The part to add.
    * @param document The {@link SBOLDocument} to add the {@link ComponentDefinition}.
+   * @param uris The URIs recorded by the current export, by component name. The URI of the
+   *     definition of {@code part} is recorded here rather than on the shared target data.
    * @throws SynBioHubException unable to fetch SBOL from SynBioHub for {@code part}.
    * @throws SBOLValidationException unable to create component definition.
    */
   public static ComponentDefinition addPartDefinition(
-      final Part part, final SBOLDocument document, final SynBioHubFrontend sbh)
+      final Part part,
+      final SBOLDocument document,
+      final SynBioHubFrontend sbh,
+      final Map<String, URI> uris)
       throws SynBioHubException, SBOLValidationException {
     ComponentDefinition rtn = null;
-    final URI uri = part.getUri();
+    final URI uri = SBOLUtils.getUri(part, uris);
     if (uri != null) {
       rtn = document.getComponentDefinition(uri);
       if (rtn != null) {
@@ -67,7 +90,7 @@ public class SBOLUtils {
     }
 
     if (rtn != null) {
-      part.setUri(uri);
+      uris.put(part.getName(), uri);
       document.createCopy(rtn);
       final Set<Sequence> sequences = rtn.getSequences();
       if (sequences != null) {
@@ -77,7 +100,7 @@ public class SBOLUtils {
       }
     } else {
       rtn = document.createComponentDefinition(part.getName(), "1", ComponentDefinition.DNA_REGION);
-      part.setUri(rtn.getIdentity());
+      uris.put(part.getName(), rtn.getIdentity());
       final Sequence sequence =
           document.createSequence(
               part.getName() + "_sequence", SBOLDataUtils.getDnaSequence(part), Sequence.IUPAC_DNA);
@@ -117,13 +140,17 @@ public class SBOLUtils {
    *
    * @param device The device to add.
    * @param document The <i>SBOLDocument</i> to add the <i>ComponentDefinition</i>.
+   * @param uris The URIs recorded by the current export, by component name.
    * @throws SynBioHubException unable to fetch SBOL from SynBioHub for <i>device</i>
    * @throws SBOLValidationException unable to create component definition.
    */
   public static ComponentDefinition addDeviceDefinition(
-      final AssignableDevice device, final SBOLDocument document, final SynBioHubFrontend sbh)
+      final AssignableDevice device,
+      final SBOLDocument document,
+      final SynBioHubFrontend sbh,
+      final Map<String, URI> uris)
       throws SynBioHubException, SBOLValidationException {
-    final URI uri = device.getUri();
+    final URI uri = SBOLUtils.getUri(device, uris);
     ComponentDefinition rtn = null;
 
     if (uri != null) {
@@ -150,7 +177,7 @@ public class SBOLUtils {
     } else {
       rtn =
           document.createComponentDefinition(device.getName(), "1", ComponentDefinition.DNA_REGION);
-      device.setUri(rtn.getIdentity());
+      uris.put(device.getName(), rtn.getIdentity());
       final Sequence sequence =
           document.createSequence(
               device.getName() + "_sequence",
@@ -39,7 +39,6 @@ import org.cellocad.MIT.dnacompiler.Gate;
 import org.cellocad.MIT.dnacompiler.Wire;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.SinkDFS;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
@@ -131,9 +130,9 @@ public class NetSynthUtils {
     }
     rtn += Utils.getNewLine();
     LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
-    final SinkDFS<NetlistNode, NetlistEdge, Netlist> DFS = new SinkDFS<>(netlist);
-    NetlistNode node = null;
-    while ((node = DFS.getNextVertex()) != null) {
+    final int[] order = netlist.getSinkDfsOrder();
+    for (int n = 0; n < order.length; n++) {
+      final NetlistNode node = netlist.getVertexAtIdx(order[n]);
       if (LSResultsUtils.isPrimaryInput(node)) {
         continue;
       }
@@ -20,6 +20,7 @@
 package org.cellocad.v2.logicSynthesis.runtime;
 
 import java.io.File;
+import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.Utils;
@@ -103,6 +104,11 @@ public class Main {
         new LSRuntimeObject(stage, td, netlistConstraint, netlist, results, runEnv);
     LS.setName("logicSynthesis");
     LS.execute();
+    try {
+      results.close();
+    } catch (final IOException e) {
+      throw new CelloException("Unable to write results.", e);
+    }
     // Write Netlist
     String outputFilename = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
     if (outputFilename == null) {
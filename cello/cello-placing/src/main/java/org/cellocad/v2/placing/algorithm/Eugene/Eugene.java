@@ -37,7 +37,6 @@ import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
 import org.cellocad.v2.common.runtime.environment.ArgString;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.CircuitRules;
@@ -169,10 +168,9 @@ public class Eugene extends PLAlgorithm {
   }
 
   private void setDevices() {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(getNetlist());
-    NetlistNode node = null;
-    node = BFS.getNextVertex();
-    while (node != null) {
+    final int[] order = getNetlist().getSinkBfsOrder();
+    for (int i = 0; i < order.length; i++) {
+      final NetlistNode node = getNetlist().getVertexAtIdx(order[i]);
       final Collection<StructureDevice> devices =
           EugeneUtils.getDevices(
               node, getTargetDataInstance());
@@ -180,7 +178,6 @@ public class Eugene extends PLAlgorithm {
       for (final StructureDevice d : devices) {
         getDeviceNameNetlistNodeMap().put(d.getName(), node);
       }
-      node = BFS.getNextVertex();
     }
   }
 
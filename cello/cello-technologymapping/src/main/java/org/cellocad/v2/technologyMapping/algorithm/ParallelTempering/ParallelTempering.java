@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.ParallelTempering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+
+/**
+ * The implementation of the <i>ParallelTempering</i> algorithm in the <i>technologyMapping</i>
+ * stage. Replicas of the <i>SimulatedAnnealing</i> chain run concurrently, one per rung of a
+ * geometric temperature ladder, and periodically exchange rungs with their neighbors using the
+ * Metropolis criterion. A final quench at zero temperature is applied to every replica, and the
+ * best replica is kept.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class ParallelTempering extends SimulatedAnnealing {
+
+  /** Set parameter values of the algorithm. */
+  @Override
+  protected void setParameterValues() {
+    super.setParameterValues();
+    Boolean present = false;
+
+    present = getAlgorithmProfile().getIntParameter("NumReplicas").getFirst();
+    if (present) {
+      setNumReplicas(getAlgorithmProfile().getIntParameter("NumReplicas").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("NumExchanges").getFirst();
+    if (present) {
+      setNumExchanges(getAlgorithmProfile().getIntParameter("NumExchanges").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("StepsPerExchange").getFirst();
+    if (present) {
+      setStepsPerExchange(getAlgorithmProfile().getIntParameter("StepsPerExchange").getSecond());
+    }
+  }
+
+  /** Validate parameter values of the algorithm. */
+  @Override
+  protected void validateParameterValues() {
+    super.validateParameterValues();
+    if (getNumReplicas() == null || getNumReplicas() <= 0) {
+      setNumReplicas(Runtime.getRuntime().availableProcessors());
+    }
+    if (getNumExchanges() == null || getNumExchanges() < 0) {
+      setNumExchanges(100);
+    }
+    if (getStepsPerExchange() == null || getStepsPerExchange() <= 0) {
+      setStepsPerExchange(10);
+    }
+  }
+
+  /**
+   * Returns the temperature ladder, hottest first, spaced geometrically between {@code
+   * MaxTemperature} and {@code MinTemperature}.
+   *
+   * @param numRungs The number of rungs.
+   * @return The temperature ladder.
+   */
+  double[] getTemperatures(final int numRungs) {
+    final double[] rtn = new double[numRungs];
+    if (numRungs == 1) {
+      rtn[0] = getMinTemperature();
+      return rtn;
+    }
+    final double ratio = getMinTemperature() / getMaxTemperature();
+    for (int i = 0; i < numRungs; i++) {
+      rtn[i] = getMaxTemperature() * Math.pow(ratio, (double) i / (numRungs - 1));
+    }
+    return rtn;
+  }
+
+  /**
+   * Runs {@code numSteps} steps of every replica at the temperature of its rung, concurrently.
+   *
+   * @param executor The executor.
+   * @param replicas The replicas.
+   * @param replicaAt The index of the replica at each rung.
+   * @param temperatures The temperature of each rung.
+   * @param numSteps The number of steps.
+   * @throws CelloException Unable to run a replica.
+   */
+  private void sweep(
+      final ExecutorService executor,
+      final List<SimulatedAnnealingChain> replicas,
+      final int[] replicaAt,
+      final double[] temperatures,
+      final int numSteps)
+      throws CelloException {
+    final List<Sweep> tasks = new ArrayList<>();
+    for (int i = 0; i < replicaAt.length; i++) {
+      tasks.add(new Sweep(replicas.get(replicaAt[i]), temperatures[i], numSteps));
+    }
+    invokeAll(executor, tasks);
+  }
+
+  /**
+   * Attempts to exchange the replicas of neighboring rungs {@code (k, k + 1)} for every {@code k}
+   * of the given parity. The exchange is accepted with probability {@code min(1, exp((s_j - s_i) *
+   * (1 / t_k - 1 / t_{k + 1})))}, where {@code s_i} and {@code s_j} are the scores of the replicas
+   * at rungs {@code k} and {@code k + 1}.
+   *
+   * @param replicas The replicas.
+   * @param replicaAt The index of the replica at each rung.
+   * @param temperatures The temperature of each rung.
+   * @param parity The parity of the lower rung of each pair.
+   * @param random The random number generator.
+   * @param attempts The number of attempted exchanges for each pair of rungs.
+   * @param accepts The number of accepted exchanges for each pair of rungs.
+   */
+  void exchange(
+      final List<SimulatedAnnealingChain> replicas,
+      final int[] replicaAt,
+      final double[] temperatures,
+      final int parity,
+      final RandomSource random,
+      final int[] attempts,
+      final int[] accepts) {
+    for (int k = parity; k + 1 < replicaAt.length; k += 2) {
+      final Double scoreI = replicas.get(replicaAt[k]).getScore();
+      final Double scoreJ = replicas.get(replicaAt[k + 1]).getScore();
+      final double delta = (scoreJ - scoreI) * (1.0 / temperatures[k] - 1.0 / temperatures[k + 1]);
+      attempts[k]++;
+      if (delta >= 0.0 || random.nextDouble() < Math.exp(delta)) {
+        final int temp = replicaAt[k];
+        replicaAt[k] = replicaAt[k + 1];
+        replicaAt[k + 1] = temp;
+        accepts[k]++;
+      }
+    }
+  }
+
+  /**
+   * Run the (core) algorithm.
+   *
+   * @throws CelloException Unable to run the (core) algorithm.
+   */
+  @Override
+  protected void run() throws CelloException {
+    logDebug("Running the (core) algorithm.");
+
+    // input node assignment
+    assignInputNodes();
+    // output node assignment
+    assignOutputNodes();
+
+    final List<SimulatedAnnealingChain> replicas = createChains(getNumReplicas());
+    final int numRungs = replicas.size();
+    final double[] temperatures = getTemperatures(numRungs);
+    final int[] replicaAt = new int[numRungs];
+    for (int i = 0; i < numRungs; i++) {
+      replicaAt[i] = i;
+    }
+    final int[] attempts = new int[numRungs];
+    final int[] accepts = new int[numRungs];
+    final RandomSource random = getRandom().split();
+
+    final ExecutorService executor = createExecutor(numRungs);
+    try {
+      for (int i = 0; i < getNumExchanges(); i++) {
+        sweep(executor, replicas, replicaAt, temperatures, getStepsPerExchange());
+        exchange(replicas, replicaAt, temperatures, i % 2, random, attempts, accepts);
+      }
+      // quench
+      sweep(executor, replicas, replicaAt, new double[numRungs], getQuenchSteps());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int k = 0; k + 1 < numRungs; k++) {
+      logInfo(
+          "Exchange rate %.4g <-> %.4g: %d of %d",
+          temperatures[k],
+          temperatures[k + 1],
+          accepts[k],
+          attempts[k]);
+    }
+
+    keepBestChain(replicas);
+  }
+
+  /**
+   * Returns the {@link Logger} for the <i>ParallelTempering</i> algorithm.
+   *
+   * @return The {@link Logger} for the <i>ParallelTempering</i> algorithm.
+   */
+  @Override
+  protected Logger getLogger() {
+    return ParallelTempering.logger;
+  }
+
+  private static final Logger logger = LogManager.getLogger(ParallelTempering.class);
+
+  /*
+   * Sweep
+   */
+  /**
+   * Runs a number of steps of a replica at a fixed temperature, initializing the replica first if
+   * needed.
+   */
+  private static class Sweep implements Callable<Void> {
+
+    Sweep(final SimulatedAnnealingChain replica, final double temperature, final int numSteps) {
+      this.replica = replica;
+      this.temperature = temperature;
+      this.numSteps = numSteps;
+    }
+
+    @Override
+    public Void call() throws CelloException {
+      if (replica.getTMActivityEvaluation() == null) {
+        replica.initialize();
+      }
+      for (int i = 0; i < numSteps; i++) {
+        replica.step(temperature);
+      }
+      return null;
+    }
+
+    private final SimulatedAnnealingChain replica;
+    private final double temperature;
+    private final int numSteps;
+  }
+
+  /**
+   * Getter for {@code numReplicas}.
+   *
+   * @return The value of {@code numReplicas}.
+   */
+  protected Integer getNumReplicas() {
+    return numReplicas;
+  }
+
+  /**
+   * Setter for {@code numReplicas}.
+   *
+   * @param numReplicas The value to set {@code numReplicas}.
+   */
+  protected void setNumReplicas(final Integer numReplicas) {
+    this.numReplicas = numReplicas;
+  }
+
+  private Integer numReplicas;
+
+  /**
+   * Getter for {@code numExchanges}.
+   *
+   * @return The value of {@code numExchanges}.
+   */
+  protected Integer getNumExchanges() {
+    return numExchanges;
+  }
+
+  /**
+   * Setter for {@code numExchanges}.
+   *
+   * @param numExchanges The value to set {@code numExchanges}.
+   */
+  protected void setNumExchanges(final Integer numExchanges) {
+    this.numExchanges = numExchanges;
+  }
+
+  private Integer numExchanges;
+
+  /**
+   * Getter for {@code stepsPerExchange}.
+   *
+   * @return The value of {@code stepsPerExchange}.
+   */
+  protected Integer getStepsPerExchange() {
+    return stepsPerExchange;
+  }
+
+  /**
+   * Setter for {@code stepsPerExchange}.
+   *
+   * @param stepsPerExchange The value to set {@code stepsPerExchange}.
+   */
+  protected void setStepsPerExchange(final Integer stepsPerExchange) {
+    this.stepsPerExchange = stepsPerExchange;
+  }
+
+  private Integer stepsPerExchange;
+}
@@ -19,12 +19,21 @@
 
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObjectCollection;
@@ -34,8 +43,6 @@ import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
 import org.cellocad.v2.common.runtime.environment.ArgString;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.DeviceRules;
-import org.cellocad.v2.common.target.data.data.Gate;
-import org.cellocad.v2.common.target.data.data.Input;
 import org.cellocad.v2.common.target.data.data.InputSensor;
 import org.cellocad.v2.common.target.data.data.OutputDevice;
 import org.cellocad.v2.results.common.Result;
@@ -43,7 +50,6 @@ import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
 import org.cellocad.v2.results.technologyMapping.CytometryPlotUtils;
@@ -53,7 +59,10 @@ import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.results.technologyMapping.cytometry.TMCytometryEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.TMAlgorithm;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
-import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.checkpoint.CheckpointWriter;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockCache;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingScheduleFactory;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.SimulatedAnnealingResultsUtils;
@@ -114,21 +123,129 @@ public class SimulatedAnnealing extends TMAlgorithm {
     final TMTargetDataInstance tdi = new TMTargetDataInstance(getTargetData());
     setTargetDataInstance(tdi);
     setDeviceRules(SimulatedAnnealingTargetDataUtils.getDeviceRules(getTargetData()));
+    setRoadBlockCache(new RoadBlockCache(getDeviceRules(), tdi));
   }
 
   /** Set parameter values of the algorithm. */
   @Override
-  protected void setParameterValues() {}
+  protected void setParameterValues() {
+    Boolean present = false;
+
+    present = getAlgorithmProfile().getIntParameter("NumChains").getFirst();
+    if (present) {
+      setNumChains(getAlgorithmProfile().getIntParameter("NumChains").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("NumThreads").getFirst();
+    if (present) {
+      setNumThreads(getAlgorithmProfile().getIntParameter("NumThreads").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("Schedule").getFirst();
+    if (present) {
+      setSchedule(getAlgorithmProfile().getStringParameter("Schedule").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("MaxTemperature").getFirst();
+    if (present) {
+      setMaxTemperature(getAlgorithmProfile().getDoubleParameter("MaxTemperature").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("MinTemperature").getFirst();
+    if (present) {
+      setMinTemperature(getAlgorithmProfile().getDoubleParameter("MinTemperature").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Steps").getFirst();
+    if (present) {
+      setSteps(getAlgorithmProfile().getIntParameter("Steps").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("StepsPerGate").getFirst();
+    if (present) {
+      setStepsPerGate(getAlgorithmProfile().getIntParameter("StepsPerGate").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("QuenchSteps").getFirst();
+    if (present) {
+      setQuenchSteps(getAlgorithmProfile().getIntParameter("QuenchSteps").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("StagnationSteps").getFirst();
+    if (present) {
+      setStagnationSteps(getAlgorithmProfile().getIntParameter("StagnationSteps").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getFirst();
+    if (present) {
+      setTargetAcceptance(getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("NumReheats").getFirst();
+    if (present) {
+      setNumReheats(getAlgorithmProfile().getIntParameter("NumReheats").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("CheckpointInterval").getFirst();
+    if (present) {
+      setCheckpointInterval(
+          getAlgorithmProfile().getIntParameter("CheckpointInterval").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Seed").getFirst();
+    if (present) {
+      setSeed(getAlgorithmProfile().getIntParameter("Seed").getSecond().longValue());
+    }
+    // the command line seed takes precedence over the profile
+    if (getRuntimeEnv().hasOption(ArgString.SEED)) {
+      final String value = getRuntimeEnv().getOptionValue(ArgString.SEED);
+      try {
+        setSeed(Long.parseLong(value));
+      } catch (final NumberFormatException e) {
+        throw new RuntimeException(String.format("Invalid seed: '%s'.", value), e);
+      }
+    }
+  }
 
   /** Validate parameter values of the algorithm. */
   @Override
-  protected void validateParameterValues() {}
+  protected void validateParameterValues() {
+    if (getNumChains() == null || getNumChains() <= 0) {
+      setNumChains(1);
+    }
+    if (getNumThreads() == null || getNumThreads() < 0) {
+      setNumThreads(0);
+    }
+    if (!AnnealingScheduleFactory.isValidName(getSchedule())) {
+      setSchedule(AnnealingScheduleFactory.S_GEOMETRIC);
+    }
+    if (getMinTemperature() == null || getMinTemperature() <= 0.0) {
+      setMinTemperature(0.001);
+    }
+    if (getMaxTemperature() == null || getMaxTemperature() < getMinTemperature()) {
+      setMaxTemperature(100.0);
+    }
+    if (getSteps() == null || getSteps() <= 0) {
+      setSteps(600);
+    }
+    if (getStepsPerGate() == null || getStepsPerGate() < 0) {
+      setStepsPerGate(0);
+    }
+    if (getQuenchSteps() == null || getQuenchSteps() < 0) {
+      setQuenchSteps(100);
+    }
+    if (getStagnationSteps() == null || getStagnationSteps() < 0) {
+      setStagnationSteps(0);
+    }
+    if (getTargetAcceptance() == null
+        || getTargetAcceptance() < 0.0
+        || getTargetAcceptance() > 1.0) {
+      setTargetAcceptance(0.5);
+    }
+    if (getNumReheats() == null || getNumReheats() < 0) {
+      setNumReheats(2);
+    }
+    if (getSeed() == null) {
+      setSeed(SimulatedAnnealing.L_SEED);
+    }
+    if (getCheckpointInterval() == null || getCheckpointInterval() < 0) {
+      setCheckpointInterval(0);
+    }
+  }
 
   /** Perform preprocessing. */
   protected void setTruthTable() {
     LSResultNetlistUtils.setVertexTypeUsingLSResult(getNetlist());
     setLSLogicEvaluation(new LSLogicEvaluation(getNetlist()));
-    logInfo(getLSLogicEvaluation().toString());
+    logInfo(() -> getLSLogicEvaluation().toString());
   }
 
   protected void assignInputNodes() {
@@ -187,73 +304,12 @@ public class SimulatedAnnealing extends TMAlgorithm {
     }
   }
 
-  protected void assignNodes() {
-    // assign random gates
-    final GateManager GM = getGateManager();
-    final Netlist netlist = getNetlist();
-    for (int i = 0; i < netlist.getNumVertex(); i++) {
-      final NetlistNode node = netlist.getVertexAtIdx(i);
-      if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
-        continue;
-      }
-      final ResultNetlistNodeData data = node.getResultNetlistNodeData();
-      final Gate gate = GM.getRandomGateFromUnassignedGroup();
-      if (gate == null) {
-        throw new RuntimeException("Gate assignment error!");
-      }
-      data.setDevice(gate);
-      GM.setAssignedGate(gate);
-    }
-  }
-
   @Override
   protected void preprocessing() throws CelloException {
-    random = new Random(SimulatedAnnealing.L_SEED);
-    // GateManager
-    setGateManager(new GateManager(getTargetDataInstance().getGates()));
     // truth table
     setTruthTable();
-  }
-
-  private void swap(final NetlistNode nA, final Gate gA, final NetlistNode nB, final Gate gB) {
-    if (nA == null && nB != null) {
-      getGateManager().setUnassignedGate(gB);
-      nB.getResultNetlistNodeData().setDevice(gA);
-      getGateManager().setAssignedGate(gA);
-    }
-    if (nA != null && nB == null) {
-      getGateManager().setUnassignedGate(gA);
-      nA.getResultNetlistNodeData().setDevice(gB);
-      getGateManager().setAssignedGate(gB);
-    }
-    if (nA != null && nB != null) {
-      nA.getResultNetlistNodeData().setDevice(gB);
-      nB.getResultNetlistNodeData().setDevice(gA);
-    }
-  }
-
-  private NetlistNode getRandomNode() {
-    NetlistNode rtn = null;
-    while (rtn == null) {
-      final int rand = random(0, getNetlist().getNumVertex() - 1);
-      final NetlistNode temp = getNetlist().getVertexAtIdx(rand);
-      if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
-        rtn = temp;
-      }
-    }
-    return rtn;
-  }
-
-  private String logReadout(final String name, final String fmt, final Object... objects) {
-    String rtn = "";
-    final String prefix = "%-16s: ";
-    Object[] args = new Object[objects.length + 1];
-    args[0] = name;
-    for (int i = 0; i < objects.length; i++) {
-      args[i + 1] = objects[i];
-    }
-    rtn = String.format(prefix + fmt, args);
-    return rtn;
+    // random
+    setRandom(new RandomSource(getSeed()));
   }
 
   /**
@@ -269,178 +325,233 @@ public class SimulatedAnnealing extends TMAlgorithm {
     assignInputNodes();
     // output node assignment
     assignOutputNodes();
-    // logic node assignment
-    assignNodes();
-    initEdges();
-    setNodeDeviceNames();
-
-    final int totalSteps = STEPS + T0_STEPS;
-
-    final Double numTandem =
-        SimulatedAnnealingUtils.getNumTandemPair(this.getNetlist()).doubleValue();
-    final Double numSwappable =
-        SimulatedAnnealingUtils.getNumSwappableGate(this.getNetlist()).doubleValue();
-    final Double thresh = numTandem / (numTandem + numSwappable);
 
-    logDebug("Swap likelihoods:");
-    logDebug(logReadout("tandem order", "%.2f", thresh));
-    logDebug(logReadout("gate", "%.2f", 1 - thresh));
+    final List<SimulatedAnnealingChain> chains = createChains(getNumChains());
 
-    setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
-    setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
-
-    // evaluate
-    for (int j = 0; j < totalSteps; ++j) {
-      logDebug("---------------------------");
-      logDebug(logReadout("iter num", "%d of %d", j, totalSteps));
-
-      final Double logTemperature = LOGMAX - j * LOGINC;
-      Double temperature = Math.pow(10, logTemperature);
-
-      if (j >= STEPS) {
-        temperature = 0.0;
+    // anneal
+    try (CheckpointWriter writer = new CheckpointWriter(getLogger())) {
+      if (getCheckpointInterval() > 0) {
+        setCheckpoints(chains, writer);
       }
+      if (chains.size() == 1) {
+        chains.get(0).call();
+      } else {
+        runChains(chains);
+      }
+    }
 
-      logDebug(logReadout("temp", "%.2f", temperature));
-      logDebug(logReadout("log(temp)", "%.2f", logTemperature));
-
-      final Double before =
-          ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation());
-
-      Boolean rejectImmediately = false;
-      Boolean tandemSwap = false;
+    keepBestChain(chains);
+  }
 
-      Double r = Math.random();
-      if (r < thresh) {
-        tandemSwap = true;
-      }
+  /**
+   * Returns the checkpoint file of the chain defined by parameter {@code idx}, in the output
+   * directory.
+   *
+   * @param idx The index of the chain.
+   * @return The checkpoint file of the chain.
+   */
+  protected File getCheckpointFile(final int idx) {
+    final String filename = Utils.getFilename(getNetlist().getInputFilename());
+    final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
+    return new File(
+        outputDir + Utils.getFileSeparator() + filename + String.format("_tm_chain%d.ckpt", idx));
+  }
 
-      // If gate <-> library swap
-      NetlistNode nodeA = null;
-      Gate gateA = getGateManager().getRandomGateFromUnassignedGroup();
-      if (gateA == null) {
-        nodeA = getRandomNode();
-        gateA = (Gate) nodeA.getResultNetlistNodeData().getDevice();
-      }
-      NetlistNode nodeB = null;
-      Gate gateB = null;
-      do {
-        nodeB = getRandomNode();
-      } while (nodeB == nodeA);
-      gateB = (Gate) nodeB.getResultNetlistNodeData().getDevice();
-
-      // If promoter order swap
-      NetlistNode swapNode = null;
-      if (!tandemSwap) {
-        logDebug("Gate swap.");
-        logDebug(logReadout("gateA", "%s", gateA.getName()));
-        logDebug(logReadout("gateB", "%s", gateB.getName()));
-        Integer numBlockedBefore =
-            RoadBlockUtils.getNumberOfRoadBlockedNodes(
-                this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
-        swap(nodeA, gateA, nodeB, gateB);
-        Integer numBlockedAfter =
-            RoadBlockUtils.getNumberOfRoadBlockedNodes(
-                this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
-        if (numBlockedAfter > numBlockedBefore) {
-          swap(nodeA, gateB, nodeB, gateA);
-          continue;
-        }
-      } else {
-        swapNode = SimulatedAnnealingUtils.getRandomNodeWithTandemPair(this.getNetlist());
-        final Boolean blockedBefore =
-            RoadBlockUtils.isNodeRoadBlocked(
-                swapNode, this.getDeviceRules(), this.getTargetDataInstance());
-        logDebug("Promoter order swap.");
-        logDebug(logReadout("node", "%s", swapNode.getName()));
-        SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        final Boolean blockedAfter =
-            RoadBlockUtils.isNodeRoadBlocked(
-                swapNode, this.getDeviceRules(), this.getTargetDataInstance());
-        if (!blockedBefore && blockedAfter) {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-          continue;
+  /**
+   * Restores each chain from its checkpoint file, if one exists and matches the chain, and enables
+   * periodic checkpoints of each chain.
+   *
+   * @param chains The chains.
+   * @param writer The checkpoint writer.
+   * @throws CelloException Unable to restore a chain.
+   */
+  protected void setCheckpoints(
+      final List<SimulatedAnnealingChain> chains, final CheckpointWriter writer)
+      throws CelloException {
+    for (final SimulatedAnnealingChain chain : chains) {
+      final File file = getCheckpointFile(chain.getIdx());
+      if (file.isFile()) {
+        try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+          if (chain.restore(in)) {
+            logInfo("Resuming chain %d from checkpoint '%s'.", chain.getIdx(), file);
+          } else {
+            logInfo("Ignoring checkpoint '%s' of a different run.", file);
+          }
+        } catch (final IOException e) {
+          logInfo("Ignoring unreadable checkpoint '%s'.", file);
         }
       }
+      chain.setCheckpoint(file, writer, getCheckpointInterval() * 1000L);
+    }
+  }
 
-      // evaluate
-      final TMActivityEvaluation tmae =
-          new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation());
-      final Double after = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), tmae);
-      logDebug(logReadout("old score", "%.2f", before));
-      logDebug(logReadout("new score", "%.2f", after));
-
-      // toxicity
-      final TMToxicityEvaluation tmte =
-          new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation());
-      logDebug(logReadout("old growth", "%.2f", getTMToxicityEvaluation().getMinimumGrowth()));
-      logDebug(logReadout("new growth", "%.2f", tmte.getMinimumGrowth()));
-      if (getTMToxicityEvaluation().getMinimumGrowth() < SimulatedAnnealing.D_GROWTH_THRESHOLD) {
-        if (tmte.getMinimumGrowth() > getTMToxicityEvaluation().getMinimumGrowth()) {
-          setTMToxicityEvaluation(tmte);
-          setTMActivityEvaluation(tmae);
-          logDebug(
-              "Accept immediately -- already below mimimum growth threshold, and this swap helps.");
-          continue;
-        } else {
-          // undo
-          rejectImmediately = true;
-          logDebug(
-              "Reject immediately -- already below mimimum growth threshold, and this swap does not help.");
-        }
-      } else if (tmte.getMinimumGrowth() < SimulatedAnnealing.D_GROWTH_THRESHOLD) {
-        // undo
-        rejectImmediately = true;
-        logDebug("Reject immediately -- below minimum growth threshold.");
-      }
+  /**
+   * Returns the factory of the annealing schedule of each chain.
+   *
+   * @return The factory of the annealing schedule of each chain.
+   */
+  protected AnnealingScheduleFactory getScheduleFactory() {
+    return new AnnealingScheduleFactory(
+        getSchedule(),
+        getMaxTemperature(),
+        getMinTemperature(),
+        getSteps(),
+        getStepsPerGate(),
+        getTargetAcceptance(),
+        getNumReheats());
+  }
 
-      // undo
-      if (rejectImmediately) {
-        if (!tandemSwap) {
-          swap(nodeA, gateB, nodeB, gateA);
-        } else {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        }
-        continue;
+  /**
+   * Creates the chains. The random number generator of each chain is split, in order, from the
+   * generator of this instance. A single chain works on the netlist of this instance, otherwise
+   * each chain works on its own copy.
+   *
+   * @param numChains The number of chains.
+   * @return The chains.
+   */
+  protected List<SimulatedAnnealingChain> createChains(final int numChains) {
+    final List<SimulatedAnnealingChain> rtn = new ArrayList<>();
+    for (int i = 0; i < numChains; i++) {
+      Netlist netlist = getNetlist();
+      LSLogicEvaluation lsle = getLSLogicEvaluation();
+      if (numChains > 1) {
+        netlist = new Netlist(getNetlist());
+        LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+        lsle = new LSLogicEvaluation(netlist);
       }
+      final SimulatedAnnealingChain chain =
+          new SimulatedAnnealingChain(
+              i,
+              netlist,
+              lsle,
+              getTargetDataInstance(),
+              getRoadBlockCache(),
+              getRandom().split(),
+              getScheduleFactory(),
+              getQuenchSteps(),
+              getStagnationSteps(),
+              getLogger());
+      rtn.add(chain);
+    }
+    return rtn;
+  }
 
-      // accept or reject
-      final Double probability = Math.exp((after - before) / temperature); // e^b
-      final Double ep = Math.random();
+  /**
+   * Copies the assignment of the best chain onto the netlist of this instance and sets the
+   * evaluations and gate manager accordingly.
+   *
+   * @param chains The chains.
+   * @throws CelloException Unable to evaluate the best assignment.
+   */
+  protected void keepBestChain(final List<SimulatedAnnealingChain> chains)
+      throws CelloException {
+    SimulatedAnnealingChain best = null;
+    for (final SimulatedAnnealingChain chain : chains) {
+      logInfo("Chain %d score: %.2f", chain.getIdx(), chain.getScore());
+      if (best == null || isBetter(chain, best)) {
+        best = chain;
+      }
+    }
+    logInfo("Keeping chain %d.", best.getIdx());
+    if (best.getNetlist() != getNetlist()) {
+      SimulatedAnnealingUtils.copyAssignment(best.getNetlist(), getNetlist());
+      setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
+      setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+    } else {
+      setTMActivityEvaluation(best.getTMActivityEvaluation());
+      setTMToxicityEvaluation(best.getTMToxicityEvaluation());
+    }
+    setGateManager(best.getGateManager());
+    setNodeDeviceNames();
+  }
 
-      logDebug(logReadout("p_accept", "%.2f", probability));
-      logDebug(logReadout("epsilon", "%.2f", ep));
+  /**
+   * Runs the chains concurrently on a fixed thread pool.
+   *
+   * @param chains The chains.
+   * @throws CelloException Unable to run a chain.
+   */
+  private void runChains(final List<SimulatedAnnealingChain> chains) throws CelloException {
+    final ExecutorService executor = createExecutor(chains.size());
+    try {
+      invokeAll(executor, chains);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-      if (ep < probability) {
-        // accept
-        logDebug("Accept swap.");
-        setTMToxicityEvaluation(tmte);
-        setTMActivityEvaluation(tmae);
-      } else {
-        // undo
-        logDebug("Reject swap.");
-        if (!tandemSwap) {
-          swap(nodeA, gateB, nodeB, gateA);
-        } else {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        }
-      }
+  /**
+   * Creates a fixed thread pool of {@code NumThreads} threads, or one thread per available
+   * processor if {@code NumThreads} is zero, but no more threads than there are tasks.
+   *
+   * @param numTasks The number of tasks to run concurrently.
+   * @return The thread pool.
+   */
+  protected ExecutorService createExecutor(final int numTasks) {
+    int numThreads = getNumThreads();
+    if (numThreads <= 0) {
+      numThreads = Runtime.getRuntime().availableProcessors();
     }
+    numThreads = Math.min(numThreads, numTasks);
+    logInfo("Running %d chains on %d threads.", numTasks, numThreads);
+    return Executors.newFixedThreadPool(numThreads);
   }
 
-  protected void initEdges() {
-    for (int i = 0; i < getNetlist().getNumVertex(); i++) {
-      final NetlistNode node = getNetlist().getVertexAtIdx(i);
-      final AssignableDevice device = node.getResultNetlistNodeData().getDevice();
-      if (node.getNumInEdge() > device.getStructure().getInputs().size()) {
-        throw new RuntimeException("Device structure does not have enough inputs.");
+  /**
+   * Runs the given tasks on the executor and waits for all of them to complete.
+   *
+   * @param <T> The result type of the tasks.
+   * @param executor The executor.
+   * @param tasks The tasks.
+   * @return The results of the tasks, in order.
+   * @throws CelloException Unable to run a task.
+   */
+  protected <T> List<T> invokeAll(
+      final ExecutorService executor, final List<? extends Callable<T>> tasks)
+      throws CelloException {
+    final List<T> rtn = new ArrayList<>();
+    try {
+      final List<Future<T>> futures = executor.invokeAll(tasks);
+      for (final Future<T> future : futures) {
+        rtn.add(future.get());
       }
-      for (int j = 0; j < node.getNumInEdge(); j++) {
-        final NetlistEdge e = node.getInEdgeAtIdx(j);
-        final Input input = device.getStructure().getInputs().get(j);
-        e.getResultNetlistEdgeData().setInput(input);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException("Interrupted while running annealing chains.", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof CelloException) {
+        throw (CelloException) cause;
       }
+      throw new CelloException("Unable to run annealing chain.", cause);
     }
+    return rtn;
+  }
+
+  /**
+   * Whether chain {@code a} holds a better assignment than chain {@code b}. Fewer roadblocked
+   * nodes are preferred first, then a minimum growth above the threshold, then a higher score. Ties
+   * keep the chain with the lower index, so the result does not depend on thread scheduling.
+   *
+   * @param a A chain.
+   * @param b Another chain.
+   * @return Whether chain {@code a} holds a better assignment than chain {@code b}.
+   */
+  private Boolean isBetter(final SimulatedAnnealingChain a, final SimulatedAnnealingChain b) {
+    Boolean rtn = false;
+    final int blockedA = a.getNumRoadBlockedNodes();
+    final int blockedB = b.getNumRoadBlockedNodes();
+    if (blockedA != blockedB) {
+      rtn = blockedA < blockedB;
+    } else if (!a.isAboveGrowthThreshold().equals(b.isAboveGrowthThreshold())) {
+      rtn = a.isAboveGrowthThreshold();
+    } else if (a.getScore().equals(b.getScore())) {
+      rtn = a.getIdx() < b.getIdx();
+    } else {
+      rtn = a.getScore() > b.getScore();
+    }
+    return rtn;
   }
 
   /** Set the deviceName property of each node. */
@@ -515,9 +626,7 @@ public class SimulatedAnnealing extends TMAlgorithm {
    */
   @Override
   protected void postprocessing() throws CelloException {
-    Integer numBlocked =
-        RoadBlockUtils.getNumberOfRoadBlockedNodes(
-            this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
+    Integer numBlocked = getRoadBlockCache().getNumberOfRoadBlockedNodes(getNetlist());
     if (numBlocked > 0) {
       throw new CelloException("Circuit has roadblocked nodes.");
     }
@@ -533,10 +642,10 @@ public class SimulatedAnnealing extends TMAlgorithm {
     // toxicity
     setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
     writeToxicityResult(outputFile);
-    logInfo(getTMToxicityEvaluation().toString());
+    logInfo(() -> getTMToxicityEvaluation().toString());
     // activity
     writeActivityResult(outputFile);
-    logInfo(getTMActivityEvaluation().toString());
+    logInfo(() -> getTMActivityEvaluation().toString());
     for (int i = 0; i < getNetlist().getNumVertex(); i++) {
       final NetlistNode node = getNetlist().getVertexAtIdx(i);
       final AssignableDevice gate = node.getResultNetlistNodeData().getDevice();
@@ -552,9 +661,8 @@ public class SimulatedAnnealing extends TMAlgorithm {
       }
     }
     logInfo(
-        String.format(
-            "Score: %.2f",
-            ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation())));
+        "Score: %.2f",
+        ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation()));
     // plots
     logInfo("Generating plots");
     ResponsePlotUtils.generatePlots(
@@ -775,29 +883,306 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
   private DeviceRules deviceRules;
 
-  /*
-   * Random
+  /**
+   * Getter for {@code roadBlockCache}.
+   *
+   * @return The value of {@code roadBlockCache}.
    */
-  private int random(final int min, final int max) {
-    int rtn = 0;
-    final Random random = getRandom();
-    rtn = random.nextInt(max - min + 1) + min;
-    return rtn;
+  protected RoadBlockCache getRoadBlockCache() {
+    return roadBlockCache;
+  }
+
+  /**
+   * Setter for {@code roadBlockCache}.
+   *
+   * @param roadBlockCache The value to set {@code roadBlockCache}.
+   */
+  protected void setRoadBlockCache(final RoadBlockCache roadBlockCache) {
+    this.roadBlockCache = roadBlockCache;
   }
 
-  private Random getRandom() {
+  private RoadBlockCache roadBlockCache;
+
+  /**
+   * Getter for {@code numChains}.
+   *
+   * @return The value of {@code numChains}.
+   */
+  protected Integer getNumChains() {
+    return numChains;
+  }
+
+  /**
+   * Setter for {@code numChains}.
+   *
+   * @param numChains The value to set {@code numChains}.
+   */
+  protected void setNumChains(final Integer numChains) {
+    this.numChains = numChains;
+  }
+
+  private Integer numChains;
+
+  /**
+   * Getter for {@code numThreads}.
+   *
+   * @return The value of {@code numThreads}.
+   */
+  protected Integer getNumThreads() {
+    return numThreads;
+  }
+
+  /**
+   * Setter for {@code numThreads}.
+   *
+   * @param numThreads The value to set {@code numThreads}.
+   */
+  protected void setNumThreads(final Integer numThreads) {
+    this.numThreads = numThreads;
+  }
+
+  private Integer numThreads;
+
+  /**
+   * Getter for {@code schedule}.
+   *
+   * @return The value of {@code schedule}.
+   */
+  protected String getSchedule() {
+    return schedule;
+  }
+
+  /**
+   * Setter for {@code schedule}.
+   *
+   * @param schedule The value to set {@code schedule}.
+   */
+  protected void setSchedule(final String schedule) {
+    this.schedule = schedule;
+  }
+
+  private String schedule;
+
+  /**
+   * Getter for {@code maxTemperature}.
+   *
+   * @return The value of {@code maxTemperature}.
+   */
+  protected Double getMaxTemperature() {
+    return maxTemperature;
+  }
+
+  /**
+   * Setter for {@code maxTemperature}.
+   *
+   * @param maxTemperature The value to set {@code maxTemperature}.
+   */
+  protected void setMaxTemperature(final Double maxTemperature) {
+    this.maxTemperature = maxTemperature;
+  }
+
+  private Double maxTemperature;
+
+  /**
+   * Getter for {@code minTemperature}.
+   *
+   * @return The value of {@code minTemperature}.
+   */
+  protected Double getMinTemperature() {
+    return minTemperature;
+  }
+
+  /**
+   * Setter for {@code minTemperature}.
+   *
+   * @param minTemperature The value to set {@code minTemperature}.
+   */
+  protected void setMinTemperature(final Double minTemperature) {
+    this.minTemperature = minTemperature;
+  }
+
+  private Double minTemperature;
+
+  /**
+   * Getter for {@code steps}.
+   *
+   * @return The value of {@code steps}.
+   */
+  protected Integer getSteps() {
+    return steps;
+  }
+
+  /**
+   * Setter for {@code steps}.
+   *
+   * @param steps The value to set {@code steps}.
+   */
+  protected void setSteps(final Integer steps) {
+    this.steps = steps;
+  }
+
+  private Integer steps;
+
+  /**
+   * Getter for {@code stepsPerGate}.
+   *
+   * @return The value of {@code stepsPerGate}.
+   */
+  protected Integer getStepsPerGate() {
+    return stepsPerGate;
+  }
+
+  /**
+   * Setter for {@code stepsPerGate}.
+   *
+   * @param stepsPerGate The value to set {@code stepsPerGate}.
+   */
+  protected void setStepsPerGate(final Integer stepsPerGate) {
+    this.stepsPerGate = stepsPerGate;
+  }
+
+  private Integer stepsPerGate;
+
+  /**
+   * Getter for {@code quenchSteps}.
+   *
+   * @return The value of {@code quenchSteps}.
+   */
+  protected Integer getQuenchSteps() {
+    return quenchSteps;
+  }
+
+  /**
+   * Setter for {@code quenchSteps}.
+   *
+   * @param quenchSteps The value to set {@code quenchSteps}.
+   */
+  protected void setQuenchSteps(final Integer quenchSteps) {
+    this.quenchSteps = quenchSteps;
+  }
+
+  private Integer quenchSteps;
+
+  /**
+   * Getter for {@code stagnationSteps}.
+   *
+   * @return The value of {@code stagnationSteps}.
+   */
+  protected Integer getStagnationSteps() {
+    return stagnationSteps;
+  }
+
+  /**
+   * Setter for {@code stagnationSteps}.
+   *
+   * @param stagnationSteps The value to set {@code stagnationSteps}.
+   */
+  protected void setStagnationSteps(final Integer stagnationSteps) {
+    this.stagnationSteps = stagnationSteps;
+  }
+
+  private Integer stagnationSteps;
+
+  /**
+   * Getter for {@code targetAcceptance}.
+   *
+   * @return The value of {@code targetAcceptance}.
+   */
+  protected Double getTargetAcceptance() {
+    return targetAcceptance;
+  }
+
+  /**
+   * Setter for {@code targetAcceptance}.
+   *
+   * @param targetAcceptance The value to set {@code targetAcceptance}.
+   */
+  protected void setTargetAcceptance(final Double targetAcceptance) {
+    this.targetAcceptance = targetAcceptance;
+  }
+
+  private Double targetAcceptance;
+
+  /**
+   * Getter for {@code numReheats}.
+   *
+   * @return The value of {@code numReheats}.
+   */
+  protected Integer getNumReheats() {
+    return numReheats;
+  }
+
+  /**
+   * Setter for {@code numReheats}.
+   *
+   * @param numReheats The value to set {@code numReheats}.
+   */
+  protected void setNumReheats(final Integer numReheats) {
+    this.numReheats = numReheats;
+  }
+
+  private Integer numReheats;
+
+  /**
+   * Getter for {@code seed}.
+   *
+   * @return The value of {@code seed}.
+   */
+  protected Long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Setter for {@code seed}.
+   *
+   * @param seed The value to set {@code seed}.
+   */
+  protected void setSeed(final Long seed) {
+    this.seed = seed;
+  }
+
+  private Long seed;
+
+  /**
+   * Getter for {@code checkpointInterval}.
+   *
+   * @return The minimum interval between checkpoints of a chain, in seconds, or zero if chains are
+   *     not checkpointed.
+   */
+  protected Integer getCheckpointInterval() {
+    return checkpointInterval;
+  }
+
+  /**
+   * Setter for {@code checkpointInterval}.
+   *
+   * @param checkpointInterval The value to set {@code checkpointInterval}.
+   */
+  protected void setCheckpointInterval(final Integer checkpointInterval) {
+    this.checkpointInterval = checkpointInterval;
+  }
+
+  private Integer checkpointInterval;
+
+  /**
+   * Getter for {@code random}.
+   *
+   * @return The root random number generator of the run, seeded with {@code seed}.
+   */
+  protected RandomSource getRandom() {
     return random;
   }
 
-  private Random random;
-  private static long L_SEED = 21;
-  private static final double D_GROWTH_THRESHOLD = 0.75;
+  /**
+   * Setter for {@code random}.
+   *
+   * @param random The value to set {@code random}.
+   */
+  protected void setRandom(final RandomSource random) {
+    this.random = random;
+  }
+
+  private RandomSource random;
 
-  private static final Double MAXTEMP = 100.0;
-  private static final Double MINTEMP = 0.001;
-  private static final Integer STEPS = 600;
-  private static final Double LOGMAX = Math.log10(MAXTEMP);
-  private static final Double LOGMIN = Math.log10(MINTEMP);
-  private static final Double LOGINC = (LOGMAX - LOGMIN) / STEPS;
-  private static final Integer T0_STEPS = 100;
+  protected static final long L_SEED = 21;
 }
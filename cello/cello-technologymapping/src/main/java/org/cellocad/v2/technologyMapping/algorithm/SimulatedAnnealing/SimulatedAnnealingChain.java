@@ -0,0 +1,1034 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.checkpoint.CheckpointWriter;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockCache;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingSchedule;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingScheduleFactory;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.TMScoreEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+
+/**
+ * A single annealing chain of the <i>SimulatedAnnealing</i> algorithm. A chain owns its netlist,
+ * gate manager, random number generator, and evaluations, so that independent chains can run
+ * concurrently on copies of the same netlist. The target data is shared between chains and is
+ * only read.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class SimulatedAnnealingChain implements Callable<Double> {
+
+  /**
+   * Initializes a newly created {@link SimulatedAnnealingChain}.
+   *
+   * @param idx The index of the chain.
+   * @param netlist The netlist, with input and output nodes already assigned.
+   * @param lsle The logic evaluation of {@code netlist}.
+   * @param tdi The target data instance.
+   * @param roadBlockCache The roadblock cache.
+   * @param random The random number generator of the chain. The gate manager of the chain draws
+   *     from a generator split from it.
+   * @param scheduleFactory The factory of the annealing schedule of the chain.
+   * @param numQuenchSteps The number of steps at zero temperature after the schedule.
+   * @param stagnationSteps The number of steps without improvement of the best score after which
+   *     the schedule is stopped early, or zero to always run the full schedule.
+   * @param logger The logger.
+   */
+  public SimulatedAnnealingChain(
+      final int idx,
+      final Netlist netlist,
+      final LSLogicEvaluation lsle,
+      final TMTargetDataInstance tdi,
+      final RoadBlockCache roadBlockCache,
+      final RandomSource random,
+      final AnnealingScheduleFactory scheduleFactory,
+      final int numQuenchSteps,
+      final int stagnationSteps,
+      final Logger logger) {
+    this.idx = idx;
+    this.netlist = netlist;
+    this.lsle = lsle;
+    this.targetDataInstance = tdi;
+    this.roadBlockCache = roadBlockCache;
+    this.random = random;
+    this.gateManager = new GateManager(tdi.getGates(), random.split());
+    this.scheduleFactory = scheduleFactory;
+    this.numQuenchSteps = numQuenchSteps;
+    this.stagnationSteps = stagnationSteps;
+    this.logger = logger;
+  }
+
+  /*
+   * Assignment
+   */
+  private void assignNodes() {
+    // assign random gates
+    final GateManager GM = getGateManager();
+    for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+      final NetlistNode node = getNetlist().getVertexAtIdx(i);
+      if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
+        continue;
+      }
+      final ResultNetlistNodeData data = node.getResultNetlistNodeData();
+      final Gate gate = GM.getRandomGateFromUnassignedGroup();
+      if (gate == null) {
+        throw new RuntimeException("Gate assignment error!");
+      }
+      data.setDevice(gate);
+      GM.setAssignedGate(gate);
+    }
+  }
+
+  private void initEdges() {
+    for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+      final NetlistNode node = getNetlist().getVertexAtIdx(i);
+      final AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+      if (node.getNumInEdge() > device.getStructure().getInputs().size()) {
+        throw new RuntimeException("Device structure does not have enough inputs.");
+      }
+      for (int j = 0; j < node.getNumInEdge(); j++) {
+        final NetlistEdge e = node.getInEdgeAtIdx(j);
+        final Input input = device.getStructure().getInputs().get(j);
+        e.getResultNetlistEdgeData().setInput(input);
+      }
+    }
+  }
+
+  /**
+   * Assigns a random gate to each logic node, evaluates the initial assignment, and counts its
+   * roadblocked nodes.
+   *
+   * @throws CelloException Unable to initialize the chain.
+   */
+  public void initialize() throws CelloException {
+    assignNodes();
+    initEdges();
+    evaluate();
+    numBlocked = getNumRoadBlockedNodes();
+  }
+
+  private void evaluate() throws CelloException {
+    final Double numTandem = SimulatedAnnealingUtils.getNumTandemPair(getNetlist()).doubleValue();
+    final Double numSwappable =
+        SimulatedAnnealingUtils.getNumSwappableGate(getNetlist()).doubleValue();
+    thresh = numTandem / (numTandem + numSwappable);
+    logDebug("Swap likelihoods:");
+    logReadout("tandem order", "%.2f", thresh);
+    logReadout("gate", "%.2f", 1 - thresh);
+    setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
+    setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+    setTMScoreEvaluation(
+        new TMScoreEvaluation(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation()));
+  }
+
+  /**
+   * Returns the nodes that are assigned a gate, in netlist order.
+   *
+   * @return The nodes that are assigned a gate, in netlist order.
+   */
+  private List<NetlistNode> getLogicNodes() {
+    if (logicNodes == null) {
+      logicNodes = new ArrayList<>();
+      for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+        final NetlistNode node = getNetlist().getVertexAtIdx(i);
+        if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+          logicNodes.add(node);
+        }
+      }
+    }
+    return logicNodes;
+  }
+
+  private List<NetlistNode> logicNodes;
+
+  private static String getInputName(final NetlistEdge edge) {
+    final Input input = edge.getResultNetlistEdgeData().getInput();
+    return input == null ? null : input.getName();
+  }
+
+  /*
+   * Best
+   */
+  private void saveBest() {
+    bestScore = getScore();
+    bestBlocked = numBlocked;
+    bestAboveGrowth = isAboveGrowthThreshold();
+    atBest = true;
+    final List<NetlistNode> nodes = getLogicNodes();
+    if (bestDevices == null) {
+      bestDevices = new String[nodes.size()];
+      bestInputs = new String[getNetlist().getNumEdge()];
+    }
+    for (int i = 0; i < bestDevices.length; i++) {
+      bestDevices[i] = nodes.get(i).getResultNetlistNodeData().getDevice().getName();
+    }
+    for (int i = 0; i < bestInputs.length; i++) {
+      bestInputs[i] = SimulatedAnnealingChain.getInputName(getNetlist().getEdgeAtIdx(i));
+    }
+  }
+
+  /**
+   * Whether the current assignment is better than the best assignment, ranked as chains are
+   * ranked: by the number of roadblocked nodes, then by whether the minimum growth is at or above
+   * the growth threshold, then by score.
+   *
+   * @return Whether the current assignment is better than the best assignment.
+   */
+  private boolean isBetterThanBest() {
+    boolean rtn = false;
+    final boolean above = isAboveGrowthThreshold();
+    if (numBlocked != bestBlocked) {
+      rtn = numBlocked < bestBlocked;
+    } else if (above != bestAboveGrowth) {
+      rtn = above;
+    } else {
+      rtn = getScore() > bestScore;
+    }
+    return rtn;
+  }
+
+  private void updateBest(final boolean accepted) {
+    if (accepted) {
+      atBest = false;
+    }
+    if (accepted && isBetterThanBest()) {
+      sinceBest = 0;
+      saveBest();
+    } else {
+      sinceBest++;
+    }
+  }
+
+  /**
+   * Assigns the best gate of every logic node and the best input of every edge, and evaluates the
+   * assignment.
+   *
+   * @throws CelloException Unable to evaluate the best assignment.
+   */
+  private void restoreBest() throws CelloException {
+    final List<NetlistNode> nodes = getLogicNodes();
+    for (final NetlistNode node : nodes) {
+      getGateManager().setUnassignedGate((Gate) node.getResultNetlistNodeData().getDevice());
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      final Gate gate = getTargetDataInstance().getGates().findCObjectByName(bestDevices[i]);
+      nodes.get(i).getResultNetlistNodeData().setDevice(gate);
+      getGateManager().setAssignedGate(gate);
+    }
+    for (int i = 0; i < bestInputs.length; i++) {
+      final NetlistEdge edge = getNetlist().getEdgeAtIdx(i);
+      Input input = null;
+      if (bestInputs[i] != null) {
+        final AssignableDevice device = edge.getDst().getResultNetlistNodeData().getDevice();
+        input = device.getStructure().getInputs().findCObjectByName(bestInputs[i]);
+      }
+      edge.getResultNetlistEdgeData().setInput(input);
+    }
+    evaluate();
+    numBlocked = bestBlocked;
+    atBest = true;
+  }
+
+  /**
+   * Returns the best score seen by the chain.
+   *
+   * @return The best score seen by the chain, or null if the chain has not started annealing.
+   */
+  public Double getBestScore() {
+    return bestScore;
+  }
+
+  private Double bestScore;
+  private int bestBlocked;
+  private boolean bestAboveGrowth;
+  private int sinceBest;
+  // whether the current assignment is the best assignment
+  private boolean atBest;
+  // the number of roadblocked nodes, and its change by the move of the current step
+  private int numBlocked;
+  private int blockedDelta;
+  // names of the devices and inputs of the best assignment, in netlist order
+  private String[] bestDevices;
+  private String[] bestInputs;
+
+  /*
+   * Checkpoint
+   */
+  /**
+   * Enables periodic checkpoints of the chain. Once at least {@code intervalMillis} milliseconds
+   * have passed since the last checkpoint, the state of the chain is serialized after the current
+   * step and handed to parameter {@code writer}. The checkpoint is discarded when the chain
+   * completes.
+   *
+   * @param file The checkpoint file.
+   * @param writer The checkpoint writer.
+   * @param intervalMillis The minimum interval between checkpoints, in milliseconds.
+   */
+  public void setCheckpoint(
+      final File file, final CheckpointWriter writer, final long intervalMillis) {
+    checkpointFile = file;
+    checkpointWriter = writer;
+    checkpointMillis = intervalMillis;
+    lastCheckpoint = System.currentTimeMillis();
+  }
+
+  private void checkpoint() throws CelloException {
+    if (checkpointWriter == null) {
+      return;
+    }
+    final long now = System.currentTimeMillis();
+    if (now - lastCheckpoint < checkpointMillis) {
+      return;
+    }
+    lastCheckpoint = now;
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      writeCheckpoint(new DataOutputStream(bytes));
+    } catch (final IOException e) {
+      throw new CelloException("Unable to checkpoint chain.", e);
+    }
+    checkpointWriter.submit(checkpointFile, bytes.toByteArray());
+    logReadout("checkpoint", "%d bytes", bytes.size());
+  }
+
+  /**
+   * Writes the state of the chain to the stream defined by parameter {@code out}: the current and
+   * best gate of every logic node, the current and best input of every edge, the state of the
+   * random number generators, the state of the schedule, including its step and temperature, and
+   * the gate pools of the gate manager, including the position of every gate.
+   *
+   * @param out The stream.
+   * @throws IOException Unable to write the state.
+   */
+  public void writeCheckpoint(final DataOutput out) throws IOException {
+    out.writeInt(SimulatedAnnealingChain.I_MAGIC);
+    out.writeInt(SimulatedAnnealingChain.I_VERSION);
+    out.writeInt(getIdx());
+    final List<NetlistNode> nodes = getLogicNodes();
+    out.writeInt(nodes.size());
+    for (int i = 0; i < nodes.size(); i++) {
+      final NetlistNode node = nodes.get(i);
+      SimulatedAnnealingChain.writeString(out, node.getName());
+      SimulatedAnnealingChain.writeString(
+          out, node.getResultNetlistNodeData().getDevice().getName());
+      SimulatedAnnealingChain.writeString(out, bestDevices[i]);
+    }
+    out.writeInt(getNetlist().getNumEdge());
+    for (int i = 0; i < getNetlist().getNumEdge(); i++) {
+      final NetlistEdge edge = getNetlist().getEdgeAtIdx(i);
+      SimulatedAnnealingChain.writeString(out, edge.getName());
+      SimulatedAnnealingChain.writeString(out, SimulatedAnnealingChain.getInputName(edge));
+      SimulatedAnnealingChain.writeString(out, bestInputs[i]);
+    }
+    out.writeLong(getRandom().getSeed());
+    out.writeLong(getRandom().getGamma());
+    out.writeLong(getGateManager().getRandom().getSeed());
+    out.writeLong(getGateManager().getRandom().getGamma());
+    out.writeInt(schedule.getNumSteps());
+    out.writeDouble(schedule.getTemperature());
+    schedule.writeState(out);
+    out.writeInt(quenchStep);
+    out.writeDouble(bestScore);
+    out.writeInt(bestBlocked);
+    out.writeBoolean(bestAboveGrowth);
+    out.writeInt(sinceBest);
+    out.writeBoolean(atBest);
+    getGateManager().writeState(out);
+  }
+
+  /**
+   * Restores the state of the chain from the stream defined by parameter {@code in}, as written by
+   * {@link #writeCheckpoint(DataOutput)} of a chain with the same index, netlist, target data, and
+   * schedule. This method is called instead of {@link #initialize()}, and the chain resumes from
+   * the step after the checkpoint when it is called. Random draws, including draws of a gate by its
+   * position in a gate pool, are those of the chain that was written, so the resumed chain follows
+   * the same trajectory.
+   *
+   * @param in The stream.
+   * @return Whether the state was restored. If false, the checkpoint is of a different chain, and
+   *     the chain is unchanged.
+   * @throws IOException Unable to read the state.
+   * @throws CelloException Unable to evaluate the restored assignment.
+   */
+  public Boolean restore(final DataInput in) throws IOException, CelloException {
+    if (in.readInt() != SimulatedAnnealingChain.I_MAGIC
+        || in.readInt() != SimulatedAnnealingChain.I_VERSION
+        || in.readInt() != getIdx()) {
+      return false;
+    }
+    final List<NetlistNode> nodes = getLogicNodes();
+    if (in.readInt() != nodes.size()) {
+      return false;
+    }
+    final Map<NetlistNode, Gate> gates = new IdentityHashMap<>();
+    final String[] bestDevices = new String[nodes.size()];
+    for (int i = 0; i < nodes.size(); i++) {
+      final String name = SimulatedAnnealingChain.readString(in);
+      final String device = SimulatedAnnealingChain.readString(in);
+      final Gate gate = getTargetDataInstance().getGates().findCObjectByName(device);
+      if (!nodes.get(i).getName().equals(name) || gate == null) {
+        return false;
+      }
+      gates.put(nodes.get(i), gate);
+      bestDevices[i] = SimulatedAnnealingChain.readString(in);
+    }
+    final int numEdge = getNetlist().getNumEdge();
+    if (in.readInt() != numEdge) {
+      return false;
+    }
+    final Input[] inputs = new Input[numEdge];
+    final String[] bestInputs = new String[numEdge];
+    for (int i = 0; i < numEdge; i++) {
+      final NetlistEdge edge = getNetlist().getEdgeAtIdx(i);
+      final String name = SimulatedAnnealingChain.readString(in);
+      final String input = SimulatedAnnealingChain.readString(in);
+      if (!edge.getName().equals(name)) {
+        return false;
+      }
+      if (input != null) {
+        AssignableDevice device = gates.get(edge.getDst());
+        if (device == null) {
+          device = edge.getDst().getResultNetlistNodeData().getDevice();
+        }
+        inputs[i] = device.getStructure().getInputs().findCObjectByName(input);
+        if (inputs[i] == null) {
+          return false;
+        }
+      }
+      bestInputs[i] = SimulatedAnnealingChain.readString(in);
+    }
+    final long seed = in.readLong();
+    final long gamma = in.readLong();
+    final long gateSeed = in.readLong();
+    final long gateGamma = in.readLong();
+    final int numSteps = in.readInt();
+    final double temperature = in.readDouble();
+    final AnnealingSchedule schedule =
+        getScheduleFactory().getSchedule(SimulatedAnnealingUtils.getNumSwappableGate(getNetlist()));
+    if (schedule.getNumSteps() != numSteps) {
+      return false;
+    }
+    schedule.readState(in);
+    final int quenchStep = in.readInt();
+    final double bestScore = in.readDouble();
+    final int bestBlocked = in.readInt();
+    final boolean bestAboveGrowth = in.readBoolean();
+    final int sinceBest = in.readInt();
+    final boolean atBest = in.readBoolean();
+    getGateManager().readState(in);
+    // apply
+    for (final NetlistNode node : nodes) {
+      node.getResultNetlistNodeData().setDevice(gates.get(node));
+    }
+    for (int i = 0; i < numEdge; i++) {
+      getNetlist().getEdgeAtIdx(i).getResultNetlistEdgeData().setInput(inputs[i]);
+    }
+    evaluate();
+    getRandom().setState(seed, gamma);
+    getGateManager().getRandom().setState(gateSeed, gateGamma);
+    this.schedule = schedule;
+    this.quenchStep = quenchStep;
+    this.bestScore = bestScore;
+    this.bestBlocked = bestBlocked;
+    this.bestAboveGrowth = bestAboveGrowth;
+    this.sinceBest = sinceBest;
+    this.atBest = atBest;
+    this.numBlocked = getNumRoadBlockedNodes();
+    this.bestDevices = bestDevices;
+    this.bestInputs = bestInputs;
+    logDebug(
+        "Restored at step %d of %d, temperature %.4g.",
+        schedule.getStep() + quenchStep,
+        numSteps + getNumQuenchSteps(),
+        temperature);
+    return true;
+  }
+
+  private static void writeString(final DataOutput out, final String str) throws IOException {
+    out.writeBoolean(str != null);
+    if (str != null) {
+      out.writeUTF(str);
+    }
+  }
+
+  private static String readString(final DataInput in) throws IOException {
+    String rtn = null;
+    if (in.readBoolean()) {
+      rtn = in.readUTF();
+    }
+    return rtn;
+  }
+
+  private File checkpointFile;
+  private CheckpointWriter checkpointWriter;
+  private long checkpointMillis;
+  private long lastCheckpoint;
+
+  /*
+   * Moves
+   */
+  private void swap(final NetlistNode nA, final Gate gA, final NetlistNode nB, final Gate gB) {
+    if (nA == null && nB != null) {
+      getGateManager().setUnassignedGate(gB);
+      nB.getResultNetlistNodeData().setDevice(gA);
+      getGateManager().setAssignedGate(gA);
+    }
+    if (nA != null && nB == null) {
+      getGateManager().setUnassignedGate(gA);
+      nA.getResultNetlistNodeData().setDevice(gB);
+      getGateManager().setAssignedGate(gB);
+    }
+    if (nA != null && nB != null) {
+      nA.getResultNetlistNodeData().setDevice(gB);
+      nB.getResultNetlistNodeData().setDevice(gA);
+    }
+  }
+
+  private NetlistNode getRandomNode() {
+    NetlistNode rtn = null;
+    while (rtn == null) {
+      final int rand = random(0, getNetlist().getNumVertex() - 1);
+      final NetlistNode temp = getNetlist().getVertexAtIdx(rand);
+      if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
+        rtn = temp;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Undo a swap and restore the activity and toxicity evaluated before it.
+   *
+   * @param tandemSwap Whether the swap was a promoter order swap.
+   * @param swapNode The node whose promoter order was swapped.
+   * @param nA The first node of a gate swap.
+   * @param gA The gate originally assigned to {@code nA}, or the unassigned gate.
+   * @param nB The second node of a gate swap.
+   * @param gB The gate originally assigned to {@code nB}.
+   */
+  private void undo(
+      final Boolean tandemSwap,
+      final NetlistNode swapNode,
+      final NetlistNode nA,
+      final Gate gA,
+      final NetlistNode nB,
+      final Gate gB) {
+    if (!tandemSwap) {
+      swap(nA, gB, nB, gA);
+    } else {
+      SimulatedAnnealingUtils.swapTandemOrder(swapNode);
+    }
+    getTMScoreEvaluation().revert();
+    getTMToxicityEvaluation().revert();
+    getTMActivityEvaluation().revert();
+  }
+
+  /** Accept a swap, its activity and toxicity, and its change of the roadblocked nodes. */
+  private void commit() {
+    getTMScoreEvaluation().commit();
+    getTMToxicityEvaluation().commit();
+    getTMActivityEvaluation().commit();
+    numBlocked += blockedDelta;
+  }
+
+  /**
+   * Proposes a single move at the given temperature, and accepts or rejects it.
+   *
+   * @param temperature The temperature.
+   * @return Whether the move was accepted.
+   * @throws CelloException Unable to propose the move.
+   */
+  public Boolean step(final Double temperature) throws CelloException {
+    Boolean rtn = false;
+
+    final Double before = getScore();
+    final Double growthBefore = getTMToxicityEvaluation().getMinimumGrowth();
+
+    Boolean rejectImmediately = false;
+    Boolean tandemSwap = false;
+    blockedDelta = 0;
+
+    Double r = getRandom().nextDouble();
+    if (r < thresh) {
+      tandemSwap = true;
+    }
+
+    // If gate <-> library swap
+    NetlistNode nodeA = null;
+    Gate gateA = getGateManager().getRandomGateFromUnassignedGroup();
+    if (gateA == null) {
+      nodeA = getRandomNode();
+      gateA = (Gate) nodeA.getResultNetlistNodeData().getDevice();
+    }
+    NetlistNode nodeB = null;
+    Gate gateB = null;
+    do {
+      nodeB = getRandomNode();
+    } while (nodeB == nodeA);
+    gateB = (Gate) nodeB.getResultNetlistNodeData().getDevice();
+
+    // If promoter order swap
+    NetlistNode swapNode = null;
+    final List<NetlistNode> changed = new ArrayList<>();
+    if (!tandemSwap) {
+      logDebug("Gate swap.");
+      logReadout("gateA", "%s", gateA.getName());
+      logReadout("gateB", "%s", gateB.getName());
+      // only the swapped nodes and their fan-out can change roadblock status
+      final List<NetlistNode> swapped = new ArrayList<>();
+      if (nodeA != null) {
+        swapped.add(nodeA);
+      }
+      swapped.add(nodeB);
+      final Collection<NetlistNode> affected =
+          RoadBlockUtils.getNodesAndDownstreamNeighbors(swapped);
+      Integer numBlockedBefore = getRoadBlockCache().getNumberOfRoadBlockedNodes(affected);
+      swap(nodeA, gateA, nodeB, gateB);
+      Integer numBlockedAfter = getRoadBlockCache().getNumberOfRoadBlockedNodes(affected);
+      if (numBlockedAfter > numBlockedBefore) {
+        swap(nodeA, gateB, nodeB, gateA);
+        return rtn;
+      }
+      blockedDelta = numBlockedAfter - numBlockedBefore;
+      changed.addAll(swapped);
+    } else {
+      swapNode = SimulatedAnnealingUtils.getRandomNodeWithTandemPair(getNetlist(), getRandom());
+      final Boolean blockedBefore = getRoadBlockCache().isNodeRoadBlocked(swapNode);
+      logDebug("Promoter order swap.");
+      logReadout("node", "%s", swapNode.getName());
+      SimulatedAnnealingUtils.swapTandemOrder(swapNode);
+      final Boolean blockedAfter = getRoadBlockCache().isNodeRoadBlocked(swapNode);
+      if (!blockedBefore && blockedAfter) {
+        SimulatedAnnealingUtils.swapTandemOrder(swapNode);
+        return rtn;
+      }
+      blockedDelta = (blockedAfter ? 1 : 0) - (blockedBefore ? 1 : 0);
+      changed.add(swapNode);
+    }
+
+    // evaluate only the fan-out cone of the swapped node(s)
+    getTMActivityEvaluation().update(changed);
+    getTMScoreEvaluation().update();
+    final Double after = getScore();
+    logReadout("old score", "%.2f", before);
+    logReadout("new score", "%.2f", after);
+
+    // toxicity
+    getTMToxicityEvaluation().update(changed);
+    final Double growthAfter = getTMToxicityEvaluation().getMinimumGrowth();
+    logReadout("old growth", "%.2f", growthBefore);
+    logReadout("new growth", "%.2f", growthAfter);
+    if (growthBefore < SimulatedAnnealingChain.D_GROWTH_THRESHOLD) {
+      if (growthAfter > growthBefore) {
+        commit();
+        logDebug(
+            "Accept immediately -- already below mimimum growth threshold, and this swap helps.");
+        rtn = true;
+        return rtn;
+      } else {
+        // undo
+        rejectImmediately = true;
+        logDebug(
+            "Reject immediately -- already below mimimum growth threshold, and this swap does not help.");
+      }
+    } else if (growthAfter < SimulatedAnnealingChain.D_GROWTH_THRESHOLD) {
+      // undo
+      rejectImmediately = true;
+      logDebug("Reject immediately -- below minimum growth threshold.");
+    }
+
+    // undo
+    if (rejectImmediately) {
+      undo(tandemSwap, swapNode, nodeA, gateA, nodeB, gateB);
+      return rtn;
+    }
+
+    // accept or reject
+    final Double probability = Math.exp((after - before) / temperature); // e^b
+    final Double ep = getRandom().nextDouble();
+
+    logReadout("p_accept", "%.2f", probability);
+    logReadout("epsilon", "%.2f", ep);
+
+    if (ep < probability) {
+      // accept
+      logDebug("Accept swap.");
+      commit();
+      rtn = true;
+    } else {
+      // undo
+      logDebug("Reject swap.");
+      undo(tandemSwap, swapNode, nodeA, gateA, nodeB, gateB);
+    }
+    return rtn;
+  }
+
+  /**
+   * Initializes the chain, anneals it over its schedule, and quenches it at zero temperature. The
+   * schedule is stopped early if the best score has not improved for {@code stagnationSteps}
+   * steps. A chain restored from a checkpoint resumes where the checkpoint was taken. The best
+   * assignment seen by the chain, ranked as chains are ranked, is assigned at the end.
+   *
+   * @return The score of the best assignment.
+   * @throws CelloException Unable to anneal the chain.
+   */
+  @Override
+  public Double call() throws CelloException {
+    if (schedule == null) {
+      initialize();
+      final int numSwappable = SimulatedAnnealingUtils.getNumSwappableGate(getNetlist());
+      schedule = getScheduleFactory().getSchedule(numSwappable);
+      quenchStep = 0;
+      sinceBest = 0;
+      saveBest();
+    }
+    final int totalSteps = schedule.getNumSteps() + getNumQuenchSteps();
+    while (!schedule.isDone() && !isStagnant()) {
+      final double temperature = schedule.getTemperature();
+      logDebug("---------------------------");
+      logReadout("iter num", "%d of %d", schedule.getStep(), totalSteps);
+      logReadout("temp", "%.2f", temperature);
+      final boolean accepted = step(temperature);
+      schedule.update(accepted);
+      updateBest(accepted);
+      checkpoint();
+    }
+    if (!schedule.isDone() && quenchStep == 0) {
+      logDebug(
+          "Stopping early -- no improvement in %d steps, at step %d of %d.",
+          sinceBest,
+          schedule.getStep(),
+          schedule.getNumSteps());
+    }
+    while (quenchStep < getNumQuenchSteps()) {
+      logDebug("---------------------------");
+      logReadout("iter num", "%d of %d", schedule.getStep() + quenchStep, totalSteps);
+      logReadout("temp", "%.2f", 0.0);
+      final boolean accepted = step(0.0);
+      quenchStep++;
+      updateBest(accepted);
+      checkpoint();
+    }
+    if (!atBest) {
+      restoreBest();
+      logDebug("Restored the best assignment, score %.2f.", getScore());
+    }
+    if (checkpointWriter != null) {
+      checkpointWriter.discard(checkpointFile);
+    }
+    return getScore();
+  }
+
+  private boolean isStagnant() {
+    return getStagnationSteps() > 0 && sinceBest >= getStagnationSteps();
+  }
+
+  private AnnealingSchedule schedule;
+  private int quenchStep;
+
+  /**
+   * Returns the score of the current assignment.
+   *
+   * @return The score of the current assignment.
+   */
+  public Double getScore() {
+    return getTMScoreEvaluation().getScore();
+  }
+
+  /**
+   * Returns the number of roadblocked nodes in the current assignment.
+   *
+   * @return The number of roadblocked nodes in the current assignment.
+   */
+  public Integer getNumRoadBlockedNodes() {
+    return getRoadBlockCache().getNumberOfRoadBlockedNodes(getNetlist());
+  }
+
+  /**
+   * Returns the number of roadblocked nodes in the current assignment, as maintained incrementally
+   * by {@link #step(Double)} from the swapped nodes and their downstream neighbors.
+   *
+   * @return The number of roadblocked nodes in the current assignment.
+   */
+  int getNumBlocked() {
+    return numBlocked;
+  }
+
+  /**
+   * Whether the minimum growth of the current assignment is at or above the growth threshold.
+   *
+   * @return Whether the minimum growth of the current assignment is at or above the growth
+   *     threshold.
+   */
+  public Boolean isAboveGrowthThreshold() {
+    return getTMToxicityEvaluation().getMinimumGrowth()
+        >= SimulatedAnnealingChain.D_GROWTH_THRESHOLD;
+  }
+
+  /*
+   * Log
+   */
+  /**
+   * Logs a named value at the Debug level, e.g. {@code temp            : 0.01}. Nothing is
+   * formatted unless the Debug level is enabled.
+   */
+  private void logReadout(final String name, final String fmt, final Object... objects) {
+    if (!logger.isDebugEnabled()) {
+      return;
+    }
+    final String prefix = "%-16s: ";
+    Object[] args = new Object[objects.length + 1];
+    args[0] = name;
+    for (int i = 0; i < objects.length; i++) {
+      args[i + 1] = objects[i];
+    }
+    logDebug(String.format(prefix + fmt, args));
+  }
+
+  private void logDebug(final String format, final Object... args) {
+    if (logger.isDebugEnabled()) {
+      logDebug(String.format(format, args));
+    }
+  }
+
+  private void logDebug(final String str) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(String.format("[chain %d] %s", getIdx(), str));
+    }
+  }
+
+  private final Logger logger;
+
+  /**
+   * Getter for {@code idx}.
+   *
+   * @return The value of {@code idx}.
+   */
+  public int getIdx() {
+    return idx;
+  }
+
+  private final int idx;
+
+  /**
+   * Getter for {@code netlist}.
+   *
+   * @return The value of {@code netlist}.
+   */
+  public Netlist getNetlist() {
+    return netlist;
+  }
+
+  private final Netlist netlist;
+
+  /**
+   * Getter for {@code lsle}.
+   *
+   * @return The value of {@code lsle}.
+   */
+  public LSLogicEvaluation getLSLogicEvaluation() {
+    return lsle;
+  }
+
+  private final LSLogicEvaluation lsle;
+
+  /**
+   * Getter for {@code targetDataInstance}.
+   *
+   * @return The value of {@code targetDataInstance}.
+   */
+  public TMTargetDataInstance getTargetDataInstance() {
+    return targetDataInstance;
+  }
+
+  private final TMTargetDataInstance targetDataInstance;
+
+  /**
+   * Getter for {@code roadBlockCache}.
+   *
+   * @return The value of {@code roadBlockCache}.
+   */
+  public RoadBlockCache getRoadBlockCache() {
+    return roadBlockCache;
+  }
+
+  private final RoadBlockCache roadBlockCache;
+
+  /**
+   * Getter for {@code gateManager}.
+   *
+   * @return The value of {@code gateManager}.
+   */
+  public GateManager getGateManager() {
+    return gateManager;
+  }
+
+  private final GateManager gateManager;
+
+  /**
+   * Getter for {@code scheduleFactory}.
+   *
+   * @return The value of {@code scheduleFactory}.
+   */
+  public AnnealingScheduleFactory getScheduleFactory() {
+    return scheduleFactory;
+  }
+
+  private final AnnealingScheduleFactory scheduleFactory;
+
+  /**
+   * Getter for {@code numQuenchSteps}.
+   *
+   * @return The value of {@code numQuenchSteps}.
+   */
+  public int getNumQuenchSteps() {
+    return numQuenchSteps;
+  }
+
+  private final int numQuenchSteps;
+
+  /**
+   * Getter for {@code stagnationSteps}.
+   *
+   * @return The value of {@code stagnationSteps}.
+   */
+  public int getStagnationSteps() {
+    return stagnationSteps;
+  }
+
+  private final int stagnationSteps;
+
+  /**
+   * Getter for {@code tmae}.
+   *
+   * @return The value of {@code tmae}.
+   */
+  public TMActivityEvaluation getTMActivityEvaluation() {
+    return tmae;
+  }
+
+  /**
+   * Setter for {@code tmae}.
+   *
+   * @param tmae The value to set {@code tmae}.
+   */
+  protected void setTMActivityEvaluation(final TMActivityEvaluation tmae) {
+    this.tmae = tmae;
+  }
+
+  private TMActivityEvaluation tmae;
+
+  /**
+   * Getter for {@code tmte}.
+   *
+   * @return The value of {@code tmte}.
+   */
+  public TMToxicityEvaluation getTMToxicityEvaluation() {
+    return tmte;
+  }
+
+  /**
+   * Setter for {@code tmte}.
+   *
+   * @param tmte The value to set {@code tmte}.
+   */
+  protected void setTMToxicityEvaluation(final TMToxicityEvaluation tmte) {
+    this.tmte = tmte;
+  }
+
+  private TMToxicityEvaluation tmte;
+
+  /**
+   * Getter for {@code tmse}.
+   *
+   * @return The value of {@code tmse}.
+   */
+  public TMScoreEvaluation getTMScoreEvaluation() {
+    return tmse;
+  }
+
+  /**
+   * Setter for {@code tmse}.
+   *
+   * @param tmse The value to set {@code tmse}.
+   */
+  protected void setTMScoreEvaluation(final TMScoreEvaluation tmse) {
+    this.tmse = tmse;
+  }
+
+  private TMScoreEvaluation tmse;
+
+  private Double thresh;
+
+  /*
+   * Random
+   */
+  private int random(final int min, final int max) {
+    return getRandom().nextInt(min, max);
+  }
+
+  /**
+   * Getter for {@code random}.
+   *
+   * @return The random number generator of the chain.
+   */
+  public RandomSource getRandom() {
+    return random;
+  }
+
+  private final RandomSource random;
+
+  private static final double D_GROWTH_THRESHOLD = 0.75;
+  private static final int I_MAGIC = 0x43454c43;
+  private static final int I_VERSION = 3;
+}
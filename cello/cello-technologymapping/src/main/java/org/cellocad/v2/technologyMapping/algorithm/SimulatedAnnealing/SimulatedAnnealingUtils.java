@@ -29,6 +29,7 @@ import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistEdgeData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistNodeData;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
 
 /**
  * Utility methods for the <i>SimulatedAnnealing</i> algorithm in the <i>technologyMapping</i>
@@ -105,9 +106,10 @@ public class SimulatedAnnealingUtils {
     return rtn;
   }
 
-  static NetlistNode getRandomNodeWithTandemPair(final Netlist netlist) throws CelloException {
+  static NetlistNode getRandomNodeWithTandemPair(final Netlist netlist, final RandomSource random)
+      throws CelloException {
     NetlistNode rtn = null;
-    Double r = Math.random() * getNumTandemPair(netlist);
+    Double r = random.nextDouble() * getNumTandemPair(netlist);
     Integer n = r.intValue() + 1;
     int k = 0;
     for (int i = 0; i < netlist.getNumVertex(); i++) {
@@ -125,6 +127,27 @@ public class SimulatedAnnealingUtils {
     return rtn;
   }
 
+  /**
+   * Copies the device assigned to each node, and the input and promoter order of each edge, of
+   * netlist {@code src} to the node or edge of the same name in netlist {@code dst}.
+   *
+   * @param src The netlist to copy the assignment from.
+   * @param dst The netlist to copy the assignment to.
+   */
+  static void copyAssignment(final Netlist src, final Netlist dst) {
+    for (int i = 0; i < src.getNumVertex(); i++) {
+      final NetlistNode node = src.getVertexAtIdx(i);
+      final NetlistNode other = dst.getVertexByName(node.getName());
+      other.getResultNetlistNodeData().setDevice(node.getResultNetlistNodeData().getDevice());
+    }
+    for (int i = 0; i < src.getNumEdge(); i++) {
+      final NetlistEdge edge = src.getEdgeAtIdx(i);
+      final NetlistEdge other = dst.getEdgeByName(edge.getName());
+      other.getResultNetlistEdgeData().setInput(edge.getResultNetlistEdgeData().getInput());
+      other.setIdx(edge.getIdx());
+    }
+  }
+
   static void swapTandemOrder(NetlistNode node) {
     if (node.getNumInEdge() != 2) {
       throw new NotImplementedException("Only two-input swaps are implemented.");
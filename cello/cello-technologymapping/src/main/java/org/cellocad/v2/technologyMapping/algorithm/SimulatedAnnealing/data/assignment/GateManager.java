@@ -19,22 +19,27 @@
 
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment;
 
-import java.util.ArrayList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.Random;
-import java.util.Set;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
 
 /**
  * A class for managing the gates for the gate assignment in the <i>SimulatedAnnealing</i>
  * algorithm.
  *
+ * <p>Each gate has a dense id, its index in the gates under management, and each group a dense
+ * id. The assigned and unassigned gates, overall and by group, and the groups without an assigned
+ * gate, are each a {@link GatePool}, so that assigning and releasing a gate and every random draw
+ * take constant time and do not allocate.
+ *
  * @author Vincent Mirian
+ * @author agent
  * @date 2018-05-21
  */
 public class GateManager extends CObject {
@@ -42,67 +47,38 @@ public class GateManager extends CObject {
   /*
    * init
    */
-  private void init() {
-    random = new Random(GateManager.L_SEED);
-    gates = new CObjectCollection<>();
-    assignedGates = new CObjectCollection<>();
-    unassignedGates = new CObjectCollection<>();
-    gatesMap = new HashMap<>();
-    numAssignedGatesGroupMap = new HashMap<>();
-    numUnassignedGatesGroupMap = new HashMap<>();
-    assignedGatesMap = new HashMap<>();
-    unassignedGatesMap = new HashMap<>();
-  }
-
-  private void addGroups(
-      final Map<String, CObjectCollection<Gate>> map, final CObjectCollection<Gate> gates) {
-    CObjectCollection<Gate> list = null;
-    for (int i = 0; i < gates.size(); i++) {
+  private void init(final CObjectCollection<Gate> gates) {
+    random = new RandomSource(GateManager.L_SEED);
+    final int numGates = gates.size();
+    this.gates = new Gate[numGates];
+    gateIds = new HashMap<>();
+    groupIds = new HashMap<>();
+    groupOf = new int[numGates];
+    for (int i = 0; i < numGates; i++) {
       final Gate gate = gates.get(i);
-      final String name = gate.getGroup();
-      list = map.get(name);
-      if (list == null) {
-        list = new CObjectCollection<>();
-        map.put(name, list);
+      this.gates[i] = gate;
+      gateIds.put(gate, i);
+      Integer group = groupIds.get(gate.getGroup());
+      if (group == null) {
+        group = groupIds.size();
+        groupIds.put(gate.getGroup(), group);
       }
+      groupOf[i] = group;
     }
-  }
-
-  private void addNumGroups(final Map<String, Integer> map, final CObjectCollection<Gate> gates) {
-    Integer value = 0;
-    for (int i = 0; i < gates.size(); i++) {
-      final Gate gate = gates.get(i);
-      final String name = gate.getGroup();
-      value = map.get(name);
-      if (value == null) {
-        value = new Integer(GateManager.I_ZERO);
-        map.put(name, value);
-      }
+    final int numGroups = groupIds.size();
+    assignedGates = new GatePool(numGates);
+    unassignedGates = new GatePool(numGates);
+    assignedGatesByGroup = new GatePool[numGroups];
+    unassignedGatesByGroup = new GatePool[numGroups];
+    unassignedGroups = new GatePool(numGroups);
+    for (int i = 0; i < numGroups; i++) {
+      assignedGatesByGroup[i] = new GatePool(numGates);
+      unassignedGatesByGroup[i] = new GatePool(numGates);
+      unassignedGroups.add(i);
     }
-  }
-
-  private void addGatesToGroup(
-      final Map<String, CObjectCollection<Gate>> map, final CObjectCollection<Gate> gates) {
-    CObjectCollection<Gate> list = null;
-    for (int i = 0; i < gates.size(); i++) {
-      final Gate gate = gates.get(i);
-      final String name = gate.getGroup();
-      list = map.get(name);
-      if (list == null) {
-        throw new RuntimeException("Group name does not exist!");
-      }
-      list.add(gate);
-    }
-  }
-
-  private void addNumGatesToGroup(
-      final Map<String, Integer> map, final CObjectCollection<Gate> gates) {
-    Integer value = null;
-    for (int i = 0; i < gates.size(); i++) {
-      final Gate gate = gates.get(i);
-      final String name = gate.getGroup();
-      value = map.get(name);
-      map.put(name, value + 1);
+    for (int i = 0; i < numGates; i++) {
+      unassignedGates.add(i);
+      unassignedGatesByGroup[groupOf[i]].add(i);
     }
   }
 
@@ -115,219 +91,67 @@ public class GateManager extends CObject {
    * @param gates The gates under management.
    */
   public GateManager(final CObjectCollection<Gate> gates) {
-    init();
-    getGates().addAll(gates);
-    getUnassignedGates().addAll(gates);
-    addGroups(getGatesMap(), gates);
-    addNumGroups(getNumAssignedGatesGroupMap(), gates);
-    addNumGroups(getNumUnassignedGatesGroupMap(), gates);
-    addGroups(getAssignedGatesMap(), gates);
-    addGroups(getUnassignedGatesMap(), gates);
-    addGatesToGroup(getGatesMap(), gates);
-    addGatesToGroup(getUnassignedGatesMap(), gates);
-    addNumGatesToGroup(getNumUnassignedGatesGroupMap(), gates);
+    init(gates);
   }
 
-  /*
-   * CObjectCollection
+  /**
+   * Initializes a newly created {@link GateManager} whose random draws are seeded with parameter
+   * {@code seed}.
+   *
+   * @param gates The gates under management.
+   * @param seed The seed of the random number generator.
    */
-  private Gate getRandomGate(final CObjectCollection<Gate> gates) {
-    Gate rtn = null;
-    final int size = getNumGate(gates);
-    if (size > 0) {
-      rtn = gates.get(random(0, size - 1));
-    }
-    return rtn;
+  public GateManager(final CObjectCollection<Gate> gates, final long seed) {
+    this(gates, new RandomSource(seed));
   }
 
-  private int getNumGate(final CObjectCollection<Gate> gates) {
-    final int rtn = gates.size();
-    return rtn;
+  /**
+   * Initializes a newly created {@link GateManager} whose random draws are taken from parameter
+   * {@code random}.
+   *
+   * @param gates The gates under management.
+   * @param random The random number generator.
+   */
+  public GateManager(final CObjectCollection<Gate> gates, final RandomSource random) {
+    this(gates);
+    this.random = random;
   }
 
   /*
-   * private Gate getGateAtIdx(final CObjectCollection<Gate> gates, final int index) { Gate rtn =
-   * null; int size = this.getNumGate(gates); if ( (0 <= index) && (index < size) ) {
-   * gates.get(index); } return rtn; }
+   * Pools
    */
-  /*
-   * Setter
-   */
-  private boolean contains(final CObjectCollection<Gate> gates, final Gate gate) {
-    boolean rtn = false;
-    rtn = gates.contains(gate);
-    return rtn;
-  }
-
-  private boolean contains(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-    boolean rtn = false;
-    final CObjectCollection<Gate> list = gates.get(gate.getGroup());
-    rtn = this.contains(list, gate);
-    return rtn;
-  }
-
-  private boolean remove(final CObjectCollection<Gate> gates, final Gate gate) {
-    boolean rtn = false;
-    rtn = gates.remove(gate);
-    return rtn;
-  }
-
-  private boolean remove(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-    boolean rtn = false;
-    final CObjectCollection<Gate> list = gates.get(gate.getGroup());
-    rtn = this.remove(list, gate);
-    return rtn;
-  }
-
-  private boolean add(final CObjectCollection<Gate> gates, final Gate gate) {
-    boolean rtn = false;
-    rtn = gates.add(gate);
-    return rtn;
-  }
-
-  private boolean add(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-    boolean rtn = false;
-    final CObjectCollection<Gate> list = gates.get(gate.getGroup());
-    rtn = this.add(list, gate);
-    return rtn;
-  }
-
-  private void inc(final Map<String, Integer> gates, final Gate gate) {
-    final String name = gate.getGroup();
-    final Integer value = gates.get(name);
-    if (value == Integer.MAX_VALUE) {
-      throw new RuntimeException("MAX_VALUE!");
-    }
-    gates.put(name, value + 1);
-  }
-
-  private void dec(final Map<String, Integer> gates, final Gate gate) {
-    final String name = gate.getGroup();
-    final Integer value = gates.get(name);
-    if (value == GateManager.I_ZERO) {
-      throw new RuntimeException("IS ZERO!");
-    }
-    gates.put(name, value - 1);
-  }
-
-  private enum OP {
-    LESS_THAN,
-    LESS_THAN_OR_EQUAL,
-    EQUAL,
-    GREATER_THAN_OR_EQUAL,
-    GREATER_THAN;
-
-    public static boolean evaluate(final int lh, final int rh, final OP op) {
-      boolean rtn = false;
-      if (op == LESS_THAN) {
-        rtn = lh < rh;
-      }
-      if (op == LESS_THAN_OR_EQUAL) {
-        rtn = lh <= rh;
-      }
-      if (op == EQUAL) {
-        rtn = lh == rh;
-      }
-      if (op == GREATER_THAN_OR_EQUAL) {
-        rtn = lh >= rh;
-      }
-      if (op == GREATER_THAN) {
-        rtn = lh > rh;
-      }
-      return rtn;
-    }
-  }
-
-  private String getRandomGroupGTEq(
-      final Map<String, Integer> gates, final int value, final OP op) {
-    String rtn = null;
-    final Set<Map.Entry<String, Integer>> set = gates.entrySet();
-    final Iterator<Map.Entry<String, Integer>> iter = set.iterator();
-    final List<String> select = new ArrayList<>();
-    while (iter.hasNext()) {
-      final Map.Entry<String, Integer> entry = iter.next();
-      if (OP.evaluate(entry.getValue(), value, op)) {
-        select.add(entry.getKey());
-      }
-    }
-    final int size = select.size();
+  private Gate getRandomGate(final GatePool pool) {
+    Gate rtn = null;
+    final int size = pool.size();
     if (size > 0) {
-      rtn = select.get(random(0, size - 1));
+      rtn = gates[pool.get(random(0, size - 1))];
     }
     return rtn;
   }
 
-  private boolean setGate(
-      final CObjectCollection<Gate> a1,
-      final Map<String, CObjectCollection<Gate>> a2,
-      final Map<String, Integer> a3,
-      final CObjectCollection<Gate> b1,
-      final Map<String, CObjectCollection<Gate>> b2,
-      final Map<String, Integer> b3,
-      final Gate gate) {
-    final boolean rtn = false;
-    // must be: 1) unassigned gates, and, 2) unassigned gates by group
-    boolean g1 = this.contains(a1, gate);
-    boolean g2 = this.contains(a2, gate);
-    if (g1 && g2) {
-      // remove from: 1) unassigned gates, and, 2) unassigned gates by group
-      g1 = this.remove(a1, gate);
-      g2 = this.remove(a2, gate);
-      dec(a3, gate);
-      if (!(g1 && g2)) {
-        throw new RuntimeException("Error!");
-      }
-      // add to: 1) assigned gates, and, 2) assigned gates by group
-      g1 = this.add(b1, gate);
-      g2 = this.add(b2, gate);
-      inc(b3, gate);
-      if (!(g1 && g2)) {
-        throw new RuntimeException("Error!");
-      }
-    }
-    return rtn;
+  private int getGateId(final Gate gate) {
+    final Integer rtn = gateIds.get(gate);
+    return rtn == null ? -1 : rtn;
   }
 
-  /*
-   * Map/Group
-   */
-  private CObjectCollection<Gate> getGatesByGroup(
-      final Map<String, CObjectCollection<Gate>> gates, final String group) {
-    CObjectCollection<Gate> rtn = null;
-    rtn = gates.get(group);
+  private GatePool getGatesByGroup(final GatePool[] pools, final String group) {
+    GatePool rtn = null;
+    final Integer id = groupIds.get(group);
+    if (id != null) {
+      rtn = pools[id];
+    }
     return rtn;
   }
 
-  private Gate getRandomGateByGroup(
-      final Map<String, CObjectCollection<Gate>> gates, final String group) {
+  private Gate getRandomGateByGroup(final GatePool[] pools, final String group) {
     Gate rtn = null;
-    final CObjectCollection<Gate> list = getGatesByGroup(gates, group);
-    rtn = getRandomGate(list);
+    final GatePool pool = getGatesByGroup(pools, group);
+    if (pool != null) {
+      rtn = getRandomGate(pool);
+    }
     return rtn;
   }
-  /*
-   * private int getNumGateByGroup(Map<String, CObjectCollection<Gate>> gates, String group) { int
-   * rtn = 0; CObjectCollection<Gate> list = this.getGatesByGroup(gates, group); rtn =
-   * this.getNumGate(list); return rtn; }
-   *
-   * private Gate getGateAtIdxByGroup(Map<String, CObjectCollection<Gate>> gates, String group, int
-   * index) { Gate rtn = null; CObjectCollection<Gate> list = this.getGatesByGroup(gates, group);
-   * rtn = this.getGateAtIdx(list, index); return rtn; }
-   */
 
-  /*
-   * Assigned Gates
-   */
-  /*
-   * public Gate getRandomAssignedGate() { Gate rtn = null; rtn =
-   * this.getRandomGate(this.getAssignedGates()); return rtn; }
-   *
-   * public int getNumAssignedGate() { int rtn = this.getNumGate(this.getAssignedGates()); return
-   * rtn; }
-   *
-   * public Gate getAssignedGateAtIdx(final int index) { Gate rtn = null; rtn =
-   * this.getGateAtIdx(this.getAssignedGates(), index); return rtn; }
-   */
   /**
    * Get a random assigned gate within the given group.
    *
@@ -336,29 +160,9 @@ public class GateManager extends CObject {
    */
   public Gate getRandomAssignedGateByGroup(final String group) {
     Gate rtn = null;
-    rtn = getRandomGateByGroup(getAssignedGatesMap(), group);
+    rtn = getRandomGateByGroup(assignedGatesByGroup, group);
     return rtn;
   }
-  /*
-   * public int getNumAssignedGateByGroup(final String group) { int rtn = 0; rtn =
-   * this.getNumGateByGroup(this.getAssignedGatesMap(), group); return rtn; }
-   *
-   * public Gate getAssignedGateByGroupAtIdx(final String group, final int index) { Gate rtn = null;
-   * rtn = this.getGateAtIdxByGroup(this.getAssignedGatesMap(), group, index); return rtn; }
-   */
-  /*
-   * Unassigned Gates
-   */
-  /*
-   * public Gate getRandomUnassignedGate() { Gate rtn = null; rtn =
-   * this.getRandomGate(this.getUnassignedGates()); return rtn; }
-   *
-   * public int getNumUnassignedGate() { int rtn = this.getNumGate(this.getUnassignedGates());
-   * return rtn; }
-   *
-   * public Gate getUnassignedGateAtIdx(final int index) { Gate rtn = null; rtn =
-   * this.getGateAtIdx(this.getUnassignedGates(), index); return rtn; }
-   */
 
   /**
    * Get a random unassigned gate within the given group.
@@ -368,38 +172,9 @@ public class GateManager extends CObject {
    */
   public Gate getRandomUnassignedGateByGroup(final String group) {
     Gate rtn = null;
-    rtn = getRandomGateByGroup(getUnassignedGatesMap(), group);
+    rtn = getRandomGateByGroup(unassignedGatesByGroup, group);
     return rtn;
   }
-  /*
-   * public int getNumUnassignedGateByGroup(final String group) { int rtn = 0; rtn =
-   * this.getNumGateByGroup(this.getUnassignedGatesMap(), group); return rtn; }
-   *
-   * public Gate getUnassignedGateByGroupAtIdx(final String group, final int index) { Gate rtn =
-   * null; rtn = this.getGateAtIdxByGroup(this.getUnassignedGatesMap(), group, index); return rtn; }
-   */
-
-  /*
-   * Gates
-   */
-  /*
-   * public Gate getRandomGate() { Gate rtn = null; rtn = this.getRandomGate(this.getGates());
-   * return rtn; }
-   *
-   * public int getNumGate() { int rtn = this.getNumGate(this.getGates()); return rtn; }
-   *
-   * public Gate getGateAtIdx(final int index) { Gate rtn = null; rtn =
-   * this.getGateAtIdx(this.getGates(), index); return rtn; }
-   *
-   * public Gate getRandomGateByGroup(final String group) { Gate rtn = null;
-   * this.getRandomGateByGroup(this.getGatesMap(), group); return rtn; }
-   *
-   * public int getNumGateByGroup(final String group) { int rtn = 0; rtn =
-   * this.getNumGateByGroup(this.getGatesMap(), group); return rtn; }
-   *
-   * public Gate getGateByGroupAtIdx(final String group, final int index) { Gate rtn = null; rtn =
-   * this.getGateAtIdxByGroup(this.getGatesMap(), group, index); return rtn; }
-   */
 
   /*
    * Group Gate Map
@@ -411,10 +186,10 @@ public class GateManager extends CObject {
    */
   public Gate getRandomGateFromUnassignedGroup() {
     Gate rtn = null;
-    final String group =
-        getRandomGroupGTEq(getNumAssignedGatesGroupMap(), GateManager.I_ZERO, OP.EQUAL);
-    if (group != null) {
-      rtn = getRandomUnassignedGateByGroup(group);
+    final int size = unassignedGroups.size();
+    if (size > 0) {
+      final int group = unassignedGroups.get(random(0, size - 1));
+      rtn = getRandomGate(unassignedGatesByGroup[group]);
     }
     return rtn;
   }
@@ -429,16 +204,16 @@ public class GateManager extends CObject {
    * @return False.
    */
   public boolean setAssignedGate(final Gate gate) {
-    boolean rtn = false;
-    rtn =
-        setGate(
-            getUnassignedGates(),
-            getUnassignedGatesMap(),
-            getNumUnassignedGatesGroupMap(),
-            getAssignedGates(),
-            getAssignedGatesMap(),
-            getNumAssignedGatesGroupMap(),
-            gate);
+    final boolean rtn = false;
+    final int id = getGateId(gate);
+    if (id >= 0 && unassignedGates.contains(id)) {
+      final int group = groupOf[id];
+      unassignedGates.remove(id);
+      unassignedGatesByGroup[group].remove(id);
+      assignedGates.add(id);
+      assignedGatesByGroup[group].add(id);
+      unassignedGroups.remove(group);
+    }
     return rtn;
   }
 
@@ -449,104 +224,110 @@ public class GateManager extends CObject {
    * @return False.
    */
   public boolean setUnassignedGate(final Gate gate) {
-    boolean rtn = false;
-    rtn =
-        setGate(
-            getAssignedGates(),
-            getAssignedGatesMap(),
-            getNumAssignedGatesGroupMap(),
-            getUnassignedGates(),
-            getUnassignedGatesMap(),
-            getNumUnassignedGatesGroupMap(),
-            gate);
+    final boolean rtn = false;
+    final int id = getGateId(gate);
+    if (id >= 0 && assignedGates.contains(id)) {
+      final int group = groupOf[id];
+      assignedGates.remove(id);
+      assignedGatesByGroup[group].remove(id);
+      unassignedGates.add(id);
+      unassignedGatesByGroup[group].add(id);
+      if (assignedGatesByGroup[group].size() == GateManager.I_ZERO) {
+        unassignedGroups.add(group);
+      }
+    }
     return rtn;
   }
 
   /*
-   * Assigned Gates
-   */
-  // group, then gates
-  private Map<String, CObjectCollection<Gate>> getAssignedGatesMap() {
-    return assignedGatesMap;
-  }
-
-  // assigned gates by group
-  private Map<String, CObjectCollection<Gate>> assignedGatesMap;
-
-  private CObjectCollection<Gate> getAssignedGates() {
-    return assignedGates;
-  }
-
-  // assigned gates
-  private CObjectCollection<Gate> assignedGates;
-
-  /*
-   * Unassigned Gates
+   * State
    */
-  // group, then gates
-  private Map<String, CObjectCollection<Gate>> getUnassignedGatesMap() {
-    return unassignedGatesMap;
-  }
-
-  // unassigned gates by group
-  private Map<String, CObjectCollection<Gate>> unassignedGatesMap;
-
-  private CObjectCollection<Gate> getUnassignedGates() {
-    return unassignedGates;
-  }
-
-  // unassigned gates
-  private CObjectCollection<Gate> unassignedGates;
-
-  /*
-   * Num Assigned Gates by group
-   */
-  private Map<String, Integer> getNumAssignedGatesGroupMap() {
-    return numAssignedGatesGroupMap;
-  }
-
-  private Map<String, Integer> numAssignedGatesGroupMap;
-
-  /*
-   * Num Unassigned Gates by group
+  /**
+   * Writes the assigned and unassigned pools of this instance, including the position of every
+   * member, to the stream defined by parameter {@code out}.
+   *
+   * @param out The stream.
+   * @throws IOException Unable to write the pools.
    */
-  private Map<String, Integer> getNumUnassignedGatesGroupMap() {
-    return numUnassignedGatesGroupMap;
+  public void writeState(final DataOutput out) throws IOException {
+    out.writeInt(gates.length);
+    out.writeInt(groupIds.size());
+    assignedGates.writeState(out);
+    unassignedGates.writeState(out);
+    for (int i = 0; i < groupIds.size(); i++) {
+      assignedGatesByGroup[i].writeState(out);
+      unassignedGatesByGroup[i].writeState(out);
+    }
+    unassignedGroups.writeState(out);
   }
 
-  private Map<String, Integer> numUnassignedGatesGroupMap;
-
-  /*
-   * Gates
+  /**
+   * Restores the pools of this instance from the stream defined by parameter {@code in}, as
+   * written by {@link #writeState(DataOutput)} of an instance with the same gates. Draws by
+   * position then select the same gates as they would have in the instance that was written. The
+   * pools are unchanged if they cannot be read.
+   *
+   * @param in The stream.
+   * @throws IOException Unable to read the pools, or the pools are of different gates.
    */
-  // group, then gates
-  private Map<String, CObjectCollection<Gate>> getGatesMap() {
-    return gatesMap;
+  public void readState(final DataInput in) throws IOException {
+    final int numGates = gates.length;
+    final int numGroups = groupIds.size();
+    if (in.readInt() != numGates || in.readInt() != numGroups) {
+      throw new IOException("Gate pools of different gates.");
+    }
+    final GatePool assigned = GateManager.readPool(in, numGates);
+    final GatePool unassigned = GateManager.readPool(in, numGates);
+    final GatePool[] assignedByGroup = new GatePool[numGroups];
+    final GatePool[] unassignedByGroup = new GatePool[numGroups];
+    for (int i = 0; i < numGroups; i++) {
+      assignedByGroup[i] = GateManager.readPool(in, numGates);
+      unassignedByGroup[i] = GateManager.readPool(in, numGates);
+    }
+    final GatePool groups = GateManager.readPool(in, numGroups);
+    assignedGates = assigned;
+    unassignedGates = unassigned;
+    assignedGatesByGroup = assignedByGroup;
+    unassignedGatesByGroup = unassignedByGroup;
+    unassignedGroups = groups;
   }
 
-  private Map<String, CObjectCollection<Gate>> gatesMap;
-
-  private CObjectCollection<Gate> getGates() {
-    return gates;
+  private static GatePool readPool(final DataInput in, final int capacity) throws IOException {
+    final GatePool rtn = new GatePool(capacity);
+    rtn.readState(in);
+    return rtn;
   }
 
-  private CObjectCollection<Gate> gates;
+  // gates by id
+  private Gate[] gates;
+  private Map<Gate, Integer> gateIds;
+  // group ids by name, and the group id of each gate
+  private Map<String, Integer> groupIds;
+  private int[] groupOf;
+  private GatePool assignedGates;
+  private GatePool unassignedGates;
+  private GatePool[] assignedGatesByGroup;
+  private GatePool[] unassignedGatesByGroup;
+  // groups without an assigned gate
+  private GatePool unassignedGroups;
 
   /*
    * Random
    */
   private int random(final int min, final int max) {
-    int rtn = 0;
-    final Random random = getRandom();
-    rtn = random.nextInt(max - min + 1) + min;
-    return rtn;
+    return getRandom().nextInt(min, max);
   }
 
-  private Random getRandom() {
+  /**
+   * Getter for {@code random}.
+   *
+   * @return The random number generator of this instance.
+   */
+  public RandomSource getRandom() {
     return random;
   }
 
-  private Random random;
+  private RandomSource random;
   /*
    * constants
    */
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A set of dense gate ids, {@code 0} to {@code capacity - 1}. Membership is held as the position
+ * of each id in an array of members, and a removal moves the last member into the vacated
+ * position, so that adding, removing, testing membership and drawing a member by position take
+ * constant time and do not allocate.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class GatePool {
+
+  /**
+   * Initializes a newly created, empty {@link GatePool}.
+   *
+   * @param capacity The number of ids.
+   */
+  public GatePool(final int capacity) {
+    members = new int[capacity];
+    positions = new int[capacity];
+    Arrays.fill(positions, -1);
+    size = 0;
+  }
+
+  /**
+   * Returns true if the id defined by parameter {@code id} is in this pool.
+   *
+   * @param id An id.
+   * @return True if the id is in this pool.
+   */
+  public boolean contains(final int id) {
+    return positions[id] >= 0;
+  }
+
+  /**
+   * Adds the id defined by parameter {@code id} to this pool.
+   *
+   * @param id An id.
+   * @return True if the id was not in this pool.
+   */
+  public boolean add(final int id) {
+    boolean rtn = false;
+    if (positions[id] < 0) {
+      members[size] = id;
+      positions[id] = size;
+      size++;
+      rtn = true;
+    }
+    return rtn;
+  }
+
+  /**
+   * Removes the id defined by parameter {@code id} from this pool.
+   *
+   * @param id An id.
+   * @return True if the id was in this pool.
+   */
+  public boolean remove(final int id) {
+    boolean rtn = false;
+    final int pos = positions[id];
+    if (pos >= 0) {
+      size--;
+      final int last = members[size];
+      members[pos] = last;
+      positions[last] = pos;
+      positions[id] = -1;
+      rtn = true;
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the member at the position defined by parameter {@code index}. Positions change when a
+   * member is removed.
+   *
+   * @param index A position, {@code 0} to {@code size() - 1}.
+   * @return The member at the position.
+   */
+  public int get(final int index) {
+    return members[index];
+  }
+
+  /**
+   * Getter for {@code size}.
+   *
+   * @return The number of members of this pool.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Writes the members of this pool, in position order, to the stream defined by parameter {@code
+   * out}.
+   *
+   * @param out The stream.
+   * @throws IOException Unable to write the members.
+   */
+  public void writeState(final DataOutput out) throws IOException {
+    out.writeInt(size);
+    for (int i = 0; i < size; i++) {
+      out.writeInt(members[i]);
+    }
+  }
+
+  /**
+   * Replaces the members of this pool with those read from the stream defined by parameter {@code
+   * in}, as written by {@link #writeState(DataOutput)}, so that each member is at the same
+   * position as in the pool that was written.
+   *
+   * @param in The stream.
+   * @throws IOException Unable to read the members, or the members are not valid for this pool.
+   */
+  public void readState(final DataInput in) throws IOException {
+    final int num = in.readInt();
+    if (num < 0 || num > members.length) {
+      throw new IOException("Invalid pool size: " + num + ".");
+    }
+    Arrays.fill(positions, -1);
+    size = 0;
+    for (int i = 0; i < num; i++) {
+      final int id = in.readInt();
+      if (id < 0 || id >= positions.length || !add(id)) {
+        throw new IOException("Invalid pool member: " + id + ".");
+      }
+    }
+  }
+
+  private final int[] members;
+  private final int[] positions;
+  private int size;
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.checkpoint;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes checkpoints to disk on a background thread, so that the annealing loop only pays for
+ * serializing its state to memory. A checkpoint is written to a temporary file that is then moved
+ * over the checkpoint file, so the checkpoint file is always complete. If a checkpoint is
+ * submitted while an earlier one of the same file is still waiting to be written, the earlier one
+ * is dropped.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class CheckpointWriter implements AutoCloseable {
+
+  /**
+   * Initializes a newly created {@link CheckpointWriter}.
+   *
+   * @param logger The logger to report failed writes to.
+   */
+  public CheckpointWriter(final Logger logger) {
+    this.logger = logger;
+    pending = new ConcurrentHashMap<>();
+    executor =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              final Thread rtn = new Thread(r, "checkpoint-writer");
+              rtn.setDaemon(true);
+              return rtn;
+            });
+  }
+
+  /**
+   * Submits a checkpoint to be written to the file defined by parameter {@code file}. This method
+   * does not block.
+   *
+   * @param file The checkpoint file.
+   * @param data The checkpoint.
+   */
+  public void submit(final File file, final byte[] data) {
+    if (pending.put(file, data) == null) {
+      executor.execute(() -> write(file));
+    }
+  }
+
+  /**
+   * Deletes the file defined by parameter {@code file} once every checkpoint submitted before has
+   * been written. This method does not block.
+   *
+   * @param file The checkpoint file.
+   */
+  public void discard(final File file) {
+    executor.execute(
+        () -> {
+          pending.remove(file);
+          if (file.exists() && !file.delete()) {
+            logger.warn(String.format("Unable to delete checkpoint '%s'.", file));
+          }
+        });
+  }
+
+  private void write(final File file) {
+    final byte[] data = pending.remove(file);
+    if (data == null) {
+      return;
+    }
+    final File tmp = new File(file.getPath() + CheckpointWriter.S_TMP);
+    try {
+      try (FileOutputStream out = new FileOutputStream(tmp)) {
+        out.write(data);
+        out.getFD().sync();
+      }
+      try {
+        Files.move(
+            tmp.toPath(),
+            file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      logger.warn(String.format("Unable to write checkpoint '%s': %s", file, e.getMessage()));
+    }
+  }
+
+  /** Waits for every submitted checkpoint to be written, and stops the background thread. */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final Logger logger;
+  private final Map<File, byte[]> pending;
+  private final ExecutorService executor;
+
+  private static final String S_TMP = ".tmp";
+}
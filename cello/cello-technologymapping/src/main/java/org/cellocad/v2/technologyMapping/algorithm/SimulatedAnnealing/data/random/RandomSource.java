@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random;
+
+/**
+ * The seedable, splittable random number generator of the <i>SimulatedAnnealing</i> algorithm.
+ * The generator is the SplitMix64 algorithm of {@link java.util.SplittableRandom}, and produces
+ * the same sequence for the same seed, but its state of two longs is exposed so that a generator
+ * can be saved and restored. Each chain, gate manager, and exchange of the algorithm draws from
+ * its own generator, split from a single root in a fixed order, so that a run is reproducible from
+ * the seed of the root regardless of how its chains are scheduled onto threads. A generator is not
+ * thread safe.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public final class RandomSource {
+
+  /**
+   * Initializes a newly created {@link RandomSource} with the given seed.
+   *
+   * @param seed The seed.
+   */
+  public RandomSource(final long seed) {
+    this(seed, RandomSource.L_GOLDEN_GAMMA);
+  }
+
+  /**
+   * Initializes a newly created {@link RandomSource} with the given state, as returned by {@link
+   * #getSeed()} and {@link #getGamma()}.
+   *
+   * @param seed The seed.
+   * @param gamma The gamma, an odd number.
+   */
+  public RandomSource(final long seed, final long gamma) {
+    this.seed = seed;
+    this.gamma = gamma;
+  }
+
+  /**
+   * Returns a new generator split from this instance. The sequences of this instance and of the new
+   * generator are statistically independent.
+   *
+   * @return A new generator.
+   */
+  public RandomSource split() {
+    return new RandomSource(RandomSource.mix64(nextSeed()), RandomSource.mixGamma(nextSeed()));
+  }
+
+  /**
+   * Returns a pseudorandom long.
+   *
+   * @return A pseudorandom long.
+   */
+  public long nextLong() {
+    return RandomSource.mix64(nextSeed());
+  }
+
+  /**
+   * Returns a pseudorandom double between zero (inclusive) and one (exclusive).
+   *
+   * @return A pseudorandom double between zero (inclusive) and one (exclusive).
+   */
+  public double nextDouble() {
+    return (nextLong() >>> 11) * RandomSource.D_DOUBLE_UNIT;
+  }
+
+  /**
+   * Returns a pseudorandom int between zero (inclusive) and {@code bound} (exclusive).
+   *
+   * @param bound The upper bound, a positive number.
+   * @return A pseudorandom int between zero (inclusive) and {@code bound} (exclusive).
+   */
+  public int nextInt(final int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("Bound must be positive.");
+    }
+    int rtn = RandomSource.mix32(nextSeed());
+    final int m = bound - 1;
+    if ((bound & m) == 0) {
+      rtn &= m;
+    } else {
+      int u = rtn >>> 1;
+      rtn = u % bound;
+      // reject values that would bias the result
+      while (u + m - rtn < 0) {
+        u = RandomSource.mix32(nextSeed()) >>> 1;
+        rtn = u % bound;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns a pseudorandom int between {@code min} and {@code max}, both inclusive.
+   *
+   * @param min The lower bound.
+   * @param max The upper bound.
+   * @return A pseudorandom int between {@code min} and {@code max}, both inclusive.
+   */
+  public int nextInt(final int min, final int max) {
+    return nextInt(max - min + 1) + min;
+  }
+
+  /**
+   * Getter for {@code seed}.
+   *
+   * @return The value of {@code seed}.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Getter for {@code gamma}.
+   *
+   * @return The value of {@code gamma}.
+   */
+  public long getGamma() {
+    return gamma;
+  }
+
+  /**
+   * Restores the state of this instance, as returned by {@link #getSeed()} and {@link
+   * #getGamma()}.
+   *
+   * @param seed The seed.
+   * @param gamma The gamma, an odd number.
+   */
+  public void setState(final long seed, final long gamma) {
+    this.seed = seed;
+    this.gamma = gamma;
+  }
+
+  private long nextSeed() {
+    return seed += gamma;
+  }
+
+  private static long mix64(final long z) {
+    long rtn = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    rtn = (rtn ^ (rtn >>> 27)) * 0x94d049bb133111ebL;
+    return rtn ^ (rtn >>> 31);
+  }
+
+  private static int mix32(final long z) {
+    final long rtn = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+    return (int) (((rtn ^ (rtn >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+  }
+
+  private static long mixGamma(final long z) {
+    long rtn = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    rtn = (rtn ^ (rtn >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    rtn = (rtn ^ (rtn >>> 33)) | 1L;
+    final int n = Long.bitCount(rtn ^ (rtn >>> 1));
+    return (n < 24) ? rtn ^ 0xaaaaaaaaaaaaaaaaL : rtn;
+  }
+
+  private long seed;
+  private long gamma;
+
+  private static final long L_GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private static final double D_DOUBLE_UNIT = 0x1.0p-53;
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A cache of roadblock verdicts. Whether a node is roadblocked depends only on the device
+ * assigned to the node and, for each of its inputs in order, the structure input and the device
+ * driving it. The verdict for each such combination is computed once with {@link
+ * RoadBlockUtils#isNodeRoadBlocked} and reused. The cache is safe to share between threads.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class RoadBlockCache {
+
+  /**
+   * Initializes a newly created {@link RoadBlockCache}.
+   *
+   * @param rules The device rules.
+   * @param tdi The target data instance.
+   */
+  public RoadBlockCache(final DeviceRules rules, final TargetDataInstance tdi) {
+    this.rules = rules;
+    this.tdi = tdi;
+    this.verdicts = new ConcurrentHashMap<>();
+  }
+
+  private List<Object> getKey(final NetlistNode node) {
+    final List<Object> rtn = new ArrayList<>(1 + 2 * node.getNumInEdge());
+    rtn.add(node.getResultNetlistNodeData().getDevice());
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge e = node.getInEdgeAtIdx(i);
+      rtn.add(e.getResultNetlistEdgeData().getInput());
+      rtn.add(e.getSrc().getResultNetlistNodeData().getDevice());
+    }
+    return rtn;
+  }
+
+  /**
+   * Tests whether a node has a roadblocking set of inputs.
+   *
+   * @param node The node.
+   * @return Whether a node has a roadblocking set of inputs.
+   */
+  public Boolean isNodeRoadBlocked(final NetlistNode node) {
+    Boolean rtn = false;
+    if (node.getNumInEdge() < 2) {
+      return rtn;
+    }
+    final List<Object> key = getKey(node);
+    rtn = verdicts.get(key);
+    if (rtn == null) {
+      rtn = RoadBlockUtils.isNodeRoadBlocked(node, rules, tdi);
+      verdicts.put(key, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Gets the number of roadblocked nodes among the given nodes.
+   *
+   * @param nodes The nodes.
+   * @return The number of roadblocked nodes among the given nodes.
+   */
+  public Integer getNumberOfRoadBlockedNodes(final Collection<NetlistNode> nodes) {
+    Integer rtn = 0;
+    for (final NetlistNode node : nodes) {
+      if (isNodeRoadBlocked(node)) {
+        rtn++;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Gets the number of roadblocked nodes in a netlist.
+   *
+   * @param netlist The netlist.
+   * @return The number of roadblocked nodes in a netlist.
+   */
+  public Integer getNumberOfRoadBlockedNodes(final Netlist netlist) {
+    Integer rtn = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      if (isNodeRoadBlocked(netlist.getVertexAtIdx(i))) {
+        rtn++;
+      }
+    }
+    return rtn;
+  }
+
+  private final DeviceRules rules;
+  private final TargetDataInstance tdi;
+  private final Map<List<Object>, Boolean> verdicts;
+}
@@ -24,8 +24,10 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.road
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
@@ -87,6 +89,23 @@ public class RoadBlockUtils {
     return rtn;
   }
 
+  /**
+   * Returns the given nodes and their downstream neighbors, each once. These are the nodes whose
+   * roadblock status can change when the devices assigned to the given nodes change.
+   *
+   * @param nodes The nodes.
+   * @return The given nodes and their downstream neighbors.
+   */
+  public static Collection<NetlistNode> getNodesAndDownstreamNeighbors(
+      final Collection<NetlistNode> nodes) {
+    final Collection<NetlistNode> rtn = new LinkedHashSet<>();
+    for (NetlistNode node : nodes) {
+      rtn.add(node);
+      addDownstreamNodesToCollection(node, rtn);
+    }
+    return rtn;
+  }
+
   private static void addDownstreamNodesToCollection(
       final NetlistNode node, Collection<NetlistNode> nodes) {
     for (int i = 0; i < node.getNumOutEdge(); i++) {
@@ -175,14 +194,15 @@ public class RoadBlockUtils {
       }
       for (int i = 0; i < inputs.size(); i++) {
         Input input = inputs.get(i);
+        final String name = inputMap.get(input).getName();
         // startswith
-        Pattern r = Pattern.compile("STARTSWITH " + inputMap.get(input).getName(), Pattern.DOTALL);
+        Pattern r = getPattern(RoadBlockUtils.S_STARTSWITH, name);
         Matcher m = r.matcher(rule);
         if (i > 0 && m.matches()) {
           return true;
         }
         // before
-        r = Pattern.compile(".*" + inputMap.get(input).getName() + " BEFORE ([A-Za-z0-9]+).*", Pattern.DOTALL);
+        r = getPattern(RoadBlockUtils.S_BEFORE, name);
         m = r.matcher(rule);
         if (m.matches()) {
           for (int j = 0; j < inputs.size(); j++) {
@@ -196,7 +216,7 @@ public class RoadBlockUtils {
           }
         }
         // after
-        r = Pattern.compile(".*" + inputMap.get(input).getName() + " AFTER ([A-Za-z0-9]+).*", Pattern.DOTALL);
+        r = getPattern(RoadBlockUtils.S_AFTER, name);
         m = r.matcher(rule);
         if (m.matches()) {
           for (int j = 0; j < inputs.size(); j++) {
@@ -213,4 +233,28 @@ public class RoadBlockUtils {
     }
     return rtn;
   }
+
+  /**
+   * Returns the compiled pattern for the given format and part name. Patterns are compiled once
+   * and shared.
+   *
+   * @param fmt The pattern format.
+   * @param name The part name.
+   * @return The compiled pattern.
+   */
+  private static Pattern getPattern(final String fmt, final String name) {
+    final String regex = String.format(fmt, name);
+    Pattern rtn = patterns.get(regex);
+    if (rtn == null) {
+      rtn = Pattern.compile(regex, Pattern.DOTALL);
+      patterns.put(regex, rtn);
+    }
+    return rtn;
+  }
+
+  private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+  private static final String S_STARTSWITH = "STARTSWITH %s";
+  private static final String S_BEFORE = ".*%s BEFORE ([A-Za-z0-9]+).*";
+  private static final String S_AFTER = ".*%s AFTER ([A-Za-z0-9]+).*";
 }
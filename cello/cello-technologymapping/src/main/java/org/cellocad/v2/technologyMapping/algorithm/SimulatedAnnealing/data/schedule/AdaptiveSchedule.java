@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A schedule that steers the acceptance rate of the chain. The target acceptance rate falls
+ * linearly from {@code targetAcceptance} at the first step to zero at the last. After every
+ * window of {@link #I_WINDOW} steps the temperature is multiplied by {@code exp(D_GAIN * (target -
+ * rate))}, where {@code rate} is the acceptance rate over the window, so the chain is heated when
+ * it accepts too few moves and cooled when it accepts too many. The temperature is kept between
+ * {@code minTemperature} and {@code maxTemperature}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class AdaptiveSchedule extends AnnealingSchedule {
+
+  /**
+   * Initializes a newly created {@link AdaptiveSchedule}.
+   *
+   * @param maxTemperature The temperature of the first step.
+   * @param minTemperature The lowest temperature.
+   * @param numSteps The number of steps.
+   * @param targetAcceptance The target acceptance rate at the first step.
+   */
+  public AdaptiveSchedule(
+      final double maxTemperature,
+      final double minTemperature,
+      final int numSteps,
+      final double targetAcceptance) {
+    super(maxTemperature, minTemperature, numSteps);
+    this.targetAcceptance = targetAcceptance;
+    temperature = maxTemperature;
+    numAccepted = 0;
+  }
+
+  @Override
+  public double getTemperature() {
+    return temperature;
+  }
+
+  @Override
+  public void update(final boolean accepted) {
+    super.update(accepted);
+    if (accepted) {
+      numAccepted++;
+    }
+    if (getStep() % AdaptiveSchedule.I_WINDOW == 0) {
+      final double rate = (double) numAccepted / AdaptiveSchedule.I_WINDOW;
+      final double target = targetAcceptance * (1.0 - (double) getStep() / getNumSteps());
+      temperature *= Math.exp(AdaptiveSchedule.D_GAIN * (target - rate));
+      temperature = Math.max(getMinTemperature(), Math.min(getMaxTemperature(), temperature));
+      numAccepted = 0;
+    }
+  }
+
+  @Override
+  public void writeState(final DataOutput out) throws IOException {
+    super.writeState(out);
+    out.writeDouble(temperature);
+    out.writeInt(numAccepted);
+  }
+
+  @Override
+  public void readState(final DataInput in) throws IOException {
+    super.readState(in);
+    temperature = in.readDouble();
+    numAccepted = in.readInt();
+  }
+
+  private final double targetAcceptance;
+  private double temperature;
+  private int numAccepted;
+
+  private static final int I_WINDOW = 20;
+  private static final double D_GAIN = 4.0;
+}
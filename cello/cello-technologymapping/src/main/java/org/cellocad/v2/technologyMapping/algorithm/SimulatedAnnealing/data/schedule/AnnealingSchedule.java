@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A temperature schedule of a chain of the <i>SimulatedAnnealing</i> algorithm over a budget of
+ * {@code numSteps} steps. The chain reads the temperature of the current step, proposes a move at
+ * that temperature, and then reports whether the move was accepted by calling {@link
+ * #update(boolean)}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public abstract class AnnealingSchedule {
+
+  /**
+   * Initializes a newly created {@link AnnealingSchedule}.
+   *
+   * @param maxTemperature The temperature of the first step.
+   * @param minTemperature The temperature of the last step.
+   * @param numSteps The number of steps.
+   */
+  protected AnnealingSchedule(
+      final double maxTemperature, final double minTemperature, final int numSteps) {
+    this.maxTemperature = maxTemperature;
+    this.minTemperature = minTemperature;
+    this.numSteps = numSteps;
+    step = 0;
+  }
+
+  /**
+   * Returns the temperature of the current step.
+   *
+   * @return The temperature of the current step.
+   */
+  public abstract double getTemperature();
+
+  /**
+   * Advances the schedule to the next step.
+   *
+   * @param accepted Whether the move proposed at the current step was accepted.
+   */
+  public void update(final boolean accepted) {
+    step++;
+  }
+
+  /**
+   * Whether every step of the budget has been taken.
+   *
+   * @return Whether every step of the budget has been taken.
+   */
+  public boolean isDone() {
+    return step >= numSteps;
+  }
+
+  /**
+   * Writes the state of this instance to the stream defined by parameter {@code out}.
+   *
+   * @param out The stream.
+   * @throws IOException Unable to write the state.
+   */
+  public void writeState(final DataOutput out) throws IOException {
+    out.writeInt(step);
+  }
+
+  /**
+   * Restores the state of this instance from the stream defined by parameter {@code in}, as
+   * written by {@link #writeState(DataOutput)} of a schedule of the same type and budget.
+   *
+   * @param in The stream.
+   * @throws IOException Unable to read the state.
+   */
+  public void readState(final DataInput in) throws IOException {
+    step = in.readInt();
+  }
+
+  /**
+   * Getter for {@code step}.
+   *
+   * @return The index of the current step.
+   */
+  public int getStep() {
+    return step;
+  }
+
+  /**
+   * Getter for {@code numSteps}.
+   *
+   * @return The number of steps.
+   */
+  public int getNumSteps() {
+    return numSteps;
+  }
+
+  /**
+   * Getter for {@code maxTemperature}.
+   *
+   * @return The value of {@code maxTemperature}.
+   */
+  public double getMaxTemperature() {
+    return maxTemperature;
+  }
+
+  /**
+   * Getter for {@code minTemperature}.
+   *
+   * @return The value of {@code minTemperature}.
+   */
+  public double getMinTemperature() {
+    return minTemperature;
+  }
+
+  private final double maxTemperature;
+  private final double minTemperature;
+  private final int numSteps;
+  private int step;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * Creates the {@link AnnealingSchedule} of each chain from the parameters of the algorithm. The
+ * step budget of a schedule is {@code stepsPerGate} steps per swappable gate of the netlist if
+ * {@code stepsPerGate} is positive, and {@code steps} steps otherwise.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class AnnealingScheduleFactory {
+
+  /**
+   * Initializes a newly created {@link AnnealingScheduleFactory}.
+   *
+   * @param name The name of the schedule, one of {@link #S_GEOMETRIC}, {@link #S_LINEAR}, {@link
+   *     #S_ADAPTIVE}, or {@link #S_REHEATING}.
+   * @param maxTemperature The maximum temperature.
+   * @param minTemperature The minimum temperature.
+   * @param steps The fixed step budget.
+   * @param stepsPerGate The step budget per swappable gate, or zero to use the fixed budget.
+   * @param targetAcceptance The initial target acceptance rate of an adaptive schedule.
+   * @param numReheats The number of reheats of a reheating schedule.
+   */
+  public AnnealingScheduleFactory(
+      final String name,
+      final double maxTemperature,
+      final double minTemperature,
+      final int steps,
+      final int stepsPerGate,
+      final double targetAcceptance,
+      final int numReheats) {
+    this.name = name;
+    this.maxTemperature = maxTemperature;
+    this.minTemperature = minTemperature;
+    this.steps = steps;
+    this.stepsPerGate = stepsPerGate;
+    this.targetAcceptance = targetAcceptance;
+    this.numReheats = numReheats;
+  }
+
+  /**
+   * Whether the schedule defined by parameter {@code name} exists.
+   *
+   * @param name The name of a schedule.
+   * @return Whether the schedule exists.
+   */
+  public static boolean isValidName(final String name) {
+    return AnnealingScheduleFactory.S_GEOMETRIC.equals(name)
+        || AnnealingScheduleFactory.S_LINEAR.equals(name)
+        || AnnealingScheduleFactory.S_ADAPTIVE.equals(name)
+        || AnnealingScheduleFactory.S_REHEATING.equals(name);
+  }
+
+  /**
+   * Returns the step budget for a netlist with the given number of swappable gates.
+   *
+   * @param numSwappableGates The number of swappable gates of the netlist.
+   * @return The step budget.
+   */
+  public int getNumSteps(final int numSwappableGates) {
+    int rtn = steps;
+    if (stepsPerGate > 0) {
+      rtn = Math.max(1, stepsPerGate * numSwappableGates);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns a new schedule for a netlist with the given number of swappable gates.
+   *
+   * @param numSwappableGates The number of swappable gates of the netlist.
+   * @return A new schedule, or null if the name of the schedule is not valid.
+   */
+  public AnnealingSchedule getSchedule(final int numSwappableGates) {
+    AnnealingSchedule rtn = null;
+    final int numSteps = getNumSteps(numSwappableGates);
+    if (AnnealingScheduleFactory.S_GEOMETRIC.equals(name)) {
+      rtn = new GeometricSchedule(maxTemperature, minTemperature, numSteps);
+    }
+    if (AnnealingScheduleFactory.S_LINEAR.equals(name)) {
+      rtn = new LinearSchedule(maxTemperature, minTemperature, numSteps);
+    }
+    if (AnnealingScheduleFactory.S_ADAPTIVE.equals(name)) {
+      rtn = new AdaptiveSchedule(maxTemperature, minTemperature, numSteps, targetAcceptance);
+    }
+    if (AnnealingScheduleFactory.S_REHEATING.equals(name)) {
+      rtn = new ReheatingSchedule(maxTemperature, minTemperature, numSteps, numReheats);
+    }
+    return rtn;
+  }
+
+  private final String name;
+  private final double maxTemperature;
+  private final double minTemperature;
+  private final int steps;
+  private final int stepsPerGate;
+  private final double targetAcceptance;
+  private final int numReheats;
+
+  public static final String S_GEOMETRIC = "geometric";
+  public static final String S_LINEAR = "linear";
+  public static final String S_ADAPTIVE = "adaptive";
+  public static final String S_REHEATING = "reheating";
+}
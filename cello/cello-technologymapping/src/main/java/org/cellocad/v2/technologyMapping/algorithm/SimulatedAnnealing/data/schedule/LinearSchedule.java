@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * A schedule whose temperature falls by a constant amount each step, from {@code maxTemperature}
+ * at the first step towards {@code minTemperature} at the last.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class LinearSchedule extends AnnealingSchedule {
+
+  /**
+   * Initializes a newly created {@link LinearSchedule}.
+   *
+   * @param maxTemperature The temperature of the first step.
+   * @param minTemperature The temperature of the last step.
+   * @param numSteps The number of steps.
+   */
+  public LinearSchedule(
+      final double maxTemperature, final double minTemperature, final int numSteps) {
+    super(maxTemperature, minTemperature, numSteps);
+    inc = (maxTemperature - minTemperature) / numSteps;
+  }
+
+  @Override
+  public double getTemperature() {
+    return getMaxTemperature() - getStep() * inc;
+  }
+
+  private final double inc;
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * A schedule of {@code numReheats + 1} geometric cycles of equal length. Every cycle cools to
+ * {@code minTemperature}, and the peak temperature of each cycle falls geometrically from {@code
+ * maxTemperature}, so each reheat lets the chain escape a local optimum with less disruption than
+ * the one before.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class ReheatingSchedule extends AnnealingSchedule {
+
+  /**
+   * Initializes a newly created {@link ReheatingSchedule}.
+   *
+   * @param maxTemperature The temperature of the first step.
+   * @param minTemperature The temperature at the end of each cycle.
+   * @param numSteps The number of steps.
+   * @param numReheats The number of reheats.
+   */
+  public ReheatingSchedule(
+      final double maxTemperature,
+      final double minTemperature,
+      final int numSteps,
+      final int numReheats) {
+    super(maxTemperature, minTemperature, numSteps);
+    numCycles = numReheats + 1;
+    cycleLength = Math.max(1, numSteps / numCycles);
+  }
+
+  @Override
+  public double getTemperature() {
+    final int cycle = Math.min(getStep() / cycleLength, numCycles - 1);
+    final double pos = (double) (getStep() - cycle * cycleLength) / cycleLength;
+    final double ratio = getMinTemperature() / getMaxTemperature();
+    final double peak = getMaxTemperature() * Math.pow(ratio, (double) cycle / numCycles);
+    return peak * Math.pow(getMinTemperature() / peak, Math.min(pos, 1.0));
+  }
+
+  private final int numCycles;
+  private final int cycleLength;
+}
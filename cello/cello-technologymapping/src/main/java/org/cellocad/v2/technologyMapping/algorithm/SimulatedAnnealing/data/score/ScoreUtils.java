@@ -21,13 +21,10 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.scor
 
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
-import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
-import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.PackedTruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 
 /**
  * Utility methods for computing the scores of netlists.
@@ -67,18 +64,14 @@ public class ScoreUtils {
       final NetlistNode node, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
     Double rtn = null;
 
-    Double on = Double.MAX_VALUE;
-    Double off = Double.MIN_VALUE;
+    double on = Double.MAX_VALUE;
+    double off = Double.MIN_VALUE;
 
-    final TruthTable<NetlistNode, NetlistNode> truthTable = lsle.getTruthTable(node);
-    final ActivityTable<NetlistNode, NetlistNode> activityTable = tmae.getActivityTable(node);
+    final PackedTruthTable truthTable = lsle.getPackedTruthTable(node);
 
     for (int i = 0; i < truthTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
-      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-      final Boolean l = outputState.getState(node);
-      final Double a = outputActivity.getActivity(node);
+      final boolean l = truthTable.get(i);
+      final double a = tmae.getActivity(node, i);
       if (l == true && on > a) {
         on = a;
       } else if (l == false && off < a) {
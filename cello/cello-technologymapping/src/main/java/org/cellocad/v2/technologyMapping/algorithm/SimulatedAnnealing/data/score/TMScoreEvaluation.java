@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score;
+
+import java.util.Arrays;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.PackedTruthTable;
+import org.cellocad.v2.results.netlist.CompressedNetlist;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+
+/**
+ * The score of a netlist, i.e. the minimum on/off ratio over its primary outputs, maintained
+ * incrementally. The lowest ON activity and highest OFF activity of every primary output are kept,
+ * and only the outputs whose activity was re-evaluated by {@link
+ * TMActivityEvaluation#update(java.util.Collection)} are recomputed. The score itself is then
+ * linear in the number of primary outputs. The value equals {@link ScoreUtils#score(Netlist,
+ * LSLogicEvaluation, TMActivityEvaluation)}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class TMScoreEvaluation {
+
+  /**
+   * Initializes a newly created {@link TMScoreEvaluation}.
+   *
+   * @param netlist The netlist.
+   * @param lsle The logic evaluation of the netlist.
+   * @param tmae The activity evaluation of the netlist.
+   */
+  public TMScoreEvaluation(
+      final Netlist netlist, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
+    if (!netlist.isValid()) {
+      throw new RuntimeException("netlist is not valid!");
+    }
+    this.tmae = tmae;
+    final CompressedNetlist cn = tmae.getEvaluationContext().getCompressedNetlist();
+    int num = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      if (LSResultsUtils.isPrimaryOutput(netlist.getVertexAtIdx(i))) {
+        num++;
+      }
+    }
+    outputs = new int[num];
+    truthTables = new PackedTruthTable[num];
+    position = new int[cn.getNumNodes()];
+    Arrays.fill(position, -1);
+    num = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      if (LSResultsUtils.isPrimaryOutput(node)) {
+        final int id = cn.getId(node);
+        outputs[num] = id;
+        truthTables[num] = lsle.getPackedTruthTable(node);
+        position[id] = num;
+        num++;
+      }
+    }
+    on = new double[num];
+    off = new double[num];
+    savedOn = new double[num];
+    savedOff = new double[num];
+    saved = new int[num];
+    mark = new boolean[num];
+    for (int i = 0; i < num; i++) {
+      evaluate(i);
+    }
+  }
+
+  private void evaluate(final int output) {
+    final NodeStateValues values = tmae.getValues();
+    final PackedTruthTable truthTable = truthTables[output];
+    final int id = outputs[output];
+    double min = Double.MAX_VALUE;
+    double max = Double.MIN_VALUE;
+    for (int i = 0; i < truthTable.getNumStates(); i++) {
+      final double a = values.get(id, i);
+      if (truthTable.get(i) && min > a) {
+        min = a;
+      } else if (!truthTable.get(i) && max < a) {
+        max = a;
+      }
+    }
+    on[output] = min;
+    off[output] = max;
+  }
+
+  /**
+   * Recomputes the ON and OFF activity of every primary output re-evaluated by the activity
+   * evaluation since its last commit or revert. The previous values are retained until {@link
+   * #commit()} or {@link #revert()} is called.
+   */
+  public void update() {
+    final NodeStateValues values = tmae.getValues();
+    for (int i = 0; i < values.getNumSaved(); i++) {
+      final int output = position[values.getSavedAtIdx(i)];
+      if (output < 0) {
+        continue;
+      }
+      if (!mark[output]) {
+        mark[output] = true;
+        savedOn[output] = on[output];
+        savedOff[output] = off[output];
+        saved[numSaved++] = output;
+      }
+      evaluate(output);
+    }
+  }
+
+  /** Restores the values changed by {@link #update()} since the last commit or revert. */
+  public void revert() {
+    for (int i = 0; i < numSaved; i++) {
+      final int output = saved[i];
+      on[output] = savedOn[output];
+      off[output] = savedOff[output];
+      mark[output] = false;
+    }
+    numSaved = 0;
+  }
+
+  /** Accepts the values computed by {@link #update()} since the last commit or revert. */
+  public void commit() {
+    for (int i = 0; i < numSaved; i++) {
+      mark[saved[i]] = false;
+    }
+    numSaved = 0;
+  }
+
+  /**
+   * Returns the score, i.e. the minimum on/off ratio over the primary outputs.
+   *
+   * @return The score.
+   */
+  public Double getScore() {
+    double rtn = Double.MAX_VALUE;
+    for (int i = 0; i < outputs.length; i++) {
+      final double score = on[i] / off[i];
+      if (score < rtn) {
+        rtn = score;
+      }
+    }
+    return rtn;
+  }
+
+  private final TMActivityEvaluation tmae;
+  private final int[] outputs;
+  private final PackedTruthTable[] truthTables;
+  private final int[] position;
+  private final double[] on;
+  private final double[] off;
+  private final double[] savedOn;
+  private final double[] savedOff;
+  private final int[] saved;
+  private final boolean[] mark;
+  private int numSaved;
+}
@@ -21,21 +21,21 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxi
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.SinkDFS;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.CompressedNetlist;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.Toxicity;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.ToxicityTable;
@@ -68,71 +68,157 @@ public class TMToxicityEvaluation extends CObject {
     }
     setTMActivityEvaluation(tmae);
     final States<NetlistNode> states = tmae.getStates();
-    final List<NetlistNode> outputNodes = new ArrayList<>();
+    values =
+        new NodeStateValues(
+            netlist.getNumVertex(), states.getNumStates(), TMToxicityEvaluation.D_MAXGROWTH);
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
       if (LSResultsUtils.isPrimaryInput(node) || LSResultsUtils.isPrimaryOutput(node)) {
         continue;
       }
-      outputNodes.clear();
-      outputNodes.add(node);
       final ToxicityTable<NetlistNode, NetlistNode> toxicityTable =
-          new ToxicityTable<>(states, outputNodes);
+          new ToxicityTable<>(states, node, values, i);
       getToxicityTables().put(node, toxicityTable);
     }
+    final CompressedNetlist cn = tmae.getEvaluationContext().getCompressedNetlist();
+    gates = new int[getToxicityTables().size()];
+    int j = 0;
+    for (final NetlistNode node : getToxicityTables().keySet()) {
+      gates[j++] = cn.getId(node);
+    }
+    logGrowth = new double[states.getNumStates()];
+    results = new double[states.getNumStates()];
+    savedLogGrowth = new double[states.getNumStates()];
     evaluate(netlist);
   }
 
   /**
    * Evaluates the toxicity table for a node.
    *
-   * @param node A node.
+   * @param id The node, see {@link CompressedNetlist#getId(NetlistNode)}.
    * @param ec An evaluation context.
    * @throws CelloException Unable to evaluate toxicity table.
    */
-  private void evaluateToxicityTable(final NetlistNode node, final EvaluationContext ec)
+  private void evaluateToxicityTable(final int id, final EvaluationContext ec)
       throws CelloException {
+    final NetlistNode node = ec.getCompressedNetlist().getNode(id);
     ec.setNode(node);
-    final ToxicityTable<NetlistNode, NetlistNode> toxicityTable = getToxicityTables().get(node);
-    for (int i = 0; i < toxicityTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = toxicityTable.getStateAtIdx(i);
-      final Toxicity<NetlistNode> outputToxicity = toxicityTable.getToxicityOutput(inputState);
-      ec.setState(inputState);
-      Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName("toxicity")
-              .evaluate(ec)
-              .doubleValue();
+    final Function function =
+        node.getResultNetlistNodeData().getDevice().getModel().getFunctionByName("toxicity");
+    final States<NetlistNode> states = getTMActivityEvaluation().getStates();
+    function.evaluate(ec, states, results);
+    for (int i = 0; i < states.getNumStates(); i++) {
+      double result = results[i];
       if (result > TMToxicityEvaluation.D_MAXGROWTH) {
         result = TMToxicityEvaluation.D_MAXGROWTH;
       }
       if (result < TMToxicityEvaluation.D_MINGROWTH) {
         result = TMToxicityEvaluation.D_MINGROWTH;
       }
-      outputToxicity.setToxicity(node, result);
+      final double old = getValues().get(id, i);
+      if (result != old) {
+        logGrowth[i] += Math.log(result) - Math.log(old);
+        getValues().set(id, i, result);
+      }
+    }
+  }
+
+  /**
+   * Computes the logarithm of the growth in every state from the toxicity of every node, discarding
+   * any error accumulated by incremental updates.
+   */
+  private void computeLogGrowth() {
+    for (int i = 0; i < logGrowth.length; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < gates.length; j++) {
+        sum += Math.log(getValues().get(gates[j], i));
+      }
+      logGrowth[i] = sum;
     }
   }
 
   /**
-   * Evaluates the toxicity for a netlist.
+   * Evaluates the toxicity for a netlist. The response of upstream nodes is read from the
+   * evaluation context of the activity evaluation rather than recomputed.
    *
    * @param netlist A netlist.
    * @throws CelloException Unable to evaluate the toxicity for the netlist.
    */
   protected void evaluate(final Netlist netlist) throws CelloException {
-    final SinkDFS<NetlistNode, NetlistEdge, Netlist> DFS = new SinkDFS<>(netlist);
-    NetlistNode node = null;
-    final EvaluationContext ec = new EvaluationContext();
-    while ((node = DFS.getNextVertex()) != null) {
-      if (LSResultsUtils.isPrimaryInput(node) || LSResultsUtils.isPrimaryOutput(node)) {
+    final int[] order = netlist.getSinkDfsOrder();
+    final EvaluationContext ec = getTMActivityEvaluation().getEvaluationContext();
+    final byte[] nodeTypes = ec.getCompressedNetlist().getNodeTypes();
+    for (int i = 0; i < order.length; i++) {
+      if (nodeTypes[order[i]] != CompressedNetlist.B_GATE) {
         continue;
       }
-      evaluateToxicityTable(node, ec);
+      evaluateToxicityTable(order[i], ec);
+    }
+    getValues().commit();
+    computeLogGrowth();
+  }
+
+  /**
+   * Re-evaluates the toxicity of the nodes defined by parameter {@code nodes} and of every node in
+   * their fan-out cone. The activity evaluation must already have been updated with the same
+   * nodes. The previous toxicity of each re-evaluated node is retained until {@link #commit()} or
+   * {@link #revert()} is called.
+   *
+   * @param nodes The nodes whose device or input assignment has changed.
+   * @throws CelloException Unable to evaluate the toxicity.
+   */
+  public void update(final Collection<NetlistNode> nodes) throws CelloException {
+    final EvaluationContext ec = getTMActivityEvaluation().getEvaluationContext();
+    final byte[] nodeTypes = ec.getCompressedNetlist().getNodeTypes();
+    if (!logGrowthSaved) {
+      System.arraycopy(logGrowth, 0, savedLogGrowth, 0, logGrowth.length);
+      logGrowthSaved = true;
+    }
+    final int[] cone = getTMActivityEvaluation().getFanOutCone(nodes);
+    for (int i = 0; i < cone.length; i++) {
+      final int id = cone[i];
+      if (nodeTypes[id] != CompressedNetlist.B_GATE) {
+        continue;
+      }
+      getValues().save(id);
+      evaluateToxicityTable(id, ec);
+    }
+  }
+
+  /**
+   * Restores the toxicity of every node re-evaluated by {@link #update(Collection)} since the last
+   * call to {@link #commit()} or {@link #revert()}.
+   */
+  public void revert() {
+    getValues().revert();
+    if (logGrowthSaved) {
+      System.arraycopy(savedLogGrowth, 0, logGrowth, 0, logGrowth.length);
+      logGrowthSaved = false;
+    }
+  }
+
+  /**
+   * Accepts the toxicity computed by {@link #update(Collection)} since the last call to {@link
+   * #commit()} or {@link #revert()}.
+   */
+  public void commit() {
+    getValues().commit();
+    logGrowthSaved = false;
+    if (++numCommits % TMToxicityEvaluation.I_RESYNC_INTERVAL == 0) {
+      computeLogGrowth();
     }
   }
 
+  /**
+   * Getter for {@code values}.
+   *
+   * @return The toxicity of every node of this instance, with one row per node, see {@link
+   *     CompressedNetlist#getId(NetlistNode)}.
+   */
+  public NodeStateValues getValues() {
+    return values;
+  }
+
   /**
    * Gets the predicted relative growth of the organism at the given state.
    *
@@ -168,16 +254,25 @@ public class TMToxicityEvaluation extends CObject {
   // }
 
   /**
-   * Gets the minimum relative growth over all states of the circuit.
+   * Gets the minimum relative growth over all states of the circuit. The growth of each state is
+   * kept as a sum of logarithms that is updated only for the nodes re-evaluated by {@link
+   * #update(Collection)}, so this is linear in the number of states rather than in the number of
+   * nodes times states.
    *
    * @return The mimimum relative growth over all states of the circuit.
    */
   public Double getMinimumGrowth() {
-    Double rtn = TMToxicityEvaluation.D_MAXGROWTH;
-    final States<NetlistNode> states = getTMActivityEvaluation().getStates();
-    for (int i = 0; i < states.getNumStates(); i++) {
-      final State<NetlistNode> state = states.getStateAtIdx(i);
-      rtn = Math.min(rtn, getGrowth(state));
+    double rtn = TMToxicityEvaluation.D_MAXGROWTH;
+    for (int i = 0; i < getValues().getNumStates(); i++) {
+      rtn = Math.min(rtn, getGrowth(i));
+    }
+    return rtn;
+  }
+
+  private double getGrowth(final int state) {
+    double rtn = TMToxicityEvaluation.D_MAXGROWTH * Math.exp(logGrowth[state]);
+    if (rtn < TMToxicityEvaluation.D_MINGROWTH) {
+      rtn = TMToxicityEvaluation.D_MINGROWTH;
     }
     return rtn;
   }
@@ -272,7 +367,15 @@ public class TMToxicityEvaluation extends CObject {
   private static final String S_HEADER = "--------------------------------------------";
   private static final double D_MAXGROWTH = 1.00;
   private static final double D_MINGROWTH = 0.01;
+  private static final int I_RESYNC_INTERVAL = 1024;
 
   private Map<NetlistNode, ToxicityTable<NetlistNode, NetlistNode>> toxicitytables;
   private TMActivityEvaluation tmae;
+  private NodeStateValues values;
+  private int[] gates;
+  private double[] logGrowth;
+  private double[] results;
+  private double[] savedLogGrowth;
+  private boolean logGrowthSaved;
+  private int numCommits;
 }
@@ -26,6 +26,7 @@ import java.util.Map;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.target.data.data.GateToxicity;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 
 /**
  * The GateToxicity class contains the toxicity of a netlist used within the
@@ -60,6 +61,24 @@ public class Toxicity<T> extends CObject {
     }
   }
 
+  /**
+   * Initializes a newly created {@link Toxicity} for the node defined by parameter {@code node}
+   * whose value is held at the row defined by parameter {@code row} and the state defined by
+   * parameter {@code state} of the table defined by parameter {@code values}.
+   *
+   * @param node The node.
+   * @param values The table of values.
+   * @param row The row of the node.
+   * @param state The state index.
+   */
+  public Toxicity(final T node, final NodeStateValues values, final int row, final int state) {
+    init();
+    this.node = node;
+    this.values = values;
+    this.row = row;
+    this.state = state;
+  }
+
   /*
    * GateToxicity
    */
@@ -79,7 +98,13 @@ public class Toxicity<T> extends CObject {
    */
   public Double getToxicity(final T node) {
     Double rtn = null;
-    rtn = this.getToxicityMap().get(node);
+    if (values != null) {
+      if (this.node.equals(node)) {
+        rtn = values.get(row, state);
+      }
+    } else {
+      rtn = this.getToxicityMap().get(node);
+    }
     return rtn;
   }
 
@@ -93,7 +118,9 @@ public class Toxicity<T> extends CObject {
    */
   protected Pair<T, Double> getToxicityPositionAtIdx(final int index) {
     Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumToxicityPosition()) {
+    if (values != null && index == 0) {
+      rtn = new Pair<>(node, values.get(row, state));
+    } else if (0 <= index && index < this.getNumToxicityPosition()) {
       rtn = this.getToxicity().get(index);
     }
     return rtn;
@@ -105,7 +132,11 @@ public class Toxicity<T> extends CObject {
    * @return The number of {@link Pair} objects in this instance.
    */
   public int getNumToxicityPosition() {
-    return this.getToxicity().size();
+    int rtn = this.getToxicity().size();
+    if (values != null) {
+      rtn = 1;
+    }
+    return rtn;
   }
 
   /*
@@ -130,17 +161,28 @@ public class Toxicity<T> extends CObject {
    */
   public boolean setToxicity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumToxicityPosition(); i++) {
-      final Pair<T, Double> position = this.getToxicityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getToxicityMap().put(node, value);
+    if (values != null) {
+      if (this.node.equals(node)) {
+        values.set(row, state, value);
         rtn = true;
       }
+    } else {
+      for (int i = 0; i < this.getNumToxicityPosition(); i++) {
+        final Pair<T, Double> position = this.getToxicityPositionAtIdx(i);
+        if (position.getFirst().equals(node)) {
+          position.setSecond(value);
+          this.getToxicityMap().put(node, value);
+          rtn = true;
+        }
+      }
     }
     return rtn;
   }
 
   private List<Pair<T, Double>> toxicityEntry;
   private Map<T, Double> toxicityEntryMap;
+  private T node;
+  private NodeStateValues values;
+  private int row;
+  private int state;
 }
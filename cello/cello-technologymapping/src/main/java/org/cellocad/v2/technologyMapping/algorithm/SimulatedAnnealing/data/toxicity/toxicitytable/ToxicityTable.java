@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.technologyMapping.NodeStateValues;
 
 /**
  * A lookup table for toxicity. Input objects (probably primary input netlist nodes) define the
@@ -75,6 +76,30 @@ public class ToxicityTable<InputT, OutputT> {
     }
   }
 
+  /**
+   * Initializes a newly created {@link ToxicityTable} with the list of states defined by parameter
+   * {@code states} and the output defined by parameter {@code output} whose toxicity is held at
+   * the row defined by parameter {@code row} of the table defined by parameter {@code values}.
+   *
+   * @param states The List of states.
+   * @param output The output.
+   * @param values The table of values.
+   * @param row The row of the output.
+   */
+  public ToxicityTable(
+      final States<InputT> states,
+      final OutputT output,
+      final NodeStateValues values,
+      final int row) {
+    init();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<InputT> InputState = states.getStateAtIdx(i);
+      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(output, values, row, i);
+      this.getToxicityTableMap().put(InputState, OutputToxicity);
+      this.getStates().add(InputState);
+    }
+  }
+
   /*
    * ToxicityMap
    */
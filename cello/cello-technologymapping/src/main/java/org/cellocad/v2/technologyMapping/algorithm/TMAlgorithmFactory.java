@@ -20,6 +20,7 @@
 package org.cellocad.v2.technologyMapping.algorithm;
 
 import org.cellocad.v2.common.algorithm.AlgorithmFactory;
+import org.cellocad.v2.technologyMapping.algorithm.ParallelTempering.ParallelTempering;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
 
 /**
@@ -44,6 +45,9 @@ public class TMAlgorithmFactory extends AlgorithmFactory<TMAlgorithm> {
     if (name.equals("SimulatedAnnealing")) {
       rtn = new SimulatedAnnealing();
     }
+    if (name.equals("ParallelTempering")) {
+      rtn = new ParallelTempering();
+    }
     return rtn;
   }
 }
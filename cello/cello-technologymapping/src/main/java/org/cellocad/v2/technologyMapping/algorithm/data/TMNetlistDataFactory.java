@@ -20,6 +20,7 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.ParallelTempering.data.ParallelTemperingNetlistData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistData;
 
 /**
@@ -44,6 +45,9 @@ public class TMNetlistDataFactory extends NetlistDataFactory<TMNetlistData> {
     if (name.equals("SimulatedAnnealing")) {
       rtn = new SimulatedAnnealingNetlistData();
     }
+    if (name.equals("ParallelTempering")) {
+      rtn = new ParallelTemperingNetlistData();
+    }
     return rtn;
   }
 }
@@ -20,6 +20,7 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistEdgeDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.ParallelTempering.data.ParallelTemperingNetlistEdgeData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistEdgeData;
 
 /**
@@ -44,6 +45,9 @@ public class TMNetlistEdgeDataFactory extends NetlistEdgeDataFactory<TMNetlistEd
     if (name.equals("SimulatedAnnealing")) {
       rtn = new SimulatedAnnealingNetlistEdgeData();
     }
+    if (name.equals("ParallelTempering")) {
+      rtn = new ParallelTemperingNetlistEdgeData();
+    }
     return rtn;
   }
 }
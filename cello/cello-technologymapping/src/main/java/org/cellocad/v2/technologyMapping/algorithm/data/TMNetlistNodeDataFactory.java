@@ -20,6 +20,7 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistNodeDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.ParallelTempering.data.ParallelTemperingNetlistNodeData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistNodeData;
 
 /**
@@ -44,6 +45,9 @@ public class TMNetlistNodeDataFactory extends NetlistNodeDataFactory<TMNetlistNo
     if (name.equals("SimulatedAnnealing")) {
       rtn = new SimulatedAnnealingNetlistNodeData();
     }
+    if (name.equals("ParallelTempering")) {
+      rtn = new ParallelTemperingNetlistNodeData();
+    }
     return rtn;
   }
 }
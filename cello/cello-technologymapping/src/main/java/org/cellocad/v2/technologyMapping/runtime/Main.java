@@ -20,6 +20,7 @@
 package org.cellocad.v2.technologyMapping.runtime;
 
 import java.io.File;
+import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.Utils;
@@ -98,6 +99,11 @@ public class Main {
         new TMRuntimeObject(stage, td, netlistConstraint, netlist, results, runEnv);
     TM.setName("technologyMapping");
     TM.execute();
+    try {
+      results.close();
+    } catch (final IOException e) {
+      throw new CelloException("Unable to write results.", e);
+    }
     // Write Netlist
     String outputFilename = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
     if (outputFilename == null) {
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.ParallelTempering;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
+import org.cellocad.v2.common.profile.AlgorithmProfile;
+import org.cellocad.v2.common.profile.AlgorithmProfileUtils;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockCache;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingScheduleFactory;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.target.data.SimulatedAnnealingTargetDataUtils;
+import org.cellocad.v2.technologyMapping.runtime.environment.TMRuntimeEnv;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ParallelTempering} algorithm.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class ParallelTemperingTest {
+
+  /** The algorithm with a fixed temperature range and without postprocessing. */
+  private static class TestParallelTempering extends ParallelTempering {
+
+    TestParallelTempering(final double maxTemperature, final double minTemperature) {
+      setMaxTemperature(maxTemperature);
+      setMinTemperature(minTemperature);
+    }
+
+    @Override
+    protected Netlist getNetlist() {
+      return super.getNetlist();
+    }
+
+    @Override
+    protected void postprocessing() {}
+  }
+
+  /** A replica with a fixed score. */
+  private static class ScoredChain extends SimulatedAnnealingChain {
+
+    ScoredChain(
+        final int idx,
+        final Netlist netlist,
+        final TMTargetDataInstance tdi,
+        final RoadBlockCache roadBlockCache,
+        final double score) {
+      super(
+          idx,
+          netlist,
+          new LSLogicEvaluation(netlist),
+          tdi,
+          roadBlockCache,
+          new RandomSource(idx),
+          new AnnealingScheduleFactory(
+              AnnealingScheduleFactory.S_GEOMETRIC, 100.0, 0.001, 600, 0, 0.5, 2),
+          0,
+          0,
+          LogManager.getLogger(ParallelTemperingTest.class));
+      this.score = score;
+    }
+
+    @Override
+    public Double getScore() {
+      return score;
+    }
+
+    private final double score;
+  }
+
+  private List<SimulatedAnnealingChain> getReplicas(final double... scores)
+      throws IOException, ParseException, CelloException {
+    final List<SimulatedAnnealingChain> rtn = new ArrayList<>();
+    final JSONParser parser = new JSONParser();
+    final TargetData td =
+        new TargetData((JSONArray) parser.parse(Utils.getResourceAsString("tandem_Target.json")));
+    final TMTargetDataInstance tdi = new TMTargetDataInstance(td);
+    final RoadBlockCache cache =
+        new RoadBlockCache(SimulatedAnnealingTargetDataUtils.getDeviceRules(td), tdi);
+    for (int i = 0; i < scores.length; i++) {
+      final Netlist netlist =
+          new Netlist((JSONObject) parser.parse(Utils.getResourceAsString("tandem_netlist.json")));
+      LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+      rtn.add(new ScoredChain(i, netlist, tdi, cache, scores[i]));
+    }
+    return rtn;
+  }
+
+  private TestParallelTempering temper(final int numReplicas, final int numThreads)
+      throws IOException, ParseException, CelloException {
+    final TestParallelTempering rtn = new TestParallelTempering(100.0, 0.001);
+    final JSONParser parser = new JSONParser();
+    final Netlist netlist =
+        new Netlist((JSONObject) parser.parse(Utils.getResourceAsString("tandem_netlist.json")));
+    final TargetData td =
+        new TargetData((JSONArray) parser.parse(Utils.getResourceAsString("tandem_Target.json")));
+    final AlgorithmProfile profile =
+        AlgorithmProfileUtils.getAlgorithmProfile(
+            "algorithms/technologyMapping/ParallelTempering/ParallelTempering.json");
+    profile.setIntegerParameter("NumReplicas", numReplicas);
+    profile.setIntegerParameter("NumThreads", numThreads);
+    profile.setIntegerParameter("NumExchanges", 20);
+    profile.setIntegerParameter("StepsPerExchange", 10);
+    profile.setIntegerParameter("QuenchSteps", 20);
+    profile.setIntegerParameter("Seed", 7);
+    rtn.execute(
+        netlist,
+        td,
+        new NetlistConstraint(),
+        new Results(outputDir),
+        profile,
+        new TMRuntimeEnv(args));
+    return rtn;
+  }
+
+  private static List<String> getAssignment(final Netlist netlist) {
+    final List<String> rtn = new ArrayList<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      assertNotNull(node.getResultNetlistNodeData().getDevice());
+      rtn.add(node.getName() + ":" + node.getResultNetlistNodeData().getDevice().getName());
+    }
+    for (int i = 0; i < netlist.getNumEdge(); i++) {
+      final NetlistEdge edge = netlist.getEdgeAtIdx(i);
+      rtn.add(edge.getName() + ":" + edge.getResultNetlistEdgeData().getInput().getName());
+    }
+    return rtn;
+  }
+
+  /**
+   * Creates the output directory and the command line arguments of the algorithm.
+   *
+   * @throws IOException Unable to create the output directory.
+   */
+  @Before
+  public void init() throws IOException {
+    outputDir = Files.createTempDirectory("cello_").toFile();
+    final String target = Utils.getResource("tandem_Target.json").getFile();
+    args =
+        new String[] {
+          "-" + StageArgString.INPUTNETLIST,
+          Utils.getResource("tandem_netlist.json").getFile(),
+          "-" + StageArgString.USERCONSTRAINTSFILE,
+          target,
+          "-" + StageArgString.INPUTSENSORFILE,
+          target,
+          "-" + StageArgString.OUTPUTDEVICEFILE,
+          target,
+          "-" + StageArgString.ALGORITHMNAME,
+          "ParallelTempering",
+          "-" + StageArgString.OUTPUTDIR,
+          outputDir.toString()
+        };
+  }
+
+  @Test
+  public void getTemperatures_FourRungs_ShouldBeGeometricHottestFirst() {
+    final double[] temperatures = new TestParallelTempering(100.0, 0.1).getTemperatures(4);
+    assertArrayEquals(new double[] {100.0, 10.0, 1.0, 0.1}, temperatures, 1e-9);
+  }
+
+  @Test
+  public void getTemperatures_OneRung_ShouldBeMinTemperature() {
+    final double[] temperatures = new TestParallelTempering(100.0, 0.1).getTemperatures(1);
+    assertArrayEquals(new double[] {0.1}, temperatures, 0.0);
+  }
+
+  @Test
+  public void exchange_BetterReplicaOnHotterRung_ShouldAlwaysSwapDown()
+      throws IOException, ParseException, CelloException {
+    final TestParallelTempering pt = new TestParallelTempering(100.0, 0.1);
+    final double[] temperatures = pt.getTemperatures(4);
+    // the better replica of each pair starts on the hotter rung
+    final List<SimulatedAnnealingChain> replicas = getReplicas(0.9, 0.1, 0.8, 0.2);
+    final RandomSource random = new RandomSource(0);
+    final int[] attempts = new int[4];
+    final int[] accepts = new int[4];
+    for (int i = 0; i < 100; i++) {
+      final int[] replicaAt = {0, 1, 2, 3};
+      pt.exchange(replicas, replicaAt, temperatures, 0, random, attempts, accepts);
+      assertArrayEquals(new int[] {1, 0, 3, 2}, replicaAt);
+    }
+    assertArrayEquals(new int[] {100, 0, 100, 0}, attempts);
+    assertArrayEquals(attempts, accepts);
+  }
+
+  @Test
+  public void exchange_BetterReplicaOnColderRung_ShouldRarelySwapUp()
+      throws IOException, ParseException, CelloException {
+    final TestParallelTempering pt = new TestParallelTempering(100.0, 0.1);
+    final double[] temperatures = pt.getTemperatures(4);
+    // the better replica of the pair (1, 2) starts on the colder rung, so the exchange is accepted
+    // with probability exp(10.0 * (1 / 10 - 1 / 1)), which is below 1e-3
+    final List<SimulatedAnnealingChain> replicas = getReplicas(0.0, 0.0, 10.0, 0.0);
+    final RandomSource random = new RandomSource(0);
+    final int[] attempts = new int[4];
+    final int[] accepts = new int[4];
+    for (int i = 0; i < 100; i++) {
+      final int[] replicaAt = {0, 1, 2, 3};
+      pt.exchange(replicas, replicaAt, temperatures, 1, random, attempts, accepts);
+    }
+    assertEquals(100, attempts[1]);
+    assertEquals(0, accepts[1]);
+  }
+
+  @Test
+  public void run_SameSeedDifferentNumThreads_ShouldKeepSameAssignment()
+      throws IOException, ParseException, CelloException {
+    final List<String> expected = getAssignment(temper(4, 1).getNetlist());
+    assertEquals(expected, getAssignment(temper(4, 4).getNetlist()));
+    assertEquals(expected, getAssignment(temper(4, 2).getNetlist()));
+  }
+
+  private File outputDir;
+  private String[] args;
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockCache;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingScheduleFactory;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.target.data.SimulatedAnnealingTargetDataUtils;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SimulatedAnnealingChain}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class SimulatedAnnealingChainTest {
+
+  private Netlist getNetlist() throws IOException, ParseException {
+    final String str = Utils.getResourceAsString("tandem_netlist.json");
+    final Netlist rtn = new Netlist((JSONObject) new JSONParser().parse(str));
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+    assign(rtn, "a", "S1");
+    assign(rtn, "b", "S2");
+    assign(rtn, "out1", "Y1");
+    assign(rtn, "out2", "Y2");
+    return rtn;
+  }
+
+  private void assign(final Netlist netlist, final String node, final String device) {
+    netlist
+        .getVertexByName(node)
+        .getResultNetlistNodeData()
+        .setDevice(tdi.getAssignableDeviceByName(device));
+  }
+
+  private SimulatedAnnealingChain getChain(final long seed) throws IOException, ParseException {
+    final Netlist netlist = getNetlist();
+    final AnnealingScheduleFactory factory =
+        new AnnealingScheduleFactory(
+            AnnealingScheduleFactory.S_GEOMETRIC, 100.0, 0.001, 600, 0, 0.5, 2);
+    return new SimulatedAnnealingChain(
+        0,
+        netlist,
+        new LSLogicEvaluation(netlist),
+        tdi,
+        new RoadBlockCache(rules, tdi),
+        new RandomSource(seed),
+        factory,
+        0,
+        0,
+        LogManager.getLogger(SimulatedAnnealingChainTest.class));
+  }
+
+  /**
+   * Reads the target data, in which two-input gates are roadblocked by some orders of their
+   * inputs.
+   *
+   * @throws IOException Unable to read the target data.
+   * @throws ParseException Unable to parse the target data.
+   * @throws CelloException Unable to instantiate the target data.
+   */
+  @Before
+  public void init() throws IOException, ParseException, CelloException {
+    final String str = Utils.getResourceAsString("tandem_Target.json");
+    final TargetData td = new TargetData((JSONArray) new JSONParser().parse(str));
+    tdi = new TMTargetDataInstance(td);
+    rules = SimulatedAnnealingTargetDataUtils.getDeviceRules(td);
+  }
+
+  @Test
+  public void step_SwapsAndReverts_ShouldMatchFullRoadBlockCount()
+      throws IOException, ParseException, CelloException {
+    final Set<Integer> counts = new HashSet<>();
+    for (long seed = 0; seed < 8; seed++) {
+      final SimulatedAnnealingChain chain = getChain(seed);
+      chain.initialize();
+      final Netlist netlist = chain.getNetlist();
+      assertEquals(
+          RoadBlockUtils.getNumberOfRoadBlockedNodes(netlist, rules, tdi),
+          Integer.valueOf(chain.getNumBlocked()));
+      for (int i = 0; i < 200; i++) {
+        // alternate between accepting most swaps and reverting most swaps
+        chain.step(i % 2 == 0 ? 100.0 : 0.0);
+        final Integer expected = RoadBlockUtils.getNumberOfRoadBlockedNodes(netlist, rules, tdi);
+        assertEquals(expected, Integer.valueOf(chain.getNumBlocked()));
+        counts.add(expected);
+      }
+    }
+    assertTrue(counts.size() > 1);
+  }
+
+  private TMTargetDataInstance tdi;
+  private DeviceRules rules;
+}
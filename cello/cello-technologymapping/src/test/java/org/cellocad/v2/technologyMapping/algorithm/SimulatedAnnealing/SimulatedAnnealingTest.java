@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
+import org.cellocad.v2.common.profile.AlgorithmProfile;
+import org.cellocad.v2.common.profile.AlgorithmProfileUtils;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.runtime.environment.TMRuntimeEnv;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the chains of the {@link SimulatedAnnealing} algorithm.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class SimulatedAnnealingTest {
+
+  /** The algorithm without postprocessing, which writes results and plots. */
+  private static class TestSimulatedAnnealing extends SimulatedAnnealing {
+
+    @Override
+    protected Netlist getNetlist() {
+      return super.getNetlist();
+    }
+
+    @Override
+    protected void postprocessing() {}
+  }
+
+  /** A chain with a fixed ranking. */
+  private static class RankedChain extends SimulatedAnnealingChain {
+
+    RankedChain(
+        final TestSimulatedAnnealing sa,
+        final int idx,
+        final int numBlocked,
+        final boolean aboveGrowth,
+        final double score) {
+      super(
+          idx,
+          new Netlist(sa.getNetlist()),
+          sa.getLSLogicEvaluation(),
+          sa.getTargetDataInstance(),
+          sa.getRoadBlockCache(),
+          new RandomSource(idx),
+          sa.getScheduleFactory(),
+          0,
+          0,
+          sa.getLogger());
+      this.numBlocked = numBlocked;
+      this.aboveGrowth = aboveGrowth;
+      this.score = score;
+    }
+
+    @Override
+    public Integer getNumRoadBlockedNodes() {
+      return numBlocked;
+    }
+
+    @Override
+    public Boolean isAboveGrowthThreshold() {
+      return aboveGrowth;
+    }
+
+    @Override
+    public Double getScore() {
+      return score;
+    }
+
+    private final int numBlocked;
+    private final boolean aboveGrowth;
+    private final double score;
+  }
+
+  private TestSimulatedAnnealing anneal(final int numChains, final int numThreads)
+      throws IOException, ParseException, CelloException {
+    final TestSimulatedAnnealing rtn = new TestSimulatedAnnealing();
+    final JSONParser parser = new JSONParser();
+    final Netlist netlist =
+        new Netlist((JSONObject) parser.parse(Utils.getResourceAsString("tandem_netlist.json")));
+    final TargetData td =
+        new TargetData((JSONArray) parser.parse(Utils.getResourceAsString("tandem_Target.json")));
+    final AlgorithmProfile profile =
+        AlgorithmProfileUtils.getAlgorithmProfile(
+            "algorithms/technologyMapping/SimulatedAnnealing/SimulatedAnnealing.json");
+    profile.setIntegerParameter("NumChains", numChains);
+    profile.setIntegerParameter("NumThreads", numThreads);
+    profile.setIntegerParameter("Steps", 200);
+    profile.setIntegerParameter("QuenchSteps", 20);
+    profile.setIntegerParameter("Seed", 7);
+    profile.setIntegerParameter("CheckpointInterval", 0);
+    rtn.execute(
+        netlist,
+        td,
+        new NetlistConstraint(),
+        new Results(outputDir),
+        profile,
+        new TMRuntimeEnv(args));
+    return rtn;
+  }
+
+  private static List<String> getAssignment(final Netlist netlist) {
+    final List<String> rtn = new ArrayList<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      rtn.add(node.getName() + ":" + node.getResultNetlistNodeData().getDevice().getName());
+    }
+    for (int i = 0; i < netlist.getNumEdge(); i++) {
+      final NetlistEdge edge = netlist.getEdgeAtIdx(i);
+      rtn.add(edge.getName() + ":" + edge.getResultNetlistEdgeData().getInput().getName());
+    }
+    return rtn;
+  }
+
+  /**
+   * Creates the output directory and the command line arguments of the algorithm.
+   *
+   * @throws IOException Unable to create the output directory.
+   */
+  @Before
+  public void init() throws IOException {
+    outputDir = Files.createTempDirectory("cello_").toFile();
+    final String target = Utils.getResource("tandem_Target.json").getFile();
+    args =
+        new String[] {
+          "-" + StageArgString.INPUTNETLIST,
+          Utils.getResource("tandem_netlist.json").getFile(),
+          "-" + StageArgString.USERCONSTRAINTSFILE,
+          target,
+          "-" + StageArgString.INPUTSENSORFILE,
+          target,
+          "-" + StageArgString.OUTPUTDEVICEFILE,
+          target,
+          "-" + StageArgString.ALGORITHMNAME,
+          "SimulatedAnnealing",
+          "-" + StageArgString.OUTPUTDIR,
+          outputDir.toString()
+        };
+  }
+
+  @Test
+  public void run_SameSeedDifferentNumThreads_ShouldKeepSameAssignment()
+      throws IOException, ParseException, CelloException {
+    final List<String> expected = getAssignment(anneal(4, 1).getNetlist());
+    assertEquals(expected, getAssignment(anneal(4, 4).getNetlist()));
+    assertEquals(expected, getAssignment(anneal(4, 2).getNetlist()));
+  }
+
+  private SimulatedAnnealingChain keepBestChain(
+      final SimulatedAnnealing sa, final SimulatedAnnealingChain... chains)
+      throws CelloException {
+    sa.keepBestChain(Arrays.asList(chains));
+    SimulatedAnnealingChain rtn = null;
+    for (final SimulatedAnnealingChain chain : chains) {
+      if (chain.getGateManager() == sa.getGateManager()) {
+        rtn = chain;
+      }
+    }
+    return rtn;
+  }
+
+  @Test
+  public void keepBestChain_RankedChains_ShouldPreferRoadBlocksThenGrowthThenScoreThenIndex()
+      throws IOException, ParseException, CelloException {
+    final TestSimulatedAnnealing sa = anneal(1, 1);
+    // fewer roadblocked nodes
+    SimulatedAnnealingChain a = new RankedChain(sa, 0, 1, true, 100.0);
+    SimulatedAnnealingChain b = new RankedChain(sa, 1, 0, false, 1.0);
+    assertSame(b, keepBestChain(sa, a, b));
+    // minimum growth at or above the threshold
+    a = new RankedChain(sa, 0, 0, false, 100.0);
+    b = new RankedChain(sa, 1, 0, true, 1.0);
+    assertSame(b, keepBestChain(sa, a, b));
+    // higher score
+    a = new RankedChain(sa, 0, 0, true, 1.0);
+    b = new RankedChain(sa, 1, 0, true, 2.0);
+    assertSame(b, keepBestChain(sa, a, b));
+    // lower index, in any order
+    a = new RankedChain(sa, 0, 0, true, 2.0);
+    b = new RankedChain(sa, 1, 0, true, 2.0);
+    assertSame(a, keepBestChain(sa, a, b));
+    assertSame(a, keepBestChain(sa, b, a));
+  }
+
+  private File outputDir;
+  private String[] args;
+}
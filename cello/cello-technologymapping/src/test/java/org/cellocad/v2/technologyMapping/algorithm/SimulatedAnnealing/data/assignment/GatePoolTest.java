@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GatePool}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class GatePoolTest {
+
+  @Test
+  public void remove_Member_ShouldKeepOtherMembers() {
+    final GatePool pool = new GatePool(5);
+    for (int i = 0; i < 5; i++) {
+      assertTrue(pool.add(i));
+    }
+    assertFalse(pool.add(2));
+    assertTrue(pool.remove(1));
+    assertFalse(pool.remove(1));
+    assertTrue(pool.remove(4));
+    assertEquals(3, pool.size());
+    assertFalse(pool.contains(1));
+    assertFalse(pool.contains(4));
+    int sum = 0;
+    for (int i = 0; i < pool.size(); i++) {
+      assertTrue(pool.contains(pool.get(i)));
+      sum += pool.get(i);
+    }
+    assertEquals(0 + 2 + 3, sum);
+    assertTrue(pool.add(4));
+    assertEquals(4, pool.get(pool.size() - 1));
+  }
+
+  @Test
+  public void readState_AfterRemovals_ShouldKeepPositions() throws IOException {
+    final GatePool pool = new GatePool(6);
+    for (int i = 0; i < 6; i++) {
+      pool.add(i);
+    }
+    pool.remove(0);
+    pool.remove(3);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    pool.writeState(new DataOutputStream(bytes));
+    final GatePool other = new GatePool(6);
+    for (int i = 5; i >= 0; i--) {
+      other.add(i);
+    }
+    other.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(pool.size(), other.size());
+    for (int i = 0; i < pool.size(); i++) {
+      assertEquals(pool.get(i), other.get(i));
+    }
+    assertFalse(other.contains(0));
+    assertFalse(other.contains(3));
+    other.remove(pool.get(0));
+    pool.remove(pool.get(0));
+    assertEquals(pool.get(0), other.get(0));
+  }
+
+  @Test(expected = IOException.class)
+  public void readState_MemberOutOfRange_ShouldThrow() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(1);
+    out.writeInt(7);
+    new GatePool(3).readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.checkpoint;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.logging.log4j.LogManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link CheckpointWriter}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class CheckpointWriterTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void submit_ManyCheckpoints_ShouldKeepLatest() throws IOException {
+    final File file = new File(folder.getRoot(), "chain0.ckpt");
+    try (CheckpointWriter writer = new CheckpointWriter(LogManager.getLogger())) {
+      for (byte i = 0; i < 10; i++) {
+        writer.submit(file, new byte[] {i, i});
+      }
+    }
+    assertArrayEquals(new byte[] {9, 9}, Files.readAllBytes(file.toPath()));
+    assertFalse(new File(folder.getRoot(), "chain0.ckpt.tmp").exists());
+  }
+
+  @Test
+  public void discard_AfterSubmit_ShouldDeleteFile() throws IOException {
+    final File file = new File(folder.getRoot(), "chain0.ckpt");
+    try (CheckpointWriter writer = new CheckpointWriter(LogManager.getLogger())) {
+      writer.submit(file, new byte[] {1});
+      writer.discard(file);
+    }
+    assertFalse(file.exists());
+    assertTrue(folder.getRoot().list().length == 0);
+  }
+}
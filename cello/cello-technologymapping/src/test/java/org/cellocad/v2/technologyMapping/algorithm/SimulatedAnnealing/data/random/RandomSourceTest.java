@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RandomSource}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class RandomSourceTest {
+
+  @Test
+  public void next_SameSeed_ShouldMatchSplittableRandom() {
+    final RandomSource random = new RandomSource(21);
+    final SplittableRandom expected = new SplittableRandom(21);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expected.nextLong(), random.nextLong());
+      assertEquals(expected.nextInt(7), random.nextInt(7));
+      assertEquals(expected.nextDouble(), random.nextDouble(), 0.0);
+    }
+    final RandomSource split = random.split();
+    final SplittableRandom expectedSplit = expected.split();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expectedSplit.nextInt(1000), split.nextInt(1000));
+    }
+  }
+
+  @Test
+  public void next_RestoredState_ShouldContinueSequence() {
+    final RandomSource random = new RandomSource(21);
+    random.nextLong();
+    final RandomSource restored = new RandomSource(random.getSeed(), random.getGamma());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(random.nextInt(3, 9), restored.nextInt(3, 9));
+    }
+  }
+}
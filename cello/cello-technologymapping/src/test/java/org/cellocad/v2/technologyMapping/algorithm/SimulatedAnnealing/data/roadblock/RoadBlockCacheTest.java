@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.target.data.SimulatedAnnealingTargetDataUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RoadBlockCache}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class RoadBlockCacheTest {
+
+  private void assign(final String name, final String device) {
+    final NetlistNode node = netlist.getVertexByName(name);
+    final AssignableDevice d = tdi.getAssignableDeviceByName(device);
+    node.getResultNetlistNodeData().setDevice(d);
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge e = node.getInEdgeAtIdx(i);
+      e.getResultNetlistEdgeData().setInput(d.getStructure().getInputs().get(i));
+    }
+  }
+
+  private static void swapInputs(final NetlistNode node) {
+    final NetlistEdge e1 = node.getInEdgeAtIdx(0);
+    final NetlistEdge e2 = node.getInEdgeAtIdx(1);
+    final Input in1 = e1.getResultNetlistEdgeData().getInput();
+    e1.getResultNetlistEdgeData().setInput(e2.getResultNetlistEdgeData().getInput());
+    e2.getResultNetlistEdgeData().setInput(in1);
+  }
+
+  /**
+   * Reads the target data, in which {@code pA1 BEFORE pB1} is a device rule, and assigns the
+   * netlist {@code p = NOR(u, v)}, with the first input of {@code p} driven by {@code B1} and the
+   * second by {@code A1}, so that {@code p} is roadblocked.
+   *
+   * @throws IOException Unable to read the resources.
+   * @throws ParseException Unable to parse the resources.
+   * @throws CelloException Unable to instantiate the target data.
+   */
+  @Before
+  public void init() throws IOException, ParseException, CelloException {
+    final JSONParser parser = new JSONParser();
+    String str = Utils.getResourceAsString("tandem_Target.json");
+    final TargetData td = new TargetData((JSONArray) parser.parse(str));
+    tdi = new TargetDataInstance(td);
+    rules = SimulatedAnnealingTargetDataUtils.getDeviceRules(td);
+    str = Utils.getResourceAsString("tandem_netlist.json");
+    netlist = new Netlist((JSONObject) parser.parse(str));
+    p = netlist.getVertexByName("p");
+    assign(p.getInEdgeAtIdx(0).getSrc().getName(), "B1");
+    assign(p.getInEdgeAtIdx(1).getSrc().getName(), "A1");
+    assign("p", "C1");
+  }
+
+  @Test
+  public void isNodeRoadBlocked_CacheHit_ShouldMatchUncachedVerdict() {
+    final RoadBlockCache cache = new RoadBlockCache(rules, tdi);
+    final Boolean blocked = RoadBlockUtils.isNodeRoadBlocked(p, rules, tdi);
+    assertTrue(blocked);
+    assertEquals(blocked, cache.isNodeRoadBlocked(p));
+    assertEquals(blocked, cache.isNodeRoadBlocked(p));
+    swapInputs(p);
+    final Boolean swapped = RoadBlockUtils.isNodeRoadBlocked(p, rules, tdi);
+    assertFalse(swapped);
+    assertEquals(swapped, cache.isNodeRoadBlocked(p));
+    swapInputs(p);
+    assertEquals(blocked, cache.isNodeRoadBlocked(p));
+    swapInputs(p);
+    assertEquals(swapped, cache.isNodeRoadBlocked(p));
+  }
+
+  @Test
+  public void isNodeRoadBlocked_DifferentDriver_ShouldMissCache() {
+    final RoadBlockCache cache = new RoadBlockCache(rules, tdi);
+    assertTrue(cache.isNodeRoadBlocked(p));
+    assign(p.getInEdgeAtIdx(1).getSrc().getName(), "D1");
+    assertEquals(RoadBlockUtils.isNodeRoadBlocked(p, rules, tdi), cache.isNodeRoadBlocked(p));
+    assertFalse(cache.isNodeRoadBlocked(p));
+  }
+
+  private TargetDataInstance tdi;
+  private DeviceRules rules;
+  private Netlist netlist;
+  private NetlistNode p;
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link AnnealingScheduleFactory}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class AnnealingScheduleFactoryTest {
+
+  private static AnnealingScheduleFactory getFactory(final String name, final int stepsPerGate) {
+    return new AnnealingScheduleFactory(name, 100.0, 0.001, 600, stepsPerGate, 0.5, 2);
+  }
+
+  @Test
+  public void getNumSteps_StepsPerGate_ShouldScaleWithGates() {
+    assertEquals(600, getFactory(AnnealingScheduleFactory.S_GEOMETRIC, 0).getNumSteps(7));
+    assertEquals(70, getFactory(AnnealingScheduleFactory.S_GEOMETRIC, 10).getNumSteps(7));
+  }
+
+  @Test
+  public void getSchedule_AllSchedules_ShouldStayWithinBounds() {
+    final String[] names = {
+      AnnealingScheduleFactory.S_GEOMETRIC,
+      AnnealingScheduleFactory.S_LINEAR,
+      AnnealingScheduleFactory.S_ADAPTIVE,
+      AnnealingScheduleFactory.S_REHEATING
+    };
+    for (final String name : names) {
+      final AnnealingSchedule schedule = getFactory(name, 0).getSchedule(7);
+      assertEquals(100.0, schedule.getTemperature(), 1e-9);
+      int numSteps = 0;
+      while (!schedule.isDone()) {
+        final double temperature = schedule.getTemperature();
+        assertTrue(name, temperature <= 100.0 + 1e-9 && temperature >= 0.001 - 1e-9);
+        schedule.update(numSteps % 3 == 0);
+        numSteps++;
+      }
+      assertEquals(600, numSteps);
+    }
+  }
+
+  @Test
+  public void getSchedule_Geometric_ShouldMatchLogSpacing() {
+    final AnnealingSchedule schedule =
+        getFactory(AnnealingScheduleFactory.S_GEOMETRIC, 0).getSchedule(7);
+    for (int i = 0; i < 300; i++) {
+      schedule.update(false);
+    }
+    assertEquals(Math.pow(10, -0.5), schedule.getTemperature(), 1e-9);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.random.RandomSource;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the incremental update of a {@link TMScoreEvaluation} and of the minimum growth of a
+ * {@link TMToxicityEvaluation}.
+ *
+ * @author agent
+ * @date 2026-10-17
+ */
+public class TMScoreEvaluationTest {
+
+  private void assign(final String name, final String device) {
+    final NetlistNode node = netlist.getVertexByName(name);
+    final AssignableDevice d = tdi.getAssignableDeviceByName(device);
+    node.getResultNetlistNodeData().setDevice(d);
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge e = node.getInEdgeAtIdx(i);
+      e.getResultNetlistEdgeData().setInput(d.getStructure().getInputs().get(i));
+    }
+  }
+
+  private static AssignableDevice getDevice(final NetlistNode node) {
+    return node.getResultNetlistNodeData().getDevice();
+  }
+
+  private static void setDevice(final NetlistNode node, final AssignableDevice device) {
+    node.getResultNetlistNodeData().setDevice(device);
+  }
+
+  /**
+   * Reads the target data and the netlist, and assigns a gate to every node. Two gates of the
+   * target data remain unassigned.
+   *
+   * @throws IOException Unable to read the resources.
+   * @throws ParseException Unable to parse the resources.
+   * @throws CelloException Unable to instantiate the target data.
+   */
+  @Before
+  public void init() throws IOException, ParseException, CelloException {
+    final JSONParser parser = new JSONParser();
+    String str = Utils.getResourceAsString("tandem_Target.json");
+    tdi = new TargetDataInstance(new TargetData((JSONArray) parser.parse(str)));
+    str = Utils.getResourceAsString("tandem_netlist.json");
+    netlist = new Netlist((JSONObject) parser.parse(str));
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    assign("a", "S1");
+    assign("b", "S2");
+    assign("out1", "Y1");
+    assign("out2", "Y2");
+    final List<String> gates = Arrays.asList("A1", "B1", "C1", "D1", "E1", "F1");
+    nodes = new ArrayList<>();
+    for (final String name : Arrays.asList("u", "v", "w", "p", "r", "z")) {
+      assign(name, gates.get(nodes.size()));
+      nodes.add(netlist.getVertexByName(name));
+    }
+    unassigned = new ArrayList<>();
+    unassigned.add(tdi.getAssignableDeviceByName("A2"));
+    unassigned.add(tdi.getAssignableDeviceByName("G1"));
+    lsle = new LSLogicEvaluation(netlist);
+  }
+
+  @Test
+  public void update_RandomSwapsWithCommitsAndReverts_ShouldMatchFullEvaluation()
+      throws CelloException {
+    final RandomSource random = new RandomSource(21);
+    final TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+    final TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+    final TMScoreEvaluation tmse = new TMScoreEvaluation(netlist, lsle, tmae);
+    int numReverts = 0;
+    for (int i = 0; i < 300; i++) {
+      // swap the gates of two nodes, or the gate of a node with an unassigned gate
+      final NetlistNode nA = nodes.get(random.nextInt(nodes.size()));
+      final AssignableDevice dA = getDevice(nA);
+      final List<NetlistNode> changed = new ArrayList<>();
+      changed.add(nA);
+      NetlistNode nB = null;
+      AssignableDevice dB = null;
+      int k = -1;
+      if (random.nextDouble() < 0.5) {
+        do {
+          nB = nodes.get(random.nextInt(nodes.size()));
+        } while (nB == nA);
+        dB = getDevice(nB);
+        setDevice(nB, dA);
+        changed.add(nB);
+      } else {
+        k = random.nextInt(unassigned.size());
+        dB = unassigned.get(k);
+      }
+      setDevice(nA, dB);
+      tmae.update(changed);
+      tmse.update();
+      tmte.update(changed);
+      if (random.nextDouble() < 0.5) {
+        tmse.commit();
+        tmte.commit();
+        tmae.commit();
+        if (k >= 0) {
+          unassigned.set(k, dA);
+        }
+      } else {
+        setDevice(nA, dA);
+        if (nB != null) {
+          setDevice(nB, dB);
+        }
+        tmse.revert();
+        tmte.revert();
+        tmae.revert();
+        numReverts++;
+      }
+      final TMActivityEvaluation expected = new TMActivityEvaluation(netlist, lsle);
+      assertEquals(
+          ScoreUtils.score(netlist, lsle, expected), tmse.getScore(), tmse.getScore() * 1e-12);
+      assertEquals(
+          new TMToxicityEvaluation(netlist, expected).getMinimumGrowth(),
+          tmte.getMinimumGrowth(),
+          1e-12);
+    }
+    assertTrue(numReverts > 0 && numReverts < 300);
+  }
+
+  private TargetDataInstance tdi;
+  private Netlist netlist;
+  private LSLogicEvaluation lsle;
+  private List<NetlistNode> nodes;
+  private List<AssignableDevice> unassigned;
+}